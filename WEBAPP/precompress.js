@@ -0,0 +1,67 @@
+// 빌드 결과물 미리 압축 (.gz / .br)
+// 백엔드(WebConfig)가 Accept-Encoding에 맞는 파일을 그대로 내려보내므로 요청마다 압축하지 않아도 됩니다.
+//   - vite build 시 플러그인으로 실행 (vite.config.js)
+//   - 이미 빌드된 디렉터리: node precompress.js ../backend/src/main/resources/static
+import { readdirSync, readFileSync, statSync, writeFileSync } from 'node:fs'
+import { join, resolve } from 'node:path'
+import { fileURLToPath } from 'node:url'
+import { brotliCompressSync, constants, gzipSync } from 'node:zlib'
+
+const COMPRESSIBLE = /\.(js|mjs|css|html|svg|json|txt|map)$/
+// 이보다 작으면 압축해도 패킷 수가 줄지 않음
+const MIN_BYTES = 1024
+
+export function precompressDir(dir) {
+  const results = []
+  for (const name of readdirSync(dir)) {
+    const path = join(dir, name)
+    if (statSync(path).isDirectory()) {
+      results.push(...precompressDir(path))
+      continue
+    }
+    if (!COMPRESSIBLE.test(name)) continue
+    const source = readFileSync(path)
+    if (source.length < MIN_BYTES) continue
+
+    const variants = {
+      '.br': brotliCompressSync(source, {
+        params: {
+          [constants.BROTLI_PARAM_QUALITY]: constants.BROTLI_MAX_QUALITY,
+          [constants.BROTLI_PARAM_SIZE_HINT]: source.length,
+        },
+      }),
+      '.gz': gzipSync(source, { level: 9 }),
+    }
+    for (const [extension, compressed] of Object.entries(variants)) {
+      // 거의 줄지 않는 파일은 원본만 서빙
+      if (compressed.length < source.length * 0.9) {
+        writeFileSync(path + extension, compressed)
+        results.push({ path: path + extension, from: source.length, to: compressed.length })
+      }
+    }
+  }
+  return results
+}
+
+export default function precompress() {
+  let outDir
+  return {
+    name: 'voyz-precompress',
+    apply: 'build',
+    configResolved(config) {
+      outDir = resolve(config.root, config.build.outDir)
+    },
+    closeBundle() {
+      for (const { path, from, to } of precompressDir(outDir)) {
+        console.log(`precompress ${path.slice(outDir.length + 1)}  ${(from / 1024).toFixed(1)}KB -> ${(to / 1024).toFixed(1)}KB`)
+      }
+    },
+  }
+}
+
+if (process.argv[1] && resolve(process.argv[1]) === fileURLToPath(import.meta.url)) {
+  const dir = resolve(process.argv[2] ?? 'dist')
+  for (const { path, from, to } of precompressDir(dir)) {
+    console.log(`precompress ${path.slice(dir.length + 1)}  ${(from / 1024).toFixed(1)}KB -> ${(to / 1024).toFixed(1)}KB`)
+  }
+}
@@ -15,7 +15,7 @@ import SuccessPage from './pages/SuccessPage/index.jsx';
 // Data & Utils
 import { sampleMenuData } from './constants/sampleData.js';
 import { getMenusByUserId, getUrlParams, getStoreInfoByUserId } from './api/menu.js';
-import { getReviewsByMenuId, postReview } from './api/review.js';
+import { getReviewsByMenuId, postReview, toReviewItem } from './api/review.js';
 import { postOrder } from './api/order.js';
 import { translateTexts } from './api/translate.js';
 import { useMenu } from './hooks/useMenu.js';
@@ -347,16 +347,8 @@ function App() {
         apiMenuItems.forEach(async (item, index) => {
             const category = item.category || '메인메뉴';
             const reviewResponse = await getReviewsByMenuId(item.menuIdx);
-            // 배열이므로 map으로 변환
-            const transformedReviews = reviewResponse.reviews.map((r) => ({
-                user: r.guestName || '익명',
-                countryCode: r.nationality,
-                text: r.comment,
-                rating: r.rating,
-                guestName: r.guestName,
-                nationality: r.nationality,
-                comment: r.comment,
-            }));
+            // 첫 페이지만 받음 (나머지는 리뷰 모달에서 nextCursor로 이어서 조회)
+            const transformedReviews = reviewResponse.reviews.map(toReviewItem);
             if (!menuByCategory[category]) {
                 menuByCategory[category] = [];
             }
@@ -378,6 +370,10 @@ function App() {
                         ? reviewResponse.reviewCount
                         : 0,
                 reviews: transformedReviews.length > 0 ? transformedReviews : [],
+                reviewsCursor: reviewResponse.nextCursor || null,
+                hasMoreReviews: !!reviewResponse.hasMore,
+                // 국적 필터 선택지 (서버의 국적별 리뷰 수, 첫 페이지에만 옴)
+                reviewNationalities: reviewResponse.nationalities || {},
             };
 
             menuByCategory[category].push(transformedItem);
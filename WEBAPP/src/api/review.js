@@ -1,13 +1,20 @@
 import { API_CONFIG } from '../config/api.js';
 
 /**
- * 메뉴별 리뷰 목록을 가져오는 API
+ * 메뉴별 리뷰 목록을 가져오는 API (최신순 한 페이지)
  * @param {int} menuId - 메뉴 ID
- * @returns {Promise<Array>} 리뷰 아이템 배열
+ * @param {object} options - nationality: 국적 필터, cursor: 이전 응답의 nextCursor (다음 페이지), size: 페이지 크기
+ * @returns {Promise<object>} { rating, reviewCount, reviews, nextCursor, hasMore }
  */
-export const getReviewsByMenuId = async (menuId) => {
+export const getReviewsByMenuId = async (menuId, { nationality, cursor, size } = {}) => {
     try {
-        const response = await fetch(`${API_CONFIG.BASE_URL}/review/menu/${encodeURIComponent(menuId)}`, {
+        const params = new URLSearchParams();
+        if (nationality) params.append('nationality', nationality);
+        if (cursor) params.append('cursor', cursor);
+        if (size) params.append('size', size);
+        const query = params.toString() ? `?${params.toString()}` : '';
+
+        const response = await fetch(`${API_CONFIG.BASE_URL}/review/menu/${encodeURIComponent(menuId)}${query}`, {
             method: 'GET',
             headers: {
                 'Content-Type': 'application/json',
@@ -28,6 +35,19 @@ export const getReviewsByMenuId = async (menuId) => {
     }
 };
 
+/**
+ * API 리뷰를 화면에서 쓰는 형식으로 변환
+ */
+export const toReviewItem = (r) => ({
+    user: r.guestName || '익명',
+    countryCode: r.nationality,
+    text: r.comment,
+    rating: r.rating,
+    guestName: r.guestName,
+    nationality: r.nationality,
+    comment: r.comment,
+});
+
 export const postReview = async (orderIdx, selectedLang, review) => {
     try {
         const reviewData = {
@@ -1,4 +1,4 @@
-import { useState } from "react";
+import { useEffect, useRef, useState } from "react";
 import Modal from "../UI/Modal.jsx";
 import StarRating from "../UI/StarRating.jsx";
 import {
@@ -8,6 +8,7 @@ import {
   getFilteredReviews,
   getUniqueCountries,
 } from "../../utils/helpers.js";
+import { getReviewsByMenuId, toReviewItem } from "../../api/review.js";
 
 const ReviewModal = ({
   item,
@@ -18,14 +19,72 @@ const ReviewModal = ({
   setReviewViewMode,
 }) => {
   const [selectedCountryFilter, setSelectedCountryFilter] = useState("all");
+  // 첫 페이지 이후 불러온 목록 / 국적 필터 결과 ({ reviews, cursor, hasMore }, 없으면 메뉴의 첫 페이지)
+  const [page, setPage] = useState(null);
+  const [loading, setLoading] = useState(false);
+  // 마지막 요청 번호 (늦게 도착한 이전 요청의 응답은 버림)
+  const requestSeq = useRef(0);
+
+  useEffect(() => {
+    requestSeq.current += 1;
+    setSelectedCountryFilter("all");
+    setPage(null);
+    setLoading(false);
+  }, [item?.id]);
 
   if (!item) return null;
 
+  const current = page || {
+    reviews: item.reviews || [],
+    cursor: item.reviewsCursor,
+    hasMore: item.hasMoreReviews,
+  };
+
+  // 다음 페이지 또는 국적 필터 첫 페이지를 서버에서 조회
+  const fetchReviews = async (country, cursor, previous) => {
+    const seq = ++requestSeq.current;
+    setLoading(true);
+    try {
+      const data = await getReviewsByMenuId(item.id, {
+        nationality: country !== "all" ? country : undefined,
+        cursor,
+      });
+      if (seq !== requestSeq.current) return;
+      setPage({
+        reviews: [...previous, ...data.reviews.map(toReviewItem)],
+        cursor: data.nextCursor,
+        hasMore: data.hasMore,
+      });
+    } catch (error) {
+      if (seq !== requestSeq.current) return;
+      console.error("리뷰 추가 로드 실패:", error);
+    } finally {
+      if (seq === requestSeq.current) setLoading(false);
+    }
+  };
+
+  const handleCountryChange = (country) => {
+    setSelectedCountryFilter(country);
+    if (country === "all") {
+      requestSeq.current += 1;
+      setPage(null);
+      setLoading(false);
+    } else {
+      fetchReviews(country, null, []);
+    }
+  };
+
   const filteredReviews = getFilteredReviews(
-    item.reviews,
+    current.reviews,
     selectedCountryFilter
   );
-  const uniqueCountries = getUniqueCountries(item.reviews, getCountryName);
+  // 국적 선택지는 서버가 준 메뉴 전체 국적 (리뷰 수 많은 순), 없으면 받은 리뷰에서
+  const uniqueCountries = item.reviewNationalities
+    ? Object.keys(item.reviewNationalities).map((code) => ({
+        code,
+        name: getCountryName(code),
+      }))
+    : getUniqueCountries(item.reviews || [], getCountryName);
 
   return (
     <Modal
@@ -64,7 +123,7 @@ const ReviewModal = ({
         <div className="country-filter">
           <select
             value={selectedCountryFilter}
-            onChange={(e) => setSelectedCountryFilter(e.target.value)}
+            onChange={(e) => handleCountryChange(e.target.value)}
             className="country-select"
           >
             <option value="all">All Countries</option>
@@ -106,6 +165,17 @@ const ReviewModal = ({
             </div>
           );
         })}
+        {current.hasMore && current.cursor && (
+          <button
+            className="mode-btn load-more-btn"
+            disabled={loading}
+            onClick={() =>
+              fetchReviews(selectedCountryFilter, current.cursor, current.reviews)
+            }
+          >
+            {loading ? "..." : "More reviews"}
+          </button>
+        )}
       </div>
     </Modal>
   );
@@ -1,7 +1,9 @@
 import { defineConfig } from 'vite'
 import react from '@vitejs/plugin-react'
+import precompress from './precompress.js'
 
 // https://vite.dev/config/
 export default defineConfig({
-  plugins: [react()],
+  // 빌드 결과물은 .gz / .br도 함께 생성 (백엔드가 Accept-Encoding에 맞춰 그대로 서빙)
+  plugins: [react(), precompress()],
 })
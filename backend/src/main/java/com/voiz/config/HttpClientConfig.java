@@ -0,0 +1,295 @@
+package com.voiz.config;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Path;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.classic.ExecChain;
+import org.apache.hc.client5.http.classic.ExecChainHandler;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.concurrent.Cancellable;
+import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ClassicHttpResponse;
+import org.apache.hc.core5.http.HttpEntity;
+import org.apache.hc.core5.http.HttpException;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.http.io.entity.HttpEntityWrapper;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.voiz.util.UnixDomainSocketFactory;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import io.micrometer.observation.ObservationRegistry;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 외부 HTTP 호출(ML 서비스, 카카오 지도, 기상청/특일 공공데이터)에 공통으로 쓰는 RestTemplate.
+ * 커넥션 풀에서 keep-alive 연결을 재사용하고, 목적지별 동시 연결 수와 연결/응답/전체 시간 상한을 둡니다.
+ * gzip 응답은 HttpClient가 Accept-Encoding 헤더 추가와 압축 해제를 처리합니다.
+ * 호출 지연 시간은 http.client.requests, 풀 사용량은 httpcomponents.httpclient.pool.* / http.client.pool.route.*
+ * 메트릭으로 관리 포트(management.server.port, 서버 안에서만 열림)의 /actuator/metrics 에서 확인할 수 있습니다.
+ *
+ * ML 서비스가 같은 서버에서 Unix 도메인 소켓도 열고 있으면(fastapi.unix-socket) ML 호출은 mlRestTemplate으로
+ * 소켓 파일을 통해 보내고, 설정하지 않으면 공용 RestTemplate(TCP)을 그대로 씁니다.
+ * 소켓 쪽도 같은 HttpClient를 쓰고 연결만 소켓 파일로 맺으므로, 재시도는 HttpClient 기본 정책대로
+ * 멱등 요청(GET 등)만 다시 보내고 POST는 다시 보내지 않습니다.
+ */
+@Configuration
+public class HttpClientConfig {
+
+    @Value("${http.client.connect-timeout-ms:3000}")
+    private long connectTimeoutMs;
+
+    @Value("${http.client.read-timeout-ms:60000}")
+    private long readTimeoutMs;
+
+    @Value("${http.client.total-timeout-ms:120000}")
+    private long totalTimeoutMs;
+
+    @Value("${http.client.pool-wait-ms:2000}")
+    private long poolWaitMs;
+
+    @Value("${http.client.max-total:100}")
+    private int maxTotal;
+
+    @Value("${http.client.max-per-route:10}")
+    private int maxPerRoute;
+
+    @Value("${http.client.fastapi-max-per-route:40}")
+    private int fastApiMaxPerRoute;
+
+    @Value("${http.client.idle-evict-ms:30000}")
+    private long idleEvictMs;
+
+    @Value("${fastapi.base-url:http://127.0.0.1:8000}")
+    private String fastApiBaseUrl;
+
+    @Value("${fastapi.unix-socket:}")
+    private String fastApiUnixSocket;
+
+    @Value("${fastapi.unix-socket-idle-ttl-ms:4000}")
+    private long unixSocketIdleTtlMs;
+
+    // 소켓 파일 연결용 HttpClient (fastapi.unix-socket이 있을 때만)
+    private CloseableHttpClient mlHttpClient;
+
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager httpConnectionManager() {
+        PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(maxTotal)
+            .setMaxConnPerRoute(maxPerRoute)
+            .setDefaultConnectionConfig(ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                // 오래 쉰 연결은 재사용 전에 살아있는지 확인
+                .setValidateAfterInactivity(TimeValue.ofSeconds(10))
+                .setTimeToLive(TimeValue.ofMinutes(5))
+                .build())
+            .build();
+        // ML 서비스는 리뷰 태깅, 번역, 인사이트 등 호출이 몰리므로 별도 한도
+        manager.setMaxPerRoute(route(fastApiBaseUrl), fastApiMaxPerRoute);
+        return manager;
+    }
+
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient httpClient(PoolingHttpClientConnectionManager httpConnectionManager) {
+        return withDeadline(HttpClients.custom())
+            .setConnectionManager(httpConnectionManager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                // 풀이 가득 찼을 때 연결을 기다리는 시간
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build())
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+            .build();
+    }
+
+    @Bean
+    @Primary
+    public RestTemplate restTemplate(CloseableHttpClient httpClient, ObjectProvider<ObservationRegistry> observationRegistry) {
+        RestTemplate restTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(httpClient));
+        // 호출별 지연 시간 메트릭 (http.client.requests: method, uri, status, client.name 태그)
+        observationRegistry.ifAvailable(restTemplate::setObservationRegistry);
+        return restTemplate;
+    }
+
+    /**
+     * ML 서비스 호출용 RestTemplate (fastapi.unix-socket이 없으면 공용 RestTemplate)
+     */
+    @Bean
+    public RestTemplate mlRestTemplate(RestTemplate restTemplate, ObjectProvider<ObservationRegistry> observationRegistry,
+                                       ObjectProvider<MeterRegistry> meterRegistry) {
+        if (fastApiUnixSocket == null || fastApiUnixSocket.isBlank()) {
+            return restTemplate;
+        }
+        System.out.println("ML 서비스 호출에 Unix 도메인 소켓 사용: " + fastApiUnixSocket);
+        PoolingHttpClientConnectionManager manager = new PoolingHttpClientConnectionManager(
+            new DefaultHttpClientConnectionOperator(new UnixDomainSocketFactory(Path.of(fastApiUnixSocket)),
+                null, null, RegistryBuilder.<TlsSocketStrategy>create().build()),
+            PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND, null);
+        manager.setMaxTotal(fastApiMaxPerRoute);
+        manager.setDefaultMaxPerRoute(fastApiMaxPerRoute);
+        manager.setDefaultConnectionConfig(ConnectionConfig.custom()
+            .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+            .setSocketTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+            .setValidateAfterInactivity(TimeValue.ofSeconds(2))
+            .build());
+        mlHttpClient = withDeadline(HttpClients.custom())
+            .setConnectionManager(manager)
+            .setDefaultRequestConfig(RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolWaitMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(readTimeoutMs))
+                .build())
+            // uvicorn이 유휴 연결을 닫기(keep-alive 5초) 전에 먼저 버림
+            .setKeepAliveStrategy((response, context) -> TimeValue.ofMilliseconds(unixSocketIdleTtlMs))
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.ofMilliseconds(unixSocketIdleTtlMs))
+            .build();
+        meterRegistry.ifAvailable(registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(manager, "fastapi-uds").bindTo(registry);
+            bindRouteGauges(registry, manager, route(fastApiBaseUrl), "fastapi-uds");
+        });
+
+        RestTemplate mlRestTemplate = new RestTemplate(new HttpComponentsClientHttpRequestFactory(mlHttpClient));
+        observationRegistry.ifAvailable(mlRestTemplate::setObservationRegistry);
+        return mlRestTemplate;
+    }
+
+    @PreDestroy
+    public void closeMlHttpClient() throws IOException {
+        if (mlHttpClient != null) {
+            mlHttpClient.close();
+        }
+    }
+
+    @Bean
+    public MeterBinder httpConnectionPoolMetrics(PoolingHttpClientConnectionManager httpConnectionManager) {
+        HttpRoute fastApiRoute = route(fastApiBaseUrl);
+        return registry -> {
+            new PoolingHttpClientConnectionManagerMetricsBinder(httpConnectionManager, "outbound").bindTo(registry);
+            bindRouteGauges(registry, httpConnectionManager, fastApiRoute, "fastapi");
+        };
+    }
+
+    private void bindRouteGauges(MeterRegistry registry, PoolingHttpClientConnectionManager manager, HttpRoute route, String name) {
+        Gauge.builder("http.client.pool.route.leased", manager, m -> stats(m, route).getLeased())
+            .description("목적지별 사용 중인 연결 수").tag("route", name).register(registry);
+        Gauge.builder("http.client.pool.route.available", manager, m -> stats(m, route).getAvailable())
+            .description("목적지별 대기 중인 keep-alive 연결 수").tag("route", name).register(registry);
+        Gauge.builder("http.client.pool.route.pending", manager, m -> stats(m, route).getPending())
+            .description("목적지별 연결을 기다리는 요청 수").tag("route", name).register(registry);
+        Gauge.builder("http.client.pool.route.max", manager, m -> stats(m, route).getMax())
+            .description("목적지별 최대 연결 수").tag("route", name).register(registry);
+    }
+
+    /**
+     * 요청 전체 시간 상한(http.client.total-timeout-ms, 0 이하면 없음)을 HttpClient에 적용
+     */
+    private HttpClientBuilder withDeadline(HttpClientBuilder builder) {
+        if (totalTimeoutMs > 0) {
+            builder.addExecInterceptorFirst("deadline", new DeadlineExecHandler(totalTimeoutMs));
+        }
+        return builder;
+    }
+
+    private static PoolStats stats(PoolingHttpClientConnectionManager manager, HttpRoute route) {
+        return manager.getStats(route);
+    }
+
+    /**
+     * 요청 URL의 커넥션 풀 경로 (HttpClient가 만드는 경로와 같도록 기본 포트를 채움)
+     */
+    private static HttpRoute route(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        boolean secure = "https".equalsIgnoreCase(uri.getScheme());
+        int port = uri.getPort() != -1 ? uri.getPort() : (secure ? 443 : 80);
+        return new HttpRoute(new HttpHost(uri.getScheme(), uri.getHost(), port), null, secure);
+    }
+
+    /**
+     * 요청 전체(연결 대기 ~ 응답 본문 수신) 시간 상한을 두는 HttpClient 실행 단계.
+     * 소켓 타임아웃은 패킷 사이 간격만 제한하므로, 상한을 넘긴 요청은 스케줄러가 취소합니다.
+     * HttpClient가 넘겨주는 원래 요청(Cancellable)을 직접 취소하므로 RestTemplate 요청 팩토리와 무관하게 동작하고,
+     * 재시도 / 리다이렉트보다 바깥에 두어 그 시간까지 상한에 포함합니다.
+     * 응답을 닫으면(본문을 다 읽거나 오류로 끝나면) 예약한 취소도 함께 지워 스케줄러 큐에 쌓이지 않습니다.
+     */
+    static class DeadlineExecHandler implements ExecChainHandler {
+
+        private static final ScheduledThreadPoolExecutor DEADLINES = new ScheduledThreadPoolExecutor(1, r -> {
+            Thread thread = new Thread(r, "http-deadline");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        static {
+            // 취소한 예약은 바로 큐에서 제거 (기본값은 실행 시각까지 남아 있음)
+            DEADLINES.setRemoveOnCancelPolicy(true);
+        }
+
+        private final long totalTimeoutMs;
+
+        DeadlineExecHandler(long totalTimeoutMs) {
+            this.totalTimeoutMs = totalTimeoutMs;
+        }
+
+        @Override
+        public ClassicHttpResponse execute(ClassicHttpRequest request, ExecChain.Scope scope, ExecChain chain)
+                throws IOException, HttpException {
+            if (!(scope.originalRequest instanceof Cancellable cancellable)) {
+                return chain.proceed(request, scope);
+            }
+            ScheduledFuture<?> deadline = DEADLINES.schedule(cancellable::cancel, totalTimeoutMs, TimeUnit.MILLISECONDS);
+            try {
+                ClassicHttpResponse response = chain.proceed(request, scope);
+                HttpEntity entity = response.getEntity();
+                if (entity == null) {
+                    deadline.cancel(false);
+                } else {
+                    // 응답(본문)을 닫을 때 예약 취소
+                    response.setEntity(new HttpEntityWrapper(entity) {
+                        @Override
+                        public void close() throws IOException {
+                            try {
+                                super.close();
+                            } finally {
+                                deadline.cancel(false);
+                            }
+                        }
+                    });
+                }
+                return response;
+            } catch (IOException | HttpException | RuntimeException e) {
+                deadline.cancel(false);
+                throw e;
+            }
+        }
+    }
+}
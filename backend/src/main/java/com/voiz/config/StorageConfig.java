@@ -0,0 +1,40 @@
+package com.voiz.config;
+
+import java.nio.file.Path;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.voiz.util.BlobStorage;
+import com.voiz.util.LocalBlobStorage;
+import com.voiz.util.S3BlobStorage;
+
+/**
+ * 업로드 파일 원격 저장소 선택 (storage.type).
+ * local(기본값)이면 원격 저장소 없이 서버 디스크만 사용하고,
+ * s3는 S3 호환 오브젝트 스토리지(AWS S3, MinIO), filesystem은 여러 서버가 함께 마운트한 디렉터리에 복제합니다.
+ */
+@Configuration
+public class StorageConfig {
+
+	@Bean
+	@ConditionalOnProperty(name = "storage.type", havingValue = "s3")
+	public BlobStorage s3BlobStorage(
+			@Value("${storage.s3.endpoint:}") String endpoint,
+			@Value("${storage.s3.region:ap-northeast-2}") String region,
+			@Value("${storage.s3.bucket}") String bucket,
+			@Value("${storage.s3.key-prefix:}") String keyPrefix,
+			@Value("${storage.s3.access-key:}") String accessKey,
+			@Value("${storage.s3.secret-key:}") String secretKey,
+			@Value("${storage.s3.path-style:true}") boolean pathStyle) {
+		return new S3BlobStorage(endpoint, region, bucket, keyPrefix, accessKey, secretKey, pathStyle);
+	}
+
+	@Bean
+	@ConditionalOnProperty(name = "storage.type", havingValue = "filesystem")
+	public BlobStorage sharedFileSystemStorage(@Value("${storage.filesystem.root}") String root) {
+		return new LocalBlobStorage(Path.of(root));
+	}
+}
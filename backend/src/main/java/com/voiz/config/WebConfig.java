@@ -1,24 +1,74 @@
 package com.voiz.config;
 
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.ServletRegistrationBean;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.CacheControl;
 import org.springframework.web.servlet.config.annotation.ResourceHandlerRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.web.servlet.resource.EncodedResourceResolver;
+
+import com.voiz.service.UploadStorage;
+import com.voiz.util.UploadFileServlet;
 
 @Configuration
 public class WebConfig implements WebMvcConfigurer {
 
+    @Autowired
+    private UploadStorage uploadStorage;
+
+    @Value("${uploads.sendfile-min-bytes:49152}")
+    private long sendfileMinBytes;
+
+    @Value("${uploads.hot-cache.max-bytes:8388608}")
+    private long hotCacheMaxBytes;
+
+    @Value("${uploads.hot-cache.max-file-bytes:65536}")
+    private long hotCacheMaxFileBytes;
+
+    // 업로드된 이미지 파일 서빙: DispatcherServlet을 거치지 않는 전용 서블릿 (sendfile, Range, ETag)
+    // 파생본(/uploads/menuImages/derived/)은 파일명이 내용 해시이므로 1년 + immutable, 나머지는 1시간 캐시
+    // 이 서버에 없는 파일은 업로드 저장소(원격 저장소)에서 받아 와 서빙
+    @Bean
+    public ServletRegistrationBean<UploadFileServlet> uploadFileServlet() {
+        UploadFileServlet servlet = new UploadFileServlet(uploadStorage.root(),
+                sendfileMinBytes, hotCacheMaxBytes, hotCacheMaxFileBytes, key -> {
+                    try {
+                        return uploadStorage.fetch(key) != null;
+                    } catch (IOException | IllegalArgumentException e) {
+                        System.err.println("업로드 파일 원격 조회 실패: " + key + ", " + e.getMessage());
+                        return false;
+                    }
+                });
+        ServletRegistrationBean<UploadFileServlet> registration = new ServletRegistrationBean<>(servlet, "/uploads/*");
+        registration.setName("uploadFileServlet");
+        registration.setLoadOnStartup(1);
+        return registration;
+    }
+
     @Override
     public void addResourceHandlers(ResourceHandlerRegistry registry) {
-        // 업로드된 이미지 파일 서빙
-        registry.addResourceHandler("/uploads/**")
-                .addResourceLocations("file:uploads/")
-                .setCachePeriod(3600); // 1시간 캐시
-        
-        // React 빌드 파일 서빙
+        // React 빌드 산출물: 파일명에 내용 해시가 들어가므로 1년 + immutable
+        // 빌드 때 만든 .br / .gz가 있으면 Accept-Encoding에 맞춰 그대로 서빙 (요청마다 압축하지 않음)
+        registry.addResourceHandler("/assets/**")
+                .addResourceLocations("classpath:/static/assets/")
+                .setCacheControl(CacheControl.maxAge(365, TimeUnit.DAYS).cachePublic().immutable())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
+
+        // 그 외 React 빌드 파일 (index.html, sw.js 등): 새 배포의 해시 파일명을 바로 가리키도록
+        // 캐시는 하되 매번 재검증 (Last-Modified로 304 응답)
         registry.addResourceHandler("/**")
                 .addResourceLocations("classpath:/static/")
-                .setCachePeriod(0);
+                .setCacheControl(CacheControl.noCache())
+                .resourceChain(true)
+                .addResolver(new EncodedResourceResolver());
     }
 
     @Override
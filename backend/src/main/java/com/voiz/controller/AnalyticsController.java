@@ -6,12 +6,21 @@ import com.voiz.dto.ReviewSummaryDto;
 import com.voiz.dto.OrderTimeAnalyticsDto;
 import com.voiz.dto.SalesAnalyticsDto;
 import com.voiz.service.AnalyticsService;
+import com.voiz.service.ExportService;
 import com.voiz.service.FastApiClient;
+import com.voiz.service.InsightCacheService;
+import com.voiz.util.ColumnarPayload;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import java.time.LocalDate; // LocalDate 임포트
 import java.util.List;
 
@@ -23,6 +32,8 @@ public class AnalyticsController {
 
     private final AnalyticsService analyticsService;
     private final FastApiClient fastApiClient;
+    private final InsightCacheService insightCacheService;
+    private final ExportService exportService;
 
 
     @GetMapping("/sales/{userId}")
@@ -124,32 +135,105 @@ public class AnalyticsController {
             @RequestParam(required = false) Integer maxRating,
             @RequestParam(required = false) List<Integer> menuIds
     ) {
-        var reviews = analyticsService.getReviewsByFilters(userId, startDate, endDate, nationality, minRating, maxRating, menuIds);
-        // 메뉴명 매핑
-        java.util.Set<Integer> menuIdSet = reviews.stream().map(com.voiz.vo.Reviews::getMenuIdx).collect(java.util.stream.Collectors.toSet());
-        java.util.Map<Integer, String> menuIdToName = analyticsService.getMenuNames(menuIdSet);
-        // map to DTO
-        List<com.voiz.dto.ReviewResponseDto> dtos = reviews.stream().map(r -> {
-            var dto = new com.voiz.dto.ReviewResponseDto();
-            dto.setReviewIdx(r.getReviewIdx().intValue());
-            dto.setMenuIdx(r.getMenuIdx());
-            dto.setOrderIdx(r.getOrderIdx());
-            dto.setUserId(r.getUserId());
-            dto.setGuestName(r.getGuestName());
-            dto.setComment(r.getComment());
-            dto.setRating(r.getRating());
-            dto.setNationality(r.getNationality());
-            dto.setLanguage(r.getLanguage());
-            dto.setCreatedAt(r.getCreatedAt());
-            dto.setMenuName(menuIdToName.get(r.getMenuIdx()));
-            return dto;
-        }).toList();
-        return ResponseEntity.ok(dtos);
+        // 리뷰 + 메뉴명을 조인한 프로젝션 한 번으로 조회
+        var reviews = analyticsService.getReviewsWithMenuName(userId, startDate, endDate, nationality, minRating, maxRating, menuIds);
+        return ResponseEntity.ok(reviews);
+    }
+
+    @GetMapping("/reviews/{userId}/page")
+    @Operation(summary = "리뷰 목록 페이지 조회", description = "리뷰 목록을 최신순으로 커서 기반(키셋) 페이지네이션하여 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하세요. includeTotal=true면 첫 페이지에서 전체 개수를 함께 반환합니다.")
+    public ResponseEntity<com.voiz.dto.ReviewPageDto> getReviewPage(
+            @PathVariable String userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String nationality,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) Integer maxRating,
+            @RequestParam(required = false) List<Integer> menuIds,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal
+    ) {
+        try {
+            var page = analyticsService.getReviewPage(userId, startDate, endDate, nationality, minRating, maxRating, menuIds,
+                    cursor, size, includeTotal);
+            return ResponseEntity.ok(page);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/reviews/{userId}/search")
+    @Operation(summary = "리뷰 검색", description = "리뷰 본문을 검색합니다 (한국어/영어/일본어/중국어). 검색어의 모든 단어를 포함하는 리뷰를 최신순으로 반환하며, 본문 내 검색어 위치(highlights)와 메뉴/평점/언어/국적별 결과 수(facets)를 함께 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하세요.")
+    public ResponseEntity<com.voiz.dto.ReviewSearchDto> searchReviews(
+            @PathVariable String userId,
+            @RequestParam String q,
+            @RequestParam(required = false) LocalDate startDate,
+            @RequestParam(required = false) LocalDate endDate,
+            @RequestParam(required = false) List<Integer> menuIds,
+            @RequestParam(required = false) Integer minRating,
+            @RequestParam(required = false) Integer maxRating,
+            @RequestParam(required = false) String language,
+            @RequestParam(required = false) String nationality,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        try {
+            var result = analyticsService.searchReviews(userId, q, startDate, endDate, menuIds, minRating, maxRating,
+                    language, nationality, cursor, size);
+            return ResponseEntity.ok(result);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+
+    @GetMapping("/export/reviews/{userId}")
+    @Operation(summary = "리뷰 내보내기", description = "기간 내 리뷰를 CSV 또는 NDJSON으로 내려받습니다. DB에서 읽는 즉시 스트리밍하며 gzip=true면 압축 파일로 내려줍니다.")
+    public ResponseEntity<StreamingResponseBody> exportReviews(
+            @PathVariable String userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportService.Format exportFormat = ExportService.Format.from(format);
+        StreamingResponseBody body = out -> exportService.exportReviews(
+                userId, startDate.atStartOfDay(), endDate.atTime(java.time.LocalTime.MAX), exportFormat, gzip, out);
+        return exportResponse("reviews_" + userId + "_" + startDate + "_" + endDate, exportFormat, gzip, body);
+    }
+
+    @GetMapping("/export/orders/{userId}")
+    @Operation(summary = "주문 내보내기", description = "기간 내 주문을 주문 항목 단위로 CSV 또는 NDJSON으로 내려받습니다. DB에서 읽는 즉시 스트리밍하며 gzip=true면 압축 파일로 내려줍니다.")
+    public ResponseEntity<StreamingResponseBody> exportOrders(
+            @PathVariable String userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip
+    ) {
+        ExportService.Format exportFormat = ExportService.Format.from(format);
+        StreamingResponseBody body = out -> exportService.exportOrders(
+                userId, startDate.atStartOfDay(), endDate.atTime(java.time.LocalTime.MAX), exportFormat, gzip, out);
+        return exportResponse("orders_" + userId + "_" + startDate + "_" + endDate, exportFormat, gzip, body);
+    }
+
+    private ResponseEntity<StreamingResponseBody> exportResponse(String baseName, ExportService.Format format, boolean gzip,
+            StreamingResponseBody body) {
+        String fileName = baseName + "." + format.getExtension() + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.getContentType() + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename(fileName, java.nio.charset.StandardCharsets.UTF_8).build().toString())
+                .cacheControl(CacheControl.noStore())
+                .body(body);
     }
 
     @GetMapping("/reviews/{userId}/keywords")
     @Operation(summary = "리뷰 키워드 분석", description = "긍/부정 상위 키워드를 전체 및 메뉴별로 반환합니다.")
-    public ResponseEntity<String> getReviewKeywords(
+    public ResponseEntity<java.util.Map<String, Object>> getReviewKeywords(
             @PathVariable String userId,
             @RequestParam LocalDate startDate,
             @RequestParam LocalDate endDate,
@@ -158,27 +242,21 @@ public class AnalyticsController {
             @RequestParam(defaultValue = "5") int topK,
             @RequestParam(defaultValue = "openai") String mode
     ) {
-        var reviews = analyticsService.getReviewsByFilters(userId, startDate, endDate, null, null, null, null);
-
-        // ML 서버 payload 구성
-        java.util.List<java.util.Map<String, Object>> comments = new java.util.ArrayList<>();
-        for (var r : reviews) {
-            java.util.Map<String, Object> m = new java.util.HashMap<>();
-            m.put("text", r.getComment());
-            m.put("rating", r.getRating());
-            m.put("menuIdx", r.getMenuIdx());
-            m.put("language", r.getLanguage());
-            comments.add(m);
-        }
-        java.util.Map<String, Object> payload = new java.util.HashMap<>();
-        payload.put("comments", comments);
-        payload.put("positiveThreshold", positiveThreshold);
-        payload.put("negativeThreshold", negativeThreshold);
-        payload.put("topK", topK);
-        payload.put("mode", mode);
-
-        var response = fastApiClient.postDataToFastApi("/api/reviews/keywords", payload);
-        return ResponseEntity.status(response.getStatusCode()).body(response.getBody());
+        // 키워드는 매장별 메모리 색인에서 계산 (mode=openai면 상위 단어만 ML로 보내 구로 정리)
+        var keywords = analyticsService.getReviewKeywords(userId, startDate, endDate, positiveThreshold, negativeThreshold, topK, mode);
+        return ResponseEntity.ok(keywords);
+    }
+
+    @GetMapping("/reviews/{userId}/tags")
+    @Operation(summary = "메뉴별 리뷰 본문 태그 집계", description = "리뷰 저장 시 비동기로 분석해 둔 본문 감성과 속성(맛, 양, 가격, 서비스 등)별 감성을 메뉴별로 집계합니다. 조회 시 ML 호출이 없습니다.")
+    public ResponseEntity<java.util.List<java.util.Map<String, Object>>> getMenuReviewTags(
+            @PathVariable String userId,
+            @RequestParam LocalDate startDate,
+            @RequestParam LocalDate endDate,
+            @RequestParam(required = false) String nationality
+    ) {
+        var list = analyticsService.getMenuReviewTags(userId, startDate, endDate, nationality);
+        return ResponseEntity.ok(list);
     }
 
     @GetMapping("/reviews/{userId}/nationality-ratings")
@@ -247,8 +325,7 @@ public class AnalyticsController {
             @RequestParam(defaultValue = "2") int negativeThreshold,
             @RequestParam(required = false) String nationality
     ) {
-        var menus = analyticsService.getMenuSentimentWithSummary(userId, startDate, endDate, positiveThreshold, negativeThreshold, nationality);
-        var insights = analyticsService.generateMenuInsights(menus);
+        var insights = analyticsService.getMenuInsights(userId, startDate, endDate, positiveThreshold, negativeThreshold, nationality);
         return ResponseEntity.ok(insights);
     }
 
@@ -290,66 +367,26 @@ public class AnalyticsController {
         try {
             System.out.println("🔍 기간별 인사이트 API 호출: " + userId + " (" + startDate + " ~ " + endDate + ")");
             
-            // 1. 매출 데이터 수집
-            var salesData = analyticsService.getSalesAnalytics(userId, startDate, endDate);
-            System.out.println("📊 매출 데이터 수집 완료: " + salesData.size() + "건");
-            
-            // 2. 메뉴 데이터 수집
-            var menuData = analyticsService.getTopMenuSales(userId, startDate, endDate, null, 10);
-            System.out.println("🍽️ 메뉴 데이터 수집 완료: " + menuData.size() + "건");
-            
-            // 3. 고객 데이터 수집
-            var customerData = analyticsService.getNationalityAnalytics(userId, null, null, null);
-            System.out.println("👥 고객 데이터 수집 완료: " + customerData.size() + "건");
-            
-            // 4. 이전 기간 비교 데이터 (같은 기간만큼 이전)
+            // 이전 기간 비교 데이터 범위 (같은 기간만큼 이전)
             long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
             LocalDate prevStartDate = startDate.minusDays(daysBetween + 1);
             LocalDate prevEndDate = startDate.minusDays(1);
-            var previousSalesData = analyticsService.getSalesAnalytics(userId, prevStartDate, prevEndDate);
-            System.out.println("📈 이전 기간 데이터 수집 완료: " + previousSalesData.size() + "건");
             
-            // 5. ML 서비스로 전송할 데이터 구성
-            java.util.Map<String, Object> payload = new java.util.HashMap<>();
-            payload.put("salesData", salesData);
-            payload.put("menuData", menuData);
-            payload.put("customerData", customerData);
-            payload.put("period", period);
-            payload.put("previousPeriodData", java.util.Map.of("sales", previousSalesData));
-            
-            // 6. ML 서비스 호출
-            System.out.println("🤖 ML 서비스 호출 중...");
-            var mlResponse = fastApiClient.postDataToFastApi("/api/analytics/period-insights", payload);
+            // 주문(이전 기간 포함)과 고객 데이터(최근 한 달 리뷰)에 변화가 없으면 저장된 인사이트를 그대로 사용
+            LocalDate today = LocalDate.now();
+            String cacheKey = "period-insights:" + userId + ":" + startDate + ":" + endDate + ":" + period + ":" + today;
+            var watermark = insightCacheService.watermark(userId,
+                    today.minusMonths(1).atStartOfDay(), today.atTime(java.time.LocalTime.MAX),
+                    prevStartDate.atStartOfDay(), endDate.atTime(java.time.LocalTime.MAX));
             
-            if (mlResponse.getStatusCode().is2xxSuccessful()) {
-                System.out.println("✅ ML 인사이트 생성 완료");
-                try {
-                    com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                    java.util.Map<String, Object> insights = mapper.readValue(mlResponse.getBody(), java.util.Map.class);
-                    
-                    // 추가 메타데이터 포함
-                    insights.put("metadata", java.util.Map.of(
-                        "period", period,
-                        "startDate", startDate.toString(),
-                        "endDate", endDate.toString(),
-                        "dataPoints", salesData.size(),
-                        "generatedAt", java.time.LocalDateTime.now().toString()
-                    ));
-                    
-                    return ResponseEntity.ok(insights);
-                } catch (Exception e) {
-                    System.err.println("❌ ML 응답 파싱 오류: " + e.getMessage());
-                    return ResponseEntity.ok(java.util.Map.of(
-                        "error", "AI 분석 중 오류가 발생했습니다",
-                        "rawResponse", mlResponse.getBody()
-                    ));
-                }
-            } else {
-                System.err.println("❌ ML 서비스 오류: " + mlResponse.getStatusCode());
-                return ResponseEntity.status(mlResponse.getStatusCode())
-                    .body(java.util.Map.of("error", "AI 분석 서비스에 연결할 수 없습니다"));
-            }
+            var insights = insightCacheService.get(cacheKey, watermark,
+                    () -> requestPeriodInsights(userId, startDate, endDate, prevStartDate, prevEndDate, period));
+            return ResponseEntity.ok(insights);
             
+        } catch (HttpStatusCodeException e) {
+            System.err.println("❌ ML 서비스 오류: " + e.getStatusCode());
+            return ResponseEntity.status(e.getStatusCode())
+                .body(java.util.Map.of("error", "AI 분석 서비스에 연결할 수 없습니다"));
         } catch (Exception e) {
             System.err.println("❌ 기간별 인사이트 생성 오류: " + e.getMessage());
             e.printStackTrace();
@@ -359,6 +396,84 @@ public class AnalyticsController {
         }
     }
 
+    private java.util.Map<String, Object> requestPeriodInsights(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            LocalDate prevStartDate,
+            LocalDate prevEndDate,
+            String period
+    ) throws Exception {
+        // 1. 매출 데이터 수집
+        var salesData = analyticsService.getSalesAnalytics(userId, startDate, endDate);
+        System.out.println("📊 매출 데이터 수집 완료: " + salesData.size() + "건");
+        
+        // 2. 메뉴 데이터 수집
+        var menuData = analyticsService.getTopMenuSales(userId, startDate, endDate, null, 10);
+        System.out.println("🍽️ 메뉴 데이터 수집 완료: " + menuData.size() + "건");
+        
+        // 3. 고객 데이터 수집
+        var customerData = analyticsService.getNationalityAnalytics(userId, null, null, null);
+        System.out.println("👥 고객 데이터 수집 완료: " + customerData.size() + "건");
+        
+        // 4. 이전 기간 비교 데이터
+        var previousSalesData = analyticsService.getSalesAnalytics(userId, prevStartDate, prevEndDate);
+        System.out.println("📈 이전 기간 데이터 수집 완료: " + previousSalesData.size() + "건");
+        
+        // 5. ML 서비스로 전송할 데이터 구성 (컬럼형, ML 서비스가 받지 않으면 같은 구조의 JSON)
+        ColumnarPayload payload = new ColumnarPayload();
+        payload.put("period", period);
+        addSalesTable(payload.table("salesData", salesData.size()), salesData);
+        
+        var menuTable = payload.table("menuData", menuData.size());
+        var menuName = menuTable.stringColumn("menuName");
+        var salesAmount = menuTable.doubleColumn("salesAmount");
+        var salesPercentage = menuTable.doubleColumn("salesPercentage");
+        for (MenuSalesDto menu : menuData) {
+            menuName.add(menu.getMenuName());
+            salesAmount.add(menu.getSalesAmount());
+            salesPercentage.add(menu.getSalesPercentage());
+        }
+        
+        var customerTable = payload.table("customerData", customerData.size());
+        var nationality = customerTable.dictionaryColumn("nationality");
+        var count = customerTable.longColumn("count");
+        for (NationalityAnalyticsDto customer : customerData) {
+            nationality.add(customer.getNationality());
+            count.add(customer.getCount());
+        }
+        
+        addSalesTable(payload.table("previousPeriodData.sales", previousSalesData.size()), previousSalesData);
+        
+        // 6. ML 서비스 호출 (2xx가 아니면 HttpStatusCodeException 발생)
+        System.out.println("🤖 ML 서비스 호출 중...");
+        var mlResponse = fastApiClient.postColumnarToFastApi("/api/analytics/period-insights", payload, String.class);
+        System.out.println("✅ ML 인사이트 생성 완료");
+        
+        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
+        java.util.Map<String, Object> insights = mapper.readValue(mlResponse.getBody(), java.util.Map.class);
+        
+        // 추가 메타데이터 포함
+        insights.put("metadata", java.util.Map.of(
+            "period", period,
+            "startDate", startDate.toString(),
+            "endDate", endDate.toString(),
+            "dataPoints", salesData.size(),
+            "generatedAt", java.time.LocalDateTime.now().toString()
+        ));
+        
+        return insights;
+    }
+
+    private void addSalesTable(ColumnarPayload.Table table, List<SalesAnalyticsDto> sales) {
+        var granurality = table.stringColumn("granurality");
+        var totalSales = table.doubleColumn("totalSales");
+        for (SalesAnalyticsDto row : sales) {
+            granurality.add(row.getGranurality());
+            totalSales.add(row.getTotalSales());
+        }
+    }
+
     @GetMapping("/customer-behavior/{userId}")
     @Operation(summary = "AI 기반 고객 행동 패턴 분석", description = "ML 서비스를 활용하여 고객의 주문 패턴, 국가별 선호도, 시간대별 트렌드를 분석합니다.")
     public ResponseEntity<java.util.Map<String, Object>> getCustomerBehaviorAnalysis(
@@ -378,34 +493,35 @@ public class AnalyticsController {
             var reviews = analyticsService.getReviewsByFilters(userId, startDate, endDate, null, null, null, null);
             System.out.println("⭐ 리뷰 데이터 수집 완료: " + reviews.size() + "건");
             
-            // 3. ML 서비스용 데이터 변환
-            java.util.List<java.util.Map<String, Object>> orderHistory = new java.util.ArrayList<>();
+            // 3. ML 서비스용 데이터 변환 (컬럼형)
+            ColumnarPayload payload = new ColumnarPayload();
+            payload.put("period", period);
+            
+            var orderHistory = payload.table("orderHistory", orderAnalytics.size());
+            var time = orderHistory.stringColumn("time");
+            var orderCount = orderHistory.longColumn("orderCount");
+            var amount = orderHistory.longColumn("amount");
             for (var order : orderAnalytics) {
-                java.util.Map<String, Object> orderMap = new java.util.HashMap<>();
-                orderMap.put("time", order.getHour() + ":00");
-                orderMap.put("orderCount", order.getOrderCount());
-                orderMap.put("amount", order.getOrderCount() * 15000); // 평균 주문금액 가정
-                orderHistory.add(orderMap);
+                time.add(order.getHour() + ":00");
+                orderCount.add(order.getOrderCount());
+                amount.add(order.getOrderCount() * 15000); // 평균 주문금액 가정
             }
             
-            java.util.List<java.util.Map<String, Object>> reviewHistory = new java.util.ArrayList<>();
+            var reviewHistory = payload.table("reviewHistory", Math.min(reviews.size(), 50));
+            var nationality = reviewHistory.dictionaryColumn("nationality");
+            var rating = reviewHistory.intColumn("rating");
+            var menuId = reviewHistory.intColumn("menuId");
+            var comment = reviewHistory.stringColumn("comment");
             for (var review : reviews.stream().limit(50).toList()) { // 최근 50건만
-                java.util.Map<String, Object> reviewMap = new java.util.HashMap<>();
-                reviewMap.put("nationality", review.getNationality());
-                reviewMap.put("rating", review.getRating());
-                reviewMap.put("menuId", review.getMenuIdx());
-                reviewMap.put("comment", review.getComment());
-                reviewHistory.add(reviewMap);
+                nationality.add(review.getNationality());
+                rating.add(review.getRating());
+                menuId.add(review.getMenuIdx());
+                comment.add(review.getComment());
             }
             
             // 4. ML 서비스 호출
-            java.util.Map<String, Object> payload = new java.util.HashMap<>();
-            payload.put("orderHistory", orderHistory);
-            payload.put("reviewHistory", reviewHistory);
-            payload.put("period", period);
-            
             System.out.println("🤖 고객 행동 분석 ML 서비스 호출 중...");
-            var mlResponse = fastApiClient.postDataToFastApi("/api/analytics/customer-behavior", payload);
+            var mlResponse = fastApiClient.postColumnarToFastApi("/api/analytics/customer-behavior", payload, String.class);
             
             if (mlResponse.getStatusCode().is2xxSuccessful()) {
                 System.out.println("✅ 고객 행동 분석 완료");
@@ -416,8 +532,8 @@ public class AnalyticsController {
                     // 메타데이터 추가
                     analysis.put("metadata", java.util.Map.of(
                         "period", period,
-                        "orderDataPoints", orderHistory.size(),
-                        "reviewDataPoints", reviewHistory.size(),
+                        "orderDataPoints", orderHistory.rows(),
+                        "reviewDataPoints", reviewHistory.rows(),
                         "analysisDate", java.time.LocalDateTime.now().toString()
                     ));
                     
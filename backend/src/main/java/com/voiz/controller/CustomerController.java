@@ -26,12 +26,13 @@ public class CustomerController {
 	private OrderService orderService;
 	
 	@GetMapping("/menu/{userId}")
-	@Operation(summary = "고객용 메뉴판 조회", description = "고객이 QR코드를 스캔했을 때 언어에 맞는 메뉴판을 조회하기 위한 API입니다.")
+	@Operation(summary = "고객용 메뉴판 조회", description = "고객이 QR코드를 스캔했을 때 언어에 맞는 메뉴판을 조회하기 위한 API입니다. imageUrl은 imageSize(thumb, list, detail) 크기의 사진입니다.")
 	public ResponseEntity<List<MenusDto>> getCustomerMenus(
 			@PathVariable String userId, 
-			@RequestParam String language) {
+			@RequestParam String language,
+			@RequestParam(required = false, defaultValue = "list") String imageSize) {
 		
-		List<MenusDto> menus= orderService.getCustomerMenus(userId, language);
+		List<MenusDto> menus= orderService.getCustomerMenus(userId, language, imageSize);
 		return ResponseEntity.ok(menus);
 	}
 	
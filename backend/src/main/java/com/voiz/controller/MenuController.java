@@ -1,6 +1,7 @@
 package com.voiz.controller;
 
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,18 +13,27 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import com.voiz.dto.MenuImageUploadDto;
+import com.voiz.dto.MenuImportRequestDto;
+import com.voiz.dto.MenuImportResultDto;
+import com.voiz.service.MenuImageService.StoredImage;
 import com.voiz.service.MenuService;
+import com.voiz.service.OcrService;
 import com.voiz.vo.Menus;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 
 @RestController
 @RequestMapping("api/menus")
@@ -33,6 +43,9 @@ public class MenuController {
 	@Autowired
 	private MenuService menuService;
 	
+	@Autowired
+	private OcrService ocrService;
+	
 	@PostMapping(value = "/ocr", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
 	@Operation(summary = "메뉴판 OCR 인식", description = "메뉴판 사진을 입력받아 google vision API를 통해 메뉴 정보를 인식합니다.")
 	public ResponseEntity<String> processOcrImage(
@@ -44,6 +57,48 @@ public class MenuController {
 		
 	}
 	
+	@PostMapping(value = "/ocr/jobs", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+	@Operation(summary = "메뉴판 OCR 작업 등록", description = "메뉴판 사진을 받아 작업 번호를 바로 반환합니다. 결과는 /ocr/jobs/{jobId} 조회 또는 /ocr/jobs/{jobId}/events(SSE) 구독으로 받습니다. 이전에 인식한 사진이면 즉시 완료(DONE) 상태로 반환합니다.")
+	public ResponseEntity<?> submitOcrJob(
+			@Parameter(description = "업로드할 이미지 파일", required = true)
+			@RequestPart("file") MultipartFile file) {
+		try {
+			OcrService.OcrJob job = ocrService.submit(file);
+			HttpStatus status = job.isFinished() ? HttpStatus.OK : HttpStatus.ACCEPTED;
+			return ResponseEntity.status(status)
+					.location(URI.create("/api/menus/ocr/jobs/" + job.getId()))
+					.body(ocrService.view(job));
+		} catch (IllegalStateException e) {
+			return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).body(e.getMessage());
+		} catch (IOException e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("이미지 저장 실패: " + e.getMessage());
+		}
+	}
+	
+	@GetMapping("/ocr/jobs/{jobId}")
+	@Operation(summary = "메뉴판 OCR 작업 조회", description = "작업 상태(QUEUED, RUNNING, DONE, FAILED)와 완료된 경우 인식 결과를 반환합니다.")
+	public ResponseEntity<?> getOcrJob(@PathVariable String jobId) {
+		try {
+			return ResponseEntity.ok(ocrService.view(ocrService.getJob(jobId)));
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
+		}
+	}
+	
+	@GetMapping(value = "/ocr/jobs/{jobId}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@Operation(summary = "메뉴판 OCR 작업 구독 (SSE)", description = "작업 상태가 바뀔 때마다 status 이벤트를 보내고, 완료되면 결과를 보낸 뒤 연결을 닫습니다.")
+	public SseEmitter subscribeOcrJob(@PathVariable String jobId, HttpServletResponse response) {
+		try {
+			SseEmitter emitter = ocrService.subscribe(jobId);
+			// nginx가 이벤트를 모아 두지 않고 바로 전달하도록
+			response.setHeader("X-Accel-Buffering", "no");
+			return emitter;
+		} catch (IllegalArgumentException e) {
+			// SSE 응답은 본문 타입이 정해져 있으므로 404는 예외로 반환
+			throw new ResponseStatusException(HttpStatus.NOT_FOUND, e.getMessage());
+		}
+	}
+	
 	@PostMapping("/translate")
 	@Operation(summary = "메뉴명 번역", description = "한글 메뉴명을 번역한 결과를 반환합니다. targetLanguage 코드 : 영어 en, 중국어(간체) zh-CN, 일본어 ja 등")
 	public ResponseEntity<String> translateMenu(
@@ -73,8 +128,22 @@ public class MenuController {
 		}
 	}
 	
+	@PostMapping("/import")
+	@Operation(summary = "메뉴 일괄 등록", description = "OCR 결과 메뉴 목록을 한 번에 등록합니다. 이미 등록된 메뉴명과 목록 안의 중복은 건너뛰고(skipped), 등록된 메뉴는 손님용 언어로 미리 번역해 둡니다.")
+	public ResponseEntity<?> importMenus(@RequestBody MenuImportRequestDto request) {
+		try {
+			MenuImportResultDto result = menuService.importMenus(request.getUserId(), request.getMenus());
+			menuService.prefetchTranslations(result.getCreated());
+			return ResponseEntity.ok(result);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(e.getMessage());
+		} catch (Exception e) {
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body("메뉴 일괄 등록 중 오류가 발생했습니다.");
+		}
+	}
+	
 	@PostMapping(value = "/with-image", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
-	@Operation(summary = "이미지와 함께 메뉴 등록", description = "이미지와 함께 메뉴를 등록합니다.")
+	@Operation(summary = "이미지와 함께 메뉴 등록", description = "이미지와 함께 메뉴를 등록합니다. 이미 올린 적 있는 사진이면 기존 파일을 쓰고 절약한 바이트 수를 응답합니다.")
 	public ResponseEntity<?> createMenuWithImage(
 			@RequestParam String userId,
 			@RequestParam String menuName,
@@ -84,8 +153,8 @@ public class MenuController {
 			@RequestPart(value = "image", required = false) MultipartFile image){
 		
 		try {
-			menuService.createMenuWithImage(userId, menuName, menuPrice, menuDescription, category, image);
-			return ResponseEntity.ok().build();
+			StoredImage stored = menuService.createMenuWithImage(userId, menuName, menuPrice, menuDescription, category, image);
+			return stored != null ? ResponseEntity.ok(toUploadDto(stored)) : ResponseEntity.ok().build();
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
 		} catch (IOException e) {
@@ -139,8 +208,8 @@ public class MenuController {
 	        @RequestPart(value = "image", required = false) MultipartFile image) {
 		
 		try {
-			menuService.updateMenuWithImage(menuIdx, menuName, menuPrice, menuDescription, category, image);
-			return ResponseEntity.ok().build();
+			StoredImage stored = menuService.updateMenuWithImage(menuIdx, menuName, menuPrice, menuDescription, category, image);
+			return stored != null ? ResponseEntity.ok(toUploadDto(stored)) : ResponseEntity.ok().build();
 		} catch (IllegalArgumentException e) {
 			return ResponseEntity.status(HttpStatus.CONFLICT).body(e.getMessage());
 		} catch (IOException e) {
@@ -165,8 +234,11 @@ public class MenuController {
 			@RequestPart("file") MultipartFile file) throws IOException {
 		
 		try {
-	        String imageUrl = menuService.uploadMenuImage(menuIdx, file);
-	        return ResponseEntity.ok("이미지 업로드 성공: " + imageUrl);
+	        StoredImage stored = menuService.uploadMenuImage(menuIdx, file);
+	        if (stored != null && stored.deduplicated()) {
+	            return ResponseEntity.ok("이미지 업로드 성공: " + stored.url() + " (이미 있는 사진, " + stored.bytesSaved() + " bytes 절약)");
+	        }
+	        return ResponseEntity.ok("이미지 업로드 성공: " + (stored != null ? stored.url() : null));
 	    } catch (IllegalArgumentException e) {
 	        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(e.getMessage());
 	    } catch (IOException e) {
@@ -176,4 +248,7 @@ public class MenuController {
 	    }
 	}
 
+	private static MenuImageUploadDto toUploadDto(StoredImage stored) {
+		return new MenuImageUploadDto(stored.url(), stored.bytes(), stored.deduplicated(), stored.bytesSaved());
+	}
 }
\ No newline at end of file
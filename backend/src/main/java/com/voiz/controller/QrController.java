@@ -1,13 +1,18 @@
 package com.voiz.controller;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.google.zxing.WriterException;
 import com.voiz.service.QrService;
@@ -33,20 +38,49 @@ public class QrController {
 	}
 	
 	@GetMapping("/{tableIdx}")
-	@Operation(summary = "QR 코드 정보 조회", description = "테이블Idx를 입력받아 해당 테이블의 QR 코드를 반환합니다.")
-	public ResponseEntity<byte[]> getQRCode(@PathVariable int tableIdx){
+	@Operation(summary = "QR 코드 정보 조회", description = "테이블Idx를 입력받아 해당 테이블의 QR 코드를 반환합니다. 크기(px)와 오류 정정 수준(L/M/Q/H)을 정할 수 있으며, 렌더링 결과는 캐시되고 ETag가 같으면 304를 반환합니다.")
+	public ResponseEntity<byte[]> getQRCode(
+	        @PathVariable int tableIdx,
+	        @RequestParam(defaultValue = "300") int size,
+	        @RequestParam(defaultValue = "M") String ecLevel){
 	  try {
-	      byte[] qrCodeImage = qrService.generateQRCode(tableIdx);
+	      QrService.QrImage qrCode = qrService.getTableQr(tableIdx, size, ecLevel);
 	      
-	      HttpHeaders headers = new HttpHeaders();
-	      headers.setContentType(MediaType.IMAGE_PNG);
-	      headers.set("Content-Disposition", "inline; filename=qrcode.png");
-	      
-	      return new ResponseEntity<>(qrCodeImage, headers, HttpStatus.OK);
+	      // If-None-Match가 ETag와 같으면 본문 없이 304 (HttpEntityMethodProcessor가 처리)
+	      return ResponseEntity.ok()
+	              .contentType(MediaType.IMAGE_PNG)
+	              .header(HttpHeaders.CONTENT_DISPOSITION, "inline; filename=qrcode.png")
+	              .eTag(qrCode.etag())
+	              .cacheControl(CacheControl.maxAge(1, TimeUnit.HOURS))
+	              .body(qrCode.png());
 	      
+	  } catch (IllegalArgumentException e) {
+	      return ResponseEntity.badRequest().build();
 	  } catch (WriterException | IOException e) {
 	      return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
 	  }		
 	}
 	
+	@GetMapping("/users/{userId}/sheet")
+	@Operation(summary = "QR 코드 일괄 인쇄", description = "매장의 모든 테이블 QR 코드를 병렬로 만들어 테이블 번호 순으로 스트리밍합니다. format=pdf(기본값)는 A4 한 쪽에 6개씩 인쇄용 PDF, format=zip은 테이블별 PNG(size px) 묶음입니다.")
+	public ResponseEntity<StreamingResponseBody> getQRSheet(
+	        @PathVariable String userId,
+	        @RequestParam(defaultValue = "pdf") String format,
+	        @RequestParam(defaultValue = "600") int size) {
+		QrService.QrSheet sheet;
+		try {
+			sheet = qrService.prepareSheet(userId, QrService.SheetFormat.from(format), size);
+		} catch (IllegalArgumentException e) {
+			return ResponseEntity.badRequest().build();
+		}
+		StreamingResponseBody body = out -> qrService.writeSheet(sheet, out);
+		String fileName = "qr_" + userId + "." + sheet.format().getExtension();
+		return ResponseEntity.ok()
+				.contentType(MediaType.parseMediaType(sheet.format().getContentType()))
+				.header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+						.filename(fileName, StandardCharsets.UTF_8).build().toString())
+				.cacheControl(CacheControl.noStore())
+				.body(body);
+	}
+	
 }
@@ -40,13 +40,21 @@ public class ReviewController {
 
 
     @GetMapping("/menu/{menuId}")
-    @Operation(summary = "메뉴별 리뷰 목록 조회")
+    @Operation(summary = "메뉴별 리뷰 목록 조회", description = "리뷰 수/평균 평점과 최신 리뷰 한 페이지를 반환합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달하세요.")
     public ResponseEntity<ReviewDto> getReviewsByMenuId(
             @PathVariable int menuId,
             @RequestParam(required = false) String userId,
-            @RequestParam(required = false) String nationality) {
+            @RequestParam(required = false) String nationality,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
         
-    	ReviewDto reviewData = reviewService.getReviewsByMenuId(menuId, userId, nationality);
+        ReviewDto reviewData;
+        try {
+            reviewData = reviewService.getReviewsByMenuId(menuId, userId, nationality, cursor, size);
+        } catch (IllegalArgumentException e) {
+            // 잘못된 커서
+            return ResponseEntity.badRequest().build();
+        }
         return ResponseEntity.ok(reviewData);
 }
 
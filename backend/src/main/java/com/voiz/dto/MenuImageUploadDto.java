@@ -0,0 +1,15 @@
+package com.voiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuImageUploadDto {
+    private String imageUrl; // 저장된 원본 경로
+    private long bytes; // 사진 크기
+    private boolean deduplicated; // 같은 사진이 이미 있어 새로 저장하지 않았는지
+    private long bytesSaved; // 중복이라 저장하지 않은 바이트 수
+}
@@ -0,0 +1,15 @@
+package com.voiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuImportRequestDto {
+    private String userId;
+    private List<MenusDto> menus; // OCR 결과 목록 그대로 (menuName, menuPrice 필수, 설명/카테고리는 선택)
+}
@@ -0,0 +1,15 @@
+package com.voiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class MenuImportResultDto {
+    private List<MenusDto> created; // 새로 등록된 메뉴 (menuIdx 포함)
+    private List<String> skipped; // 이미 등록되었거나 목록 안에서 중복된 / 이름이 없는 메뉴명
+}
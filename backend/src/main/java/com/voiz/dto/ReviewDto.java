@@ -5,6 +5,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 
 import java.util.List;
+import java.util.Map;
 
 @Data
 @AllArgsConstructor
@@ -12,5 +13,8 @@ import java.util.List;
 public class ReviewDto {
     private double rating; // 평균 평점
     private int reviewCount; // 리뷰 개수
-    private List<ReviewResponseDto> reviews; // 리뷰 목록
+    private List<ReviewResponseDto> reviews; // 리뷰 목록 (최신순, 페이지 단위)
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasMore; // 다음 페이지 존재 여부
+    private Map<String, Long> nationalities; // 국적별 리뷰 수 (국적 필터 선택지, 첫 페이지에만 포함)
 }
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.voiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewPageDto {
+    private List<ReviewResponseDto> reviews; // 현재 페이지 리뷰 (최신순)
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasMore; // 다음 페이지 존재 여부
+    private Long totalCount; // 전체 리뷰 수 (includeTotal=true일 때만, 아니면 null)
+}
@@ -21,5 +21,11 @@ public class ReviewResponseDto {
     private String language;
     private LocalDateTime createdAt;
     private String menuName; // optional: joined from VOYZ_MENUS
+
+    // JPQL 생성자 프로젝션용 (리뷰 + 메뉴명 조인 한 번으로 조회)
+    public ReviewResponseDto(Long reviewIdx, int menuIdx, int orderIdx, String userId, String guestName, String comment,
+            int rating, String nationality, String language, LocalDateTime createdAt, String menuName) {
+        this(reviewIdx.intValue(), menuIdx, orderIdx, userId, guestName, comment, rating, nationality, language, createdAt, menuName);
+    }
     
 }
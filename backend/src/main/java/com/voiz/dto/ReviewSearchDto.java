@@ -0,0 +1,29 @@
+package com.voiz.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.Map;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class ReviewSearchDto {
+    private String query; // 검색어
+    private long totalCount; // 필터까지 적용한 전체 결과 수
+    private List<Hit> hits; // 현재 페이지 결과 (최신순)
+    private Map<String, Map<String, Long>> facets; // menu / rating / language / nationality 별 결과 수
+    private String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private boolean hasMore; // 다음 페이지 존재 여부
+    private long tookMs; // 검색 소요 시간
+
+    @Data
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class Hit {
+        private ReviewResponseDto review;
+        private List<int[]> highlights; // comment 안에서 검색어가 나타나는 구간 [시작, 끝) 목록
+    }
+}
@@ -1,9 +1,14 @@
 package com.voiz.mapper;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.voiz.vo.Menus;
 
@@ -14,4 +19,32 @@ public interface MenusRepository extends JpaRepository<Menus, Integer> {
 	
 	List<Menus> findByUserIdAndMenuName(String userId, String menuName);
 
+	// 일괄 등록 중복 확인: 이미 등록된 메뉴명만 한 번에 조회
+	@Query("SELECT m.menuName FROM Menus m WHERE m.userId = :userId AND m.menuName IN :menuNames")
+	List<String> findExistingMenuNames(@Param("userId") String userId, @Param("menuNames") Collection<String> menuNames);
+
+	// 일괄 등록: 메뉴 ID를 시퀀스에서 한 번의 조회로 count개 받음 (행마다 NEXTVAL 왕복을 하지 않음)
+	@Query(value = "SELECT MENU_SEQUENCE.NEXTVAL FROM dual CONNECT BY LEVEL <= :count", nativeQuery = true)
+	List<Number> nextMenuIdxs(@Param("count") int count);
+
+	// 파생본 저장: 그 사이 사진이 바뀌었으면(원본 URL이 다르면) 반영하지 않음
+	@Modifying
+	@Transactional
+	@Query("UPDATE Menus m SET m.imageThumbUrl = :thumbUrl, m.imageListUrl = :listUrl, m.imageDetailUrl = :detailUrl "
+			+ "WHERE m.menuIdx = :menuIdx AND m.imageUrl = :sourceUrl")
+	int updateImageDerivatives(@Param("menuIdx") int menuIdx, @Param("sourceUrl") String sourceUrl,
+			@Param("thumbUrl") String thumbUrl, @Param("listUrl") String listUrl, @Param("detailUrl") String detailUrl);
+
+	// 파생본이 아직 없는 사진 (기존 메뉴, 작업 대기열이 가득 차 건너뛴 경우)
+	List<Menus> findTop50ByImageUrlIsNotNullAndImageDetailUrlIsNull();
+
+	// 사진 파일 참조 수: 원본 / 파생본 URL로 이 파일을 가리키는 메뉴 수 (0이면 파일 삭제 가능)
+	// 네 컬럼 모두 인덱스가 있어야 함 (deploy/sql/menus_image_derivatives.sql)
+	@Query("SELECT COUNT(m) FROM Menus m WHERE m.imageUrl = :url "
+			+ "OR m.imageThumbUrl = :url OR m.imageListUrl = :url OR m.imageDetailUrl = :url")
+	long countImageReferences(@Param("url") String url);
+
+	// 같은 사진을 먼저 올린 메뉴의 파생본 (중복 업로드는 파생본을 다시 만들지 않음)
+	Menus findFirstByImageUrlAndImageDetailUrlIsNotNull(String imageUrl);
+
 }
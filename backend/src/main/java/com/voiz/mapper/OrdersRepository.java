@@ -1,15 +1,20 @@
 package com.voiz.mapper;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.voiz.vo.Orders;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface OrdersRepository extends JpaRepository<Orders, Integer> {
 	
@@ -20,4 +25,17 @@ public interface OrdersRepository extends JpaRepository<Orders, Integer> {
 			+ "AND TRUNC(created_at) = TO_DATE(:date, 'YYYY-MM-DD')", nativeQuery = true)
 	List<Orders> findByUserIdAndStatusAndDate(@Param("userId") String userId, 
 			@Param("status") String status, @Param("date") String date); 
+
+	// 주문 내보내기(CSV/NDJSON)용 스트리밍 조회: 주문 항목 단위 (트랜잭션 안에서 사용)
+	@QueryHints({
+		@QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+		@QueryHint(name = "org.hibernate.readOnly", value = "true")
+	})
+	@Query("SELECT o.orderIdx, o.orderNumber, o.createdAt, o.tableIdx, o.status, o.orderLanguage, o.totalAmount, "
+			+ "oi.menuIdx, m.menuName, oi.quantity, oi.unitPrice, oi.totalPrice, oi.itemOptions, oi.specialRequests "
+			+ "FROM Orders o JOIN OrdersItems oi ON oi.orderIdx = o.orderIdx LEFT JOIN Menus m ON m.menuIdx = oi.menuIdx "
+			+ "WHERE o.userId = :userId AND o.createdAt BETWEEN :startDate AND :endDate "
+			+ "ORDER BY o.createdAt, o.orderIdx, oi.orderItemIdx")
+	Stream<Object[]> streamOrderItemsForExport(@Param("userId") String userId,
+			@Param("startDate") LocalDateTime startDate, @Param("endDate") LocalDateTime endDate);
 }
@@ -1,14 +1,21 @@
 package com.voiz.mapper;
 
 import com.voiz.dto.NationalityAnalyticsDto;
+import com.voiz.dto.ReviewResponseDto;
 import com.voiz.vo.Reviews;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface ReviewRepository extends JpaRepository<Reviews, Long> {
@@ -27,42 +34,112 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT COUNT(r), AVG(r.rating) FROM Reviews r WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate")
-    Object[] summarizeReviews(
+    // 인사이트 캐시 워터마크: 범위 내 가장 최근 리뷰 번호
+    @Query("SELECT MAX(r.reviewIdx) FROM Reviews r WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate")
+    Long findMaxReviewIdx(
             @Param("userId") String userId,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT COUNT(r) FROM Reviews r WHERE r.userId = :userId AND r.rating >= :positiveThreshold AND r.createdAt BETWEEN :startDate AND :endDate")
-    long countPositive(
+    // 종합 인사이트용 층화 표본 추출: 메뉴 × 국적 × 평점 조합별 리뷰 수
+    @Query("SELECT r.menuIdx, r.nationality, r.rating, COUNT(r) " +
+           "FROM Reviews r JOIN Menus m ON r.menuIdx = m.menuIdx " +
+           "WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
+           "GROUP BY r.menuIdx, r.nationality, r.rating")
+    List<Object[]> countReviewStrata(
             @Param("userId") String userId,
-            @Param("positiveThreshold") int positiveThreshold,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT COUNT(r) FROM Reviews r WHERE r.userId = :userId AND r.rating <= :negativeThreshold AND r.createdAt BETWEEN :startDate AND :endDate")
-    long countNegative(
+    // 종합 인사이트용 리뷰 스트리밍 조회 (fetch size 단위로 커서에서 읽음, 트랜잭션 안에서 사용)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r.menuIdx, r.nationality, r.rating, r.comment, r.createdAt, m.menuName " +
+           "FROM Reviews r JOIN Menus m ON r.menuIdx = m.menuIdx " +
+           "WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate")
+    Stream<Object[]> streamReviewsWithMenuName(
             @Param("userId") String userId,
-            @Param("negativeThreshold") int negativeThreshold,
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT r.reviewIdx, r.orderIdx, r.menuIdx, r.userId, r.comment, r.rating, r.nationality, r.language, r.createdAt, m.menuName " +
-           "FROM Reviews r JOIN Menus m ON r.menuIdx = m.menuIdx " +
+    // 리뷰 키워드 색인 초기 구축용 스트리밍 조회 (매장 전체, 트랜잭션 안에서 사용)
+    // 본문이 없는 리뷰도 포함 (색인에는 넣지 않지만 리뷰 수 워터마크에는 포함)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r.reviewIdx, r.menuIdx, r.rating, r.comment, r.createdAt " +
+           "FROM Reviews r WHERE r.userId = :userId")
+    Stream<Object[]> streamReviewKeywordSource(@Param("userId") String userId);
+
+    // 리뷰 키워드 색인 따라잡기: 색인의 최대 리뷰 번호 이후 저장된 리뷰
+    @Query("SELECT r.reviewIdx, r.menuIdx, r.rating, r.comment, r.createdAt " +
+           "FROM Reviews r WHERE r.userId = :userId AND r.reviewIdx > :afterReviewIdx " +
+           "ORDER BY r.reviewIdx")
+    List<Object[]> findReviewKeywordSourceAfter(
+            @Param("userId") String userId,
+            @Param("afterReviewIdx") long afterReviewIdx,
+            Limit limit);
+
+    // 리뷰 비트맵 색인 초기 구축용 스트리밍 조회 (작성 시각 순, 트랜잭션 안에서 사용)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    // 작성 시각이 없는 리뷰는 맨 앞 (기간 조건에는 걸리지 않지만 리뷰 수 워터마크에는 포함)
+    @Query("SELECT r.reviewIdx, r.createdAt, r.menuIdx, r.rating, r.nationality " +
+           "FROM Reviews r WHERE r.userId = :userId " +
+           "ORDER BY r.createdAt NULLS FIRST, r.reviewIdx")
+    Stream<Object[]> streamReviewIndexSource(@Param("userId") String userId);
+
+    // 리뷰 색인(키워드 / 비트맵 / 검색) 워터마크: 매장 전체 리뷰 수, 최대 리뷰 번호 (다른 서버 저장 / DB 직접 변경 감지)
+    @Query("SELECT COUNT(r), MAX(r.reviewIdx) FROM Reviews r WHERE r.userId = :userId")
+    List<Object[]> findReviewIndexWatermark(@Param("userId") String userId);
+
+    // 리뷰 비트맵 색인 따라잡기: 색인의 최대 리뷰 번호 이후 저장된 리뷰 (작성 시각 순)
+    @Query("SELECT r.reviewIdx, r.createdAt, r.menuIdx, r.rating, r.nationality " +
+           "FROM Reviews r WHERE r.userId = :userId AND r.reviewIdx > :afterReviewIdx " +
+           "ORDER BY r.createdAt NULLS FIRST, r.reviewIdx")
+    List<Object[]> findReviewIndexSourceAfter(
+            @Param("userId") String userId,
+            @Param("afterReviewIdx") long afterReviewIdx,
+            Limit limit);
+
+    // 리뷰 검색 색인 초기 구축용 스트리밍 조회 (작성 시각 순, 트랜잭션 안에서 사용)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    // 작성 시각이 없는 리뷰는 맨 앞 (검색 대상은 아니지만 리뷰 수 워터마크에는 포함)
+    @Query("SELECT r.reviewIdx, r.createdAt, r.menuIdx, r.rating, r.language, r.nationality, r.comment " +
+           "FROM Reviews r WHERE r.userId = :userId " +
+           "ORDER BY r.createdAt NULLS FIRST, r.reviewIdx")
+    Stream<Object[]> streamReviewSearchSource(@Param("userId") String userId);
+
+    // 리뷰 검색 색인 따라잡기: 색인의 최대 리뷰 번호 이후 저장된 리뷰 (작성 시각 순)
+    @Query("SELECT r.reviewIdx, r.createdAt, r.menuIdx, r.rating, r.language, r.nationality, r.comment " +
+           "FROM Reviews r WHERE r.userId = :userId AND r.reviewIdx > :afterReviewIdx " +
+           "ORDER BY r.createdAt NULLS FIRST, r.reviewIdx")
+    List<Object[]> findReviewSearchSourceAfter(
+            @Param("userId") String userId,
+            @Param("afterReviewIdx") long afterReviewIdx,
+            Limit limit);
+
+    // 리뷰 내보내기(CSV/NDJSON)용 스트리밍 조회 (삭제된 메뉴의 리뷰도 포함, 트랜잭션 안에서 사용)
+    @QueryHints({
+        @QueryHint(name = "org.hibernate.fetchSize", value = "500"),
+        @QueryHint(name = "org.hibernate.readOnly", value = "true")
+    })
+    @Query("SELECT r.reviewIdx, r.createdAt, r.menuIdx, m.menuName, r.rating, r.nationality, r.language, r.guestName, r.orderIdx, r.comment " +
+           "FROM Reviews r LEFT JOIN Menus m ON r.menuIdx = m.menuIdx " +
            "WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
-           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
-           "AND (:minRating IS NULL OR r.rating >= :minRating) " +
-           "AND (:maxRating IS NULL OR r.rating <= :maxRating) " +
-           "AND (:menuIds IS NULL OR r.menuIdx IN :menuIds) " +
-           "ORDER BY r.createdAt DESC")
-    List<Object[]> findReviewsWithMenuName(
+           "ORDER BY r.createdAt, r.reviewIdx")
+    Stream<Object[]> streamReviewsForExport(
             @Param("userId") String userId,
             @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("nationality") String nationality,
-            @Param("minRating") Integer minRating,
-            @Param("maxRating") Integer maxRating,
-            @Param("menuIds") List<Integer> menuIds);
+            @Param("endDate") LocalDateTime endDate);
 
     @Query("SELECT r FROM Reviews r WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
             "AND (:nationality IS NULL OR r.nationality = :nationality) " +
@@ -79,6 +156,71 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
             @Param("maxRating") Integer maxRating,
             @Param("menuIds") List<Integer> menuIds);
 
+    // 리뷰 목록 키셋 페이지네이션: (createdAt, reviewIdx) 커서보다 오래된 리뷰를 최신순으로 limit 건
+    // 첫 페이지는 커서를 (endDate, Long.MAX_VALUE)로 주면 됨 (OFFSET 없이 페이지 깊이와 무관한 비용)
+    @Query("SELECT new com.voiz.dto.ReviewResponseDto(r.reviewIdx, r.menuIdx, r.orderIdx, r.userId, r.guestName, r.comment, " +
+           "r.rating, r.nationality, r.language, r.createdAt, m.menuName) " +
+           "FROM Reviews r LEFT JOIN Menus m ON r.menuIdx = m.menuIdx " +
+           "WHERE r.userId = :userId AND r.createdAt >= :startDate " +
+           "AND r.createdAt <= :cursorCreatedAt " +
+           "AND (r.createdAt < :cursorCreatedAt OR r.reviewIdx < :cursorReviewIdx) " +
+           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
+           "AND (:minRating IS NULL OR r.rating >= :minRating) " +
+           "AND (:maxRating IS NULL OR r.rating <= :maxRating) " +
+           "AND (:menuIds IS NULL OR r.menuIdx IN :menuIds) " +
+           "ORDER BY r.createdAt DESC, r.reviewIdx DESC")
+    List<ReviewResponseDto> findReviewPage(
+            @Param("userId") String userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewIdx") Long cursorReviewIdx,
+            @Param("nationality") String nationality,
+            @Param("minRating") Integer minRating,
+            @Param("maxRating") Integer maxRating,
+            @Param("menuIds") List<Integer> menuIds,
+            Limit limit);
+
+    // 검색 색인이 고른 리뷰 번호로 목록 조회 (IN 목록은 1000개 이하로 나눠서 호출)
+    @Query("SELECT new com.voiz.dto.ReviewResponseDto(r.reviewIdx, r.menuIdx, r.orderIdx, r.userId, r.guestName, r.comment, " +
+           "r.rating, r.nationality, r.language, r.createdAt, m.menuName) " +
+           "FROM Reviews r LEFT JOIN Menus m ON r.menuIdx = m.menuIdx " +
+           "WHERE r.reviewIdx IN :reviewIds")
+    List<ReviewResponseDto> findReviewResponsesByIds(@Param("reviewIds") Collection<Long> reviewIds);
+
+    // 메뉴 상세 리뷰 키셋 페이지네이션: 매장/국적 필터를 쿼리에서 처리하고 커서보다 오래된 리뷰를 최신순으로 limit 건
+    @Query("SELECT new com.voiz.dto.ReviewResponseDto(r.reviewIdx, r.menuIdx, r.orderIdx, r.userId, r.guestName, r.comment, " +
+           "r.rating, r.nationality, r.language, r.createdAt, m.menuName) " +
+           "FROM Reviews r LEFT JOIN Menus m ON r.menuIdx = m.menuIdx " +
+           "WHERE r.menuIdx = :menuIdx " +
+           "AND (:userId IS NULL OR r.userId = :userId) " +
+           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
+           "AND r.createdAt <= :cursorCreatedAt " +
+           "AND (r.createdAt < :cursorCreatedAt OR r.reviewIdx < :cursorReviewIdx) " +
+           "ORDER BY r.createdAt DESC, r.reviewIdx DESC")
+    List<ReviewResponseDto> findMenuReviewPage(
+            @Param("menuIdx") int menuIdx,
+            @Param("userId") String userId,
+            @Param("nationality") String nationality,
+            @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+            @Param("cursorReviewIdx") Long cursorReviewIdx,
+            Limit limit);
+
+    // 메뉴 평점 집계 초기 적재: 매장 × 국적별 리뷰 수, 평점 합계, 마지막 리뷰 번호
+    @Query("SELECT r.userId, r.nationality, COUNT(r), SUM(r.rating), MAX(r.reviewIdx) " +
+           "FROM Reviews r WHERE r.menuIdx = :menuIdx " +
+           "GROUP BY r.userId, r.nationality")
+    List<Object[]> aggregateMenuRatings(@Param("menuIdx") int menuIdx);
+
+    // 메뉴 평점 집계 워터마크: 메뉴 전체 리뷰 수, 최대 리뷰 번호 (다른 서버 저장 / DB 직접 변경 감지)
+    @Query("SELECT COUNT(r), MAX(r.reviewIdx) FROM Reviews r WHERE r.menuIdx = :menuIdx")
+    List<Object[]> findMenuRatingWatermark(@Param("menuIdx") int menuIdx);
+
+    // 본문 태그가 아직 없는 최근 리뷰, 최신순 (태깅 큐에서 유실된 리뷰 재처리용)
+    @Query("SELECT r FROM Reviews r WHERE r.createdAt >= :since " +
+           "AND NOT EXISTS (SELECT 1 FROM ReviewTags t WHERE t.reviewIdx = r.reviewIdx) " +
+           "ORDER BY r.reviewIdx DESC")
+    List<Reviews> findUntaggedReviews(@Param("since") LocalDateTime since, Limit limit);
+
     @Query("SELECT r.nationality, COUNT(r), AVG(r.rating) " +
            "FROM Reviews r WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
            "GROUP BY r.nationality " +
@@ -88,23 +230,6 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
             @Param("startDate") LocalDateTime startDate,
             @Param("endDate") LocalDateTime endDate);
 
-    @Query("SELECT r.menuIdx, COUNT(r), " +
-           "SUM(CASE WHEN r.rating >= :positiveThreshold THEN 1 ELSE 0 END), " +
-           "SUM(CASE WHEN r.rating <= :negativeThreshold THEN 1 ELSE 0 END), " +
-           "AVG(r.rating) " +
-           "FROM Reviews r WHERE r.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
-           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
-           "GROUP BY r.menuIdx " +
-           "HAVING COUNT(r) > 0 " +
-           "ORDER BY COUNT(r) DESC")
-    List<Object[]> aggregateMenuSentiment(
-            @Param("userId") String userId,
-            @Param("startDate") LocalDateTime startDate,
-            @Param("endDate") LocalDateTime endDate,
-            @Param("positiveThreshold") int positiveThreshold,
-            @Param("negativeThreshold") int negativeThreshold,
-            @Param("nationality") String nationality);
-
     @Query("SELECT DISTINCT r.nationality FROM Reviews r WHERE r.userId = :userId ORDER BY r.nationality")
     List<String> findDistinctNationalitiesByUserId(@Param("userId") String userId);
     
@@ -124,10 +249,4 @@ public interface ReviewRepository extends JpaRepository<Reviews, Long> {
             @Param("positiveThreshold") int positiveThreshold,
             @Param("negativeThreshold") int negativeThreshold);
 
-    @Query("SELECT r.comment, r.rating FROM Reviews r WHERE r.menuIdx = :menuId AND r.userId = :userId " +
-           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
-           "AND r.comment IS NOT NULL " +
-           "ORDER BY r.createdAt DESC")
-    List<Object[]> findReviewsByMenuAndUser(@Param("menuId") Integer menuId, @Param("userId") String userId, @Param("nationality") String nationality);
-
 }
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.voiz.mapper;
+
+import com.voiz.vo.ReviewTags;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface ReviewTagsRepository extends JpaRepository<ReviewTags, Long> {
+
+    // 이미 태그가 있는 리뷰 ID (새 태그는 INSERT만 하므로 저장 전에 한 번에 걸러냄)
+    @Query("SELECT t.reviewIdx FROM ReviewTags t WHERE t.reviewIdx IN :reviewIdxs")
+    List<Long> findTaggedReviewIdxs(@Param("reviewIdxs") Collection<Long> reviewIdxs);
+
+    // 메뉴별 본문 감성 집계: menuIdx, sentiment, 리뷰 수
+    @Query("SELECT t.menuIdx, t.sentiment, COUNT(t) " +
+           "FROM ReviewTags t JOIN Reviews r ON r.reviewIdx = t.reviewIdx " +
+           "WHERE t.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
+           "GROUP BY t.menuIdx, t.sentiment")
+    List<Object[]> aggregateSentimentByMenu(
+            @Param("userId") String userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("nationality") String nationality);
+
+    // 메뉴별 속성 감성 집계: menuIdx, aspect, sentiment, 언급 수
+    @Query("SELECT t.menuIdx, a.aspect, a.sentiment, COUNT(a) " +
+           "FROM ReviewTags t JOIN t.aspects a JOIN Reviews r ON r.reviewIdx = t.reviewIdx " +
+           "WHERE t.userId = :userId AND r.createdAt BETWEEN :startDate AND :endDate " +
+           "AND (:nationality IS NULL OR r.nationality = :nationality) " +
+           "GROUP BY t.menuIdx, a.aspect, a.sentiment")
+    List<Object[]> aggregateAspectsByMenu(
+            @Param("userId") String userId,
+            @Param("startDate") LocalDateTime startDate,
+            @Param("endDate") LocalDateTime endDate,
+            @Param("nationality") String nationality);
+}
@@ -12,6 +12,12 @@ import java.util.List;
 @Repository
 public interface SalesOrderRepository extends JpaRepository<SalesOrder, Long> {
 
+        // 인사이트 캐시 워터마크: 범위 내 가장 최근 주문 번호
+        @Query("SELECT MAX(o.orderIdx) FROM SalesOrder o WHERE o.userId = :userId AND o.createdAt BETWEEN :startDate AND :endDate")
+        Long findMaxOrderIdx(@Param("userId") String userId,
+                        @Param("startDate") LocalDateTime startDate,
+                        @Param("endDate") LocalDateTime endDate);
+
         // 1. 연도별 조회 (월 단위)
         @Query(value = "SELECT TO_CHAR(o.created_at, 'YYYY-MM'), SUM(o.total_amount) " +
                         "FROM VOYZ_ORDERS o " +
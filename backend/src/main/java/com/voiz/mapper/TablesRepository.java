@@ -16,6 +16,12 @@ public interface TablesRepository extends JpaRepository<Tables, Integer> {
 	Integer findMaxTableNumberByUserId(@Param("userId") String userId);
 
 	List<Tables> findByUserId(String userId);
+
+	List<Tables> findByUserIdOrderByTableNumberAsc(String userId);
 	
 	Optional<Tables> findByUserIdAndTableNumber(String userId, int tableNumber);
+
+	// 일괄 생성: 테이블 ID를 시퀀스에서 한 번의 조회로 count개 받음 (행마다 NEXTVAL 왕복을 하지 않음)
+	@Query(value = "SELECT TABLE_SEQUENCE.NEXTVAL FROM dual CONNECT BY LEVEL <= :count", nativeQuery = true)
+	List<Number> nextTableIdxs(@Param("count") int count);
 }
@@ -9,10 +9,11 @@ import com.voiz.dto.CountryRatingDto;
 import com.voiz.dto.MenuSentimentDto;
 import com.voiz.mapper.ReviewRepository;
 import com.voiz.mapper.SalesOrderRepository;
+import com.voiz.util.ReviewCursor;
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.http.*;
 
 import java.math.BigDecimal;
@@ -36,6 +37,26 @@ public class AnalyticsService {
     private final ReviewRepository reviewRepository;
     
     private final com.voiz.mapper.MenusRepository menusRepository;
+    
+    private final ReviewSampleStreamer reviewSampleStreamer;
+    
+    private final FastApiClient fastApiClient;
+    private final AsyncFastApiClient asyncFastApiClient;
+    
+    private final InsightCacheService insightCacheService;
+
+    private final ReviewKeywordIndex reviewKeywordIndex;
+
+    private final ReviewBitmapIndex reviewBitmapIndex;
+
+    private final ReviewSearchIndex reviewSearchIndex;
+
+    private final com.voiz.mapper.ReviewTagsRepository reviewTagsRepository;
+
+    private final SalesForecastService salesForecastService;
+
+    @Value("${analytics.sales-insights.ml-enabled:true}")
+    private boolean salesInsightsMlEnabled;
 
 
     // Controller가 호출하는 메서드.
@@ -167,20 +188,11 @@ public class AnalyticsService {
         var startDateTime = startDate.atStartOfDay();
         var endDateTime = endDate.atTime(LocalTime.MAX);
 
-        Object[] summary = reviewRepository.summarizeReviews(userId, startDateTime, endDateTime);
-        long total = 0L;
-        double avg = 0.0;
-        if (summary != null && summary.length >= 2) {
-            Number totalNum = (Number) summary[0];
-            Number avgNum = (Number) summary[1];
-            total = totalNum != null ? totalNum.longValue() : 0L;
-            avg = avgNum != null ? avgNum.doubleValue() : 0.0;
-        }
-
-        long positive = reviewRepository.countPositive(userId, positiveThreshold, startDateTime, endDateTime);
-        long negative = reviewRepository.countNegative(userId, negativeThreshold, startDateTime, endDateTime);
+        // 개수/평균/긍정/부정을 비트맵 색인에서 한 번에 계산 (색인은 DB 워터마크로 확인 후 사용)
+        var stats = reviewBitmapIndex.stats(userId, ReviewBitmapIndex.Filter.period(startDateTime, endDateTime),
+                positiveThreshold, negativeThreshold);
 
-        return new ReviewSummaryDto(total, avg, positive, negative);
+        return new ReviewSummaryDto(stats.count(), stats.averageRating(), stats.positive(), stats.negative());
     }
 
     public List<com.voiz.vo.Reviews> getReviewsByFilters(
@@ -197,6 +209,141 @@ public class AnalyticsService {
         return reviewRepository.findReviewsByFilters(userId, startDateTime, endDateTime, nationality, minRating, maxRating, menuIds);
     }
 
+    /**
+     * 리뷰 목록 (메뉴명 포함, 최신순) - 리뷰와 메뉴를 조인한 DTO 프로젝션 한 번으로 조회
+     */
+    public List<com.voiz.dto.ReviewResponseDto> getReviewsWithMenuName(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String nationality,
+            Integer minRating,
+            Integer maxRating,
+            List<Integer> menuIds
+    ) {
+        return reviewRepository.findReviewPage(userId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), Long.MAX_VALUE,
+                nationality, minRating, maxRating, menuIds, org.springframework.data.domain.Limit.unlimited());
+    }
+
+    /**
+     * 리뷰 목록 키셋 페이지 조회 (createdAt, reviewIdx 커서)
+     * 전체 개수는 요청한 경우 첫 페이지에서만 세고 커서에 담아 다음 페이지부터는 다시 세지 않습니다.
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public com.voiz.dto.ReviewPageDto getReviewPage(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String nationality,
+            Integer minRating,
+            Integer maxRating,
+            List<Integer> menuIds,
+            String cursor,
+            int size,
+            boolean includeTotal
+    ) {
+        var startDateTime = startDate.atStartOfDay();
+        var endDateTime = endDate.atTime(LocalTime.MAX);
+        int pageSize = Math.max(1, Math.min(size, 100));
+        
+        ReviewCursor position;
+        if (cursor != null && !cursor.isBlank()) {
+            position = ReviewCursor.decode(cursor);
+        } else {
+            // 전체 건수는 비트맵 색인으로 계산 (필터 조합을 DB에서 풀지 않음)
+            Long totalCount = includeTotal
+                    ? reviewBitmapIndex.count(userId, new ReviewBitmapIndex.Filter(startDateTime, endDateTime,
+                            nationality, minRating, maxRating, menuIds))
+                    : null;
+            position = ReviewCursor.first(endDateTime, totalCount);
+        }
+        
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<com.voiz.dto.ReviewResponseDto> rows = reviewRepository.findReviewPage(userId, startDateTime,
+                position.createdAt(), position.reviewIdx(), nationality, minRating, maxRating, menuIds,
+                org.springframework.data.domain.Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<com.voiz.dto.ReviewResponseDto> page = hasMore ? rows.subList(0, pageSize) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            var last = page.get(page.size() - 1);
+            nextCursor = new ReviewCursor(last.getCreatedAt(), last.getReviewIdx(), position.totalCount()).encode();
+        }
+        return new com.voiz.dto.ReviewPageDto(new ArrayList<>(page), nextCursor, hasMore, includeTotal ? position.totalCount() : null);
+    }
+
+    /**
+     * 리뷰 본문 검색 (검색어의 모든 단어를 포함하는 리뷰, 최신순) + 검색어 하이라이트 구간, facet 결과 수
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 null)
+     * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+     */
+    public com.voiz.dto.ReviewSearchDto searchReviews(
+            String userId,
+            String query,
+            LocalDate startDate,
+            LocalDate endDate,
+            List<Integer> menuIds,
+            Integer minRating,
+            Integer maxRating,
+            String language,
+            String nationality,
+            String cursor,
+            int size
+    ) {
+        long started = System.currentTimeMillis();
+        int pageSize = Math.max(1, Math.min(size, 100));
+        ReviewCursor position = cursor != null && !cursor.isBlank()
+                ? ReviewCursor.decode(cursor)
+                : ReviewCursor.first(ReviewCursor.MAX_CREATED_AT, null);
+        var filter = new ReviewSearchIndex.Filter(
+                startDate != null ? startDate.atStartOfDay() : null,
+                endDate != null ? endDate.atTime(LocalTime.MAX) : null,
+                menuIds, minRating, maxRating, language, nationality);
+
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        var result = reviewSearchIndex.search(userId, query, filter, position.createdAt(), position.reviewIdx(), pageSize + 1);
+        List<com.voiz.dto.ReviewResponseDto> rows = fetchReviewsInOrder(result.reviewIds(),
+                reviewRepository::findReviewResponsesByIds, dto -> (long) dto.getReviewIdx());
+        boolean hasMore = rows.size() > pageSize;
+        List<com.voiz.dto.ReviewResponseDto> page = hasMore ? rows.subList(0, pageSize) : rows;
+
+        List<com.voiz.dto.ReviewSearchDto.Hit> hits = new ArrayList<>();
+        for (var review : page) {
+            hits.add(new com.voiz.dto.ReviewSearchDto.Hit(review,
+                    com.voiz.util.ReviewTokenizer.highlight(review.getComment(), result.terms())));
+        }
+
+        String nextCursor = null;
+        if (hasMore) {
+            var last = page.get(page.size() - 1);
+            nextCursor = new ReviewCursor(last.getCreatedAt(), last.getReviewIdx(), null).encode();
+        }
+        return new com.voiz.dto.ReviewSearchDto(query, result.totalCount(), hits, result.facets(), nextCursor, hasMore,
+                System.currentTimeMillis() - started);
+    }
+
+    // 색인이 고른 리뷰 번호 순서대로 조회 (Oracle IN 목록 제한 때문에 1000개씩 나눠서 조회)
+    private <T> List<T> fetchReviewsInOrder(List<Long> reviewIds,
+            java.util.function.Function<List<Long>, ? extends Iterable<T>> loader,
+            java.util.function.Function<T, Long> idOf) {
+        java.util.Map<Long, T> byId = new java.util.HashMap<>();
+        for (int i = 0; i < reviewIds.size(); i += 1000) {
+            for (T row : loader.apply(reviewIds.subList(i, Math.min(i + 1000, reviewIds.size())))) {
+                byId.put(idOf.apply(row), row);
+            }
+        }
+        List<T> result = new ArrayList<>(reviewIds.size());
+        for (Long reviewIdx : reviewIds) {
+            T row = byId.get(reviewIdx);
+            if (row != null) {
+                result.add(row);
+            }
+        }
+        return result;
+    }
+
     public java.util.Map<Integer, String> getMenuNames(java.util.Set<Integer> menuIdxSet) {
         if (menuIdxSet == null || menuIdxSet.isEmpty()) return java.util.Collections.emptyMap();
         var menus = menusRepository.findAllById(menuIdxSet);
@@ -278,155 +425,28 @@ public class AnalyticsService {
         var startDateTime = startDate.atStartOfDay();
         var endDateTime = endDate.atTime(LocalTime.MAX);
         
-        if (nationality != null) {
-            // 특정 국가만 조회 (기존 로직 유지)
-            var rows = reviewRepository.aggregateMenuSentiment(userId, startDateTime, endDateTime, positiveThreshold, negativeThreshold, nationality);
-            java.util.Set<Integer> menuIds = new java.util.HashSet<>();
-            for (Object[] r : rows) {
-                menuIds.add(((Number) r[0]).intValue());
-            }
-            var idToName = getMenuNames(menuIds);
-            java.util.List<com.voiz.dto.MenuSentimentDto> list = new java.util.ArrayList<>();
-            for (Object[] r : rows) {
-                int menuId = ((Number) r[0]).intValue();
-                long count = ((Number) r[1]).longValue();
-                long pos = ((Number) r[2]).longValue();
-                long neg = ((Number) r[3]).longValue();
-                double avg = ((Number) r[4]).doubleValue();
-                long neutral = count - pos - neg;
-                String menuName = idToName.get(menuId);
-                var dto = new com.voiz.dto.MenuSentimentDto(menuId, menuName, pos, neg, neutral, avg);
-                dto.setNationality(nationality);
-                list.add(dto);
-            }
-            return list;
-        } else {
-            // 전체 데이터 조회 - 국가 관계없이 메뉴별로 통합
-            var rows = reviewRepository.aggregateMenuSentiment(userId, startDateTime, endDateTime, positiveThreshold, negativeThreshold, null);
-            java.util.Set<Integer> menuIds = new java.util.HashSet<>();
-            for (Object[] r : rows) {
-                menuIds.add(((Number) r[0]).intValue());
-            }
-            var idToName = getMenuNames(menuIds);
-            java.util.List<com.voiz.dto.MenuSentimentDto> list = new java.util.ArrayList<>();
-            for (Object[] r : rows) {
-                int menuId = ((Number) r[0]).intValue();
-                long count = ((Number) r[1]).longValue();
-                long pos = ((Number) r[2]).longValue();
-                long neg = ((Number) r[3]).longValue();
-                double avg = ((Number) r[4]).doubleValue();
-                long neutral = count - pos - neg;
-                String menuName = idToName.get(menuId);
-                var dto = new com.voiz.dto.MenuSentimentDto(menuId, menuName, pos, neg, neutral, avg);
-                dto.setNationality(null); // 전체 데이터이므로 null
-                list.add(dto);
-            }
-            return list;
+        // 메뉴별 리뷰 수/긍정/부정/평균을 비트맵 색인에서 계산 (nationality가 null이면 국가 관계없이 통합)
+        var byMenu = reviewBitmapIndex.statsByMenu(userId,
+                new ReviewBitmapIndex.Filter(startDateTime, endDateTime, nationality, null, null, null),
+                positiveThreshold, negativeThreshold);
+        var idToName = getMenuNames(byMenu.keySet());
+        java.util.List<com.voiz.dto.MenuSentimentDto> list = new java.util.ArrayList<>();
+        for (var e : byMenu.entrySet()) {
+            int menuId = e.getKey();
+            var stats = e.getValue();
+            long neutral = stats.count() - stats.positive() - stats.negative();
+            String menuName = idToName.get(menuId);
+            var dto = new com.voiz.dto.MenuSentimentDto(menuId, menuName, stats.positive(), stats.negative(), neutral, stats.averageRating());
+            dto.setNationality(nationality);
+            list.add(dto);
         }
+        return list;
     }
 
     public java.util.List<String> getReviewNationalities(String userId) {
         return reviewRepository.findDistinctNationalitiesByUserId(userId);
     }
 
-    public String generateMenuReviewSummary(Integer menuId, String menuName, String userId, String nationality) {
-        System.out.println("🔍 generateMenuReviewSummary 시작");
-        System.out.println("  - menuId: " + menuId);
-        System.out.println("  - menuName: " + menuName);
-        System.out.println("  - userId: " + userId);
-        System.out.println("  - nationality: " + nationality);
-        
-        // 해당 메뉴의 리뷰 데이터 조회
-        var reviews = reviewRepository.findReviewsByMenuAndUser(menuId, userId, nationality);
-        System.out.println("📝 리뷰 조회 결과: " + reviews.size() + "개");
-        
-        if (reviews.isEmpty()) {
-            System.out.println("❌ 리뷰가 없어서 기본 메시지 반환");
-            return "리뷰가 없습니다";
-        }
-        
-        // 감정별 개수 계산
-        long positiveCount = reviews.stream().mapToLong(r -> ((Number) r[1]).intValue() >= 4 ? 1 : 0).sum();
-        long neutralCount = reviews.stream().mapToLong(r -> ((Number) r[1]).intValue() == 3 ? 1 : 0).sum();
-        long negativeCount = reviews.stream().mapToLong(r -> ((Number) r[1]).intValue() <= 2 ? 1 : 0).sum();
-        
-        System.out.println("📊 감정별 개수 - 긍정: " + positiveCount + ", 중립: " + neutralCount + ", 부정: " + negativeCount);
-        
-        try {
-            // 가장 많은 비중을 차지하는 감정 결정
-            String prioritySentiment = "positive";
-            if (negativeCount > positiveCount && negativeCount > neutralCount) {
-                prioritySentiment = "negative";
-            } else if (neutralCount > positiveCount && neutralCount > negativeCount) {
-                prioritySentiment = "neutral";
-            }
-            System.out.println("🎯 우선 감정: " + prioritySentiment);
-            
-            // ML 서비스 요청 데이터 구성 (내용 분석용)
-            java.util.List<java.util.Map<String, Object>> reviewList = new java.util.ArrayList<>();
-            for (Object[] review : reviews) {
-                String text = (String) review[0];
-                int rating = ((Number) review[1]).intValue();
-                
-                String sentiment = "neutral";
-                if (rating >= 4) sentiment = "positive";
-                else if (rating <= 2) sentiment = "negative";
-                
-                java.util.Map<String, Object> reviewData = new java.util.HashMap<>();
-                reviewData.put("text", text);
-                reviewData.put("sentiment", sentiment);
-                reviewData.put("rating", rating);
-                reviewList.add(reviewData);
-            }
-            
-            // ML 서비스 호출 (내용 분석)
-            RestTemplate restTemplate = new RestTemplate();
-            String mlServiceUrl = "http://localhost:8000/api/reviews/content-analysis";
-            
-            java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
-            requestBody.put("menuName", menuName);
-            requestBody.put("reviews", reviewList);
-            requestBody.put("prioritySentiment", prioritySentiment);
-            
-            System.out.println("🤖 ML 서비스 호출 시작: " + mlServiceUrl);
-            System.out.println("📤 요청 데이터 - 메뉴: " + menuName + ", 리뷰 수: " + reviewList.size() + ", 우선감정: " + prioritySentiment);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<java.util.Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<java.util.Map> response = restTemplate.postForEntity(mlServiceUrl, entity, java.util.Map.class);
-            
-            System.out.println("📥 ML 서비스 응답 상태: " + response.getStatusCode());
-            System.out.println("📥 ML 서비스 응답 본문: " + response.getBody());
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                String insight = (String) response.getBody().get("insight");
-                System.out.println("✅ ML 서비스에서 한줄평 받음: " + insight);
-                return insight;
-            }
-            
-        } catch (Exception e) {
-            System.err.println("❌ ML 서비스 호출 실패: " + e.getMessage());
-            e.printStackTrace();
-        }
-        
-        // ML 서비스 실패시 감정별 기본 메시지 생성 (다수 의견 기준)
-        String fallbackMessage;
-        if (positiveCount > negativeCount && positiveCount > neutralCount) {
-            fallbackMessage = "맛있다고 해요";
-        } else if (negativeCount > positiveCount && negativeCount > neutralCount) {
-            fallbackMessage = "개선이 필요해요";
-        } else if (neutralCount > positiveCount && neutralCount > negativeCount) {
-            fallbackMessage = "괜찮은 편이에요";
-        } else {
-            fallbackMessage = "의견이 다양해요";
-        }
-        
-        System.out.println("🔄 ML 서비스 실패로 기본 메시지 사용: " + fallbackMessage);
-        return fallbackMessage;
-    }
-
     public java.util.List<com.voiz.dto.MenuSentimentDto> getMenuSentimentWithSummary(
             String userId,
             LocalDate startDate,
@@ -442,81 +462,191 @@ public class AnalyticsService {
         var list = getMenuSentiment(userId, startDate, endDate, positiveThreshold, negativeThreshold, nationality);
         System.out.println("📊 Service: 메뉴 감정 데이터 조회 완료, 메뉴 수: " + list.size());
         
-        // 각 메뉴에 대해 한줄 평 생성
+        // 한줄 평은 리뷰 저장 시 비동기로 분석해 둔 본문 태그를 집계해 만듦 (조회 시 ML 호출 없음)
+        var tags = aggregateMenuTags(userId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), nationality);
         for (MenuSentimentDto menu : list) {
-            // nationality가 null이면 전체 데이터, 있으면 해당 국가만
-            String targetNationality = (nationality != null) ? nationality : menu.getNationality();
-            System.out.println("🍽️ Service: 메뉴 '" + menu.getMenuName() + "'의 한줄평 생성 시작 (targetNationality: " + targetNationality + ")");
-            
-            String summary = generateMenuReviewSummary(menu.getMenuId(), menu.getMenuName(), userId, targetNationality);
+            MenuTagStats stats = tags.get(menu.getMenuId());
+            String summary = stats != null
+                    ? summarizeMenuTags(stats)
+                    // 아직 태그가 없는 메뉴는 평점 기준 긍/부정 비중으로
+                    : sentimentMessage(menu.getPositiveCount(), menu.getNeutralCount(), menu.getNegativeCount());
             menu.setReviewSummary(summary);
-            
-            System.out.println("✅ Service: 메뉴 '" + menu.getMenuName() + "'의 한줄평 생성 완료: " + summary);
         }
         
-        System.out.println("✅ Service: getMenuSentimentWithSummary 완료");
+        System.out.println("✅ Service: getMenuSentimentWithSummary 완료 (태그 집계 메뉴 " + tags.size() + "개)");
+        return list;
+    }
+
+    /**
+     * 메뉴별 리뷰 본문 태그 집계 (본문 감성 + 속성별 감성)
+     * 응답 구조: [{menuIdx, menuName, taggedCount, summary,
+     *   sentiment: {positive, neutral, negative}, aspects: [{aspect, positive, neutral, negative}]}]
+     */
+    public java.util.List<java.util.Map<String, Object>> getMenuReviewTags(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            String nationality
+    ) {
+        var tags = aggregateMenuTags(userId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX), nationality);
+        var idToName = getMenuNames(tags.keySet());
+        
+        java.util.List<java.util.Map<String, Object>> list = new java.util.ArrayList<>();
+        for (var e : tags.entrySet()) {
+            MenuTagStats stats = e.getValue();
+            java.util.List<java.util.Map<String, Object>> aspects = new java.util.ArrayList<>();
+            stats.aspects.entrySet().stream()
+                    .sorted((a, b) -> Long.compare(total(b.getValue()), total(a.getValue())))
+                    .forEach(a -> {
+                        java.util.Map<String, Object> aspect = new java.util.HashMap<>(a.getValue());
+                        aspect.put("aspect", a.getKey());
+                        aspects.add(aspect);
+                    });
+            
+            java.util.Map<String, Object> item = new java.util.HashMap<>();
+            item.put("menuIdx", e.getKey());
+            item.put("menuName", idToName.get(e.getKey()));
+            item.put("taggedCount", stats.tagged);
+            item.put("summary", summarizeMenuTags(stats));
+            item.put("sentiment", stats.sentiment);
+            item.put("aspects", aspects);
+            list.add(item);
+        }
+        list.sort((a, b) -> Long.compare((Long) b.get("taggedCount"), (Long) a.get("taggedCount")));
         return list;
     }
 
+    // 메뉴 하나의 본문 태그 집계 (감성/속성별 positive, neutral, negative 개수)
+    private static class MenuTagStats {
+        private long tagged;
+        private final java.util.Map<String, Long> sentiment = newSentimentCounts();
+        private final java.util.Map<String, java.util.Map<String, Long>> aspects = new java.util.HashMap<>();
+    }
+
+    private java.util.Map<Integer, MenuTagStats> aggregateMenuTags(
+            String userId, LocalDateTime startDateTime, LocalDateTime endDateTime, String nationality) {
+        java.util.Map<Integer, MenuTagStats> byMenu = new java.util.HashMap<>();
+        // row 구조: menuIdx, sentiment, count
+        for (Object[] r : reviewTagsRepository.aggregateSentimentByMenu(userId, startDateTime, endDateTime, nationality)) {
+            MenuTagStats stats = byMenu.computeIfAbsent(((Number) r[0]).intValue(), k -> new MenuTagStats());
+            long count = ((Number) r[2]).longValue();
+            stats.tagged += count;
+            stats.sentiment.merge(String.valueOf(r[1]), count, Long::sum);
+        }
+        // row 구조: menuIdx, aspect, sentiment, count
+        for (Object[] r : reviewTagsRepository.aggregateAspectsByMenu(userId, startDateTime, endDateTime, nationality)) {
+            MenuTagStats stats = byMenu.computeIfAbsent(((Number) r[0]).intValue(), k -> new MenuTagStats());
+            stats.aspects.computeIfAbsent((String) r[1], k -> newSentimentCounts())
+                    .merge(String.valueOf(r[2]), ((Number) r[3]).longValue(), Long::sum);
+        }
+        return byMenu;
+    }
+
+    private static java.util.Map<String, Long> newSentimentCounts() {
+        java.util.Map<String, Long> counts = new java.util.HashMap<>();
+        counts.put("positive", 0L);
+        counts.put("neutral", 0L);
+        counts.put("negative", 0L);
+        return counts;
+    }
+
+    private static long total(java.util.Map<String, Long> counts) {
+        return counts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    // 속성별 긍정/부정 차이가 큰 것으로 좋은 점(최대 2개)과 아쉬운 점(1개)을 골라 한줄 평 생성
+    private static String summarizeMenuTags(MenuTagStats stats) {
+        java.util.List<String> good = stats.aspects.entrySet().stream()
+                .filter(a -> a.getValue().get("positive") > a.getValue().get("negative"))
+                .sorted((a, b) -> Long.compare(
+                        b.getValue().get("positive") - b.getValue().get("negative"),
+                        a.getValue().get("positive") - a.getValue().get("negative")))
+                .limit(2)
+                .map(java.util.Map.Entry::getKey)
+                .collect(Collectors.toList());
+        String bad = stats.aspects.entrySet().stream()
+                .filter(a -> a.getValue().get("negative") > a.getValue().get("positive"))
+                .max(java.util.Comparator.comparingLong(a -> a.getValue().get("negative") - a.getValue().get("positive")))
+                .map(java.util.Map.Entry::getKey)
+                .orElse(null);
+        
+        if (!good.isEmpty() && bad != null) {
+            return String.join("·", good) + " 만족, " + bad + " 아쉬움";
+        } else if (!good.isEmpty()) {
+            return String.join("·", good) + " 만족도가 높아요";
+        } else if (bad != null) {
+            return bad + " 개선이 필요해요";
+        }
+        return sentimentMessage(stats.sentiment.get("positive"), stats.sentiment.get("neutral"), stats.sentiment.get("negative"));
+    }
+
+    // 감정별 기본 메시지 (다수 의견 기준)
+    private static String sentimentMessage(Long positive, Long neutral, Long negative) {
+        long pos = positive != null ? positive : 0L;
+        long neu = neutral != null ? neutral : 0L;
+        long neg = negative != null ? negative : 0L;
+        if (pos + neu + neg == 0) {
+            return "리뷰가 없습니다";
+        } else if (pos > neg && pos > neu) {
+            return "맛있다고 해요";
+        } else if (neg > pos && neg > neu) {
+            return "개선이 필요해요";
+        } else if (neu > pos && neu > neg) {
+            return "괜찮은 편이에요";
+        }
+        return "의견이 다양해요";
+    }
+
     public java.util.Map<String, Object> generateComprehensiveInsights(String userId, LocalDate startDate, LocalDate endDate) {
-        try {
-            // 전체 리뷰 데이터 조회 (메뉴 이름 포함)
-            var startDateTime = startDate.atStartOfDay();
-            var endDateTime = endDate.atTime(java.time.LocalTime.MAX);
-            var reviewsWithMenus = reviewRepository.findReviewsWithMenuName(userId, startDateTime, endDateTime, null, null, null, null);
-            
-            if (reviewsWithMenus.isEmpty()) {
-                java.util.Map<String, Object> emptyResult = new java.util.HashMap<>();
-                java.util.List<java.util.Map<String, Object>> emptyInsights = new java.util.ArrayList<>();
-                emptyInsights.add(java.util.Map.of(
-                    "type", "trend",
-                    "title", "데이터 부족",
-                    "description", "더 많은 리뷰가 필요해요",
-                    "priority", "low"
-                ));
-                emptyResult.put("insights", emptyInsights);
-                return emptyResult;
-            }
-            
-            // ML 서비스 요청 데이터 구성
-            java.util.List<java.util.Map<String, Object>> reviewList = new java.util.ArrayList<>();
-            for (Object[] reviewData : reviewsWithMenus) {
-                // Object[] 구조: reviewIdx, orderIdx, menuIdx, userId, comment, rating, nationality, language, createdAt, menuName
-                java.util.Map<String, Object> reviewMap = new java.util.HashMap<>();
-                reviewMap.put("comment", reviewData[4]);  // comment
-                reviewMap.put("rating", reviewData[5]);   // rating
-                reviewMap.put("nationality", reviewData[6]); // nationality
-                reviewMap.put("menuName", reviewData[9]); // menuName
-                reviewMap.put("createdAt", reviewData[8].toString()); // createdAt
-                reviewList.add(reviewMap);
-            }
-            
-            // 기간 타입 결정
-            long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
-            String timeRange = daysBetween <= 7 ? "week" : daysBetween <= 31 ? "month" : "year";
-            
-            // ML 서비스 호출
-            RestTemplate restTemplate = new RestTemplate();
-            String mlServiceUrl = "http://localhost:8000/api/reviews/comprehensive-insights";
-            
-            java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
-            requestBody.put("reviews", reviewList);
-            requestBody.put("timeRange", timeRange);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<java.util.Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<java.util.Map> response = restTemplate.postForEntity(mlServiceUrl, entity, java.util.Map.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return response.getBody();
-            }
-            
-        } catch (Exception e) {
-            System.err.println("종합 인사이트 생성 실패: " + e.getMessage());
+        var startDateTime = startDate.atStartOfDay();
+        var endDateTime = endDate.atTime(java.time.LocalTime.MAX);
+        
+        // 범위 내 새 리뷰가 없으면 저장된 인사이트를 그대로 사용
+        String cacheKey = "comprehensive-insights:" + userId + ":" + startDate + ":" + endDate;
+        var watermark = insightCacheService.reviewWatermark(userId, startDateTime, endDateTime);
+        
+        return insightCacheService.get(cacheKey, watermark,
+            () -> requestComprehensiveInsights(userId, startDate, endDate),
+            this::defaultComprehensiveInsights);
+    }
+    
+    private java.util.Map<String, Object> requestComprehensiveInsights(String userId, LocalDate startDate, LocalDate endDate) {
+        var startDateTime = startDate.atStartOfDay();
+        var endDateTime = endDate.atTime(java.time.LocalTime.MAX);
+        
+        long sampleSize = reviewSampleStreamer.countSample(userId, startDateTime, endDateTime);
+        if (sampleSize == 0) {
+            java.util.Map<String, Object> emptyResult = new java.util.HashMap<>();
+            java.util.List<java.util.Map<String, Object>> emptyInsights = new java.util.ArrayList<>();
+            emptyInsights.add(java.util.Map.of(
+                "type", "trend",
+                "title", "데이터 부족",
+                "description", "더 많은 리뷰가 필요해요",
+                "priority", "low"
+            ));
+            emptyResult.put("insights", emptyInsights);
+            return emptyResult;
         }
         
+        // 기간 타입 결정
+        long daysBetween = java.time.temporal.ChronoUnit.DAYS.between(startDate, endDate);
+        String timeRange = daysBetween <= 7 ? "week" : daysBetween <= 31 ? "month" : "year";
+        
+        // ML 서비스 호출: 리뷰는 DB 커서에서 층화 표본으로 읽어 컬럼형으로 전송 (ML 서비스가 받지 않으면 gzip JSON)
+        com.voiz.util.ColumnarPayload payload = new com.voiz.util.ColumnarPayload();
+        payload.put("timeRange", timeRange);
+        reviewSampleStreamer.writeSample(userId, startDateTime, endDateTime, payload.table("reviews", (int) sampleSize));
+        
+        ResponseEntity<java.util.Map> response = fastApiClient.postColumnarToFastApi(
+            "/api/reviews/comprehensive-insights", payload, java.util.Map.class);
+        
+        if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
+            return response.getBody();
+        }
+        throw new IllegalStateException("종합 인사이트 ML 응답 오류: " + response.getStatusCode());
+    }
+    
+    private java.util.Map<String, Object> defaultComprehensiveInsights() {
         // 기본 인사이트 반환
         java.util.Map<String, Object> defaultResult = new java.util.HashMap<>();
         java.util.List<java.util.Map<String, Object>> defaultInsights = new java.util.ArrayList<>();
@@ -546,42 +676,101 @@ public class AnalyticsService {
         return defaultResult;
     }
 
+    /**
+     * 리뷰 키워드 (전체 + 메뉴별 긍/부정 상위 키워드)
+     * 키워드는 메모리 색인에서 바로 계산하고, mode가 openai면 상위 단어만 ML 서비스로 보내 구(phrase)로 정리합니다.
+     */
+    public java.util.Map<String, Object> getReviewKeywords(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int positiveThreshold,
+            int negativeThreshold,
+            int topK,
+            String mode
+    ) {
+        if (!"openai".equalsIgnoreCase(mode)) {
+            return reviewKeywordIndex.topKeywords(userId, startDate, endDate, positiveThreshold, negativeThreshold, topK, false);
+        }
+        
+        // 범위 내 새 리뷰가 없으면 정리된 키워드를 그대로 사용
+        String cacheKey = "review-keywords:" + userId + ":" + startDate + ":" + endDate + ":"
+                + positiveThreshold + ":" + negativeThreshold + ":" + topK;
+        var watermark = insightCacheService.reviewWatermark(userId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+        
+        return insightCacheService.get(cacheKey, watermark,
+            () -> requestKeywordPhrases(userId, startDate, endDate, positiveThreshold, negativeThreshold, topK),
+            () -> reviewKeywordIndex.topKeywords(userId, startDate, endDate, positiveThreshold, negativeThreshold, topK, false));
+    }
+    
+    private java.util.Map<String, Object> requestKeywordPhrases(String userId, LocalDate startDate, LocalDate endDate,
+            int positiveThreshold, int negativeThreshold, int topK) throws Exception {
+        // 비슷한 단어를 묶을 수 있도록 후보는 topK의 두 배까지 전송
+        java.util.Map<String, Object> payload = new java.util.HashMap<>(
+            reviewKeywordIndex.topKeywords(userId, startDate, endDate, positiveThreshold, negativeThreshold, topK * 2, true));
+        payload.put("topK", topK);
+        
+        java.util.Map<String, Object> phrases = asyncFastApiClient.postAndWait("/api/reviews/keywords/summarize", payload, java.util.Map.class);
+        if (phrases == null) {
+            throw new IllegalStateException("키워드 정리 ML 응답이 비어 있습니다");
+        }
+        return phrases;
+    }
+    
+    public java.util.Map<String, Object> getMenuInsights(
+            String userId,
+            LocalDate startDate,
+            LocalDate endDate,
+            int positiveThreshold,
+            int negativeThreshold,
+            String nationality
+    ) {
+        // 범위 내 새 리뷰가 없으면 저장된 인사이트를 그대로 사용
+        String cacheKey = "menu-insights:" + userId + ":" + startDate + ":" + endDate + ":"
+                + positiveThreshold + ":" + negativeThreshold + ":" + nationality;
+        var watermark = insightCacheService.reviewWatermark(userId, startDate.atStartOfDay(), endDate.atTime(LocalTime.MAX));
+        
+        return insightCacheService.get(cacheKey, watermark,
+            () -> requestMenuInsights(getMenuSentimentWithSummary(userId, startDate, endDate, positiveThreshold, negativeThreshold, nationality)),
+            () -> defaultMenuInsights(getMenuSentiment(userId, startDate, endDate, positiveThreshold, negativeThreshold, nationality)));
+    }
+
     public java.util.Map<String, Object> generateMenuInsights(java.util.List<MenuSentimentDto> menus) {
         try {
-            // ML 서비스 요청 데이터 구성
-            java.util.List<java.util.Map<String, Object>> menuList = new java.util.ArrayList<>();
-            for (MenuSentimentDto menu : menus) {
-                java.util.Map<String, Object> menuData = new java.util.HashMap<>();
-                menuData.put("menuName", menu.getMenuName());
-                menuData.put("positiveCount", menu.getPositiveCount());
-                menuData.put("negativeCount", menu.getNegativeCount());
-                menuData.put("neutralCount", menu.getNeutralCount());
-                menuData.put("averageRating", menu.getAverageRating());
-                menuData.put("reviewSummary", menu.getReviewSummary());
-                menuList.add(menuData);
-            }
-            
-            // ML 서비스 호출
-            RestTemplate restTemplate = new RestTemplate();
-            String mlServiceUrl = "http://localhost:8000/api/reviews/insights";
-            
-            java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
-            requestBody.put("menus", menuList);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<java.util.Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            ResponseEntity<java.util.Map> response = restTemplate.postForEntity(mlServiceUrl, entity, java.util.Map.class);
-            
-            if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                return response.getBody();
-            }
-            
+            return requestMenuInsights(menus);
         } catch (Exception e) {
             System.err.println("인사이트 생성 실패: " + e.getMessage());
         }
+        return defaultMenuInsights(menus);
+    }
+    
+    private java.util.Map<String, Object> requestMenuInsights(java.util.List<MenuSentimentDto> menus) {
+        // ML 서비스 요청 데이터 구성
+        java.util.List<java.util.Map<String, Object>> menuList = new java.util.ArrayList<>();
+        for (MenuSentimentDto menu : menus) {
+            java.util.Map<String, Object> menuData = new java.util.HashMap<>();
+            menuData.put("menuName", menu.getMenuName());
+            menuData.put("positiveCount", menu.getPositiveCount());
+            menuData.put("negativeCount", menu.getNegativeCount());
+            menuData.put("neutralCount", menu.getNeutralCount());
+            menuData.put("averageRating", menu.getAverageRating());
+            menuData.put("reviewSummary", menu.getReviewSummary());
+            menuList.add(menuData);
+        }
+        
+        // ML 서비스 호출
+        java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
+        requestBody.put("menus", menuList);
         
+        // 여러 화면이 같은 조건으로 동시에 요청하면 ML 호출은 한 번만
+        java.util.Map<String, Object> insights = asyncFastApiClient.postAndWait("/api/reviews/insights", requestBody, java.util.Map.class);
+        if (insights == null) {
+            throw new IllegalStateException("메뉴 인사이트 ML 응답이 비어 있습니다");
+        }
+        return insights;
+    }
+    
+    private java.util.Map<String, Object> defaultMenuInsights(java.util.List<MenuSentimentDto> menus) {
         // 기본 인사이트 반환
         java.util.Map<String, Object> defaultInsights = new java.util.HashMap<>();
         java.util.List<String> insights = new java.util.ArrayList<>();
@@ -599,69 +788,59 @@ public class AnalyticsService {
         return defaultInsights;
     }
 
+    // 매출 인사이트 조회 기간 (현재 기간 + 비교용 이전 기간)
+    private record SalesPeriodRange(LocalDate startDate, LocalDate endDate, LocalDate prevStartDate, LocalDate prevEndDate) {}
+
+    private SalesPeriodRange salesPeriodRange(String period) {
+        LocalDate endDate = LocalDate.now();
+        LocalDate startDate;
+        LocalDate prevStartDate;
+        LocalDate prevEndDate;
+        
+        // 기간별 날짜 계산
+        switch (period) {
+            case "week":
+                startDate = endDate.minusDays(6);
+                prevEndDate = startDate.minusDays(1);
+                prevStartDate = prevEndDate.minusDays(6);
+                break;
+            case "year":
+                startDate = endDate.withDayOfYear(1);
+                prevEndDate = startDate.minusDays(1);
+                prevStartDate = prevEndDate.withDayOfYear(1);
+                break;
+            default: // month
+                startDate = endDate.withDayOfMonth(1);
+                prevEndDate = startDate.minusDays(1);
+                prevStartDate = prevEndDate.withDayOfMonth(1);
+                break;
+        }
+        return new SalesPeriodRange(startDate, endDate, prevStartDate, prevEndDate);
+    }
+
+    // 일별 매출 조회 후 키 케이스/별칭을 정규화 (date/amount 소문자 키로 통일)
+    private java.util.List<java.util.Map<String, Object>> loadDailySales(String userId, LocalDate startDate, LocalDate endDate) {
+        return normalizeDailySalesRecords(
+            salesOrderRepository.getDailySalesForPeriod(userId, startDate.toString(), endDate.toString())
+        );
+    }
+
     public java.util.Map<String, Object> getSalesInsights(String userId, String period) {
         try {
-            LocalDate endDate = LocalDate.now();
-            LocalDate startDate;
-            LocalDate prevStartDate;
-            LocalDate prevEndDate;
-            
-            // 기간별 날짜 계산
-            switch (period) {
-                case "week":
-                    startDate = endDate.minusDays(6);
-                    prevEndDate = startDate.minusDays(1);
-                    prevStartDate = prevEndDate.minusDays(6);
-                    break;
-                case "year":
-                    startDate = endDate.withDayOfYear(1);
-                    prevEndDate = startDate.minusDays(1);
-                    prevStartDate = prevEndDate.withDayOfYear(1);
-                    break;
-                default: // month
-                    startDate = endDate.withDayOfMonth(1);
-                    prevEndDate = startDate.minusDays(1);
-                    prevStartDate = prevEndDate.withDayOfMonth(1);
-                    break;
-            }
-            
-            // 현재/이전 기간 매출 조회 (원시 레코드)
-            java.util.List<java.util.Map<String, Object>> rawCurrent = salesOrderRepository.getDailySalesForPeriod(
-                userId, startDate.toString(), endDate.toString()
-            );
-            java.util.List<java.util.Map<String, Object>> rawPrevious = salesOrderRepository.getDailySalesForPeriod(
-                userId, prevStartDate.toString(), prevEndDate.toString()
-            );
-
-            // 키 케이스/별칭을 정규화 (date/amount 소문자 키로 통일)
-            java.util.List<java.util.Map<String, Object>> currentSales = normalizeDailySalesRecords(rawCurrent);
-            java.util.List<java.util.Map<String, Object>> previousSales = normalizeDailySalesRecords(rawPrevious);
-            
-            // ML 서비스에 인사이트 요청
-            RestTemplate restTemplate = new RestTemplate();
-            String mlServiceUrl = "http://localhost:8000/api/sales/insights";
-            
-            java.util.Map<String, Object> requestBody = new java.util.HashMap<>();
-            requestBody.put("period", period);
-            requestBody.put("currentSales", currentSales);
-            requestBody.put("previousSales", previousSales);
-            requestBody.put("userId", userId);
-            
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            HttpEntity<java.util.Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            
-            try {
-                ResponseEntity<java.util.Map> response = restTemplate.postForEntity(mlServiceUrl, entity, java.util.Map.class);
-                
-                if (response.getStatusCode() == HttpStatus.OK && response.getBody() != null) {
-                    return response.getBody();
-                }
-            } catch (Exception mlError) {
-                System.err.println("ML 서비스 호출 실패: " + mlError.getMessage());
-                // ML 서비스 실패시 기본 분석 제공
-                return generateBasicSalesInsights(currentSales, previousSales, period);
+            SalesPeriodRange range = salesPeriodRange(period);
+            java.util.List<java.util.Map<String, Object>> currentSales = loadDailySales(userId, range.startDate(), range.endDate());
+            java.util.List<java.util.Map<String, Object>> previousSales = loadDailySales(userId, range.prevStartDate(), range.prevEndDate());
+            
+            // 요약/예측은 로컬에서 계산 (매장별 예측 모델은 하루 마감 시 증분 갱신)
+            java.util.Map<String, Object> result = generateBasicSalesInsights(currentSales, previousSales, period);
+            java.util.Map<String, Object> forecast = salesForecastService.forecast(userId);
+            result.put("forecast", forecast);
+            result.put("predictions", describeForecast(forecast, (String) result.get("predictions")));
+            
+            if (salesInsightsMlEnabled) {
+                enrichSalesInsights(result, userId, period, range, currentSales, previousSales);
             }
+            return result;
             
         } catch (Exception e) {
             System.err.println("매출 인사이트 생성 실패: " + e.getMessage());
@@ -682,6 +861,68 @@ public class AnalyticsService {
         return fallback;
     }
     
+    // ML 서비스의 문장형 인사이트로 보강 (실패하면 로컬 인사이트 유지)
+    private void enrichSalesInsights(java.util.Map<String, Object> result, String userId, String period, SalesPeriodRange range,
+            java.util.List<java.util.Map<String, Object>> currentSales,
+            java.util.List<java.util.Map<String, Object>> previousSales) {
+        // 비교 기간을 포함한 범위에 새 주문이 없으면 저장된 인사이트를 그대로 사용
+        String cacheKey = "sales-insights:" + userId + ":" + period + ":" + range.endDate();
+        try {
+            var watermark = insightCacheService.orderWatermark(userId,
+                range.prevStartDate().atStartOfDay(), range.endDate().atTime(LocalTime.MAX));
+            var mlInsights = insightCacheService.get(cacheKey, watermark,
+                () -> requestSalesInsights(userId, period, currentSales, previousSales));
+            
+            Object insights = mlInsights.get("insights");
+            if (insights instanceof java.util.List<?> list && !list.isEmpty()) {
+                result.put("insights", list);
+            }
+        } catch (Exception e) {
+            System.err.println("매출 인사이트 ML 보강 실패: " + e.getMessage());
+        }
+    }
+    
+    private java.util.Map<String, Object> requestSalesInsights(String userId, String period,
+            java.util.List<java.util.Map<String, Object>> currentSales,
+            java.util.List<java.util.Map<String, Object>> previousSales) {
+        // ML 서비스에 인사이트 요청 (일별 매출은 컬럼형으로 전송)
+        com.voiz.util.ColumnarPayload payload = new com.voiz.util.ColumnarPayload();
+        payload.put("period", period);
+        payload.put("userId", userId);
+        addDailySalesTable(payload.table("currentSales", currentSales.size()), currentSales);
+        addDailySalesTable(payload.table("previousSales", previousSales.size()), previousSales);
+        
+        java.util.Map<String, Object> insights = fastApiClient.postColumnarToFastApi("/api/sales/insights", payload, java.util.Map.class).getBody();
+        if (insights == null) {
+            throw new IllegalStateException("매출 인사이트 ML 응답이 비어 있습니다");
+        }
+        return insights;
+    }
+    
+    private void addDailySalesTable(com.voiz.util.ColumnarPayload.Table table, java.util.List<java.util.Map<String, Object>> sales) {
+        var date = table.stringColumn("date");
+        var amount = table.doubleColumn("amount");
+        for (java.util.Map<String, Object> day : sales) {
+            Object dateVal = day.get("date");
+            date.add(dateVal != null ? dateVal.toString() : null);
+            amount.add((Number) day.get("amount"));
+        }
+    }
+    
+    // 예측 결과를 한 줄 문장으로 (예측 데이터가 없으면 기존 문장 유지)
+    private String describeForecast(java.util.Map<String, Object> forecast, String defaultText) {
+        if ("none".equals(forecast.get("model"))) {
+            return defaultText;
+        }
+        double next7Total = ((Number) forecast.get("next7DaysTotal")).doubleValue();
+        double growthRate7 = ((Number) forecast.get("growthRate7")).doubleValue();
+        
+        String trend = growthRate7 >= 1 ? String.format("지난 7일보다 %.1f%% 높을", growthRate7)
+            : growthRate7 <= -1 ? String.format("지난 7일보다 %.1f%% 낮을", Math.abs(growthRate7))
+            : "지난 7일과 비슷할";
+        return String.format("다음 7일 매출은 약 %.0f만원으로 %s 것으로 예상됩니다.", next7Total / 10000, trend);
+    }
+    
     private java.util.Map<String, Object> generateBasicSalesInsights(
             java.util.List<java.util.Map<String, Object>> currentSales,
             java.util.List<java.util.Map<String, Object>> previousSales,
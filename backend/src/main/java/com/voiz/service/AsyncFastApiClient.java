@@ -0,0 +1,302 @@
+package com.voiz.service;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * FastAPI ML 서비스 비동기 클라이언트.
+ * JDK HttpClient의 non-blocking 전송을 사용해 CompletableFuture로 응답을 돌려주므로,
+ * 여러 번역/인사이트 요청을 스레드를 묶지 않고 동시에 보낼 수 있습니다.
+ *
+ * 같은 엔드포인트에 같은 본문(키를 정렬한 JSON의 SHA-256)으로 진행 중인 요청이 있으면 새로 보내지 않고
+ * 그 응답을 함께 받습니다 (singleflight). 예: 여러 손님이 같은 메뉴를 같은 언어로 번역하는 경우.
+ * 응답 본문은 호출마다 따로 파싱하므로 결과 객체를 수정해도 다른 호출에 영향이 없습니다.
+ * 각 요청은 MlTrafficScheduler에서 호출 자리를 받은 뒤(호출한 스레드의 우선순위 사용)
+ * MlServiceGuard의 회로 차단기 / 동시 호출 한도를 거칩니다.
+ * 대기 중인 일괄 요청에 대화형 요청이 묶여 늦어지지 않도록, 같은 요청이라도 우선순위가 다르면 따로 보냅니다.
+ *
+ * JDK HttpClient는 Unix 도메인 소켓을 지원하지 않으므로, fastapi.unix-socket이 설정되어 있으면
+ * mlRestTemplate(소켓 전송)으로 보내고 응답 대기는 스케줄러 동시 호출 수만큼의 전용 스레드에서 합니다.
+ */
+@Service
+public class AsyncFastApiClient {
+
+	@Value("${fastapi.base-url:http://127.0.0.1:8000}")
+	private String fastApiBaseUrl;
+
+	@Value("${http.client.connect-timeout-ms:3000}")
+	private long connectTimeoutMs;
+
+	@Value("${http.client.total-timeout-ms:120000}")
+	private long totalTimeoutMs;
+
+	@Value("${fastapi.unix-socket:}")
+	private String fastApiUnixSocket;
+
+	@Value("${ml.scheduler.max-concurrency:16}")
+	private int maxConcurrency;
+
+	@Value("${ml.translate.cache-max-entries:20000}")
+	private int translationCacheMaxEntries;
+
+	@Autowired
+	@Qualifier("mlRestTemplate")
+	private RestTemplate mlRestTemplate;
+
+	@Autowired
+	private MlServiceGuard mlServiceGuard;
+
+	@Autowired
+	private MlTrafficScheduler mlTrafficScheduler;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	private HttpClient httpClient;
+	private ExecutorService executor;
+	private boolean useUnixSocket;
+	// 내용이 같은 요청은 직렬화 결과도 같도록 키를 정렬하는 매퍼
+	private ObjectMapper canonicalMapper;
+
+	// 진행 중인 요청: 우선순위 + 엔드포인트 + 본문 해시 -> 응답
+	private final Map<String, CompletableFuture<String>> inFlight = new ConcurrentHashMap<>();
+	// 번역 결과: 언어 + 원문 -> 번역 (가장 오래 쓰이지 않은 항목부터 제거, init에서 생성)
+	private Map<String, String> translations;
+
+	@PostConstruct
+	void init() {
+		useUnixSocket = fastApiUnixSocket != null && !fastApiUnixSocket.isBlank();
+		// 소켓 전송은 호출마다 스레드가 응답을 기다리므로 동시에 나갈 수 있는 호출 수만큼 둠
+		executor = Executors.newFixedThreadPool(useUnixSocket ? Math.max(2, maxConcurrency) : 2, r -> {
+			Thread thread = new Thread(r, "ml-async-http");
+			thread.setDaemon(true);
+			return thread;
+		});
+		httpClient = HttpClient.newBuilder()
+			.version(HttpClient.Version.HTTP_1_1)
+			.connectTimeout(Duration.ofMillis(connectTimeoutMs))
+			.executor(executor)
+			.build();
+		canonicalMapper = objectMapper.copy().configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true);
+		canonicalMapper.setConfig(canonicalMapper.getSerializationConfig().with(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY));
+		translations = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+				return size() > translationCacheMaxEntries;
+			}
+		});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdown();
+	}
+
+	/**
+	 * FastAPI에 JSON을 비동기로 전송하고 응답 본문을 문자열로 받음
+	 * @param endpoint FastAPI 엔드포인트
+	 * @param data 전송할 데이터
+	 * @return 응답 본문 (2xx가 아니면 HttpStatusCodeException, 연결 실패/타임아웃은 ResourceAccessException으로 실패)
+	 */
+	public CompletableFuture<String> post(String endpoint, Object data) {
+		byte[] body;
+		try {
+			body = canonicalMapper.writeValueAsBytes(data);
+		} catch (JsonProcessingException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+
+		MlTrafficScheduler.Priority priority = mlTrafficScheduler.currentPriority();
+		String key = priority + ":" + endpoint + "#" + sha256(body);
+		CompletableFuture<String> created = new CompletableFuture<>();
+		CompletableFuture<String> existing = inFlight.putIfAbsent(key, created);
+		if (existing != null) {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				registry.counter("ml.async.coalesced", "endpoint", endpoint).increment();
+			}
+			return existing.copy();
+		}
+
+		mlTrafficScheduler.submit(priority, () -> send(endpoint, body)).whenComplete((response, e) -> {
+			// 완료 전에 제거해서, 이후 들어오는 같은 요청은 새로 보냄
+			inFlight.remove(key, created);
+			if (e != null) {
+				created.completeExceptionally(e instanceof CompletionException && e.getCause() != null ? e.getCause() : e);
+			} else {
+				created.complete(response);
+			}
+		});
+		return created.copy();
+	}
+
+	/**
+	 * FastAPI에 JSON을 비동기로 전송하고 응답을 지정한 타입으로 받음 (호출마다 따로 파싱)
+	 */
+	public <T> CompletableFuture<T> post(String endpoint, Object data, Class<T> responseType) {
+		return post(endpoint, data).thenApply(body -> {
+			try {
+				return objectMapper.readValue(body, responseType);
+			} catch (IOException e) {
+				throw new CompletionException(e);
+			}
+		});
+	}
+
+	/**
+	 * 동기 호출 측용: 응답을 기다렸다가 반환 (같은 요청이 진행 중이면 그 응답을 함께 받음)
+	 * @throws RuntimeException 호출 실패 원인을 그대로 던짐
+	 */
+	public <T> T postAndWait(String endpoint, Object data, Class<T> responseType) {
+		try {
+			return post(endpoint, data, responseType).join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 텍스트 번역. 한국어이거나 비어 있으면 그대로, 실패하면 원문을 반환
+	 * 성공한 번역은 캐시해서 같은 문장은 다시 보내지 않음 (메뉴 일괄 등록 시 미리 채움)
+	 */
+	public CompletableFuture<String> translate(String text, String targetLanguage) {
+		if (text == null || text.isBlank() || "ko".equals(targetLanguage)) {
+			return CompletableFuture.completedFuture(text);
+		}
+		String cacheKey = targetLanguage + ":" + text;
+		String cached = translations.get(cacheKey);
+		if (cached != null) {
+			return CompletableFuture.completedFuture(cached);
+		}
+		Map<String, Object> data = new HashMap<>();
+		data.put("text", text);
+		data.put("targetLanguage", targetLanguage);
+
+		return post("/api/translate", data, Map.class)
+			.thenApply(result -> {
+				if (result.get("translated") instanceof String translated) {
+					translations.put(cacheKey, translated);
+					return translated;
+				}
+				return text;
+			})
+			.exceptionally(e -> {
+				System.err.println("번역 실패, 원문 사용: " + e.getMessage());
+				return text;
+			});
+	}
+
+	private CompletableFuture<String> send(String endpoint, byte[] body) {
+		long started = System.nanoTime();
+		CompletableFuture<String> response = mlServiceGuard.callAsync(endpoint, () -> {
+			if (useUnixSocket) {
+				return CompletableFuture.supplyAsync(() -> postOverUnixSocket(endpoint, body), executor);
+			}
+			HttpRequest request = HttpRequest.newBuilder(URI.create(fastApiBaseUrl + endpoint))
+				.timeout(Duration.ofMillis(totalTimeoutMs))
+				.header("Content-Type", "application/json")
+				.POST(HttpRequest.BodyPublishers.ofByteArray(body))
+				.build();
+			return httpClient.sendAsync(request, HttpResponse.BodyHandlers.ofString(StandardCharsets.UTF_8))
+				.handle((res, e) -> {
+					if (e != null) {
+						Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+						throw new ResourceAccessException("ML 서비스 연결 실패: " + cause.getMessage(),
+							cause instanceof IOException io ? io : new IOException(cause));
+					}
+					return checkStatus(res);
+				});
+		});
+		return response.whenComplete((res, e) -> {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				Timer.builder("ml.async.requests")
+					.tag("endpoint", endpoint)
+					.tag("outcome", e == null ? "success" : "error")
+					.register(registry)
+					.record(System.nanoTime() - started, TimeUnit.NANOSECONDS);
+			}
+		});
+	}
+
+	/**
+	 * mlRestTemplate(Unix 도메인 소켓)으로 전송. 상태 코드 / 연결 오류는 RestTemplate 예외 그대로 전달
+	 */
+	private String postOverUnixSocket(String endpoint, byte[] body) {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		// FastAPI 응답에는 charset이 없으므로 바이트로 받아 UTF-8로 변환
+		byte[] response = mlRestTemplate.exchange(fastApiBaseUrl + endpoint, HttpMethod.POST,
+			new HttpEntity<>(body, headers), byte[].class).getBody();
+		return response != null ? new String(response, StandardCharsets.UTF_8) : "";
+	}
+
+	private static String checkStatus(HttpResponse<String> response) {
+		int status = response.statusCode();
+		if (status >= 200 && status < 300) {
+			return response.body();
+		}
+		byte[] body = response.body() != null ? response.body().getBytes(StandardCharsets.UTF_8) : null;
+		if (status >= 500) {
+			throw new HttpServerErrorException(HttpStatusCode.valueOf(status), "ML 서비스 응답 오류", body, StandardCharsets.UTF_8);
+		}
+		throw new HttpClientErrorException(HttpStatusCode.valueOf(status), "ML 서비스 응답 오류", body, StandardCharsets.UTF_8);
+	}
+
+	private static String sha256(byte[] body) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -40,6 +40,10 @@ public class AsyncMatchingService {
     @Autowired
     private FastApiClient fastApiClient;
     
+    // 제안 생성은 일괄 작업이므로 대화형 ML 호출보다 뒤로 밀림
+    @Autowired
+    private MlTrafficScheduler mlTrafficScheduler;
+    
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -143,7 +147,7 @@ public class AsyncMatchingService {
             String type = specialDay.getType();
             
             System.out.println("제안 생성 요청: " + name + ", " + type + ", " + storeCategory);
-            var response = fastApiClient.createSpecialDaySugForUser(name, type, storeCategory);
+            var response = mlTrafficScheduler.batch(() -> fastApiClient.createSpecialDaySugForUser(name, type, storeCategory));
             
             System.out.println("제안 생성 응답 상태: " + response.getStatusCode());
             System.out.println("제안 생성 응답 내용: " + response.getBody());
@@ -33,6 +33,10 @@ public class CollectorService {
 	@Autowired
 	private FastApiClient fastApiClient;
 	
+	// 특일 수집은 일괄 작업이므로 손님 번역 등 대화형 ML 호출보다 뒤로 밀림
+	@Autowired
+	private MlTrafficScheduler mlTrafficScheduler;
+	
 	private final ObjectMapper objectMapper = new ObjectMapper();
 	
 	public boolean collect(String year) {
@@ -127,7 +131,7 @@ public class CollectorService {
 	private String generateContentForSpecialDay(String name, String type, String category) {
 		try {
 			System.out.println("컨텐츠 생성 요청: " + name + ", " + type + ", " + category);
-			var response = fastApiClient.generateSpecialDayContent(name, type, category);
+			var response = mlTrafficScheduler.batch(() -> fastApiClient.generateSpecialDayContent(name, type, category));
 			
 			System.out.println("FastAPI 응답 상태: " + response.getStatusCode());
 			System.out.println("FastAPI 응답 내용: " + response.getBody());
@@ -168,7 +172,7 @@ public class CollectorService {
 			}
 			
 			System.out.println("카테고리 분류 요청: " + name + ", " + type + ", " + category);
-			var response = fastApiClient.classifySpecialDayCategories(name, type, category);
+			var response = mlTrafficScheduler.batch(() -> fastApiClient.classifySpecialDayCategories(name, type, category));
 			
 			System.out.println("카테고리 분류 응답 상태: " + response.getStatusCode());
 			System.out.println("카테고리 분류 응답 내용: " + response.getBody());
@@ -0,0 +1,235 @@
+package com.voiz.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StreamUtils;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voiz.mapper.OrdersRepository;
+import com.voiz.mapper.ReviewRepository;
+
+/**
+ * 리뷰/주문 내보내기 (CSV 또는 NDJSON).
+ * DB 커서에서 한 행씩 읽어 응답 스트림에 바로 쓰므로 기간이 길어도 메모리 사용량이 일정합니다.
+ * 컨트롤러의 StreamingResponseBody 안에서 호출해야 응답이 끝날 때까지 트랜잭션(커서)이 유지됩니다.
+ */
+@Service
+public class ExportService {
+
+	private static final String[] REVIEW_COLUMNS = {
+		"reviewIdx", "createdAt", "menuIdx", "menuName", "rating", "nationality", "language", "guestName", "orderIdx", "comment"
+	};
+
+	private static final String[] ORDER_COLUMNS = {
+		"orderIdx", "orderNumber", "createdAt", "tableIdx", "status", "orderLanguage", "orderTotalAmount",
+		"menuIdx", "menuName", "quantity", "unitPrice", "totalPrice", "itemOptions", "specialRequests"
+	};
+
+	// 이 행 수마다 flush 하여 다운로드가 끊김 없이 진행되도록 함
+	private static final int FLUSH_EVERY = 500;
+
+	public enum Format {
+		CSV("text/csv", "csv"),
+		NDJSON("application/x-ndjson", "ndjson");
+
+		private final String contentType;
+		private final String extension;
+
+		Format(String contentType, String extension) {
+			this.contentType = contentType;
+			this.extension = extension;
+		}
+
+		public String getContentType() {
+			return contentType;
+		}
+
+		public String getExtension() {
+			return extension;
+		}
+
+		public static Format from(String value) {
+			return "ndjson".equalsIgnoreCase(value) || "jsonl".equalsIgnoreCase(value) ? NDJSON : CSV;
+		}
+	}
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private OrdersRepository ordersRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	/**
+	 * 기간 내 리뷰 내보내기
+	 * @return 기록한 행 수
+	 */
+	@Transactional(readOnly = true)
+	public long exportReviews(String userId, LocalDateTime startDate, LocalDateTime endDate,
+			Format format, boolean gzip, OutputStream out) throws IOException {
+		try (Stream<Object[]> rows = reviewRepository.streamReviewsForExport(userId, startDate, endDate)) {
+			return write(rows, REVIEW_COLUMNS, format, gzip, out);
+		}
+	}
+
+	/**
+	 * 기간 내 주문 내보내기 (주문 항목 한 건이 한 행)
+	 * @return 기록한 행 수
+	 */
+	@Transactional(readOnly = true)
+	public long exportOrders(String userId, LocalDateTime startDate, LocalDateTime endDate,
+			Format format, boolean gzip, OutputStream out) throws IOException {
+		try (Stream<Object[]> rows = ordersRepository.streamOrderItemsForExport(userId, startDate, endDate)) {
+			return write(rows, ORDER_COLUMNS, format, gzip, out);
+		}
+	}
+
+	private long write(Stream<Object[]> rows, String[] columns, Format format, boolean gzip, OutputStream out) throws IOException {
+		// 응답 스트림은 서블릿 컨테이너가 닫으므로 여기서는 gzip 종료와 flush만 함
+		OutputStream target = gzip
+			? new GZIPOutputStream(StreamUtils.nonClosing(out), 8192, true)
+			: StreamUtils.nonClosing(out);
+
+		try (RowWriter writer = format == Format.NDJSON
+				? new NdjsonRowWriter(target, columns, objectMapper)
+				: new CsvRowWriter(target, columns)) {
+			// 헤더를 먼저 보내 첫 바이트가 바로 도착하도록 함
+			writer.flush();
+
+			long[] count = {0};
+			try {
+				rows.forEach(row -> {
+					try {
+						writer.write(row);
+						if (++count[0] % FLUSH_EVERY == 0) {
+							writer.flush();
+						}
+					} catch (IOException e) {
+						throw new UncheckedIOException(e);
+					}
+				});
+			} catch (UncheckedIOException e) {
+				// 클라이언트가 다운로드를 중단한 경우 등
+				throw e.getCause();
+			}
+			return count[0];
+		}
+	}
+
+	private interface RowWriter extends AutoCloseable {
+		void write(Object[] row) throws IOException;
+
+		void flush() throws IOException;
+
+		@Override
+		void close() throws IOException;
+	}
+
+	/**
+	 * RFC 4180 CSV. 엑셀에서 한글이 깨지지 않도록 UTF-8 BOM을 붙입니다.
+	 */
+	private static class CsvRowWriter implements RowWriter {
+		private final Writer writer;
+
+		CsvRowWriter(OutputStream out, String[] columns) throws IOException {
+			this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), 16 * 1024);
+			writer.write('\uFEFF');
+			writeLine(columns);
+		}
+
+		@Override
+		public void write(Object[] row) throws IOException {
+			writeLine(row);
+		}
+
+		private void writeLine(Object[] values) throws IOException {
+			for (int i = 0; i < values.length; i++) {
+				if (i > 0) {
+					writer.write(',');
+				}
+				writer.write(escape(values[i]));
+			}
+			writer.write("\r\n");
+		}
+
+		private static String escape(Object value) {
+			if (value == null) {
+				return "";
+			}
+			String text = value instanceof BigDecimal decimal ? decimal.toPlainString() : value.toString();
+			if (value instanceof String && !text.isEmpty() && "=+-@".indexOf(text.charAt(0)) >= 0) {
+				// 스프레드시트 수식으로 해석되지 않도록 (CSV injection 방지)
+				text = "'" + text;
+			}
+			if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+				return '"' + text.replace("\"", "\"\"") + '"';
+			}
+			return text;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+	}
+
+	/**
+	 * 한 줄에 JSON 객체 하나 (application/x-ndjson)
+	 */
+	private static class NdjsonRowWriter implements RowWriter {
+		private final JsonGenerator generator;
+		private final String[] columns;
+
+		NdjsonRowWriter(OutputStream out, String[] columns, ObjectMapper objectMapper) throws IOException {
+			this.generator = objectMapper.getFactory().createGenerator(out);
+			this.generator.setRootValueSeparator(null);
+			this.columns = columns;
+		}
+
+		@Override
+		public void write(Object[] row) throws IOException {
+			generator.writeStartObject();
+			for (int i = 0; i < columns.length; i++) {
+				Object value = row[i];
+				if (value instanceof LocalDateTime dateTime) {
+					generator.writeStringField(columns[i], dateTime.toString());
+				} else {
+					generator.writeObjectField(columns[i], value);
+				}
+			}
+			generator.writeEndObject();
+			generator.writeRaw('\n');
+		}
+
+		@Override
+		public void flush() throws IOException {
+			generator.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			generator.close();
+		}
+	}
+}
@@ -1,24 +1,36 @@
 package com.voiz.service;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.util.LinkedMultiValueMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.util.StreamUtils;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
-import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voiz.util.ColumnarPayload;
 import com.voiz.util.MultipartFileResource;
 
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.MediaType;
+import org.springframework.http.StreamingHttpOutputMessage;
 import java.util.Map;
+import java.util.zip.GZIPOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.util.HashMap;
 
 @Service
@@ -27,7 +39,42 @@ public class FastApiClient {
     @Value("${fastapi.base-url:http://127.0.0.1:8000}")
     private String fastApiBaseUrl;
     
-    private final RestTemplate restTemplate = new RestTemplate();
+    // ML 서비스용 클라이언트 (HttpClientConfig: fastapi.unix-socket이 있으면 Unix 도메인 소켓, 없으면 공용 TCP 풀)
+    @Autowired
+    @Qualifier("mlRestTemplate")
+    private RestTemplate restTemplate;
+    
+    // 모든 ML 호출은 엔드포인트별 회로 차단기 / 동시 호출 한도를 거침
+    @Autowired
+    private MlServiceGuard mlServiceGuard;
+    
+    @Autowired
+    private AsyncFastApiClient asyncFastApiClient;
+    
+    @Autowired
+    private MlTrafficScheduler mlTrafficScheduler;
+    
+    @Autowired
+    private OcrImagePreprocessor ocrImagePreprocessor;
+    
+    @Value("${ml.columnar.enabled:true}")
+    private boolean columnarEnabled;
+    
+    @Value("${ml.columnar.retry-ms:600000}")
+    private long columnarRetryMs;
+    
+    // ML 서비스가 컬럼형 본문을 거절(415)한 뒤 다시 시도하기 전까지는 JSON으로 전송
+    private volatile long columnarRejectedUntil;
+    
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    
+    /**
+     * 요청 본문을 JSON 스트림으로 직접 써 내려가는 콜백
+     */
+    @FunctionalInterface
+    public interface JsonBodyWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
     
     /**
      * FastAPI에서 데이터를 가져오는 메서드
@@ -36,7 +83,7 @@ public class FastApiClient {
      */
     public ResponseEntity<String> getDataFromFastApi(String endpoint) {
         String url = fastApiBaseUrl + endpoint;
-        return restTemplate.getForEntity(url, String.class);
+        return guarded(endpoint, () -> restTemplate.getForEntity(url, String.class));
     }
     
     /**
@@ -46,13 +93,101 @@ public class FastApiClient {
      * @return 응답 데이터
      */
     public ResponseEntity<String> postDataToFastApi(String endpoint, Map<String, Object> data) {
+        return postJsonToFastApi(endpoint, data, String.class);
+    }
+    
+    /**
+     * FastAPI에 JSON을 전송하고 응답을 지정한 타입으로 받는 메서드
+     * @param endpoint FastAPI 엔드포인트
+     * @param data 전송할 데이터
+     * @param responseType 응답 타입
+     * @return 응답 데이터
+     */
+    public <T> ResponseEntity<T> postJsonToFastApi(String endpoint, Object data, Class<T> responseType) {
         String url = fastApiBaseUrl + endpoint;
         
         HttpHeaders headers = new HttpHeaders();
         headers.setContentType(MediaType.APPLICATION_JSON);
         
-        HttpEntity<Map<String, Object>> request = new HttpEntity<>(data, headers);
-        return restTemplate.exchange(url, HttpMethod.POST, request, String.class);
+        HttpEntity<Object> request = new HttpEntity<>(data, headers);
+        return guarded(endpoint, () -> restTemplate.exchange(url, HttpMethod.POST, request, responseType));
+    }
+    
+    /**
+     * 대용량 데이터를 gzip 압축 JSON으로 스트리밍 전송하는 메서드
+     * 본문을 메모리에 모으지 않고 writer가 쓰는 즉시 chunked 전송합니다.
+     * @param endpoint FastAPI 엔드포인트
+     * @param writer 요청 본문을 작성하는 콜백
+     * @param responseType 응답 타입
+     * @return 응답 데이터
+     */
+    public <T> ResponseEntity<T> postGzipJsonToFastApi(String endpoint, JsonBodyWriter writer, Class<T> responseType) {
+        String url = fastApiBaseUrl + endpoint;
+        
+        return guarded(endpoint, () -> restTemplate.execute(url, HttpMethod.POST, request -> {
+            request.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+            request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+            
+            if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                streamingRequest.setBody(out -> writeGzipJson(out, writer));
+            } else {
+                writeGzipJson(request.getBody(), writer);
+            }
+        }, restTemplate.responseEntityExtractor(responseType)));
+    }
+    
+    /**
+     * 표 형태 데이터를 컬럼형 바이너리(ColumnarPayload)로 전송하는 메서드
+     * 본문은 gzip으로 압축해 스트리밍 전송합니다 (ML 서비스 GzipRequestMiddleware가 풀어 줌).
+     * ML 서비스가 컬럼형 본문을 받지 않으면(415) 같은 데이터를 gzip JSON으로 다시 보내고,
+     * 이후 columnar-retry-ms 동안은 바로 JSON으로 보냅니다.
+     * @param endpoint FastAPI 엔드포인트
+     * @param payload 전송할 데이터
+     * @param responseType 응답 타입
+     * @return 응답 데이터
+     */
+    public <T> ResponseEntity<T> postColumnarToFastApi(String endpoint, ColumnarPayload payload, Class<T> responseType) {
+        if (columnarEnabled && System.currentTimeMillis() >= columnarRejectedUntil) {
+            String url = fastApiBaseUrl + endpoint;
+            try {
+                return guarded(endpoint, () -> restTemplate.execute(url, HttpMethod.POST, request -> {
+                    request.getHeaders().setContentType(ColumnarPayload.MEDIA_TYPE);
+                    request.getHeaders().set(HttpHeaders.CONTENT_ENCODING, "gzip");
+                    
+                    if (request instanceof StreamingHttpOutputMessage streamingRequest) {
+                        streamingRequest.setBody(out -> writeGzip(out, payload::writeTo));
+                    } else {
+                        writeGzip(request.getBody(), payload::writeTo);
+                    }
+                }, restTemplate.responseEntityExtractor(responseType)));
+            } catch (HttpClientErrorException.UnsupportedMediaType e) {
+                columnarRejectedUntil = System.currentTimeMillis() + columnarRetryMs;
+                System.err.println("ML 서비스가 컬럼형 본문을 지원하지 않아 JSON으로 전송: " + endpoint);
+            }
+        }
+        return postGzipJsonToFastApi(endpoint, payload::writeJson, responseType);
+    }
+    
+    /**
+     * 우선순위 스케줄러에서 호출 자리를 받은 뒤 회로 차단기 / 동시 호출 한도 안에서 실행
+     */
+    private <T> T guarded(String endpoint, java.util.function.Supplier<T> call) {
+        return mlTrafficScheduler.call(() -> mlServiceGuard.call(endpoint, call));
+    }
+    
+    private void writeGzipJson(OutputStream out, JsonBodyWriter writer) throws IOException {
+        // generator를 닫으면 gzip 트레일러까지 기록되고, 원본 스트림은 닫지 않음
+        GZIPOutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(out), 8192);
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(gzip, JsonEncoding.UTF8)) {
+            writer.write(generator);
+        }
+    }
+    
+    private static void writeGzip(OutputStream out, StreamingHttpOutputMessage.Body body) throws IOException {
+        // gzip 스트림을 닫으면 트레일러까지 기록되고, 원본 스트림은 닫지 않음
+        try (GZIPOutputStream gzip = new GZIPOutputStream(StreamUtils.nonClosing(out), 8192)) {
+            body.writeTo(gzip);
+        }
     }
     
     /**
@@ -145,20 +280,31 @@ public class FastApiClient {
 	 * @throws IOException 
 	 */
 	public ResponseEntity<String> requestOcr(MultipartFile file) throws IOException{
+		return requestOcr(new MultipartFileResource(file), file.getContentType());
+	}
+	
+	/**
+	 * OCR 실행 (업로드 임시 파일 / 작업용 사본 등 다시 열 수 있는 이미지)
+	 * @param image 전송 이미지
+	 * @param contentType 업로드 당시의 Content-Type
+	 * @return 텍스트 추출 결과
+	 */
+	public ResponseEntity<String> requestOcr(Resource image, String contentType) {
 		try {
 			String endpoint = "/api/ocr";
 			String url = fastApiBaseUrl + endpoint;
 
 			// MultiValueMap으로 multipart 데이터 구성
+			// 사진은 힙에 올리지 않고 업로드 임시 파일에서 바로 스트리밍 (설정 시 축소 / 흑백 JPEG로 전처리)
 			MultiValueMap<String, Object> body = new LinkedMultiValueMap<>();
-			body.add("file", new MultipartFileResource(file));
+			body.add("file", ocrImagePreprocessor.preparePart(image, contentType));
 			    
 			HttpHeaders headers = new HttpHeaders();
 			headers.setContentType(MediaType.MULTIPART_FORM_DATA);
 			    
 			HttpEntity<MultiValueMap<String, Object>> request = new HttpEntity<>(body, headers);
 			    
-			return restTemplate.exchange(url, HttpMethod.POST, request, String.class);
+			return guarded(endpoint, () -> restTemplate.exchange(url, HttpMethod.POST, request, String.class));
 		} catch (Exception e) {
 			// ML 서비스 연결 실패 시 더 명확한 에러 메시지
 			System.err.println("Failed to connect to ML service at " + fastApiBaseUrl + ": " + e.getMessage());
@@ -169,24 +315,8 @@ public class FastApiClient {
 	public String requestTranslate(String text, String targetLanguage) {
 		if (targetLanguage.equals("ko")) return text; // 원문 그대로 반환
 		
-		String endpoint = "/api/translate";
-		
-		Map<String, Object> data = new HashMap<>();
-        data.put("text", text);
-        data.put("targetLanguage", targetLanguage);
-        	
-        ResponseEntity<String> response = postDataToFastApi(endpoint, data);
-
-        if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-            try {
-                ObjectMapper objectMapper = new ObjectMapper();
-                JsonNode jsonNode = objectMapper.readTree(response.getBody());
-                return jsonNode.get("translated").asText();
-            } catch (Exception e) {
-                e.printStackTrace();
-            }
-        }
-        return text; // 번역 실패 시 원문 그대로 반환
+		// 같은 문장을 번역 중인 다른 요청이 있으면 그 응답을 함께 받음 (실패 시 원문)
+		return asyncFastApiClient.translate(text, targetLanguage).join();
 	}
 
 	public Map<String, Object> translateTexts(Map<String, Object> request) {
@@ -199,10 +329,14 @@ public class FastApiClient {
 
 	        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(request, headers);
 
-	        ResponseEntity<Map> response = restTemplate.exchange(
-	            url, HttpMethod.POST, requestEntity, Map.class);
+	        ResponseEntity<Map> response = guarded(endpoint, () -> restTemplate.exchange(
+	            url, HttpMethod.POST, requestEntity, Map.class));
 
 	        return response.getBody();
+	    } catch (MlServiceGuard.CallRejectedException | ResourceAccessException | HttpServerErrorException e) {
+	        // ML 서비스 장애 / 호출 차단 시 원문 그대로 반환
+	        System.err.println("번역 실패, 원문 사용: " + e.getMessage());
+	        return untranslated("translated_texts", request.get("texts"), e);
 	    } catch (Exception e) {
 	        throw new RuntimeException("FastAPI 번역 서비스 연결 실패: " + e.getMessage(), e);
 	    }
@@ -224,13 +358,30 @@ public class FastApiClient {
 
 	        HttpEntity<Map<String, Object>> requestEntity = new HttpEntity<>(request, headers);
 
-	        ResponseEntity<Map> response = restTemplate.exchange(
-	            url, HttpMethod.POST, requestEntity, Map.class);
+	        ResponseEntity<Map> response = guarded(endpoint, () -> restTemplate.exchange(
+	            url, HttpMethod.POST, requestEntity, Map.class));
 
 	        return response.getBody();
+	    } catch (MlServiceGuard.CallRejectedException | ResourceAccessException | HttpServerErrorException e) {
+	        // ML 서비스 장애 / 호출 차단 시 원문 그대로 반환
+	        System.err.println("리뷰 번역 실패, 원문 사용: " + e.getMessage());
+	        return untranslated("translated_reviews", request.get("reviews"), e);
 	    } catch (Exception e) {
 	        throw new RuntimeException("리뷰 번역 서비스 연결 실패: " + e.getMessage(), e);
 	    }
 	}
 
+	/**
+	 * 번역 실패 시 응답: 원문 목록을 번역 결과 자리에 그대로 담음 (fallback 표시 포함)
+	 */
+	private Map<String, Object> untranslated(String resultKey, Object originals, RuntimeException cause) {
+		if (!(originals instanceof java.util.List<?>)) {
+			throw new RuntimeException("번역 서비스 연결 실패: " + cause.getMessage(), cause);
+		}
+		Map<String, Object> result = new HashMap<>();
+		result.put(resultKey, originals);
+		result.put("fallback", true);
+		return result;
+	}
+
 } 
\ No newline at end of file
@@ -0,0 +1,179 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.voiz.mapper.ReviewRepository;
+import com.voiz.mapper.SalesOrderRepository;
+
+/**
+ * ML 인사이트 응답 캐시.
+ * 응답을 생성 당시의 데이터 워터마크(범위 내 최대 리뷰 번호, 최대 주문 번호)와 함께 저장하고,
+ * 워터마크가 그대로면 저장된 응답을 즉시 반환합니다.
+ * 워터마크가 바뀌었으면 이전 응답을 먼저 돌려주고 백그라운드에서 새로 생성합니다 (stale-while-revalidate).
+ * 캐시가 없는 키에 동시에 들어온 요청은 한 번만 생성하고 나머지는 그 결과를 함께 받습니다.
+ */
+@Service
+public class InsightCacheService {
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private SalesOrderRepository salesOrderRepository;
+
+	@Autowired
+	@Qualifier("taskExecutor")
+	private Executor taskExecutor;
+
+	@Value("${analytics.insights.cache-max-entries:1000}")
+	private int maxEntries;
+
+	// 가장 오래 쓰이지 않은 항목부터 제거 (접근 순서 LinkedHashMap)
+	private final Map<String, CachedInsight> cache = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<String, CachedInsight> eldest) {
+			return size() > maxEntries;
+		}
+	});
+
+	// 캐시가 없어 생성 중인 키 -> 생성 결과
+	private final Map<String, CompletableFuture<Map<String, Object>>> loading = new ConcurrentHashMap<>();
+
+	/**
+	 * 캐시에 저장할 인사이트를 만드는 콜백 (실패 시 예외를 던지면 캐시에 저장하지 않음)
+	 */
+	@FunctionalInterface
+	public interface InsightLoader {
+		Map<String, Object> load() throws Exception;
+	}
+
+	public record Watermark(Long maxReviewIdx, Long maxOrderIdx) {}
+
+	private static class CachedInsight {
+		private final Watermark watermark;
+		private final Map<String, Object> value;
+		private final AtomicBoolean refreshing = new AtomicBoolean(false);
+
+		CachedInsight(Watermark watermark, Map<String, Object> value) {
+			this.watermark = watermark;
+			this.value = value;
+		}
+	}
+
+	/**
+	 * 리뷰 기준 워터마크
+	 */
+	public Watermark reviewWatermark(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+		return new Watermark(reviewRepository.findMaxReviewIdx(userId, startDate, endDate), null);
+	}
+
+	/**
+	 * 주문 기준 워터마크
+	 */
+	public Watermark orderWatermark(String userId, LocalDateTime startDate, LocalDateTime endDate) {
+		return new Watermark(null, salesOrderRepository.findMaxOrderIdx(userId, startDate, endDate));
+	}
+
+	/**
+	 * 리뷰 + 주문 기준 워터마크
+	 */
+	public Watermark watermark(String userId, LocalDateTime reviewStart, LocalDateTime reviewEnd,
+			LocalDateTime orderStart, LocalDateTime orderEnd) {
+		return new Watermark(
+			reviewRepository.findMaxReviewIdx(userId, reviewStart, reviewEnd),
+			salesOrderRepository.findMaxOrderIdx(userId, orderStart, orderEnd));
+	}
+
+	/**
+	 * 캐시된 인사이트 조회. 캐시가 없을 때 생성에 실패하면 fallback 결과를 반환합니다 (fallback은 캐시하지 않음).
+	 * @param key 엔드포인트 + 조회 조건으로 만든 캐시 키
+	 * @param watermark 현재 데이터 워터마크
+	 * @param loader ML 서비스로 인사이트를 생성하는 콜백
+	 * @param fallback 생성 실패 시 반환할 기본 인사이트
+	 */
+	public Map<String, Object> get(String key, Watermark watermark, InsightLoader loader,
+			Supplier<Map<String, Object>> fallback) {
+		try {
+			return get(key, watermark, loader);
+		} catch (Exception e) {
+			System.err.println("인사이트 생성 실패 (" + key + "): " + e.getMessage());
+			return fallback.get();
+		}
+	}
+
+	/**
+	 * 캐시된 인사이트 조회. 캐시가 없을 때 생성에 실패하면 예외를 그대로 던집니다.
+	 */
+	public Map<String, Object> get(String key, Watermark watermark, InsightLoader loader) throws Exception {
+		CachedInsight cached = cache.get(key);
+
+		if (cached != null) {
+			if (!cached.watermark.equals(watermark)) {
+				refreshInBackground(key, watermark, loader, cached);
+			}
+			return cached.value;
+		}
+
+		CompletableFuture<Map<String, Object>> created = new CompletableFuture<>();
+		CompletableFuture<Map<String, Object>> existing = loading.putIfAbsent(key, created);
+		if (existing != null) {
+			// 같은 키를 생성 중이면 그 결과를 기다림
+			try {
+				return existing.join();
+			} catch (CompletionException e) {
+				throw e.getCause() instanceof Exception cause ? cause : e;
+			}
+		}
+
+		try {
+			// 조회와 등록 사이에 다른 요청이 생성을 끝냈으면 그 결과 사용
+			cached = cache.get(key);
+			Map<String, Object> value = cached != null ? cached.value : loader.load();
+			if (cached == null) {
+				cache.put(key, new CachedInsight(watermark, value));
+			}
+			created.complete(value);
+			return value;
+		} catch (Exception e) {
+			created.completeExceptionally(e);
+			throw e;
+		} finally {
+			loading.remove(key, created);
+		}
+	}
+
+	private void refreshInBackground(String key, Watermark watermark, InsightLoader loader, CachedInsight cached) {
+		// 같은 항목에 대해 갱신은 한 번만
+		if (!cached.refreshing.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			taskExecutor.execute(() -> {
+				try {
+					cache.put(key, new CachedInsight(watermark, loader.load()));
+				} catch (Exception e) {
+					// 갱신 실패 시 이전 응답을 유지하고 다음 요청에서 다시 시도
+					System.err.println("인사이트 백그라운드 갱신 실패 (" + key + "): " + e.getMessage());
+					cached.refreshing.set(false);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			cached.refreshing.set(false);
+		}
+	}
+}
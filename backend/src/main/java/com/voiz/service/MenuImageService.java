@@ -0,0 +1,518 @@
+package com.voiz.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import com.voiz.mapper.MenusRepository;
+import com.voiz.util.ExifOrientation;
+import com.voiz.vo.Menus;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 메뉴 사진 저장 + 크기별 파생본 생성.
+ * 원본은 uploads/menuImages에 내용의 SHA-256 파일명으로 저장합니다. 같은 사진을 여러 메뉴 / 매장에 올려도
+ * 파일은 하나만 두고, 파생본도 이미 만든 메뉴의 것을 그대로 씁니다.
+ * 파일은 UploadStorage에 저장하므로 원격 저장소가 설정되어 있으면 다른 서버에도 복제됩니다.
+ * 파일의 참조 수는 그 URL을 가리키는 메뉴 수(DB)로 세므로, 사진을 바꾸거나 메뉴를 지울 때
+ * 더 이상 아무 메뉴도 가리키지 않는 파일만 삭제됩니다.
+ *
+ * 메뉴 저장 후 작업 풀에서
+ * 썸네일(thumb) / 목록(list) / 상세(detail) 크기의 파생본을 만들어 Menus에 기록합니다.
+ * 파생본은 WebP(libwebp를 쓸 수 없는 환경이면 progressive JPEG)로 인코딩하고 파일명은 내용의 SHA-256이므로,
+ * /uploads/menuImages/derived/ 아래 파일은 내용이 바뀌지 않아 immutable로 캐시할 수 있습니다.
+ *
+ * 휴대폰 사진의 EXIF 회전 정보는 픽셀에 반영하고, 원본 전체를 디코딩하지 않도록 부분 샘플링으로 읽습니다.
+ * 대기열이 가득 차 건너뛴 사진과 이 기능 이전에 올린 사진은 주기적으로 다시 처리합니다.
+ * 원본이 없거나 읽을 수 없는 형식이면 파생본 자리에 원본 URL을 기록해 다시 시도하지 않습니다.
+ */
+@Service
+public class MenuImageService {
+
+	private static final String UPLOADS_URL_PREFIX = "/uploads/";
+	private static final String ORIGINAL_URL_PREFIX = "/uploads/menuImages/";
+	private static final String DERIVED_URL_PREFIX = "/uploads/menuImages/derived/";
+
+	@Autowired
+	private MenusRepository menusRepository;
+
+	@Autowired
+	private UploadStorage uploadStorage;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	@Value("${menus.images.thumb-size:160}")
+	private int thumbSize;
+
+	@Value("${menus.images.list-size:640}")
+	private int listSize;
+
+	@Value("${menus.images.detail-size:1280}")
+	private int detailSize;
+
+	@Value("${menus.images.quality:0.8}")
+	private float quality;
+
+	@Value("${menus.images.workers:2}")
+	private int workers;
+
+	@Value("${menus.images.queue-capacity:100}")
+	private int queueCapacity;
+
+	private ThreadPoolExecutor executor;
+	private boolean webp;
+	// 대기 중이거나 처리 중인 메뉴 번호 + 원본 경로 (백필이 같은 사진을 다시 넣지 않도록)
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	// 최근에 저장 / 재사용한 원본 URL -> 시각. 메뉴에 아직 저장되기 전이라 참조 수가 0인 파일을 지우지 않도록
+	private final Map<String, Long> recentlyStored = new ConcurrentHashMap<>();
+	private static final long RECENTLY_STORED_MS = 10 * 60 * 1000L;
+
+	/**
+	 * 원본 저장 결과
+	 * @param url 웹에서 접근 가능한 원본 경로
+	 * @param bytes 사진 크기
+	 * @param deduplicated 같은 내용의 파일이 이미 있어 새로 저장하지 않았는지
+	 */
+	public record StoredImage(String url, long bytes, boolean deduplicated) {
+		/** 중복이라 저장하지 않은 바이트 수 */
+		public long bytesSaved() {
+			return deduplicated ? bytes : 0;
+		}
+	}
+
+	@PostConstruct
+	void init() {
+		executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), r -> {
+				Thread thread = new Thread(r, "menu-image");
+				thread.setDaemon(true);
+				return thread;
+			});
+		webp = webpAvailable();
+		// 업로드 캐시 정리: 원격에 없는 파일은 메뉴가 아직 가리킬 때만 다시 복제 (다른 서버에서 지운 사진은 되살리지 않음)
+		uploadStorage.setReferenceCheck(key -> menusRepository.countImageReferences(UPLOADS_URL_PREFIX + key) > 0);
+		System.out.println("메뉴 이미지 파생본 형식: " + (webp ? "WebP" : "JPEG"));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 원본 사진 저장 (내용 해시 파일명, 같은 내용의 파일이 있으면 그 파일 사용)
+	 * @return 웹에서 접근 가능한 원본 경로 (/uploads/menuImages/...)와 중복 여부
+	 */
+	public StoredImage storeOriginal(MultipartFile image) throws IOException {
+		// 업로드 디렉터리 기준으로 이미지 파일 저장 경로 설정
+		Path dir = uploadStorage.localPath(keyOf(ORIGINAL_URL_PREFIX));
+		Files.createDirectories(dir);
+
+		// 임시 파일로 복사하면서 해시 계산 (업로드 전체를 힙에 올리지 않음)
+		Path temp = Files.createTempFile(dir, "upload", ".tmp");
+		try {
+			MessageDigest digest = sha256Digest();
+			long bytes;
+			try (InputStream in = new DigestInputStream(image.getInputStream(), digest);
+					OutputStream out = Files.newOutputStream(temp)) {
+				bytes = in.transferTo(out);
+			}
+
+			String fileName = HexFormat.of().formatHex(digest.digest()).substring(0, 32)
+				+ extensionOf(image.getOriginalFilename());
+			String url = ORIGINAL_URL_PREFIX + fileName;
+			recentlyStored.put(url, System.currentTimeMillis());
+			recentlyStored.values().removeIf(storedAt -> System.currentTimeMillis() - storedAt > RECENTLY_STORED_MS);
+
+			Path target = dir.resolve(fileName);
+			boolean storedLocally = Files.isRegularFile(target) && Files.size(target) == bytes;
+			// 다른 서버에서 올린 같은 사진은 원격 저장소에만 있을 수 있음
+			boolean storedRemotely = uploadStorage.existsRemotely(keyOf(url));
+			boolean deduplicated = storedLocally || storedRemotely;
+			if (!storedLocally) {
+				// 다른 요청이 읽는 중인 파일이 반쯤 쓰인 상태로 보이지 않도록 이름 변경으로 저장
+				// (원격에만 있던 사진이면 이 서버의 캐시로 둠)
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			}
+			if (deduplicated) {
+				recordBytesSaved(bytes);
+				System.out.println("메뉴 사진 중복 업로드, 기존 파일 사용: " + url + " (" + bytes / 1024 + "KB 절약)");
+			}
+			if (!storedRemotely) {
+				// 이 서버 캐시에만 남은 사진(다른 서버에서 원격 사본을 지운 경우 포함)도 다시 복제해야 다른 서버가 서빙 가능
+				uploadStorage.stored(keyOf(url));
+			}
+			return new StoredImage(url, bytes, deduplicated);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	/**
+	 * 더 이상 아무 메뉴도 가리키지 않는 사진 파일 삭제 (원본, 파생본)
+	 * 메뉴의 사진을 바꾸거나 메뉴를 삭제해 DB에 반영한 뒤, 이전 URL들로 호출합니다.
+	 */
+	public void release(String... urls) {
+		for (String url : new LinkedHashSet<>(Arrays.asList(urls))) {
+			if (url == null || menusRepository.countImageReferences(url) > 0) {
+				continue;
+			}
+			if (url.startsWith(DERIVED_URL_PREFIX)) {
+				deleteFile(url);
+				continue;
+			}
+			Long storedAt = recentlyStored.get(url);
+			if (storedAt != null && System.currentTimeMillis() - storedAt <= RECENTLY_STORED_MS) {
+				// 같은 사진을 올린 다른 요청이 아직 메뉴를 저장하지 않았을 수 있음
+				continue;
+			}
+			if (originalKey(url) != null) {
+				deleteFile(url);
+			}
+		}
+	}
+
+	/**
+	 * 파생본 생성 요청 (기다리지 않음). 대기열이 가득 차면 다음 백필에서 처리
+	 * @param menuIdx 메뉴 번호
+	 * @param sourceUrl 메뉴에 저장된 원본 경로 (처리하는 사이 사진이 바뀌면 결과를 버림)
+	 */
+	public void generateDerivativesAsync(int menuIdx, String sourceUrl) {
+		String key = menuIdx + ":" + sourceUrl;
+		if (sourceUrl == null || !pending.add(key)) {
+			return;
+		}
+		// 같은 사진의 파생본이 이미 있으면 다시 만들지 않고 그대로 사용
+		Menus sibling = menusRepository.findFirstByImageUrlAndImageDetailUrlIsNotNull(sourceUrl);
+		if (sibling != null && sibling.getMenuIdx() != menuIdx) {
+			try {
+				menusRepository.updateImageDerivatives(menuIdx, sourceUrl,
+					sibling.getImageThumbUrl(), sibling.getImageListUrl(), sibling.getImageDetailUrl());
+			} finally {
+				pending.remove(key);
+			}
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					generate(menuIdx, sourceUrl);
+				} finally {
+					pending.remove(key);
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			pending.remove(key);
+			System.err.println("메뉴 이미지 파생본 대기열이 가득 참, 백필에서 처리: menuIdx=" + menuIdx);
+		}
+	}
+
+	/**
+	 * 화면 크기에 맞는 사진 URL (파생본이 아직 없으면 원본)
+	 * @param size thumb, list, detail (그 외는 list)
+	 */
+	public static String imageUrlFor(Menus menu, String size) {
+		String url = switch (size == null ? "list" : size) {
+			case "thumb" -> menu.getImageThumbUrl();
+			case "detail" -> menu.getImageDetailUrl();
+			default -> menu.getImageListUrl();
+		};
+		return url != null ? url : menu.getImageUrl();
+	}
+
+	/**
+	 * 파생본이 없는 사진 백필 (이전에 올린 사진, 대기열이 가득 차 건너뛴 사진)
+	 */
+	@Scheduled(initialDelay = 60000, fixedDelay = 600000)
+	public void backfill() {
+		for (Menus menu : menusRepository.findTop50ByImageUrlIsNotNullAndImageDetailUrlIsNull()) {
+			if (executor.getQueue().remainingCapacity() == 0) {
+				break;
+			}
+			generateDerivativesAsync(menu.getMenuIdx(), menu.getImageUrl());
+		}
+	}
+
+	private void generate(int menuIdx, String sourceUrl) {
+		long started = System.nanoTime();
+		try {
+			// 다른 서버에서 올린 사진이면 원격 저장소에서 받아 옴
+			String sourceKey = originalKey(sourceUrl);
+			Path source = sourceKey != null ? uploadStorage.fetch(sourceKey) : null;
+			BufferedImage image = source != null ? decode(source) : null;
+			if (image == null) {
+				// 원본이 없거나(외부 URL 포함) 읽을 수 없는 형식: 원본을 그대로 쓰도록 기록하고 다시 시도하지 않음
+				menusRepository.updateImageDerivatives(menuIdx, sourceUrl, sourceUrl, sourceUrl, sourceUrl);
+				System.err.println("메뉴 이미지 파생본을 만들 수 없어 원본 사용: menuIdx=" + menuIdx + ", " + sourceUrl);
+				return;
+			}
+
+			// 큰 크기부터 차례로 줄여 다음 크기의 입력으로 사용
+			BufferedImage detailImage = resize(image, detailSize);
+			BufferedImage listImage = resize(detailImage, listSize);
+			BufferedImage thumbImage = resize(listImage, thumbSize);
+			String detailUrl = write(detailImage);
+			String listUrl = write(listImage);
+			String thumbUrl = write(thumbImage);
+
+			int updated = menusRepository.updateImageDerivatives(menuIdx, sourceUrl, thumbUrl, listUrl, detailUrl);
+			if (updated == 0) {
+				// 처리하는 사이 사진이 바뀌었거나 메뉴가 삭제됨
+				for (String url : new LinkedHashSet<>(List.of(detailUrl, listUrl, thumbUrl))) {
+					if (menusRepository.countImageReferences(url) == 0) {
+						deleteFile(url);
+					}
+				}
+				return;
+			}
+
+			long elapsed = System.nanoTime() - started;
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				Timer.builder("menus.images.derivatives").register(registry).record(elapsed, TimeUnit.NANOSECONDS);
+			}
+			System.out.println("메뉴 이미지 파생본 생성: menuIdx=" + menuIdx + " ("
+				+ TimeUnit.NANOSECONDS.toMillis(elapsed) + "ms)");
+		} catch (IOException | RuntimeException e) {
+			// 일시적인 오류는 기록하지 않고 다음 백필에서 다시 시도
+			System.err.println("메뉴 이미지 파생본 생성 실패: menuIdx=" + menuIdx + ", " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 상세 크기보다 작아지지 않는 정수 배로 건너뛰며 디코딩한 뒤 EXIF 방향 적용
+	 * @return 읽을 수 없는 형식이면 null
+	 */
+	private BufferedImage decode(Path source) throws IOException {
+		int orientation;
+		try (InputStream in = Files.newInputStream(source)) {
+			orientation = ExifOrientation.read(in);
+		} catch (IOException e) {
+			orientation = 1;
+		}
+
+		try (ImageInputStream input = ImageIO.createImageInputStream(source.toFile())) {
+			Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+			if (readers == null || !readers.hasNext()) {
+				return null;
+			}
+			ImageReader reader = readers.next();
+			try {
+				reader.setInput(input, true, true);
+				int step = Math.max(1, Math.max(reader.getWidth(0), reader.getHeight(0)) / detailSize);
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(step, step, 0, 0);
+				return ExifOrientation.apply(reader.read(0, param), orientation);
+			} catch (IOException e) {
+				// 손상되었거나 지원하지 않는 부호화 (CMYK JPEG 등)
+				return null;
+			} finally {
+				reader.dispose();
+			}
+		}
+	}
+
+	/**
+	 * 긴 변이 maxEdge 이하가 되도록 축소 (확대하지 않음). 큰 비율은 절반씩 나눠 줄여 계단 현상을 줄임
+	 */
+	private static BufferedImage resize(BufferedImage image, int maxEdge) {
+		BufferedImage current = image;
+		while (true) {
+			int longEdge = Math.max(current.getWidth(), current.getHeight());
+			if (longEdge <= maxEdge && current.getType() == BufferedImage.TYPE_INT_RGB) {
+				return current;
+			}
+			double scale = longEdge > maxEdge * 2 ? 0.5 : Math.min(1.0, (double) maxEdge / longEdge);
+			int width = Math.max(1, (int) Math.round(current.getWidth() * scale));
+			int height = Math.max(1, (int) Math.round(current.getHeight() * scale));
+			BufferedImage next = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = next.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				// 투명 PNG는 흰 배경 위에 그림
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, width, height);
+				graphics.drawImage(current, 0, 0, width, height, null);
+			} finally {
+				graphics.dispose();
+			}
+			current = next;
+		}
+	}
+
+	/**
+	 * 인코딩 후 내용 해시 파일명으로 저장 (같은 내용이면 기존 파일 사용)
+	 * @return 파생본 URL
+	 */
+	private String write(BufferedImage image) throws IOException {
+		byte[] encoded = encode(image, webp);
+		String fileName = sha256(encoded).substring(0, 32) + (webp ? ".webp" : ".jpg");
+		String url = DERIVED_URL_PREFIX + fileName;
+		Path target = uploadStorage.localPath(keyOf(url));
+		Path dir = target.getParent();
+		if (!Files.exists(target)) {
+			Files.createDirectories(dir);
+			// 다른 작업이 쓰는 중인 파일을 읽지 않도록 임시 파일에 쓴 뒤 이름 변경
+			Path temp = Files.createTempFile(dir, fileName, ".tmp");
+			try {
+				Files.write(temp, encoded);
+				Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			} finally {
+				Files.deleteIfExists(temp);
+			}
+			uploadStorage.stored(keyOf(url));
+		}
+		return url;
+	}
+
+	private byte[] encode(BufferedImage image, boolean asWebp) throws IOException {
+		Iterator<ImageWriter> writers = asWebp
+			? ImageIO.getImageWritersByMIMEType("image/webp")
+			: ImageIO.getImageWritersByFormatName("jpeg");
+		if (!writers.hasNext()) {
+			throw new IOException("이미지 인코더 없음: " + (asWebp ? "webp" : "jpeg"));
+		}
+		ImageWriter writer = writers.next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64 * 1024);
+		try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			if (asWebp) {
+				param.setCompressionType("Lossy");
+			} else {
+				// 느린 Wi-Fi에서도 흐린 전체 이미지가 먼저 보이도록
+				param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+			}
+			param.setCompressionQuality(quality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+
+	/**
+	 * WebP 인코더(libwebp 네이티브 라이브러리)를 이 서버에서 쓸 수 있는지 확인
+	 */
+	private boolean webpAvailable() {
+		try {
+			return encode(new BufferedImage(8, 8, BufferedImage.TYPE_INT_RGB), true).length > 0;
+		} catch (IOException | RuntimeException | LinkageError e) {
+			return false;
+		}
+	}
+
+	private void deleteFile(String url) {
+		try {
+			uploadStorage.delete(keyOf(url));
+		} catch (IllegalArgumentException e) {
+			System.err.println("메뉴 이미지 삭제 실패: " + url);
+		}
+	}
+
+	/**
+	 * 원본 URL -> 저장소 키 (uploads/menuImages 밖을 가리키면 null)
+	 */
+	private String originalKey(String sourceUrl) {
+		if (!sourceUrl.startsWith(ORIGINAL_URL_PREFIX) || sourceUrl.startsWith(DERIVED_URL_PREFIX)) {
+			return null;
+		}
+		String key = keyOf(sourceUrl);
+		try {
+			Path path = uploadStorage.localPath(key);
+			return path.startsWith(uploadStorage.localPath(keyOf(ORIGINAL_URL_PREFIX))) ? key : null;
+		} catch (IllegalArgumentException e) {
+			return null;
+		}
+	}
+
+	/**
+	 * /uploads/... URL -> 저장소 키
+	 */
+	private static String keyOf(String url) {
+		return url.substring(UPLOADS_URL_PREFIX.length());
+	}
+
+	private void recordBytesSaved(long bytes) {
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			Counter.builder("menus.images.dedup.bytes").baseUnit("bytes").register(registry).increment(bytes);
+		}
+	}
+
+	/**
+	 * 원본 파일 확장자 (브라우저 Content-Type 판별용, 이미지 확장자가 아니면 .img)
+	 */
+	private static String extensionOf(String originalFilename) {
+		String extension = StringUtils.getFilenameExtension(originalFilename);
+		if (extension == null) {
+			return ".img";
+		}
+		extension = extension.toLowerCase(Locale.ROOT);
+		if (extension.equals("jpeg")) {
+			extension = "jpg";
+		}
+		return extension.matches("[a-z0-9]{1,5}") ? "." + extension : ".img";
+	}
+
+	private static MessageDigest sha256Digest() {
+		try {
+			return MessageDigest.getInstance("SHA-256");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private static String sha256(byte[] data) {
+		return HexFormat.of().formatHex(sha256Digest().digest(data));
+	}
+}
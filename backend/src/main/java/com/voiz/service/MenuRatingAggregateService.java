@@ -0,0 +1,184 @@
+package com.voiz.service;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.voiz.mapper.ReviewRepository;
+import com.voiz.vo.Reviews;
+
+/**
+ * 메뉴별 리뷰 수 / 평균 평점 집계 (메모리).
+ * 메뉴를 처음 조회할 때 매장 × 국적 단위 GROUP BY 한 번으로 적재하고,
+ * 이후에는 리뷰가 저장될 때마다 증분 반영하므로 리뷰 수와 관계없이 일정한 시간에 조회됩니다.
+ *
+ * DB가 기준입니다. 메뉴마다 check-interval-ms에 한 번 메뉴의 리뷰 수 + 최대 리뷰 번호(워터마크)를 DB에서 확인해
+ * 다른 서버에서 저장한 리뷰, 순서가 뒤바뀌어 커밋된 리뷰, 삭제로 맞지 않으면 다시 적재합니다.
+ * 리뷰 수가 변하지 않는 수정(평점 변경 등)은 ReviewChangeListener가 커밋 후 invalidate(...)로 알려 다시 적재합니다.
+ */
+@Service
+public class MenuRatingAggregateService {
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Value("${analytics.review-index.check-interval-ms:5000}")
+	private long checkIntervalMs;
+
+	private final Map<Integer, MenuAggregate> menus = new ConcurrentHashMap<>();
+
+	/**
+	 * 메뉴 하나의 집계. 구조: 매장(userId) -> 국적 -> [리뷰 수, 평점 합계]
+	 */
+	private static class MenuAggregate {
+		private boolean loaded;
+		// 마지막으로 DB 워터마크와 맞춰 본 시각
+		private long checkedAt;
+		// DB 워터마크와 비교하는 값 (적재 + 증분 반영한 리뷰 수, 최대 리뷰 번호)
+		private long reviewCount;
+		private long maxReviewIdx;
+		private final Map<String, Map<String, long[]>> counts = new HashMap<>();
+
+		private void apply(String userId, String nationality, long count, long ratingSum) {
+			long[] c = counts.computeIfAbsent(userId, k -> new HashMap<>())
+				.computeIfAbsent(nationality, k -> new long[2]);
+			c[0] += count;
+			c[1] += ratingSum;
+			reviewCount += count;
+		}
+	}
+
+	/**
+	 * 집계 결과
+	 * @param reviewCount 리뷰 수
+	 * @param averageRating 평균 평점 (리뷰가 없으면 0.0)
+	 */
+	public record Rating(long reviewCount, double averageRating) {}
+
+	/**
+	 * 메뉴 평점 조회
+	 * @param userId 매장 필터 (null이면 전체)
+	 * @param nationality 국적 필터 (null이면 전체)
+	 */
+	public Rating getRating(int menuIdx, String userId, String nationality) {
+		MenuAggregate aggregate = menus.computeIfAbsent(menuIdx, k -> new MenuAggregate());
+
+		synchronized (aggregate) {
+			refresh(menuIdx, aggregate);
+
+			long count = 0;
+			long sum = 0;
+			for (Map.Entry<String, Map<String, long[]>> store : aggregate.counts.entrySet()) {
+				if (userId != null && !userId.equals(store.getKey())) {
+					continue;
+				}
+				for (Map.Entry<String, long[]> nat : store.getValue().entrySet()) {
+					if (nationality != null && !nationality.equals(nat.getKey())) {
+						continue;
+					}
+					count += nat.getValue()[0];
+					sum += nat.getValue()[1];
+				}
+			}
+			return new Rating(count, count > 0 ? (double) sum / count : 0.0);
+		}
+	}
+
+	/**
+	 * 메뉴 리뷰의 국적별 리뷰 수 (리뷰 수 내림차순, 리뷰 목록의 국적 필터 선택지용)
+	 * @param userId 매장 필터 (null이면 전체)
+	 */
+	public Map<String, Long> nationalityCounts(int menuIdx, String userId) {
+		MenuAggregate aggregate = menus.computeIfAbsent(menuIdx, k -> new MenuAggregate());
+		Map<String, Long> counts = new HashMap<>();
+		synchronized (aggregate) {
+			refresh(menuIdx, aggregate);
+			for (Map.Entry<String, Map<String, long[]>> store : aggregate.counts.entrySet()) {
+				if (userId != null && !userId.equals(store.getKey())) {
+					continue;
+				}
+				for (Map.Entry<String, long[]> nat : store.getValue().entrySet()) {
+					if (nat.getKey() != null && nat.getValue()[0] > 0) {
+						counts.merge(nat.getKey(), nat.getValue()[0], Long::sum);
+					}
+				}
+			}
+		}
+		Map<String, Long> sorted = new LinkedHashMap<>();
+		counts.entrySet().stream()
+			.sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.forEach(e -> sorted.put(e.getKey(), e.getValue()));
+		return sorted;
+	}
+
+	/**
+	 * 메뉴 집계를 버림 (다음 조회 때 DB에서 다시 적재). 저장된 리뷰가 수정 / 삭제된 경우 사용
+	 */
+	public void invalidate(int menuIdx) {
+		menus.remove(menuIdx);
+	}
+
+	/**
+	 * 저장된 리뷰를 집계에 반영 (아직 적재되지 않은 메뉴는 다음 조회 때 DB에서 적재하므로 무시)
+	 */
+	public void add(Reviews review) {
+		if (review == null) {
+			return;
+		}
+		MenuAggregate aggregate = menus.get(review.getMenuIdx());
+		if (aggregate == null) {
+			return;
+		}
+		synchronized (aggregate) {
+			// 최대 리뷰 번호 이하는 적재 쿼리가 이미 셌을 수 있으므로 반영하지 않음
+			// (세지 않은 리뷰였다면 리뷰 수가 DB와 어긋나 다음 조회에서 다시 적재)
+			if (!aggregate.loaded || review.getReviewIdx() == null
+					|| review.getReviewIdx() <= aggregate.maxReviewIdx) {
+				return;
+			}
+			aggregate.apply(review.getUserId(), review.getNationality(), 1, review.getRating());
+			aggregate.maxReviewIdx = review.getReviewIdx();
+		}
+	}
+
+	/**
+	 * 처음이면 적재하고, 워터마크 확인 주기가 지났으면 DB와 비교해 맞지 않을 때 다시 적재 (aggregate로 동기화된 상태에서 호출)
+	 */
+	private void refresh(int menuIdx, MenuAggregate aggregate) {
+		long now = System.currentTimeMillis();
+		if (!aggregate.loaded) {
+			load(menuIdx, aggregate);
+		} else if (now - aggregate.checkedAt >= checkIntervalMs) {
+			List<Object[]> watermark = reviewRepository.findMenuRatingWatermark(menuIdx);
+			Object[] row = watermark.isEmpty() ? new Object[] {0L, null} : watermark.get(0);
+			long dbCount = row[0] != null ? ((Number) row[0]).longValue() : 0L;
+			long dbMaxReviewIdx = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+			if (aggregate.reviewCount != dbCount || aggregate.maxReviewIdx != dbMaxReviewIdx) {
+				load(menuIdx, aggregate);
+			}
+			aggregate.checkedAt = now;
+		}
+	}
+
+	private void load(int menuIdx, MenuAggregate aggregate) {
+		aggregate.counts.clear();
+		aggregate.reviewCount = 0;
+		aggregate.maxReviewIdx = 0;
+		// row 구조: userId, nationality, count, ratingSum, maxReviewIdx
+		for (Object[] row : reviewRepository.aggregateMenuRatings(menuIdx)) {
+			aggregate.apply((String) row[0], (String) row[1],
+				((Number) row[2]).longValue(), row[3] != null ? ((Number) row[3]).longValue() : 0L);
+			if (row[4] != null) {
+				aggregate.maxReviewIdx = Math.max(aggregate.maxReviewIdx, ((Number) row[4]).longValue());
+			}
+		}
+		aggregate.loaded = true;
+		aggregate.checkedAt = System.currentTimeMillis();
+	}
+}
@@ -1,20 +1,30 @@
 package com.voiz.service;
 
-import java.io.File;
 import java.io.IOException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.UUID;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.voiz.dto.MenuImportResultDto;
+import com.voiz.dto.MenusDto;
 import com.voiz.mapper.MenusRepository;
+import com.voiz.service.MenuImageService.StoredImage;
 import com.voiz.vo.Menus;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 @Service
 public class MenuService {
 
@@ -24,11 +34,32 @@ public class MenuService {
 	@Autowired
 	private MenusRepository menusRepository;
 	
+	@Autowired
+	private OcrService ocrService;
+	
+	@Autowired
+	private MenuImageService menuImageService;
+	
+	@Autowired
+	private AsyncFastApiClient asyncFastApiClient;
+	
+	@Autowired
+	private MlTrafficScheduler mlTrafficScheduler;
+	
+	@PersistenceContext
+	private EntityManager entityManager;
+	
+	@Value("${menus.import.max-items:200}")
+	private int maxImportItems;
+	
+	// 일괄 등록 후 미리 번역해 둘 손님 언어
+	@Value("${menus.import.prefetch-languages:en,ja,zh-CN}")
+	private List<String> prefetchLanguages;
+	
 	public String sendToMlServer(MultipartFile file) throws IOException {
 		
-		ResponseEntity<String> response =  fastApiClient.requestOcr(file);
-		
-		return response.getBody();
+		// 같은 사진을 다시 올린 경우 캐시된 결과를 바로 반환
+		return ocrService.recognize(file);
 	}
 
 	public String sendToMlServer(String menuName, String targetLanguage) {
@@ -54,7 +85,92 @@ public class MenuService {
 	    menusRepository.save(menu);
 	}
 	
-	public void createMenuWithImage(String userId, String menuName, int menuPrice, String menuDescription, 
+	/**
+	 * OCR 결과 메뉴 일괄 등록
+	 * 이미 등록된 메뉴명은 한 번의 조회로 걸러내고, 메뉴 ID도 시퀀스에서 한 번에 받아 넣은 뒤
+	 * 나머지는 한 트랜잭션에서 배치 insert 합니다.
+	 * @param userId 사용자 ID
+	 * @param items OCR 결과 목록 (menuName, menuPrice 필수)
+	 * @return 등록된 메뉴와 건너뛴 메뉴명
+	 */
+	@Transactional
+	public MenuImportResultDto importMenus(String userId, List<MenusDto> items) {
+		if (items == null || items.isEmpty()) {
+			throw new IllegalArgumentException("등록할 메뉴가 없습니다.");
+		}
+		if (items.size() > maxImportItems) {
+			throw new IllegalArgumentException("한 번에 등록할 수 있는 메뉴는 최대 " + maxImportItems + "개입니다.");
+		}
+		
+		// 이름 정리 + 목록 안의 중복 제거 (처음 나온 항목 사용)
+		Map<String, MenusDto> byName = new LinkedHashMap<>();
+		List<String> skipped = new ArrayList<>();
+		for (MenusDto item : items) {
+			String name = item.getMenuName() != null ? item.getMenuName().trim() : "";
+			if (name.isEmpty() || byName.putIfAbsent(name, item) != null) {
+				skipped.add(name);
+			}
+		}
+		
+		Set<String> existing = byName.isEmpty()
+				? Set.of()
+				: new HashSet<>(menusRepository.findExistingMenuNames(userId, byName.keySet()));
+		
+		List<Menus> menus = new ArrayList<>();
+		for (Map.Entry<String, MenusDto> entry : byName.entrySet()) {
+			if (existing.contains(entry.getKey())) {
+				skipped.add(entry.getKey());
+				continue;
+			}
+			MenusDto item = entry.getValue();
+			Menus menu = new Menus();
+			menu.setUserId(userId);
+			menu.setMenuName(entry.getKey());
+			menu.setMenuPrice(item.getMenuPrice());
+			// 설명은 NOT NULL이고 Oracle은 빈 문자열을 NULL로 저장하므로, 없으면 메뉴명으로 채움
+			menu.setMenuDescription(item.getMenuDescription() != null && !item.getMenuDescription().isBlank()
+					? item.getMenuDescription() : entry.getKey());
+			menu.setCategory(item.getCategory() != null && !item.getCategory().isBlank() ? item.getCategory() : "기타");
+			menus.add(menu);
+		}
+		
+		// ID를 미리 넣었으므로 save(merge) 대신 persist로 저장 (AssignedOrSequenceGenerator가 그 ID를 사용)
+		// hibernate.jdbc.batch_size 단위로 묶여 커밋 시 한 번에 insert
+		if (!menus.isEmpty()) {
+			List<Number> menuIdxs = menusRepository.nextMenuIdxs(menus.size());
+			for (int i = 0; i < menus.size(); i++) {
+				menus.get(i).setMenuIdx(menuIdxs.get(i).intValue());
+				entityManager.persist(menus.get(i));
+			}
+		}
+		List<MenusDto> created = menus.stream()
+				.map(menu -> new MenusDto(menu.getMenuIdx(), menu.getMenuName(), menu.getMenuPrice(),
+						menu.getMenuDescription(), menu.getImageUrl(), menu.getCategory()))
+				.toList();
+		return new MenuImportResultDto(created, skipped);
+	}
+	
+	/**
+	 * 새로 등록된 메뉴의 손님용 번역을 미리 요청 (기다리지 않음)
+	 * 일괄(BATCH) 우선순위로 보내므로 손님 화면의 번역 요청을 밀어내지 않고, 결과는 번역 캐시에 남아
+	 * 손님이 처음 메뉴판을 열 때 바로 사용됩니다.
+	 */
+	public void prefetchTranslations(List<MenusDto> menus) {
+		for (String language : prefetchLanguages) {
+			for (MenusDto menu : menus) {
+				mlTrafficScheduler.batch(() -> {
+					asyncFastApiClient.translate(menu.getMenuName(), language);
+					asyncFastApiClient.translate(menu.getMenuDescription(), language);
+					return null;
+				});
+			}
+		}
+	}
+	
+	/**
+	 * @return 저장한 사진 (중복 사진이면 절약한 바이트 수 포함), 사진이 없으면 null
+	 */
+	public StoredImage createMenuWithImage(String userId, String menuName, int menuPrice, String menuDescription, 
 			String category, MultipartFile image) throws IOException {
 		// 중복 메뉴 체크 (같은 사용자, 같은 메뉴명)
 		List<Menus> existingMenus = menusRepository.findByUserIdAndMenuName(userId, menuName);
@@ -70,35 +186,19 @@ public class MenuService {
 		menu.setCategory(category);
 		
 		// 이미지가 있으면 저장
+		StoredImage stored = null;
 		if (image != null && !image.isEmpty()) {
-			// 프로젝트 루트 기준으로 이미지 파일 저장 경로 설정
-			String uploadsDir = System.getProperty("user.dir") + File.separator + "uploads" + 
-					File.separator + "menuImages" + File.separator;
-			
-			// 파일 이름 생성
-			String fileName = UUID.randomUUID().toString().replace("-", "") + "_" + image.getOriginalFilename();
-			
-			// DB에 저장할 경로 문자열 (웹에서 접근 가능한 경로)
-			String dbFilePath = "/uploads/menuImages/" + fileName;
-			
-			// 디렉토리 생성
-			File dir = new File(uploadsDir);
-			if (!dir.exists()) {
-				dir.mkdirs();
-			}
-			
-			// 파일 저장
-			File savedFile = new File(dir, fileName);
-			image.transferTo(savedFile);
-			
-			// 이미지 URL 설정
-			menu.setImageUrl(dbFilePath);
+			stored = menuImageService.storeOriginal(image);
+			menu.setImageUrl(stored.url());
 		}
 		
-		menusRepository.save(menu);
+		Menus saved = menusRepository.save(menu);
+		// 썸네일/목록/상세 크기 파생본은 백그라운드에서 생성
+		menuImageService.generateDerivativesAsync(saved.getMenuIdx(), saved.getImageUrl());
+		return stored;
 	}
 
-	public String uploadMenuImage(int menuIdx, MultipartFile file) throws IOException {
+	public StoredImage uploadMenuImage(int menuIdx, MultipartFile file) throws IOException {
 		// 1. 메뉴 존재 여부 확인
 		Optional<Menus> optionalMenu = menusRepository.findById(menuIdx);
 		if (optionalMenu.isEmpty()) {
@@ -108,34 +208,22 @@ public class MenuService {
 		Menus menu = optionalMenu.get();
 		   
 		try {
-		   // 프로젝트 루트 기준으로 이미지 파일 저장 경로 설정
-		   String uploadsDir = System.getProperty("user.dir") + File.separator + "uploads" + File.separator + "menuImages" + File.separator;
-		       
-		   // 파일 이름 생성
-		   String fileName = UUID.randomUUID().toString().replace("-", "") + "_" + file.getOriginalFilename();
-		       
-		   // 실제 파일이 저장될 경로
-		   String filePath = uploadsDir + fileName;
-		       
-		   // DB에 저장할 경로 문자열 (웹에서 접근 가능한 경로)
-		   String dbFilePath = "/uploads/menuImages/" + fileName;
-		       
-		   // 디렉토리 생성
-		   File dir = new File(uploadsDir);
-		   if (!dir.exists()) {
-		       dir.mkdirs();
-		   }
+		   // 원본 저장
+		   StoredImage stored = menuImageService.storeOriginal(file);
+		   String[] previousUrls = imageUrlsOf(menu);
 		       
-		   // 파일 저장
-		   File savedFile = new File(dir, fileName);
-		   file.transferTo(savedFile);
-		       
-		   // DB 업데이트
-		   menu.setImageUrl(dbFilePath);
+		   // DB 업데이트 (이전 사진의 파생본은 새 파생본이 생성될 때까지 비움)
+		   menu.setImageUrl(stored.url());
+		   menu.setImageThumbUrl(null);
+		   menu.setImageListUrl(null);
+		   menu.setImageDetailUrl(null);
 		   menu.setUpdatedAt(LocalDateTime.now());
 		   menusRepository.save(menu);
+		   // 이전 사진은 다른 메뉴가 쓰지 않을 때만 삭제
+		   menuImageService.release(previousUrls);
+		   menuImageService.generateDerivativesAsync(menuIdx, stored.url());
 		       
-		   return dbFilePath;
+		   return stored;
 		       
 		} catch (IOException e) {
 		   e.printStackTrace();
@@ -149,7 +237,8 @@ public class MenuService {
 	        throw new IllegalArgumentException("해당 메뉴가 존재하지 않습니다. menuIdx = " + menuIdx);
 	    }
 	    menusRepository.deleteById(menuIdx);
-		
+	    // 사진 파일은 같은 사진을 쓰는 다른 메뉴가 없을 때만 삭제
+	    menuImageService.release(imageUrlsOf(optionalMenu.get()));
 	}
 
 	public List<Menus> getMenusByUserId(String userId) {
@@ -172,7 +261,10 @@ public class MenuService {
 	    menusRepository.save(menu);
 	}
 	
-	public void updateMenuWithImage(int menuIdx, String menuName, int menuPrice, String menuDescription, String category, MultipartFile image) throws IOException {
+	/**
+	 * @return 새로 저장한 사진 (중복 사진이면 절약한 바이트 수 포함), 사진을 바꾸지 않았으면 null
+	 */
+	public StoredImage updateMenuWithImage(int menuIdx, String menuName, int menuPrice, String menuDescription, String category, MultipartFile image) throws IOException {
 		Optional<Menus> optionalMenu = menusRepository.findById(menuIdx);
 	    if (optionalMenu.isEmpty()) {
 	        throw new IllegalArgumentException("해당 메뉴가 존재하지 않습니다. menuIdx = " + menuIdx);
@@ -180,35 +272,16 @@ public class MenuService {
 
 	    Menus menu = optionalMenu.get();
 	    
-	    // 새 이미지가 있으면 기존 이미지 삭제 후 새 이미지 저장
+	    // 새 이미지가 있으면 새 이미지 저장 (기존 이미지는 메뉴 저장 후 참조가 없을 때만 삭제)
+	    StoredImage stored = null;
+	    String[] previousUrls = imageUrlsOf(menu);
 	    if (image != null && !image.isEmpty()) {
-	        // 기존 이미지 파일 삭제
-	        if (menu.getImageUrl() != null && !menu.getImageUrl().isEmpty()) {
-	            String oldImagePath = menu.getImageUrl();
-	            String fullPath = System.getProperty("user.dir") + File.separator + 
-	                (oldImagePath.startsWith("/") ? oldImagePath.substring(1).replace("/", File.separator) : oldImagePath);
-	            File oldImageFile = new File(fullPath);
-	            if (oldImageFile.exists()) {
-	                oldImageFile.delete();
-	            }
-	        }
-	        
-	        // 새 이미지 저장 (createMenuWithImage와 동일한 로직)
-	        String uploadsDir = System.getProperty("user.dir") + File.separator + "uploads" + 
-	            File.separator + "menuImages" + File.separator;
-	        
-	        String fileName = UUID.randomUUID().toString().replace("-", "") + "_" + image.getOriginalFilename();
-	        String dbFilePath = "/uploads/menuImages/" + fileName;
-	        
-	        File dir = new File(uploadsDir);
-	        if (!dir.exists()) {
-	            dir.mkdirs();
-	        }
-	        
-	        File savedFile = new File(dir, fileName);
-	        image.transferTo(savedFile);
-	        
-	        menu.setImageUrl(dbFilePath);
+	        // 새 이미지 저장 (파생본은 저장 후 백그라운드에서 생성)
+	        stored = menuImageService.storeOriginal(image);
+	        menu.setImageUrl(stored.url());
+	        menu.setImageThumbUrl(null);
+	        menu.setImageListUrl(null);
+	        menu.setImageDetailUrl(null);
 	    }
 	    
 	    // 메뉴 정보 업데이트
@@ -219,5 +292,14 @@ public class MenuService {
 	    menu.setUpdatedAt(LocalDateTime.now());
 
 	    menusRepository.save(menu);
+	    if (stored != null) {
+	        menuImageService.release(previousUrls);
+	        menuImageService.generateDerivativesAsync(menuIdx, menu.getImageUrl());
+	    }
+	    return stored;
+	}
+
+	private static String[] imageUrlsOf(Menus menu) {
+		return new String[] {menu.getImageUrl(), menu.getImageThumbUrl(), menu.getImageListUrl(), menu.getImageDetailUrl()};
 	}
 }
\ No newline at end of file
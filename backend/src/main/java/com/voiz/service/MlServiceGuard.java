@@ -0,0 +1,310 @@
+package com.voiz.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * ML 서비스 호출 보호 (엔드포인트별 회로 차단기 + 동시 호출 한도).
+ * ML 서비스가 느려지거나 죽었을 때 요청 스레드가 응답을 기다리며 묶이지 않도록,
+ * 한도를 넘는 호출과 회로가 열린 동안의 호출은 기다리지 않고 바로 CallRejectedException으로 거절합니다.
+ * 호출하는 쪽은 기존 기본값(로컬 인사이트, 원문 번역 등)으로 대체합니다.
+ *
+ * 회로 차단기: 최근 window-size 건 중 실패(연결 오류, 타임아웃, 5xx, slow-call-ms 초과) 비율이
+ * failure-rate-threshold% 이상이면 open-ms 동안 열고, 이후 half-open-calls 건의 시험 호출이 모두 성공하면 닫습니다.
+ * 동시 호출 한도(AIMD): 한도 가까이 쓰이는 중에 빠르게 성공하면 한도를 조금씩 늘리고,
+ * 실패하거나 느린 응답이 오면 backoff-ratio 배로 줄입니다.
+ * 상태는 ml.circuit.state(0=닫힘, 1=시험 중, 2=열림), ml.concurrency.limit / inflight,
+ * ml.calls.rejected 메트릭으로 확인할 수 있습니다.
+ */
+@Service
+public class MlServiceGuard {
+
+	// 호출 측이 임의 경로를 넘기는 경우(분석 API)에도 메트릭 태그 수가 무한정 늘지 않도록 제한
+	private static final int MAX_ENDPOINTS = 50;
+	private static final String OTHER_ENDPOINT = "other";
+
+	private enum State { CLOSED, HALF_OPEN, OPEN }
+
+	/**
+	 * 회로가 열려 있거나 동시 호출 한도를 넘어 ML 서비스를 호출하지 않은 경우
+	 */
+	public static class CallRejectedException extends RuntimeException {
+		public CallRejectedException(String message) {
+			super(message);
+		}
+	}
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	@Value("${ml.resilience.window-size:20}")
+	private int windowSize;
+
+	@Value("${ml.resilience.minimum-calls:10}")
+	private int minimumCalls;
+
+	@Value("${ml.resilience.failure-rate-threshold:50}")
+	private int failureRateThreshold;
+
+	@Value("${ml.resilience.slow-call-ms:20000}")
+	private long slowCallMs;
+
+	@Value("${ml.resilience.open-ms:30000}")
+	private long openMs;
+
+	@Value("${ml.resilience.half-open-calls:3}")
+	private int halfOpenCalls;
+
+	@Value("${ml.resilience.initial-limit:10}")
+	private int initialLimit;
+
+	@Value("${ml.resilience.min-limit:2}")
+	private int minLimit;
+
+	@Value("${ml.resilience.max-limit:40}")
+	private int maxLimit;
+
+	@Value("${ml.resilience.backoff-ratio:0.7}")
+	private double backoffRatio;
+
+	private final Map<String, EndpointGuard> endpoints = new ConcurrentHashMap<>();
+
+	private enum Outcome { SUCCESS, FAILURE, IGNORED }
+
+	/**
+	 * 엔드포인트 하나의 회로 상태와 동시 호출 한도
+	 */
+	private class EndpointGuard {
+		private final String name;
+		private State state = State.CLOSED;
+		// 최근 호출 결과 (true = 실패)
+		private final boolean[] window = new boolean[windowSize];
+		private int windowCount;
+		private int windowNext;
+		private int windowFailures;
+		private long openedAt;
+		private int trialsInFlight;
+		private int trialSuccesses;
+		private double limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+		private int inFlight;
+
+		private EndpointGuard(String name) {
+			this.name = name;
+		}
+
+		/**
+		 * @return 시험 호출이면 true
+		 * @throws CallRejectedException 회로가 열려 있거나 한도를 넘은 경우
+		 */
+		synchronized boolean acquire() {
+			if (state == State.OPEN) {
+				if (System.currentTimeMillis() - openedAt < openMs) {
+					throw reject("circuit-open");
+				}
+				state = State.HALF_OPEN;
+				trialsInFlight = 0;
+				trialSuccesses = 0;
+				System.out.println("ML 서비스 회로 시험 호출 시작: " + name);
+			}
+			if (state == State.HALF_OPEN) {
+				if (trialsInFlight >= halfOpenCalls) {
+					throw reject("circuit-half-open");
+				}
+				trialsInFlight++;
+				inFlight++;
+				return true;
+			}
+			if (inFlight >= (int) limit) {
+				throw reject("concurrency-limit");
+			}
+			inFlight++;
+			return false;
+		}
+
+		synchronized void release(boolean trial, Outcome outcome, long elapsedMs) {
+			boolean utilized = inFlight * 2 >= limit;
+			inFlight--;
+			if (outcome == Outcome.IGNORED) {
+				if (trial && state == State.HALF_OPEN) {
+					trialsInFlight--;
+				}
+				return;
+			}
+			boolean failed = outcome == Outcome.FAILURE || elapsedMs > slowCallMs;
+
+			// 동시 호출 한도: 가산 증가 / 곱셈 감소
+			if (failed) {
+				limit = Math.max(minLimit, limit * backoffRatio);
+			} else if (utilized) {
+				limit = Math.min(maxLimit, limit + 1.0 / limit);
+			}
+
+			if (trial) {
+				if (state != State.HALF_OPEN) {
+					return;
+				}
+				if (failed) {
+					open("시험 호출 실패");
+				} else if (++trialSuccesses >= halfOpenCalls) {
+					close();
+				}
+			} else if (state == State.CLOSED) {
+				record(failed);
+			}
+		}
+
+		private void record(boolean failed) {
+			if (windowCount == window.length) {
+				if (window[windowNext]) {
+					windowFailures--;
+				}
+			} else {
+				windowCount++;
+			}
+			window[windowNext] = failed;
+			if (failed) {
+				windowFailures++;
+			}
+			windowNext = (windowNext + 1) % window.length;
+
+			if (windowCount >= minimumCalls && windowFailures * 100 >= failureRateThreshold * windowCount) {
+				open("최근 " + windowCount + "건 중 " + windowFailures + "건 실패");
+			}
+		}
+
+		private void open(String reason) {
+			state = State.OPEN;
+			openedAt = System.currentTimeMillis();
+			System.err.println("ML 서비스 회로 열림: " + name + " (" + reason + "), " + openMs + "ms 동안 호출 차단");
+		}
+
+		private void close() {
+			state = State.CLOSED;
+			windowCount = 0;
+			windowNext = 0;
+			windowFailures = 0;
+			System.out.println("ML 서비스 회로 닫힘: " + name);
+		}
+
+		private CallRejectedException reject(String reason) {
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				registry.counter("ml.calls.rejected", "endpoint", name, "reason", reason).increment();
+			}
+			return new CallRejectedException("ML 서비스 호출 차단 (" + reason + "): " + name);
+		}
+
+		synchronized int stateValue() {
+			return state == State.CLOSED ? 0 : state == State.HALF_OPEN ? 1 : 2;
+		}
+
+		synchronized double limit() {
+			return limit;
+		}
+
+		synchronized int inFlight() {
+			return inFlight;
+		}
+	}
+
+	/**
+	 * ML 서비스 호출을 회로 차단기와 동시 호출 한도 안에서 실행
+	 * @param endpoint ML 서비스 엔드포인트 (예: "/api/reviews/tag")
+	 * @param call 실제 호출
+	 * @throws CallRejectedException 호출하지 않고 거절한 경우
+	 */
+	public <T> T call(String endpoint, Supplier<T> call) {
+		EndpointGuard guard = guardFor(endpoint);
+		boolean trial = guard.acquire();
+		long started = System.nanoTime();
+		Outcome outcome = Outcome.IGNORED;
+		try {
+			T result = call.get();
+			outcome = Outcome.SUCCESS;
+			return result;
+		} catch (RuntimeException e) {
+			outcome = outcomeOf(e);
+			throw e;
+		} finally {
+			guard.release(trial, outcome, (System.nanoTime() - started) / 1_000_000);
+		}
+	}
+
+	/**
+	 * 비동기 ML 호출을 회로 차단기와 동시 호출 한도 안에서 실행 (호출이 끝날 때 한도를 반환)
+	 * @return 거절된 경우 CallRejectedException으로 실패한 future
+	 */
+	public <T> CompletableFuture<T> callAsync(String endpoint, Supplier<CompletableFuture<T>> call) {
+		EndpointGuard guard = guardFor(endpoint);
+		boolean trial;
+		try {
+			trial = guard.acquire();
+		} catch (CallRejectedException e) {
+			return CompletableFuture.failedFuture(e);
+		}
+		long started = System.nanoTime();
+		CompletableFuture<T> future;
+		try {
+			future = call.get();
+		} catch (RuntimeException e) {
+			guard.release(trial, outcomeOf(e), (System.nanoTime() - started) / 1_000_000);
+			return CompletableFuture.failedFuture(e);
+		}
+		return future.whenComplete((result, e) -> guard.release(trial,
+			e == null ? Outcome.SUCCESS : outcomeOf(e), (System.nanoTime() - started) / 1_000_000));
+	}
+
+	private static Outcome outcomeOf(Throwable e) {
+		Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+		// 연결 실패, 타임아웃, 5xx만 ML 서비스 장애로 봄 (4xx는 요청 문제)
+		return cause instanceof ResourceAccessException || cause instanceof HttpServerErrorException
+			? Outcome.FAILURE : Outcome.IGNORED;
+	}
+
+	private EndpointGuard guardFor(String endpoint) {
+		String name = normalize(endpoint);
+		EndpointGuard guard = endpoints.get(name);
+		if (guard != null) {
+			return guard;
+		}
+		if (endpoints.size() >= MAX_ENDPOINTS) {
+			name = OTHER_ENDPOINT;
+		}
+		return endpoints.computeIfAbsent(name, this::createGuard);
+	}
+
+	private EndpointGuard createGuard(String name) {
+		EndpointGuard guard = new EndpointGuard(name);
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			Gauge.builder("ml.circuit.state", guard, EndpointGuard::stateValue)
+				.description("ML 서비스 회로 상태 (0=닫힘, 1=시험 중, 2=열림)").tag("endpoint", name).register(registry);
+			Gauge.builder("ml.concurrency.limit", guard, EndpointGuard::limit)
+				.description("ML 서비스 동시 호출 한도").tag("endpoint", name).register(registry);
+			Gauge.builder("ml.concurrency.inflight", guard, EndpointGuard::inFlight)
+				.description("ML 서비스 진행 중인 호출 수").tag("endpoint", name).register(registry);
+		}
+		return guard;
+	}
+
+	private static String normalize(String endpoint) {
+		if (endpoint == null || endpoint.isBlank()) {
+			return "/";
+		}
+		int query = endpoint.indexOf('?');
+		return query >= 0 ? endpoint.substring(0, query) : endpoint;
+	}
+}
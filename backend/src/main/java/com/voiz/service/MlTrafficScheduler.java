@@ -0,0 +1,323 @@
+package com.voiz.service;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * ML 서비스 호출 우선순위 스케줄러.
+ * 손님 메뉴 번역, OCR, 대시보드 인사이트 같은 대화형(INTERACTIVE) 호출과
+ * 특일 수집, 제안 생성, 리뷰 태깅 같은 일괄(BATCH) 호출이 같은 ML 서비스 작업자를 나눠 쓰므로,
+ * 동시에 보내는 호출 수(max-concurrency)를 나누어 관리합니다.
+ *
+ * - 대화형 호출은 빈 자리가 있으면 항상 먼저 나가고, interactive-reserved 자리는 대화형 전용으로 남겨 둡니다.
+ * - 일괄 호출은 남은 자리 안에서, 초당 batch-rate-per-sec 건(순간 batch-burst 건)까지만 내보냅니다.
+ * - 자리를 기다리는 시간이 상한(대화형 interactive-max-wait-ms, 일괄 batch-max-wait-ms)을 넘으면
+ *   MlServiceGuard.CallRejectedException으로 거절하고 호출 측 기본값으로 대체합니다.
+ *
+ * 일괄 작업은 batch(...)로 감싸 호출하며, 감싸지 않은 호출은 대화형으로 취급합니다.
+ * 대기 시간은 ml.scheduler.wait, 대기/진행 건수는 ml.scheduler.queued / active 메트릭으로 확인할 수 있습니다.
+ */
+@Service
+public class MlTrafficScheduler {
+
+	public enum Priority { INTERACTIVE, BATCH }
+
+	private static final ThreadLocal<Priority> CURRENT = ThreadLocal.withInitial(() -> Priority.INTERACTIVE);
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	@Value("${ml.scheduler.max-concurrency:16}")
+	private int maxConcurrency;
+
+	@Value("${ml.scheduler.interactive-reserved:6}")
+	private int interactiveReserved;
+
+	@Value("${ml.scheduler.batch-rate-per-sec:5}")
+	private double batchRatePerSec;
+
+	@Value("${ml.scheduler.batch-burst:5}")
+	private int batchBurst;
+
+	@Value("${ml.scheduler.interactive-max-wait-ms:3000}")
+	private long interactiveMaxWaitMs;
+
+	@Value("${ml.scheduler.batch-max-wait-ms:300000}")
+	private long batchMaxWaitMs;
+
+	/**
+	 * 호출 자리. 호출이 끝나면 release()로 반환합니다.
+	 */
+	public final class Permit {
+		private final Priority priority;
+		private boolean released;
+
+		private Permit(Priority priority) {
+			this.priority = priority;
+		}
+
+		public void release() {
+			MlTrafficScheduler.this.release(this);
+		}
+	}
+
+	private static class Waiter {
+		private final Priority priority;
+		private final long enqueuedAt = System.nanoTime();
+		private final CompletableFuture<Permit> future = new CompletableFuture<>();
+		private volatile ScheduledFuture<?> expiry;
+
+		private Waiter(Priority priority) {
+			this.priority = priority;
+		}
+	}
+
+	private final Deque<Waiter> interactiveQueue = new ArrayDeque<>();
+	private final Deque<Waiter> batchQueue = new ArrayDeque<>();
+	private int interactiveActive;
+	private int batchActive;
+
+	// 일괄 호출 토큰 버킷
+	private double batchTokens;
+	private long batchTokensAt = System.nanoTime();
+	private boolean pumpScheduled;
+
+	private ScheduledThreadPoolExecutor timer;
+
+	@PostConstruct
+	void init() {
+		batchTokens = batchBurst;
+		timer = new ScheduledThreadPoolExecutor(1, r -> {
+			Thread thread = new Thread(r, "ml-scheduler");
+			thread.setDaemon(true);
+			return thread;
+		});
+		// 배정되어 취소된 대기 시간 초과 작업은 바로 제거
+		timer.setRemoveOnCancelPolicy(true);
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			for (Priority priority : Priority.values()) {
+				String tag = priority.name().toLowerCase();
+				Gauge.builder("ml.scheduler.queued", this, s -> s.queued(priority))
+					.description("ML 호출 자리를 기다리는 건수").tag("priority", tag).register(registry);
+				Gauge.builder("ml.scheduler.active", this, s -> s.active(priority))
+					.description("진행 중인 ML 호출 건수").tag("priority", tag).register(registry);
+			}
+		}
+	}
+
+	@PreDestroy
+	void shutdown() {
+		timer.shutdownNow();
+	}
+
+	/**
+	 * 현재 스레드의 ML 호출을 일괄(BATCH) 우선순위로 실행
+	 */
+	public <T> T batch(Supplier<T> work) {
+		Priority previous = CURRENT.get();
+		CURRENT.set(Priority.BATCH);
+		try {
+			return work.get();
+		} finally {
+			CURRENT.set(previous);
+		}
+	}
+
+	/**
+	 * 현재 스레드의 호출 우선순위 (batch(...) 밖이면 INTERACTIVE)
+	 */
+	public Priority currentPriority() {
+		return CURRENT.get();
+	}
+
+	/**
+	 * 자리를 받을 때까지 기다렸다가 동기 호출을 실행
+	 * @throws MlServiceGuard.CallRejectedException 대기 시간 상한을 넘은 경우
+	 */
+	public <T> T call(Supplier<T> call) {
+		Permit permit;
+		try {
+			permit = acquire(currentPriority()).join();
+		} catch (CompletionException e) {
+			throw e.getCause() instanceof RuntimeException cause ? cause : e;
+		}
+		try {
+			return call.get();
+		} finally {
+			permit.release();
+		}
+	}
+
+	/**
+	 * 자리를 받으면 비동기 호출을 시작하고, 호출이 끝나면 자리를 반환
+	 */
+	public <T> CompletableFuture<T> submit(Priority priority, Supplier<CompletableFuture<T>> call) {
+		return acquire(priority).thenCompose(permit -> {
+			CompletableFuture<T> future;
+			try {
+				future = call.get();
+			} catch (RuntimeException e) {
+				permit.release();
+				return CompletableFuture.failedFuture(e);
+			}
+			return future.whenComplete((result, e) -> permit.release());
+		});
+	}
+
+	/**
+	 * 호출 자리 요청. 대기 시간 상한을 넘으면 CallRejectedException으로 실패합니다.
+	 */
+	public CompletableFuture<Permit> acquire(Priority priority) {
+		Waiter waiter = new Waiter(priority);
+		synchronized (this) {
+			(priority == Priority.INTERACTIVE ? interactiveQueue : batchQueue).addLast(waiter);
+		}
+		pump();
+		if (!waiter.future.isDone()) {
+			long maxWaitMs = priority == Priority.INTERACTIVE ? interactiveMaxWaitMs : batchMaxWaitMs;
+			waiter.expiry = timer.schedule(() -> expire(waiter), maxWaitMs, TimeUnit.MILLISECONDS);
+		}
+		return waiter.future;
+	}
+
+	private void expire(Waiter waiter) {
+		String tag = waiter.priority.name().toLowerCase();
+		boolean expired = waiter.future.completeExceptionally(new MlServiceGuard.CallRejectedException(
+			"ML 서비스 호출 대기 시간 초과 (" + tag + ")"));
+		if (!expired) {
+			return;
+		}
+		synchronized (this) {
+			(waiter.priority == Priority.INTERACTIVE ? interactiveQueue : batchQueue).remove(waiter);
+		}
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			registry.counter("ml.scheduler.rejected", "priority", tag).increment();
+		}
+	}
+
+	private void release(Permit permit) {
+		synchronized (this) {
+			if (permit.released) {
+				return;
+			}
+			permit.released = true;
+			if (permit.priority == Priority.INTERACTIVE) {
+				interactiveActive--;
+			} else {
+				batchActive--;
+			}
+		}
+		pump();
+	}
+
+	/**
+	 * 빈 자리에 대기 중인 호출을 배정 (대화형 먼저, 일괄은 예약 자리와 속도 제한 안에서)
+	 */
+	private void pump() {
+		List<Waiter> granted = new ArrayList<>();
+		synchronized (this) {
+			while (interactiveActive + batchActive < maxConcurrency) {
+				Waiter next = pollLive(interactiveQueue);
+				if (next != null) {
+					interactiveActive++;
+					granted.add(next);
+					continue;
+				}
+				if (batchQueue.isEmpty() || batchActive >= Math.max(1, maxConcurrency - interactiveReserved)) {
+					break;
+				}
+				refillBatchTokens();
+				if (batchTokens < 1) {
+					schedulePump((long) Math.ceil((1 - batchTokens) / batchRatePerSec * 1000));
+					break;
+				}
+				next = pollLive(batchQueue);
+				if (next == null) {
+					break;
+				}
+				batchTokens -= 1;
+				batchActive++;
+				granted.add(next);
+			}
+		}
+
+		for (Waiter waiter : granted) {
+			Permit permit = new Permit(waiter.priority);
+			if (!waiter.future.complete(permit)) {
+				// 배정 직전에 대기 시간이 초과된 경우 자리를 돌려줌
+				release(permit);
+				continue;
+			}
+			ScheduledFuture<?> expiry = waiter.expiry;
+			if (expiry != null) {
+				expiry.cancel(false);
+			}
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				Timer.builder("ml.scheduler.wait")
+					.description("ML 호출 자리를 받기까지 기다린 시간")
+					.tag("priority", waiter.priority.name().toLowerCase())
+					.register(registry)
+					.record(System.nanoTime() - waiter.enqueuedAt, TimeUnit.NANOSECONDS);
+			}
+		}
+	}
+
+	private static Waiter pollLive(Deque<Waiter> queue) {
+		Waiter waiter;
+		while ((waiter = queue.pollFirst()) != null) {
+			if (!waiter.future.isDone()) {
+				return waiter;
+			}
+		}
+		return null;
+	}
+
+	private void refillBatchTokens() {
+		long now = System.nanoTime();
+		batchTokens = Math.min(batchBurst, batchTokens + (now - batchTokensAt) / 1e9 * batchRatePerSec);
+		batchTokensAt = now;
+	}
+
+	private void schedulePump(long delayMs) {
+		if (pumpScheduled) {
+			return;
+		}
+		pumpScheduled = true;
+		timer.schedule(() -> {
+			synchronized (this) {
+				pumpScheduled = false;
+			}
+			pump();
+		}, Math.max(1, delayMs), TimeUnit.MILLISECONDS);
+	}
+
+	private synchronized int queued(Priority priority) {
+		return (priority == Priority.INTERACTIVE ? interactiveQueue : batchQueue).size();
+	}
+
+	private synchronized int active(Priority priority) {
+		return priority == Priority.INTERACTIVE ? interactiveActive : batchActive;
+	}
+}
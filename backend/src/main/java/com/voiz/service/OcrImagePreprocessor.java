@@ -0,0 +1,200 @@
+package com.voiz.service;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageInputStream;
+import javax.imageio.stream.MemoryCacheImageOutputStream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.Resource;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * OCR 업로드 전처리.
+ * 휴대폰으로 찍은 메뉴판 사진(긴 변 4000px 안팎, 3~10MB)을 ML 서비스로 보내기 전에
+ * 긴 변을 ocr.preprocess.max-edge 픽셀 이하로 줄이고 흑백으로 바꿔 JPEG로 다시 인코딩합니다.
+ * 문서 인식(Vision document_text_detection)은 이 해상도면 메뉴판 글자를 충분히 읽으므로
+ * 전송 크기와 ML 서비스의 업로드 / 인식 시간이 함께 줄어듭니다.
+ *
+ * 원본 전체를 디코딩하지 않고 ImageReader 부분 샘플링으로 목표 크기에 가깝게 읽어 힙 사용을 줄입니다.
+ * 읽을 수 없는 형식(HEIC 등), 이미 작은 파일, 전처리 결과가 원본보다 큰 경우에는
+ * 원본을 업로드 임시 파일에서 그대로 스트리밍합니다.
+ * EXIF 회전 정보는 재인코딩하면서 빠지지만 Vision은 글자 방향을 스스로 판별합니다.
+ */
+@Service
+public class OcrImagePreprocessor {
+
+	@Value("${ocr.preprocess.enabled:true}")
+	private boolean enabled;
+
+	@Value("${ocr.preprocess.max-edge:1600}")
+	private int maxEdge;
+
+	@Value("${ocr.preprocess.grayscale:true}")
+	private boolean grayscale;
+
+	@Value("${ocr.preprocess.jpeg-quality:0.85}")
+	private float jpegQuality;
+
+	// 이보다 작은 파일은 전처리해도 얻는 것이 적으므로 그대로 전송
+	@Value("${ocr.preprocess.min-bytes:524288}")
+	private long minBytes;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	/**
+	 * ML 서비스로 보낼 multipart 파트 생성 (전처리한 JPEG, 또는 원본 스트림)
+	 * @param image 업로드된 메뉴판 사진 (전송할 때마다 스트림을 새로 열 수 있어야 함)
+	 * @param originalContentType 업로드 당시의 Content-Type
+	 * @return "file" 파트 (Content-Type 포함)
+	 */
+	public HttpEntity<Resource> preparePart(Resource image, String originalContentType) {
+		long size = sizeOf(image);
+		Resource resource = image;
+		// 파일명 확장자로 추측하지 않고 업로드 당시의 Content-Type을 그대로 전달
+		MediaType contentType = originalContentType != null
+			? MediaType.parseMediaType(originalContentType) : MediaType.APPLICATION_OCTET_STREAM;
+
+		if (enabled && size >= minBytes) {
+			byte[] processed = preprocess(image, size);
+			if (processed != null) {
+				String filename = StringUtils.stripFilenameExtension(
+					image.getFilename() != null ? image.getFilename() : "menu") + ".jpg";
+				resource = new ByteArrayResource(processed) {
+					@Override
+					public String getFilename() {
+						return filename;
+					}
+				};
+				contentType = MediaType.IMAGE_JPEG;
+			}
+		}
+
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null && size >= 0) {
+			DistributionSummary.builder("ocr.upload.bytes").tag("stage", "received").baseUnit("bytes")
+				.register(registry).record(size);
+			DistributionSummary.builder("ocr.upload.bytes").tag("stage", "sent").baseUnit("bytes")
+				.register(registry).record(resource == image ? size : sizeOf(resource));
+		}
+
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(contentType);
+		return new HttpEntity<>(resource, headers);
+	}
+
+	/**
+	 * 축소 + 흑백 + JPEG 재인코딩
+	 * @return 전처리 결과, 처리할 수 없거나 원본보다 크면 null
+	 */
+	private byte[] preprocess(Resource image, long size) {
+		long started = System.nanoTime();
+		try (InputStream in = image.getInputStream();
+				ImageInputStream input = ImageIO.createImageInputStream(in)) {
+			Iterator<ImageReader> readers = input != null ? ImageIO.getImageReaders(input) : null;
+			if (readers == null || !readers.hasNext()) {
+				return null;
+			}
+
+			ImageReader reader = readers.next();
+			int width;
+			int height;
+			BufferedImage decoded;
+			try {
+				reader.setInput(input, true, true);
+				width = reader.getWidth(0);
+				height = reader.getHeight(0);
+				// 목표보다 작아지지 않는 정수 배로 건너뛰며 디코딩 (예: 4032px -> 2016px로 읽은 뒤 1600px로 축소)
+				int step = Math.max(1, Math.max(width, height) / maxEdge);
+				ImageReadParam param = reader.getDefaultReadParam();
+				param.setSourceSubsampling(step, step, 0, 0);
+				decoded = reader.read(0, param);
+			} finally {
+				reader.dispose();
+			}
+
+			double scale = Math.min(1.0, (double) maxEdge / Math.max(decoded.getWidth(), decoded.getHeight()));
+			int targetWidth = Math.max(1, (int) Math.round(decoded.getWidth() * scale));
+			int targetHeight = Math.max(1, (int) Math.round(decoded.getHeight() * scale));
+
+			BufferedImage target = new BufferedImage(targetWidth, targetHeight,
+				grayscale ? BufferedImage.TYPE_BYTE_GRAY : BufferedImage.TYPE_INT_RGB);
+			Graphics2D graphics = target.createGraphics();
+			try {
+				graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+				// 투명 PNG는 흰 배경 위에 그림 (검은 배경이 되면 글자가 묻힘)
+				graphics.setColor(Color.WHITE);
+				graphics.fillRect(0, 0, targetWidth, targetHeight);
+				graphics.drawImage(decoded, 0, 0, targetWidth, targetHeight, null);
+			} finally {
+				graphics.dispose();
+			}
+
+			byte[] encoded = encodeJpeg(target);
+			long elapsed = System.nanoTime() - started;
+			MeterRegistry registry = meterRegistry.getIfAvailable();
+			if (registry != null) {
+				Timer.builder("ocr.preprocess").register(registry).record(elapsed, TimeUnit.NANOSECONDS);
+			}
+			System.out.printf("OCR 이미지 전처리: %dx%d %dKB -> %dx%d %dKB (%dms)%n",
+				width, height, size / 1024, targetWidth, targetHeight, encoded.length / 1024,
+				TimeUnit.NANOSECONDS.toMillis(elapsed));
+
+			return encoded.length < size ? encoded : null;
+		} catch (IOException | RuntimeException e) {
+			System.err.println("OCR 이미지 전처리 실패, 원본 전송: " + e.getMessage());
+			return null;
+		}
+	}
+
+	private static long sizeOf(Resource resource) {
+		try {
+			return resource.contentLength();
+		} catch (IOException e) {
+			// 크기를 알 수 없으면 전처리하지 않고 그대로 전송
+			return -1;
+		}
+	}
+
+	private byte[] encodeJpeg(BufferedImage image) throws IOException {
+		ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+		ByteArrayOutputStream out = new ByteArrayOutputStream(256 * 1024);
+		try (MemoryCacheImageOutputStream output = new MemoryCacheImageOutputStream(out)) {
+			writer.setOutput(output);
+			ImageWriteParam param = writer.getDefaultWriteParam();
+			param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+			param.setCompressionQuality(jpegQuality);
+			writer.write(null, new IIOImage(image, null, null), param);
+		} finally {
+			writer.dispose();
+		}
+		return out.toByteArray();
+	}
+}
@@ -0,0 +1,435 @@
+package com.voiz.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 메뉴판 OCR (즉시 응답 / 작업 모드) + 결과 캐시.
+ * 작업 모드는 업로드를 작업용 임시 파일로 옮긴 뒤 작업 번호를 바로 돌려주고,
+ * 고정 크기 작업 풀(ocr.jobs.workers, 대기열 ocr.jobs.queue-capacity)에서 ML 서비스를 호출합니다.
+ * 결과는 작업 조회(폴링) 또는 SSE 구독으로 받습니다. 대기열이 가득 차면 IllegalStateException으로 거절합니다.
+ *
+ * 결과는 이미지 바이트의 SHA-256으로 캐시하므로, 네트워크 문제로 같은 사진을 다시 올리면
+ * ML 서비스를 부르지 않고 바로 완료됩니다. 같은 사진을 인식 중이면 그 ML 호출(Recognition)을 함께 기다리되,
+ * 작업 번호는 요청마다 따로 발급하므로 다른 요청의 작업 번호가 노출되지 않습니다.
+ * 끝난 작업은 ocr.jobs.retention-ms 동안 조회할 수 있습니다.
+ */
+@Service
+public class OcrService {
+
+	public enum Status { QUEUED, RUNNING, DONE, FAILED }
+
+	/**
+	 * OCR 작업 상태 (결과는 ML 서비스 응답 JSON 문자열)
+	 */
+	public static class OcrJob {
+		private final String id = UUID.randomUUID().toString();
+		private final long createdAt = System.currentTimeMillis();
+		private volatile Status status = Status.QUEUED;
+		private volatile boolean cached;
+		private volatile String result;
+		private volatile String error;
+		private volatile long finishedAt;
+		// 결과를 기다리는 SSE 구독자 (job 잠금 안에서만 접근)
+		private final List<SseEmitter> emitters = new ArrayList<>();
+
+		public String getId() {
+			return id;
+		}
+
+		public Status getStatus() {
+			return status;
+		}
+
+		public boolean isFinished() {
+			return status == Status.DONE || status == Status.FAILED;
+		}
+	}
+
+	/**
+	 * 사진 한 장의 ML 인식 (같은 사진을 올린 작업들이 함께 기다림)
+	 */
+	private static class Recognition {
+		private final String imageHash;
+		// 결과를 기다리는 작업과 현재 상태 (recognition 잠금 안에서만 접근)
+		private final List<OcrJob> jobs = new ArrayList<>();
+		private Status status = Status.QUEUED;
+		private boolean finished;
+
+		Recognition(String imageHash) {
+			this.imageHash = imageHash;
+		}
+	}
+
+	private static class CachedResult {
+		private final String result;
+		private final long storedAt = System.currentTimeMillis();
+
+		CachedResult(String result) {
+			this.result = result;
+		}
+	}
+
+	@Autowired
+	private FastApiClient fastApiClient;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Autowired
+	private ObjectProvider<MeterRegistry> meterRegistry;
+
+	@Value("${ocr.jobs.workers:4}")
+	private int workers;
+
+	@Value("${ocr.jobs.queue-capacity:50}")
+	private int queueCapacity;
+
+	@Value("${ocr.jobs.retention-ms:600000}")
+	private long retentionMs;
+
+	@Value("${ocr.jobs.sse-timeout-ms:120000}")
+	private long sseTimeoutMs;
+
+	@Value("${ocr.cache.max-entries:500}")
+	private int cacheMaxEntries;
+
+	@Value("${ocr.cache.ttl-ms:86400000}")
+	private long cacheTtlMs;
+
+	private ThreadPoolExecutor executor;
+
+	private final Map<String, OcrJob> jobs = new ConcurrentHashMap<>();
+	// 이미지 해시 -> 진행 중인 인식
+	private final Map<String, Recognition> inFlight = new ConcurrentHashMap<>();
+	// 이미지 해시 -> OCR 결과
+	private final Map<String, CachedResult> cache = new ConcurrentHashMap<>();
+
+	@PostConstruct
+	void init() {
+		executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+			new ArrayBlockingQueue<>(queueCapacity), r -> {
+				Thread thread = new Thread(r, "ocr-job");
+				thread.setDaemon(true);
+				return thread;
+			});
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 즉시 응답 모드: 캐시에 있으면 바로, 없으면 ML 서비스를 호출해 결과를 반환
+	 * @param file 메뉴판 사진
+	 * @return ML 서비스 응답 JSON
+	 */
+	public String recognize(MultipartFile file) throws IOException {
+		String hash;
+		try (InputStream in = file.getInputStream()) {
+			hash = sha256(in);
+		}
+		String cached = cachedResult(hash);
+		if (cached != null) {
+			return cached;
+		}
+		String result = fastApiClient.requestOcr(file).getBody();
+		putCache(hash, result);
+		return result;
+	}
+
+	/**
+	 * 작업 모드: 업로드를 작업용 임시 파일로 옮기고 작업을 등록
+	 * @param file 메뉴판 사진
+	 * @return 이 요청의 작업 (캐시에 있으면 이미 완료된 작업, 같은 사진을 인식 중이면 그 인식 결과를 함께 받는 작업)
+	 * @throws IllegalStateException 작업 대기열이 가득 찬 경우
+	 */
+	public OcrJob submit(MultipartFile file) throws IOException {
+		// 요청이 끝나면 multipart 임시 파일이 지워지므로 작업용 사본으로 옮김 (같은 디스크면 이름만 바뀜)
+		Path image = Files.createTempFile("voyz-ocr-", extension(file.getOriginalFilename()));
+		boolean handedOff = false;
+		try {
+			file.transferTo(image.toFile());
+			String hash;
+			try (InputStream in = Files.newInputStream(image)) {
+				hash = sha256(in);
+			}
+
+			OcrJob job = new OcrJob();
+			while (true) {
+				String cached = cachedResult(hash);
+				if (cached != null) {
+					job.cached = true;
+					job.result = cached;
+					job.status = Status.DONE;
+					job.finishedAt = System.currentTimeMillis();
+					jobs.put(job.id, job);
+					return job;
+				}
+
+				Recognition created = new Recognition(hash);
+				Recognition running = inFlight.putIfAbsent(hash, created);
+				if (running != null) {
+					// 같은 사진을 인식 중이면 그 결과를 함께 받음 (그 사이 끝났으면 캐시부터 다시 확인)
+					if (join(running, job)) {
+						return job;
+					}
+					continue;
+				}
+				join(created, job);
+				try {
+					String contentType = file.getContentType();
+					executor.execute(() -> run(created, image, contentType));
+					handedOff = true;
+				} catch (RejectedExecutionException e) {
+					inFlight.remove(hash, created);
+					jobs.remove(job.id);
+					broadcast(created, Status.FAILED, null, "OCR 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+					throw new IllegalStateException("OCR 요청이 많아 처리할 수 없습니다. 잠시 후 다시 시도해 주세요.");
+				}
+				return job;
+			}
+		} finally {
+			if (!handedOff) {
+				Files.deleteIfExists(image);
+			}
+		}
+	}
+
+	/**
+	 * 작업 조회
+	 * @throws IllegalArgumentException 작업이 없거나 보관 기간이 지난 경우
+	 */
+	public OcrJob getJob(String jobId) {
+		OcrJob job = jobs.get(jobId);
+		if (job == null) {
+			throw new IllegalArgumentException("OCR 작업을 찾을 수 없습니다: " + jobId);
+		}
+		return job;
+	}
+
+	/**
+	 * 작업 상태 구독 (SSE). 현재 상태를 먼저 보내고, 끝나면 최종 상태를 보낸 뒤 연결을 닫음
+	 * @throws IllegalArgumentException 작업이 없거나 보관 기간이 지난 경우
+	 */
+	public SseEmitter subscribe(String jobId) {
+		OcrJob job = getJob(jobId);
+		SseEmitter emitter = new SseEmitter(sseTimeoutMs);
+		synchronized (job) {
+			if (!job.isFinished()) {
+				job.emitters.add(emitter);
+				Runnable remove = () -> {
+					synchronized (job) {
+						job.emitters.remove(emitter);
+					}
+				};
+				emitter.onCompletion(remove);
+				emitter.onTimeout(remove);
+				emitter.onError(e -> remove.run());
+				send(emitter, job, false);
+				return emitter;
+			}
+		}
+		send(emitter, job, true);
+		return emitter;
+	}
+
+	/**
+	 * 작업 응답 본문 (결과 JSON은 문자열이 아닌 객체로 포함)
+	 */
+	public Map<String, Object> view(OcrJob job) {
+		Map<String, Object> view = new LinkedHashMap<>();
+		view.put("jobId", job.id);
+		view.put("status", job.status);
+		view.put("cached", job.cached);
+		view.put("createdAt", job.createdAt);
+		if (job.finishedAt > 0) {
+			view.put("finishedAt", job.finishedAt);
+		}
+		if (job.result != null) {
+			try {
+				view.put("result", objectMapper.readTree(job.result));
+			} catch (IOException e) {
+				view.put("result", job.result);
+			}
+		}
+		if (job.error != null) {
+			view.put("error", job.error);
+		}
+		return view;
+	}
+
+	/**
+	 * 작업을 인식에 연결 (이미 끝난 인식이면 false)
+	 */
+	private boolean join(Recognition recognition, OcrJob job) {
+		synchronized (recognition) {
+			if (recognition.finished) {
+				return false;
+			}
+			job.status = recognition.status;
+			recognition.jobs.add(job);
+		}
+		jobs.put(job.id, job);
+		return true;
+	}
+
+	private void run(Recognition recognition, Path image, String contentType) {
+		broadcast(recognition, Status.RUNNING, null, null);
+		try {
+			FileSystemResource resource = new FileSystemResource(image);
+			String result = fastApiClient.requestOcr(resource, contentType).getBody();
+			putCache(recognition.imageHash, result);
+			broadcast(recognition, Status.DONE, result, null);
+		} catch (Exception e) {
+			System.err.println("OCR 인식 실패 (" + recognition.imageHash + "): " + e.getMessage());
+			broadcast(recognition, Status.FAILED, null, "메뉴판 인식에 실패했습니다: " + e.getMessage());
+		} finally {
+			inFlight.remove(recognition.imageHash, recognition);
+			try {
+				Files.deleteIfExists(image);
+			} catch (IOException e) {
+				System.err.println("OCR 임시 파일 삭제 실패: " + image);
+			}
+		}
+	}
+
+	/**
+	 * 인식 상태를 연결된 모든 작업에 알림 (끝난 상태면 이후 연결을 받지 않음)
+	 */
+	private void broadcast(Recognition recognition, Status status, String result, String error) {
+		List<OcrJob> waiting;
+		synchronized (recognition) {
+			recognition.status = status;
+			if (status == Status.DONE || status == Status.FAILED) {
+				recognition.finished = true;
+			}
+			waiting = new ArrayList<>(recognition.jobs);
+		}
+		for (OcrJob job : waiting) {
+			update(job, status, result, error);
+		}
+	}
+
+	private void update(OcrJob job, Status status, String result, String error) {
+		List<SseEmitter> listeners;
+		synchronized (job) {
+			job.result = result;
+			job.error = error;
+			job.status = status;
+			if (job.isFinished()) {
+				job.finishedAt = System.currentTimeMillis();
+			}
+			listeners = new ArrayList<>(job.emitters);
+			if (job.isFinished()) {
+				job.emitters.clear();
+			}
+		}
+		for (SseEmitter emitter : listeners) {
+			send(emitter, job, job.isFinished());
+		}
+	}
+
+	private void send(SseEmitter emitter, OcrJob job, boolean complete) {
+		try {
+			emitter.send(SseEmitter.event().name("status").data(view(job)));
+			if (complete) {
+				emitter.complete();
+			}
+		} catch (IOException | IllegalStateException e) {
+			// 구독자가 연결을 끊은 경우
+			emitter.completeWithError(e);
+		}
+	}
+
+	private String cachedResult(String hash) {
+		CachedResult cached = cache.get(hash);
+		boolean hit = cached != null && System.currentTimeMillis() - cached.storedAt < cacheTtlMs;
+		MeterRegistry registry = meterRegistry.getIfAvailable();
+		if (registry != null) {
+			registry.counter("ocr.cache", "result", hit ? "hit" : "miss").increment();
+		}
+		return hit ? cached.result : null;
+	}
+
+	private void putCache(String hash, String result) {
+		if (result == null) {
+			return;
+		}
+		cache.put(hash, new CachedResult(result));
+		if (cache.size() > cacheMaxEntries) {
+			// 가장 오래된 항목부터 제거
+			cache.entrySet().stream()
+				.min(Comparator.comparingLong((Map.Entry<String, CachedResult> e) -> e.getValue().storedAt))
+				.ifPresent(oldest -> cache.remove(oldest.getKey(), oldest.getValue()));
+		}
+	}
+
+	/**
+	 * 보관 기간이 지난 작업과 만료된 캐시 항목 정리
+	 */
+	@Scheduled(fixedDelay = 60000)
+	public void evictExpired() {
+		long now = System.currentTimeMillis();
+		jobs.values().removeIf(job -> job.isFinished() && now - job.finishedAt > retentionMs);
+		cache.values().removeIf(cached -> now - cached.storedAt > cacheTtlMs);
+	}
+
+	// 임시 파일 접미사 (클라이언트 파일명은 영문 소문자/숫자 1~5자 확장자만 사용)
+	private static String extension(String filename) {
+		String extension = StringUtils.getFilenameExtension(filename);
+		if (extension == null) {
+			return ".img";
+		}
+		extension = extension.toLowerCase(Locale.ROOT);
+		return extension.matches("[a-z0-9]{1,5}") ? "." + extension : ".img";
+	}
+
+	private static String sha256(InputStream in) throws IOException {
+		try {
+			MessageDigest digest = MessageDigest.getInstance("SHA-256");
+			try (DigestInputStream digestIn = new DigestInputStream(in, digest)) {
+				digestIn.transferTo(OutputStream.nullOutputStream());
+			}
+			return HexFormat.of().formatHex(digest.digest());
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+}
@@ -4,6 +4,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -36,32 +37,34 @@ public class OrderService {
 	private TablesRepository tablesRepository;
 	
 	@Autowired
-	private FastApiClient fastApiClient;
+	private AsyncFastApiClient asyncFastApiClient;
 	
 	public List<MenusDto> getCustomerMenus(String userId, String language) {
+		return getCustomerMenus(userId, language, "list");
+	}
+	
+	/**
+	 * @param imageSize 메뉴 사진 크기 (thumb, list, detail) - 파생본이 아직 없으면 원본 URL
+	 */
+	public List<MenusDto> getCustomerMenus(String userId, String language, String imageSize) {
 		List<Menus> menus = menusRepository.findAllByUserId(userId);
-		return menus.stream()
+		// 번역 (한국어면 번역 안 함): 메뉴명/설명 번역을 한꺼번에 보내고 모두 끝나면 조립
+		List<CompletableFuture<MenusDto>> translated = menus.stream()
 	            .map(menu -> {
-	                // 번역 (한국어면 번역 안 함)
-	                String translatedName = fastApiClient.requestTranslate(menu.getMenuName(), language);
-	                String translatedDesc = null;
-	                if(menu.getMenuDescription()!=null) {
-	                	translatedDesc = fastApiClient.requestTranslate(menu.getMenuDescription(), language);
-	                }else {
-	                	translatedDesc = menu.getMenuDescription();
-	                }
-//	                String translatedDesc = fastApiClient.requestTranslate(menu.getMenuDescription(), language);
-
-	                return new MenusDto(
+	                CompletableFuture<String> translatedName = asyncFastApiClient.translate(menu.getMenuName(), language);
+	                CompletableFuture<String> translatedDesc = asyncFastApiClient.translate(menu.getMenuDescription(), language);
+
+	                return translatedName.thenCombine(translatedDesc, (name, desc) -> new MenusDto(
 		                	menu.getMenuIdx(),
-		                    translatedName,
+		                    name,
 		                    menu.getMenuPrice(),
-		                    translatedDesc,
-		                    menu.getImageUrl(),
+		                    desc,
+		                    MenuImageService.imageUrlFor(menu, imageSize),
 		                    menu.getCategory()
-		                );
+		                ));
 	            })
 	            .toList();
+		return translated.stream().map(CompletableFuture::join).toList();
 	}
 
 	public Menus getCustomerMenuDetail(int menuIdx, String language) {
@@ -73,8 +76,12 @@ public class OrderService {
 		
 		Menus menu = optionalMenu.get();
 		
-		menu.setMenuName(fastApiClient.requestTranslate(menu.getMenuName(), language));
-		menu.setMenuDescription(fastApiClient.requestTranslate(menu.getMenuDescription(), language));
+		CompletableFuture<String> translatedName = asyncFastApiClient.translate(menu.getMenuName(), language);
+		CompletableFuture<String> translatedDesc = asyncFastApiClient.translate(menu.getMenuDescription(), language);
+		menu.setMenuName(translatedName.join());
+		menu.setMenuDescription(translatedDesc.join());
+		// 상세 화면은 상세 크기 사진 (저장하지 않는 조회용 값)
+		menu.setImageUrl(MenuImageService.imageUrlFor(menu, "detail"));
 		
 		return menu;
 	}
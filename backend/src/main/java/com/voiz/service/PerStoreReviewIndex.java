@@ -0,0 +1,312 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.voiz.mapper.ReviewRepository;
+import com.voiz.vo.Reviews;
+
+/**
+ * 매장별 리뷰 메모리 색인의 공통 부분 (ReviewKeywordIndex, ReviewBitmapIndex, ReviewSearchIndex).
+ * 매장을 처음 조회할 때 DB에서 리뷰를 스트리밍으로 읽어 한 번 구축하고 (동시에 들어온 요청은 구축 완료를 기다림),
+ * 이 서버에서 저장한 리뷰는 add(...)로 바로 반영합니다. 색인 내용은 각 색인의 StoreIndex.apply(...)가 채웁니다.
+ *
+ * DB가 기준입니다. 매장마다 check-interval-ms에 한 번 매장의 리뷰 수 + 최대 리뷰 번호(워터마크)를 DB에서 확인해
+ * 다른 서버에서 저장한 리뷰는 이어서 읽어 반영하고, 삭제 등으로 맞지 않으면 다시 구축합니다.
+ * 그래서 각 색인의 원본 조회는 (색인에 넣지 않는 리뷰까지) 매장의 리뷰 전체를 읽어야 합니다.
+ * 리뷰 수가 변하지 않는 수정(평점 변경 등)은 ReviewChangeListener가 커밋 후 invalidate(...)로 알려 다시 구축합니다.
+ */
+abstract class PerStoreReviewIndex<I extends PerStoreReviewIndex.StoreIndex> {
+
+	// 워터마크가 어긋났을 때 다시 구축하지 않고 이어서 읽을 최대 리뷰 수
+	private static final int CATCH_UP_LIMIT = 1000;
+
+	@Autowired
+	protected ReviewRepository reviewRepository;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@Value("${analytics.review-index.check-interval-ms:5000}")
+	private long checkIntervalMs;
+
+	private final Map<String, I> stores = new ConcurrentHashMap<>();
+
+	/**
+	 * 색인에 넣을 리뷰 한 건 (색인마다 조회하는 컬럼만 채우고 나머지는 null)
+	 */
+	protected record ReviewRow(long reviewIdx, LocalDateTime createdAt, Integer menuIdx, Integer rating,
+			String nationality, String language, String comment) {
+
+		static ReviewRow of(Reviews review) {
+			return new ReviewRow(review.getReviewIdx(), review.getCreatedAt(), review.getMenuIdx(), review.getRating(),
+				review.getNationality(), review.getLanguage(), review.getComment());
+		}
+	}
+
+	/**
+	 * 매장 하나의 색인. 구축 / 증분 반영 / 워터마크 비교는 여기서 하고, 색인 구조는 하위 클래스가 apply(...)로 채움.
+	 * apply(...)와 조회는 모두 이 객체로 동기화합니다.
+	 */
+	protected abstract static class StoreIndex {
+		final CompletableFuture<Void> ready = new CompletableFuture<>();
+		volatile long lastAccess = System.currentTimeMillis();
+		// 마지막으로 DB 워터마크와 맞춰 본 시각
+		volatile long checkedAt;
+		// 색인 구조에 넣을 수 없는 리뷰가 들어온 경우 (다음 조회 때 재구축)
+		volatile boolean stale;
+
+		// DB 워터마크와 비교하는 값 (apply에서 색인에 넣지 않은 리뷰도 셈)
+		private long reviewCount;
+		private long maxReviewIdx;
+
+		// 구축 중에만 사용 (구축이 끝나면 null)
+		private List<ReviewRow> pending = new ArrayList<>();
+		private Set<Long> builtIds = new HashSet<>();
+
+		// 따라잡기 조회 중에 이 서버에서 저장된 리뷰 (조회 결과와 중복 반영하지 않도록)
+		private boolean catchingUp;
+		private final Set<Long> liveIds = new HashSet<>();
+
+		/**
+		 * 리뷰 한 건을 색인에 반영
+		 */
+		protected abstract void apply(ReviewRow row);
+
+		/**
+		 * 색인 구조상 반영할 수 없는 리뷰 (작성 시각 순서를 벗어난 경우 등). 다음 조회 때 다시 구축합니다.
+		 */
+		protected void markStale() {
+			stale = true;
+		}
+
+		synchronized void addFromBuild(ReviewRow row) {
+			builtIds.add(row.reviewIdx());
+			record(row);
+		}
+
+		synchronized void addLive(ReviewRow row) {
+			if (pending != null) {
+				// 구축이 끝난 뒤 중복 여부를 확인하고 반영
+				pending.add(row);
+				return;
+			}
+			// 최대 리뷰 번호 이하는 따라잡기로 이미 반영한 리뷰 (아니면 리뷰 수가 어긋나 다음 조회에서 재구축)
+			if (row.reviewIdx() > maxReviewIdx) {
+				if (catchingUp) {
+					liveIds.add(row.reviewIdx());
+				}
+				record(row);
+			}
+		}
+
+		synchronized void finishBuild() {
+			for (ReviewRow row : pending) {
+				if (!builtIds.contains(row.reviewIdx())) {
+					record(row);
+				}
+			}
+			pending = null;
+			builtIds = null;
+		}
+
+		synchronized long startCatchUp() {
+			catchingUp = true;
+			liveIds.clear();
+			return maxReviewIdx;
+		}
+
+		/**
+		 * 워터마크 이후 DB에 저장된 리뷰를 이어서 반영
+		 * @return 반영 후 워터마크가 DB와 같으면 true
+		 */
+		synchronized boolean catchUp(List<ReviewRow> rows, long afterReviewIdx, long dbCount, long dbMaxReviewIdx) {
+			for (ReviewRow row : rows) {
+				if (row.reviewIdx() > afterReviewIdx && !liveIds.contains(row.reviewIdx())) {
+					record(row);
+				}
+			}
+			catchingUp = false;
+			liveIds.clear();
+			return !stale && matches(dbCount, dbMaxReviewIdx);
+		}
+
+		synchronized boolean matches(long dbCount, long dbMaxReviewIdx) {
+			return reviewCount == dbCount && maxReviewIdx == dbMaxReviewIdx;
+		}
+
+		synchronized long reviewCount() {
+			return reviewCount;
+		}
+
+		private void record(ReviewRow row) {
+			reviewCount++;
+			maxReviewIdx = Math.max(maxReviewIdx, row.reviewIdx());
+			apply(row);
+		}
+	}
+
+	protected abstract I newIndex();
+
+	/**
+	 * 색인 구축용 매장 전체 리뷰 (트랜잭션 안에서 호출됨)
+	 */
+	protected abstract Stream<ReviewRow> streamSource(String userId);
+
+	/**
+	 * 따라잡기용: afterReviewIdx 이후 저장된 리뷰 (streamSource와 같은 순서)
+	 */
+	protected abstract List<ReviewRow> findSourceAfter(String userId, long afterReviewIdx, Limit limit);
+
+	/**
+	 * 동시에 유지할 최대 매장 수 (오래 조회되지 않은 매장부터 제거)
+	 */
+	protected abstract int maxStores();
+
+	/**
+	 * 로그에 쓰는 색인 이름
+	 */
+	protected abstract String name();
+
+	/**
+	 * 저장된 리뷰를 색인에 반영 (색인이 아직 없는 매장은 다음 조회 때 DB에서 구축하므로 무시)
+	 */
+	public void add(Reviews review) {
+		if (review == null || review.getUserId() == null || review.getReviewIdx() == null) {
+			return;
+		}
+		I index = stores.get(review.getUserId());
+		if (index != null) {
+			index.addLive(ReviewRow.of(review));
+		}
+	}
+
+	/**
+	 * 매장 색인을 버림 (다음 조회 때 DB에서 다시 구축). 저장된 리뷰가 수정 / 삭제된 경우 사용
+	 */
+	public void invalidate(String userId) {
+		if (userId != null) {
+			stores.remove(userId);
+		}
+	}
+
+	/**
+	 * 매장 색인을 가져오고, 없으면 현재 스레드에서 구축 (동시에 들어온 요청은 구축 완료를 기다림)
+	 * 워터마크 확인 주기가 지났으면 DB와 비교해 이후 리뷰를 이어서 읽고, 그래도 맞지 않으면 다시 구축
+	 */
+	protected I load(String userId) {
+		I cached = stores.get(userId);
+		if (cached != null && cached.ready.isDone() && !cached.ready.isCompletedExceptionally() && !cached.stale
+				&& System.currentTimeMillis() - cached.checkedAt < checkIntervalMs) {
+			// 최근에 워터마크를 확인한 색인은 DB를 조회하지 않고 사용
+			cached.lastAccess = System.currentTimeMillis();
+			return cached;
+		}
+		long checked = System.currentTimeMillis();
+		List<Object[]> watermark = reviewRepository.findReviewIndexWatermark(userId);
+		Object[] row = watermark.isEmpty() ? new Object[] {0L, null} : watermark.get(0);
+		long dbCount = row[0] != null ? ((Number) row[0]).longValue() : 0L;
+		long dbMaxReviewIdx = row[1] != null ? ((Number) row[1]).longValue() : 0L;
+		while (true) {
+			I index = stores.get(userId);
+			boolean built = false;
+			if (index == null) {
+				I created = newIndex();
+				index = stores.putIfAbsent(userId, created);
+				if (index == null) {
+					index = created;
+					build(userId, created);
+					evictIfNeeded();
+					built = true;
+				}
+			}
+			index.ready.join();
+			// 이 요청이 방금 구축한 색인은 그대로 사용 (구축 중에 저장된 리뷰는 다음 조회에서 이어서 반영)
+			if (built || isCurrent(userId, index, dbCount, dbMaxReviewIdx)) {
+				if (!built) {
+					index.checkedAt = checked;
+				}
+				index.lastAccess = System.currentTimeMillis();
+				return index;
+			}
+			// 반영할 수 없는 리뷰가 있었거나 DB와 맞지 않으면(삭제 / 직접 변경) 버리고 다시 구축
+			stores.remove(userId, index);
+		}
+	}
+
+	private boolean isCurrent(String userId, I index, long dbCount, long dbMaxReviewIdx) {
+		if (index.stale) {
+			return false;
+		}
+		return index.matches(dbCount, dbMaxReviewIdx) || catchUp(userId, index, dbCount, dbMaxReviewIdx);
+	}
+
+	private boolean catchUp(String userId, I index, long dbCount, long dbMaxReviewIdx) {
+		if (index.reviewCount() > dbCount) {
+			// 삭제된 리뷰가 있음 (또는 워터마크를 읽은 뒤 이 서버에 저장된 리뷰, 드물어서 재구축)
+			return false;
+		}
+		long afterReviewIdx = index.startCatchUp();
+		if (dbMaxReviewIdx <= afterReviewIdx) {
+			index.catchUp(List.of(), afterReviewIdx, dbCount, dbMaxReviewIdx);
+			return false;
+		}
+		List<ReviewRow> rows = findSourceAfter(userId, afterReviewIdx, Limit.of(CATCH_UP_LIMIT));
+		boolean current = index.catchUp(rows.size() < CATCH_UP_LIMIT ? rows : List.of(), afterReviewIdx, dbCount, dbMaxReviewIdx);
+		return rows.size() < CATCH_UP_LIMIT && current;
+	}
+
+	private void build(String userId, I index) {
+		long started = System.currentTimeMillis();
+		try {
+			TransactionTemplate tx = new TransactionTemplate(transactionManager);
+			tx.setReadOnly(true);
+			tx.executeWithoutResult(status -> {
+				try (Stream<ReviewRow> rows = streamSource(userId)) {
+					rows.forEach(index::addFromBuild);
+				}
+			});
+			index.finishBuild();
+			index.checkedAt = started;
+			index.ready.complete(null);
+			System.out.println(name() + " 구축 완료: " + userId + " (" + index.reviewCount() + "건, "
+				+ (System.currentTimeMillis() - started) + "ms)");
+		} catch (RuntimeException e) {
+			// 실패한 색인은 제거하여 다음 요청에서 다시 구축
+			stores.remove(userId, index);
+			index.ready.completeExceptionally(e);
+			throw e;
+		}
+	}
+
+	private void evictIfNeeded() {
+		while (stores.size() > maxStores()) {
+			// 가장 오래 조회되지 않은 매장부터 제거 (다시 조회하면 DB에서 재구축)
+			var oldest = stores.entrySet().stream()
+				.filter(e -> e.getValue().ready.isDone())
+				.min(Comparator.comparingLong((Map.Entry<String, I> e) -> e.getValue().lastAccess));
+			if (oldest.isEmpty()) {
+				return;
+			}
+			stores.remove(oldest.get().getKey(), oldest.get().getValue());
+		}
+	}
+
+	protected static Integer toInteger(Object value) {
+		return value != null ? ((Number) value).intValue() : null;
+	}
+}
@@ -3,14 +3,36 @@ package com.voiz.service;
 import java.awt.image.BufferedImage;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CRC32;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
 
 import javax.imageio.ImageIO;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.google.zxing.BarcodeFormat;
 import com.google.zxing.EncodeHintType;
@@ -21,83 +43,323 @@ import com.google.zxing.qrcode.QRCodeWriter;
 import com.google.zxing.qrcode.decoder.ErrorCorrectionLevel;
 import com.voiz.mapper.TablesRepository;
 import com.voiz.mapper.UsersRepository;
+import com.voiz.util.QrSheetPdfWriter;
 import com.voiz.vo.Tables;
 import com.voiz.vo.Users;
 
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
 @Service
 public class QrService {
-	
+
 	private static final int DEFAULT_WIDTH = 300;
     private static final int DEFAULT_HEIGHT = 300;
     private static final String BASE_URL = "http://13.125.251.36:8081";
-    
+    private static final int MIN_SIZE = 100;
+    private static final int MAX_SIZE = 2000;
+
     @Autowired
     private TablesRepository tablesRepository;
-    
+
     @Autowired
     private UsersRepository usersRepository;
-    
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${qr.cache.max-entries:500}")
+    private int cacheMaxEntries;
+
+    @Value("${qr.render.workers:4}")
+    private int renderWorkers;
+
+    /**
+     * 렌더링한 QR PNG와 ETag (PNG 내용 SHA-256 앞 32자)
+     */
+    public record QrImage(byte[] png, String etag) {
+    }
+
+    /**
+     * 일괄 인쇄 파일 형식 - ZIP(테이블별 PNG), PDF(A4 한 쪽에 6개)
+     */
+    public enum SheetFormat {
+        ZIP("application/zip", "zip"),
+        PDF("application/pdf", "pdf");
+
+        private final String contentType;
+        private final String extension;
+
+        SheetFormat(String contentType, String extension) {
+            this.contentType = contentType;
+            this.extension = extension;
+        }
+
+        public String getContentType() {
+            return contentType;
+        }
+
+        public String getExtension() {
+            return extension;
+        }
+
+        public static SheetFormat from(String value) {
+            return "zip".equalsIgnoreCase(value) ? ZIP : PDF;
+        }
+    }
+
+    /**
+     * 내려받기 전에 확인을 마친 일괄 인쇄 요청 (스트리밍을 시작한 뒤에는 오류 응답을 보낼 수 없으므로)
+     */
+    public record QrSheet(String userId, List<Tables> tables, SheetFormat format, int size) {
+    }
+
+    // 내용(URL + 크기 + 오류 정정 수준) 기준 PNG 캐시, 가장 오래 쓰이지 않은 항목부터 제거
+    private Map<String, QrImage> pngCache;
+    private ThreadPoolExecutor renderExecutor;
+
+    @PostConstruct
+    void init() {
+        pngCache = Collections.synchronizedMap(new LinkedHashMap<>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, QrImage> eldest) {
+                return size() > cacheMaxEntries;
+            }
+        });
+        // 대기열이 차면 요청 스레드가 직접 렌더링 (일괄 요청이 여러 개 겹쳐도 거절하지 않음)
+        renderExecutor = new ThreadPoolExecutor(renderWorkers, renderWorkers, 0L, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(renderWorkers * 4), r -> {
+                Thread thread = new Thread(r, "qr-render");
+                thread.setDaemon(true);
+                return thread;
+            }, new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        renderExecutor.shutdownNow();
+    }
+
+    @Transactional
     public void generateQRUrl(String userId, int number) {
-    	
+
     	Optional<Users> optionalUser = usersRepository.findByUserId(userId);
 
         if (optionalUser.isEmpty()) {
             throw new RuntimeException("해당 아이디가 존재하지 않습니다.");
         }
-        
+
         // 1. 기존 테이블 중 가장 큰 tableNumber 가져오기
         Integer maxTableNumber = tablesRepository.findMaxTableNumberByUserId(userId);
         if (maxTableNumber == null) {
             maxTableNumber = 0;
         }
-        
+
+        // 2. 한 번에 저장 (ID는 시퀀스에서 한 번의 조회로 받아 넣고, hibernate.jdbc.batch_size 단위로 INSERT 배치 전송)
+        if (number <= 0) {
+            return;
+        }
+        List<Number> tableIdxs = tablesRepository.nextTableIdxs(number);
+        List<Tables> tables = new ArrayList<>(number);
     	for(int i=1; i<=number; i++) {
     		int newTableNumber = maxTableNumber + i;
 
             Tables table = new Tables();
+            table.setTableIdx(tableIdxs.get(i - 1).intValue());
             table.setUserId(userId);
             table.setTableNumber(newTableNumber);
             table.setQrCode(BASE_URL + "/?userId=" + userId + "&table=" + newTableNumber);
 
-            tablesRepository.save(table);
+            tables.add(table);
     	}
+        // ID를 미리 넣었으므로 saveAll(merge) 대신 persist로 저장 (AssignedOrSequenceGenerator가 그 ID를 사용)
+        for (Tables table : tables) {
+            entityManager.persist(table);
+        }
     }
-    
+
 	public byte[] generateQRCode(int tableIdx) throws WriterException, IOException {
+		return getTableQr(tableIdx, DEFAULT_WIDTH, ErrorCorrectionLevel.M.name()).png();
+	}
+
+    /**
+     * 테이블 QR 코드 PNG (캐시에 있으면 다시 만들지 않음)
+     * @param size 한 변 픽셀 수 (100 ~ 2000)
+     * @param ecLevel 오류 정정 수준 L / M / Q / H
+     * @throws IllegalArgumentException 크기 또는 오류 정정 수준이 잘못됨
+     */
+    public QrImage getTableQr(int tableIdx, int size, String ecLevel) throws WriterException, IOException {
+        ErrorCorrectionLevel level = parseLevel(ecLevel);
+        validateSize(size);
+
 		Optional<Tables> optionalTable = tablesRepository.findById(tableIdx);
-		
+
 		if (optionalTable.isEmpty()) {
             throw new RuntimeException("해당 테이블이 존재하지 않습니다.");
         }
-		
-		Tables table = optionalTable.get();
-		String text = table.getQrCode();
-		
-		return generateQRCode(text, DEFAULT_WIDTH, DEFAULT_HEIGHT);
-	}
-	
+
+		return renderPng(optionalTable.get().getQrCode(), size, level);
+    }
+
+    /**
+     * 매장의 테이블 QR 코드 일괄 인쇄 요청 확인
+     * @throws IllegalArgumentException 크기가 잘못됨
+     */
+    public QrSheet prepareSheet(String userId, SheetFormat format, int size) {
+        validateSize(size);
+        if (usersRepository.findByUserId(userId).isEmpty()) {
+            throw new RuntimeException("해당 아이디가 존재하지 않습니다.");
+        }
+        List<Tables> tables = tablesRepository.findByUserIdOrderByTableNumberAsc(userId);
+        if (tables.isEmpty()) {
+            throw new IllegalArgumentException("등록된 테이블이 없습니다.");
+        }
+        return new QrSheet(userId, tables, format, size);
+    }
+
+    /**
+     * 매장의 테이블 QR 코드를 병렬로 렌더링해 테이블 번호 순서대로 스트리밍
+     * - ZIP: 테이블별 PNG (table-{번호}.png, 이미 압축된 PNG라 무압축 저장)
+     * - PDF: A4 한 쪽에 6개, 라벨 "Table {번호}" (QR은 모듈 단위 벡터 품질이므로 size는 쓰지 않음)
+     * 렌더링은 작업 스레드 수의 2배까지만 앞서 나가므로 테이블이 많아도 메모리에는 그만큼만 남습니다.
+     */
+    public void writeSheet(QrSheet sheet, OutputStream out) throws IOException {
+        long started = System.nanoTime();
+        if (sheet.format() == SheetFormat.ZIP) {
+            ZipOutputStream zip = new ZipOutputStream(out);
+            // 한 번만 쓰는 이미지라 단건 조회용 PNG 캐시를 거치지 않음 (캐시가 일괄 인쇄분으로 밀려나지 않도록)
+            renderInOrder(sheet.tables(),
+                table -> toPng(encode(table.getQrCode(), sheet.size(), sheet.size(), ErrorCorrectionLevel.M)),
+                (table, png) -> {
+                    CRC32 crc = new CRC32();
+                    crc.update(png);
+                    ZipEntry entry = new ZipEntry("table-" + table.getTableNumber() + ".png");
+                    entry.setMethod(ZipEntry.STORED);
+                    entry.setSize(png.length);
+                    entry.setCompressedSize(png.length);
+                    entry.setCrc(crc.getValue());
+                    zip.putNextEntry(entry);
+                    zip.write(png);
+                    zip.closeEntry();
+                });
+            zip.finish();
+            zip.flush();
+        } else {
+            // 렌더링에 실패하면 finish()를 부르지 않아 끝이 없는(열리지 않는) 파일로 남김
+            QrSheetPdfWriter pdf = new QrSheetPdfWriter(out);
+            renderInOrder(sheet.tables(),
+                table -> encode(table.getQrCode(), 0, 0, ErrorCorrectionLevel.M),
+                (table, matrix) -> pdf.add(matrix, "Table " + table.getTableNumber()));
+            pdf.finish();
+        }
+        System.out.println("QR 일괄 인쇄 " + sheet.format() + ": " + sheet.userId() + ", 테이블 " + sheet.tables().size()
+            + "개 (" + TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + "ms)");
+    }
+
+    private interface Renderer<T> {
+        T render(Tables table) throws Exception;
+    }
+
+    private interface RenderedWriter<T> {
+        void write(Tables table, T rendered) throws IOException;
+    }
+
+    /**
+     * 작업 풀에서 렌더링하고 결과는 요청 순서대로 씀 (앞서 나간 렌더링 수 제한)
+     */
+    private <T> void renderInOrder(List<Tables> tables, Renderer<T> renderer, RenderedWriter<T> writer) throws IOException {
+        int window = renderWorkers * 2;
+        Deque<Future<T>> inFlight = new ArrayDeque<>(window);
+        int next = 0;
+        try {
+            for (Tables table : tables) {
+                while (inFlight.size() < window && next < tables.size()) {
+                    Tables target = tables.get(next++);
+                    Callable<T> task = () -> renderer.render(target);
+                    inFlight.add(renderExecutor.submit(task));
+                }
+                writer.write(table, inFlight.poll().get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("QR 렌더링이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IOException("QR 렌더링 실패: " + e.getCause().getMessage(), e.getCause());
+        } finally {
+            // 오류나 클라이언트 연결 끊김으로 멈췄을 때 남은 렌더링 취소
+            for (Future<T> future : inFlight) {
+                future.cancel(true);
+            }
+        }
+    }
+
+    private QrImage renderPng(String text, int size, ErrorCorrectionLevel level) throws WriterException, IOException {
+        String key = text + "|" + size + "|" + level;
+        QrImage cached = pngCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        byte[] png = toPng(encode(text, size, size, level));
+        QrImage image = new QrImage(png, "\"" + sha256Hex(png).substring(0, 32) + "\"");
+        pngCache.put(key, image);
+        return image;
+    }
+
+    private static ErrorCorrectionLevel parseLevel(String ecLevel) {
+        try {
+            return ErrorCorrectionLevel.valueOf(ecLevel.trim().toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("오류 정정 수준은 L, M, Q, H 중 하나여야 합니다.");
+        }
+    }
+
+    private static void validateSize(int size) {
+        if (size < MIN_SIZE || size > MAX_SIZE) {
+            throw new IllegalArgumentException("QR 크기는 " + MIN_SIZE + " ~ " + MAX_SIZE + "px 사이여야 합니다.");
+        }
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * QR 코드를 생성하고 바이트 배열로 반환
      */
     public byte[] generateQRCode(String text, int width, int height) throws WriterException, IOException {
+        return toPng(encode(text, width, height, ErrorCorrectionLevel.M));
+    }
+
+    /**
+     * QR 코드 BitMatrix 생성 (너비 / 높이가 0이면 모듈 하나가 1픽셀인 최소 크기)
+     */
+    private BitMatrix encode(String text, int width, int height, ErrorCorrectionLevel level) throws WriterException {
         QRCodeWriter qrCodeWriter = new QRCodeWriter();
-        
+
         // QR 코드 설정
         Map<EncodeHintType, Object> hints = new HashMap<>();
-        hints.put(EncodeHintType.ERROR_CORRECTION, ErrorCorrectionLevel.M);
+        hints.put(EncodeHintType.ERROR_CORRECTION, level);
         hints.put(EncodeHintType.CHARACTER_SET, "UTF-8");
         hints.put(EncodeHintType.MARGIN, 1);
-        
+
         // BitMatrix 생성
-        BitMatrix bitMatrix = qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, width, height, hints);
-        
+        return qrCodeWriter.encode(text, BarcodeFormat.QR_CODE, width, height, hints);
+    }
+
+    private static byte[] toPng(BitMatrix bitMatrix) throws IOException {
         // BufferedImage로 변환
         BufferedImage qrImage = MatrixToImageWriter.toBufferedImage(bitMatrix);
-        
+
         // 바이트 배열로 변환
         ByteArrayOutputStream baos = new ByteArrayOutputStream();
         ImageIO.write(qrImage, "PNG", baos);
-        
+
         return baos.toByteArray();
     }
 }
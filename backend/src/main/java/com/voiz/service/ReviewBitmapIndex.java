@@ -0,0 +1,278 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+/**
+ * 매장별 리뷰 비트맵 색인 (메모리) - 대시보드 리뷰 개수 / 평점 통계용.
+ * 매장의 리뷰에 작성 시각 순서대로 행 번호를 붙이고, 국적 / 평점 / 메뉴마다 해당 행 번호의 비트맵을 둡니다.
+ * 필터 조합은 비트맵 AND/OR 연산으로 풀리므로 통계를 GROUP BY 없이 계산합니다.
+ * 행 번호가 작성 시각 순이므로 날짜 조건은 연속된 행 범위(이진 탐색)로 처리합니다.
+ *
+ * 구축 / 증분 반영 / DB 워터마크 확인은 PerStoreReviewIndex 참고.
+ * 리뷰 목록 / 페이지는 이 색인을 쓰지 않고 DB 키셋 조회(ReviewRepository.findReviewPage)로 가져옵니다.
+ */
+@Service
+public class ReviewBitmapIndex extends PerStoreReviewIndex<ReviewBitmapIndex.StoreIndex> {
+
+	@Value("${analytics.review-index.max-stores:500}")
+	private int maxStores;
+
+	/**
+	 * 리뷰 필터 (null 조건은 적용하지 않음)
+	 */
+	public record Filter(LocalDateTime startDate, LocalDateTime endDate, String nationality,
+			Integer minRating, Integer maxRating, List<Integer> menuIds) {
+
+		public static Filter period(LocalDateTime startDate, LocalDateTime endDate) {
+			return new Filter(startDate, endDate, null, null, null, null);
+		}
+	}
+
+	/**
+	 * 평점 통계
+	 * @param count 리뷰 수
+	 * @param ratingSum 평점 합계
+	 * @param positive 긍정 기준 이상 리뷰 수
+	 * @param negative 부정 기준 이하 리뷰 수
+	 */
+	public record RatingStats(long count, long ratingSum, long positive, long negative) {
+
+		public double averageRating() {
+			return count > 0 ? (double) ratingSum / count : 0.0;
+		}
+	}
+
+	/**
+	 * 매장 하나의 색인. 행 번호는 (createdAt, reviewIdx) 오름차순.
+	 * 작성 시각이 없는 리뷰는 맨 앞 행(undated개)에 두며 기간 조건이 있으면 제외 (SQL BETWEEN과 같음).
+	 */
+	static class StoreIndex extends PerStoreReviewIndex.StoreIndex {
+		private int size;
+		private int undated;
+		private long[] reviewIds = new long[256];
+		private long[] createdAt = new long[256];
+
+		private final Map<String, BitSet> byNationality = new HashMap<>();
+		private final Map<Integer, BitSet> byRating = new TreeMap<>();
+		private final Map<Integer, BitSet> byMenu = new HashMap<>();
+
+		@Override
+		protected void apply(ReviewRow row) {
+			// 작성 시각 순서를 벗어나면 다음 조회 때 재구축
+			// (작성 시각이 없는 리뷰는 구축 쿼리가 먼저 주므로 맨 앞 행일 때만 바로 반영)
+			if (row.createdAt() == null) {
+				if (size != undated) {
+					markStale();
+					return;
+				}
+			} else if (size > 0) {
+				long micros = micros(row.createdAt());
+				if (micros < createdAt[size - 1] || (micros == createdAt[size - 1] && row.reviewIdx() < reviewIds[size - 1])) {
+					markStale();
+					return;
+				}
+			}
+			if (size == reviewIds.length) {
+				reviewIds = Arrays.copyOf(reviewIds, size * 2);
+				createdAt = Arrays.copyOf(createdAt, size * 2);
+			}
+			int index = size++;
+			reviewIds[index] = row.reviewIdx();
+			if (row.createdAt() == null) {
+				createdAt[index] = Long.MIN_VALUE;
+				undated++;
+			} else {
+				createdAt[index] = micros(row.createdAt());
+			}
+			byNationality.computeIfAbsent(row.nationality(), k -> new BitSet()).set(index);
+			byRating.computeIfAbsent(row.rating(), k -> new BitSet()).set(index);
+			byMenu.computeIfAbsent(row.menuIdx(), k -> new BitSet()).set(index);
+		}
+
+		/**
+		 * 필터에 맞는 행 비트맵
+		 */
+		private BitSet select(Filter filter) {
+			int from = filter.startDate() != null ? lowerBound(micros(filter.startDate()), Long.MIN_VALUE) : 0;
+			int to = filter.endDate() != null ? lowerBound(micros(filter.endDate()), Long.MAX_VALUE) : size;
+			if (filter.startDate() != null || filter.endDate() != null) {
+				from = Math.max(from, undated);
+			}
+			BitSet rows = new BitSet(size);
+			if (from >= to) {
+				return rows;
+			}
+			rows.set(from, to);
+
+			if (filter.nationality() != null) {
+				BitSet nationality = byNationality.get(filter.nationality());
+				if (nationality == null) {
+					return new BitSet();
+				}
+				rows.and(nationality);
+			}
+			if (filter.minRating() != null || filter.maxRating() != null) {
+				BitSet ratings = new BitSet(size);
+				for (Map.Entry<Integer, BitSet> e : byRating.entrySet()) {
+					if ((filter.minRating() == null || e.getKey() >= filter.minRating())
+							&& (filter.maxRating() == null || e.getKey() <= filter.maxRating())) {
+						ratings.or(e.getValue());
+					}
+				}
+				rows.and(ratings);
+			}
+			if (filter.menuIds() != null && !filter.menuIds().isEmpty()) {
+				BitSet menus = new BitSet(size);
+				for (Integer menuIdx : filter.menuIds()) {
+					BitSet menu = menuIdx != null ? byMenu.get(menuIdx) : null;
+					if (menu != null) {
+						menus.or(menu);
+					}
+				}
+				rows.and(menus);
+			}
+			return rows;
+		}
+
+		private RatingStats stats(BitSet rows, int positiveThreshold, int negativeThreshold) {
+			long count = 0;
+			long sum = 0;
+			long positive = 0;
+			long negative = 0;
+			BitSet scratch = new BitSet(size);
+			for (Map.Entry<Integer, BitSet> e : byRating.entrySet()) {
+				scratch.clear();
+				scratch.or(rows);
+				scratch.and(e.getValue());
+				long c = scratch.cardinality();
+				if (c == 0) {
+					continue;
+				}
+				int rating = e.getKey();
+				count += c;
+				sum += c * rating;
+				if (rating >= positiveThreshold) positive += c;
+				if (rating <= negativeThreshold) negative += c;
+			}
+			return new RatingStats(count, sum, positive, negative);
+		}
+
+		/**
+		 * (time, reviewIdx) 이상인 첫 행 번호
+		 */
+		private int lowerBound(long time, long reviewIdx) {
+			int lo = 0;
+			int hi = size;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (createdAt[mid] < time || (createdAt[mid] == time && reviewIds[mid] < reviewIdx)) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+	}
+
+	/**
+	 * 필터에 맞는 리뷰 수
+	 */
+	public long count(String userId, Filter filter) {
+		StoreIndex index = load(userId);
+		synchronized (index) {
+			return index.select(filter).cardinality();
+		}
+	}
+
+	/**
+	 * 필터에 맞는 리뷰의 평점 통계
+	 */
+	public RatingStats stats(String userId, Filter filter, int positiveThreshold, int negativeThreshold) {
+		StoreIndex index = load(userId);
+		synchronized (index) {
+			return index.stats(index.select(filter), positiveThreshold, negativeThreshold);
+		}
+	}
+
+	/**
+	 * 필터에 맞는 리뷰의 메뉴별 평점 통계 (리뷰 수 내림차순, 리뷰가 없는 메뉴 제외)
+	 */
+	public Map<Integer, RatingStats> statsByMenu(String userId, Filter filter, int positiveThreshold, int negativeThreshold) {
+		StoreIndex index = load(userId);
+		List<Map.Entry<Integer, RatingStats>> entries = new ArrayList<>();
+		synchronized (index) {
+			BitSet rows = index.select(filter);
+			BitSet menuRows = new BitSet(index.size);
+			for (Map.Entry<Integer, BitSet> menu : index.byMenu.entrySet()) {
+				menuRows.clear();
+				menuRows.or(rows);
+				menuRows.and(menu.getValue());
+				if (menuRows.isEmpty()) {
+					continue;
+				}
+				entries.add(Map.entry(menu.getKey(), index.stats(menuRows, positiveThreshold, negativeThreshold)));
+			}
+		}
+		entries.sort(Comparator.comparingLong((Map.Entry<Integer, RatingStats> e) -> e.getValue().count()).reversed()
+			.thenComparing(Map.Entry.comparingByKey()));
+		Map<Integer, RatingStats> result = new LinkedHashMap<>();
+		for (Map.Entry<Integer, RatingStats> e : entries) {
+			result.put(e.getKey(), e.getValue());
+		}
+		return result;
+	}
+
+	@Override
+	protected StoreIndex newIndex() {
+		return new StoreIndex();
+	}
+
+	@Override
+	protected Stream<ReviewRow> streamSource(String userId) {
+		return reviewRepository.streamReviewIndexSource(userId).map(ReviewBitmapIndex::toRow);
+	}
+
+	@Override
+	protected List<ReviewRow> findSourceAfter(String userId, long afterReviewIdx, Limit limit) {
+		return reviewRepository.findReviewIndexSourceAfter(userId, afterReviewIdx, limit).stream()
+			.map(ReviewBitmapIndex::toRow)
+			.toList();
+	}
+
+	@Override
+	protected int maxStores() {
+		return maxStores;
+	}
+
+	@Override
+	protected String name() {
+		return "리뷰 비트맵 색인";
+	}
+
+	// row 구조: reviewIdx, createdAt, menuIdx, rating, nationality
+	private static ReviewRow toRow(Object[] row) {
+		return new ReviewRow(((Number) row[0]).longValue(), (LocalDateTime) row[1],
+			toInteger(row[2]), toInteger(row[3]), (String) row[4], null, null);
+	}
+
+	// 정렬 비교용 마이크로초 단위 시각 (DB TIMESTAMP 정밀도)
+	private static long micros(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+	}
+}
@@ -0,0 +1,61 @@
+package com.voiz.service;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.voiz.vo.Reviews;
+
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+
+/**
+ * 저장된 리뷰가 수정 / 삭제되면 메모리 색인 / 메뉴 평점 집계를 버려 다음 조회 때 다시 구축하게 하는 JPA 엔티티 리스너.
+ * 새 리뷰는 ReviewService가 각 색인에 add(...)로 바로 반영하고,
+ * 다른 서버에서 저장 / 삭제한 리뷰는 색인의 워터마크 확인(check-interval-ms)으로 반영됩니다.
+ * 트랜잭션 안이면 커밋된 뒤에 버려, 그 사이 다른 요청이 커밋 전 데이터로 다시 구축하지 않도록 합니다.
+ */
+@Component
+public class ReviewChangeListener {
+
+	// 색인이 ReviewRepository(EntityManagerFactory)에 의존하므로 필요할 때 가져옴 (순환 의존 방지)
+	@Autowired
+	private ObjectProvider<ReviewKeywordIndex> reviewKeywordIndex;
+
+	@Autowired
+	private ObjectProvider<ReviewBitmapIndex> reviewBitmapIndex;
+
+	@Autowired
+	private ObjectProvider<ReviewSearchIndex> reviewSearchIndex;
+
+	@Autowired
+	private ObjectProvider<MenuRatingAggregateService> menuRatingAggregateService;
+
+	@PostUpdate
+	@PostRemove
+	public void changed(Reviews review) {
+		String userId = review.getUserId();
+		int menuIdx = review.getMenuIdx();
+		afterCommit(() -> {
+			menuRatingAggregateService.getObject().invalidate(menuIdx);
+			reviewKeywordIndex.getObject().invalidate(userId);
+			reviewBitmapIndex.getObject().invalidate(userId);
+			reviewSearchIndex.getObject().invalidate(userId);
+		});
+	}
+
+	private static void afterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -0,0 +1,183 @@
+package com.voiz.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.voiz.util.ReviewTokenizer;
+
+/**
+ * 매장별 리뷰 키워드 색인 (메모리).
+ * 단어 빈도는 (날짜, 메뉴, 평점) 버킷에 저장하고, 조회 시 기간 내 날짜 버킷만 합산해 상위 K개를 뽑습니다.
+ * 구축 / 증분 반영 / DB 워터마크 확인은 PerStoreReviewIndex 참고.
+ */
+@Service
+public class ReviewKeywordIndex extends PerStoreReviewIndex<ReviewKeywordIndex.StoreIndex> {
+
+	private static final int MAX_RATING = 5;
+
+	@Value("${analytics.keywords.max-stores:500}")
+	private int maxStores;
+
+	/**
+	 * 매장 하나의 색인. 버킷 구조: 날짜 -> 메뉴 -> 평점(0~5 위치) -> 단어 -> 리뷰 수 (리뷰가 없는 평점은 null)
+	 */
+	static class StoreIndex extends PerStoreReviewIndex.StoreIndex {
+		private final NavigableMap<LocalDate, Map<Integer, List<Map<String, Integer>>>> days = new TreeMap<>();
+
+		@Override
+		protected void apply(ReviewRow row) {
+			if (row.menuIdx() == null || row.rating() == null || row.comment() == null) {
+				return;
+			}
+			// 한 리뷰에서 같은 단어가 반복돼도 1회로 계산 (리뷰 수 기준 빈도)
+			Set<String> terms = new LinkedHashSet<>(ReviewTokenizer.tokenize(row.comment()));
+			if (terms.isEmpty()) {
+				return;
+			}
+			LocalDate day = row.createdAt() != null ? row.createdAt().toLocalDate() : LocalDate.now();
+			int band = Math.max(0, Math.min(MAX_RATING, row.rating()));
+
+			List<Map<String, Integer>> byRating = days.computeIfAbsent(day, d -> new HashMap<>())
+				.computeIfAbsent(row.menuIdx(), m -> new ArrayList<>(Collections.nCopies(MAX_RATING + 1, null)));
+			Map<String, Integer> counts = byRating.get(band);
+			if (counts == null) {
+				counts = new HashMap<>();
+				byRating.set(band, counts);
+			}
+			for (String term : terms) {
+				counts.merge(term, 1, Integer::sum);
+			}
+		}
+	}
+
+	/**
+	 * 기간 내 긍정/부정 상위 키워드 (전체 + 메뉴별)
+	 * 응답 구조는 ML 서비스의 /api/reviews/keywords 와 같음:
+	 * overall: {positiveKeywords, negativeKeywords}, byMenu: [{menuIdx, positiveKeywords, negativeKeywords}]
+	 * @param withCounts true면 키워드를 {term, count} 형태로, false면 단어 문자열로 반환
+	 */
+	public Map<String, Object> topKeywords(String userId, LocalDate startDate, LocalDate endDate,
+			int positiveThreshold, int negativeThreshold, int topK, boolean withCounts) {
+
+		StoreIndex index = load(userId);
+
+		Map<String, Integer> overallPos = new HashMap<>();
+		Map<String, Integer> overallNeg = new HashMap<>();
+		Map<Integer, Map<String, Integer>> menuPos = new TreeMap<>();
+		Map<Integer, Map<String, Integer>> menuNeg = new TreeMap<>();
+
+		synchronized (index) {
+			for (Map<Integer, List<Map<String, Integer>>> menus : index.days.subMap(startDate, true, endDate, true).values()) {
+				for (Map.Entry<Integer, List<Map<String, Integer>>> menu : menus.entrySet()) {
+					List<Map<String, Integer>> byRating = menu.getValue();
+					for (int rating = 0; rating <= MAX_RATING; rating++) {
+						Map<String, Integer> counts = byRating.get(rating);
+						if (counts == null) {
+							continue;
+						}
+						if (rating >= positiveThreshold) {
+							mergeInto(overallPos, counts);
+							mergeInto(menuPos.computeIfAbsent(menu.getKey(), k -> new HashMap<>()), counts);
+						}
+						if (rating <= negativeThreshold) {
+							mergeInto(overallNeg, counts);
+							mergeInto(menuNeg.computeIfAbsent(menu.getKey(), k -> new HashMap<>()), counts);
+						}
+					}
+				}
+			}
+		}
+
+		Map<String, Object> overall = new HashMap<>();
+		overall.put("positiveKeywords", top(overallPos, topK, withCounts));
+		overall.put("negativeKeywords", top(overallNeg, topK, withCounts));
+
+		Set<Integer> menuIds = new TreeSet<>(menuPos.keySet());
+		menuIds.addAll(menuNeg.keySet());
+		List<Map<String, Object>> byMenu = new ArrayList<>();
+		for (Integer menuIdx : menuIds) {
+			Map<String, Object> item = new HashMap<>();
+			item.put("menuIdx", menuIdx);
+			item.put("positiveKeywords", top(menuPos.getOrDefault(menuIdx, Map.of()), topK, withCounts));
+			item.put("negativeKeywords", top(menuNeg.getOrDefault(menuIdx, Map.of()), topK, withCounts));
+			byMenu.add(item);
+		}
+
+		Map<String, Object> result = new HashMap<>();
+		result.put("overall", overall);
+		result.put("byMenu", byMenu);
+		return result;
+	}
+
+	@Override
+	protected StoreIndex newIndex() {
+		return new StoreIndex();
+	}
+
+	@Override
+	protected Stream<ReviewRow> streamSource(String userId) {
+		return reviewRepository.streamReviewKeywordSource(userId).map(ReviewKeywordIndex::toRow);
+	}
+
+	@Override
+	protected List<ReviewRow> findSourceAfter(String userId, long afterReviewIdx, Limit limit) {
+		return reviewRepository.findReviewKeywordSourceAfter(userId, afterReviewIdx, limit).stream()
+			.map(ReviewKeywordIndex::toRow)
+			.toList();
+	}
+
+	@Override
+	protected int maxStores() {
+		return maxStores;
+	}
+
+	@Override
+	protected String name() {
+		return "리뷰 키워드 색인";
+	}
+
+	// row 구조: reviewIdx, menuIdx, rating, comment, createdAt
+	private static ReviewRow toRow(Object[] row) {
+		return new ReviewRow(((Number) row[0]).longValue(), (LocalDateTime) row[4],
+			toInteger(row[1]), toInteger(row[2]), null, null, (String) row[3]);
+	}
+
+	private static void mergeInto(Map<String, Integer> target, Map<String, Integer> counts) {
+		for (Map.Entry<String, Integer> e : counts.entrySet()) {
+			target.merge(e.getKey(), e.getValue(), Integer::sum);
+		}
+	}
+
+	private static List<Object> top(Map<String, Integer> counts, int topK, boolean withCounts) {
+		List<Object> result = new ArrayList<>();
+		counts.entrySet().stream()
+			.sorted(Map.Entry.<String, Integer>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+			.limit(Math.max(0, topK))
+			.forEach(e -> {
+				if (withCounts) {
+					Map<String, Object> item = new HashMap<>();
+					item.put("term", e.getKey());
+					item.put("count", e.getValue());
+					result.add(item);
+				} else {
+					result.add(e.getKey());
+				}
+			});
+		return result;
+	}
+}
@@ -0,0 +1,144 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.voiz.mapper.ReviewRepository;
+import com.voiz.util.ColumnarPayload;
+
+/**
+ * 종합 인사이트용 리뷰를 메뉴 × 국적 × 평점 층별로 표본 추출하여 컬럼형 표로 바로 써 주는 서비스.
+ * 리뷰 엔티티를 리스트로 모으지 않고 커서에서 한 건씩 읽어 선택 표본(selection sampling)으로 거르고,
+ * 뽑힌 리뷰만 컬럼 배열에 추가하므로 힙 사용량은 표본 상한(review-sample-cap) 수준으로 일정합니다.
+ */
+@Service
+public class ReviewSampleStreamer {
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Value("${analytics.insights.review-sample-cap:2000}")
+	private int sampleCap;
+
+	/**
+	 * 기간 내 표본으로 뽑힐 리뷰 수 계산 (요청 전 빈 데이터 판단용)
+	 */
+	@Transactional(readOnly = true)
+	public long countSample(String userId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+		long total = 0;
+		for (Object[] r : reviewRepository.countReviewStrata(userId, startDateTime, endDateTime)) {
+			total += ((Number) r[3]).longValue();
+		}
+		return Math.min(total, sampleCap);
+	}
+
+	/**
+	 * 층화 표본을 컬럼형 표에 기록 (행 객체 없이 컬럼 배열에 바로 추가)
+	 * 컬럼 구조: comment, rating, nationality, menuName, createdAt
+	 * @return 기록한 리뷰 수
+	 */
+	@Transactional(readOnly = true)
+	public int writeSample(String userId, LocalDateTime startDateTime, LocalDateTime endDateTime,
+			ColumnarPayload.Table table) {
+
+		Map<String, int[]> quotas = allocateQuotas(reviewRepository.countReviewStrata(userId, startDateTime, endDateTime));
+		ColumnarPayload.StringColumn comment = table.stringColumn("comment");
+		ColumnarPayload.IntColumn rating = table.intColumn("rating");
+		// 국적 / 메뉴명은 종류가 적으므로 사전 인코딩
+		ColumnarPayload.DictionaryColumn nationality = table.dictionaryColumn("nationality");
+		ColumnarPayload.DictionaryColumn menuName = table.dictionaryColumn("menuName");
+		ColumnarPayload.StringColumn createdAt = table.stringColumn("createdAt");
+
+		try (Stream<Object[]> rows = reviewRepository.streamReviewsWithMenuName(userId, startDateTime, endDateTime)) {
+			rows.forEach(row -> {
+				// row 구조: menuIdx, nationality, rating, comment, createdAt, menuName
+				int[] quota = quotas.get(strataKey(row[0], row[1], row[2]));
+				if (quota == null || !select(quota)) {
+					return;
+				}
+				comment.add((String) row[3]);
+				rating.add(((Number) row[2]).intValue());
+				nationality.add((String) row[1]);
+				menuName.add((String) row[5]);
+				createdAt.add(String.valueOf(row[4]));
+			});
+		}
+		return table.rows();
+	}
+
+	/**
+	 * 층별 할당량 계산: 총 리뷰 수가 상한 이하면 전부, 초과하면
+	 * 리뷰 수가 많은 층부터 1건씩 보장한 뒤 남은 상한을 층 크기에 비례해 배분합니다.
+	 * 값 배열 구조: [남은 할당량, 남은 리뷰 수]
+	 */
+	private Map<String, int[]> allocateQuotas(List<Object[]> strata) {
+		long total = 0;
+		for (Object[] r : strata) {
+			total += ((Number) r[3]).longValue();
+		}
+
+		List<Object[]> sorted = new ArrayList<>(strata);
+		sorted.sort((a, b) -> Long.compare(((Number) b[3]).longValue(), ((Number) a[3]).longValue()));
+
+		Map<String, int[]> quotas = new HashMap<>();
+		if (total <= sampleCap) {
+			for (Object[] r : sorted) {
+				int count = ((Number) r[3]).intValue();
+				quotas.put(strataKey(r[0], r[1], r[2]), new int[] {count, count});
+			}
+			return quotas;
+		}
+
+		// 1단계: 희소한 조합도 빠지지 않도록 층마다 1건 보장
+		int remainingCap = sampleCap;
+		for (Object[] r : sorted) {
+			int count = ((Number) r[3]).intValue();
+			int guaranteed = remainingCap > 0 ? 1 : 0;
+			remainingCap -= guaranteed;
+			quotas.put(strataKey(r[0], r[1], r[2]), new int[] {guaranteed, count});
+		}
+
+		// 2단계: 남은 상한을 층 크기에 비례 배분
+		if (remainingCap > 0) {
+			long rest = total - sorted.size();
+			for (Object[] r : sorted) {
+				int[] quota = quotas.get(strataKey(r[0], r[1], r[2]));
+				long extra = rest > 0 ? (quota[1] - 1L) * remainingCap / rest : 0;
+				quota[0] = (int) Math.min(quota[1], quota[0] + extra);
+			}
+		}
+		return quotas;
+	}
+
+	/**
+	 * 선택 표본 추출(Knuth Algorithm S): 남은 할당량 / 남은 리뷰 수 확률로 선택하여
+	 * 층 안에서 균등한 표본을 한 번의 순회로 뽑습니다.
+	 */
+	private boolean select(int[] quota) {
+		if (quota[0] <= 0) {
+			return false;
+		}
+		// 집계 이후 새로 들어온 리뷰가 있으면 남은 수가 할당량보다 작아질 수 있음
+		int remaining = Math.max(quota[1], quota[0]);
+		quota[1] = remaining - 1;
+		if (ThreadLocalRandom.current().nextInt(remaining) < quota[0]) {
+			quota[0]--;
+			return true;
+		}
+		return false;
+	}
+
+	private String strataKey(Object menuIdx, Object nationality, Object rating) {
+		return ((Number) menuIdx).intValue() + "|" + nationality + "|" + ((Number) rating).intValue();
+	}
+}
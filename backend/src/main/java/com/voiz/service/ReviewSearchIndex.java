@@ -0,0 +1,291 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import com.voiz.util.ReviewTokenizer;
+
+/**
+ * 매장별 리뷰 본문 검색 색인 (메모리 역색인).
+ * 단어 -> 리뷰 행 번호 목록(postings)을 두고, 검색어의 모든 토큰이 들어간 리뷰를 찾습니다.
+ * 토큰은 ReviewTokenizer.tokenizeForSearch 로 만들며 한글/라틴 문자는 접두어로 찾습니다 ("salt" -> "salty").
+ * 행 번호는 작성 시각 순이므로 결과는 최신순이고, 날짜 조건은 행 범위로 처리합니다.
+ * 메뉴/평점/언어/국적은 행별 배열로 두어 필터와 facet 집계를 한 번의 순회로 계산합니다.
+ * 구축 / 증분 반영 / DB 워터마크 확인은 PerStoreReviewIndex 참고.
+ */
+@Service
+public class ReviewSearchIndex extends PerStoreReviewIndex<ReviewSearchIndex.StoreIndex> {
+
+	@Value("${analytics.search.max-stores:200}")
+	private int maxStores;
+
+	/**
+	 * 검색 필터 (null 조건은 적용하지 않음)
+	 */
+	public record Filter(LocalDateTime startDate, LocalDateTime endDate, List<Integer> menuIds,
+			Integer minRating, Integer maxRating, String language, String nationality) {}
+
+	/**
+	 * 검색 결과
+	 * @param terms 검색어 토큰 (하이라이트용)
+	 * @param totalCount 필터까지 적용한 전체 결과 수
+	 * @param reviewIds 커서 이후 최신순 최대 limit 건의 리뷰 번호
+	 * @param facets menu / language / nationality 별 결과 수 (많은 순), rating 별 결과 수 (평점 높은 순)
+	 */
+	public record Result(List<String> terms, long totalCount, List<Long> reviewIds, Map<String, Map<String, Long>> facets) {}
+
+	private static class IntList {
+		private int[] values = new int[4];
+		private int size;
+
+		void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = value;
+		}
+	}
+
+	/**
+	 * 매장 하나의 색인. 행 번호는 (createdAt, reviewIdx) 오름차순.
+	 * 작성 시각이 없는 리뷰는 검색 대상이 아니므로 행을 만들지 않음 (리뷰 수 워터마크에는 포함).
+	 */
+	static class StoreIndex extends PerStoreReviewIndex.StoreIndex {
+		private int size;
+		private long[] reviewIds = new long[256];
+		private long[] createdAt = new long[256];
+		private int[] menus = new int[256];
+		private byte[] ratings = new byte[256];
+		// 언어/국적은 코드 사전 번호로 저장
+		private short[] languages = new short[256];
+		private short[] nationalities = new short[256];
+
+		private final List<String> codes = new ArrayList<>();
+		private final Map<String, Short> codeIds = new HashMap<>();
+		private final NavigableMap<String, IntList> postings = new TreeMap<>();
+
+		@Override
+		protected void apply(ReviewRow review) {
+			if (review.createdAt() == null) {
+				return;
+			}
+			long time = micros(review.createdAt());
+			if (size > 0 && (time < createdAt[size - 1]
+					|| (time == createdAt[size - 1] && review.reviewIdx() < reviewIds[size - 1]))) {
+				// 작성 시각 순서를 벗어나면 다음 조회 때 재구축
+				markStale();
+				return;
+			}
+			if (size == reviewIds.length) {
+				int capacity = size * 2;
+				reviewIds = Arrays.copyOf(reviewIds, capacity);
+				createdAt = Arrays.copyOf(createdAt, capacity);
+				menus = Arrays.copyOf(menus, capacity);
+				ratings = Arrays.copyOf(ratings, capacity);
+				languages = Arrays.copyOf(languages, capacity);
+				nationalities = Arrays.copyOf(nationalities, capacity);
+			}
+			int row = size++;
+			reviewIds[row] = review.reviewIdx();
+			createdAt[row] = time;
+			menus[row] = review.menuIdx();
+			ratings[row] = (byte) review.rating().intValue();
+			languages[row] = code(review.language());
+			nationalities[row] = code(review.nationality());
+
+			// 한 리뷰에서 같은 토큰은 한 번만
+			for (String term : new LinkedHashSet<>(ReviewTokenizer.tokenizeForSearch(review.comment()))) {
+				postings.computeIfAbsent(term, k -> new IntList()).add(row);
+			}
+		}
+
+		private short code(String value) {
+			String key = value != null ? value : "";
+			Short id = codeIds.get(key);
+			if (id == null) {
+				id = (short) codes.size();
+				codes.add(key);
+				codeIds.put(key, id);
+			}
+			return id;
+		}
+
+		/**
+		 * 검색어 토큰이 모두 들어간 행 (토큰별로 접두어가 같은 단어들의 합집합을 구해 교집합)
+		 */
+		private BitSet match(List<String> terms) {
+			BitSet matched = null;
+			for (String term : terms) {
+				BitSet rows = new BitSet(size);
+				for (IntList list : postings.subMap(term, true, term + Character.MAX_VALUE, false).values()) {
+					for (int i = 0; i < list.size; i++) {
+						rows.set(list.values[i]);
+					}
+				}
+				if (matched == null) {
+					matched = rows;
+				} else {
+					matched.and(rows);
+				}
+				if (matched.isEmpty()) {
+					break;
+				}
+			}
+			return matched != null ? matched : new BitSet();
+		}
+
+		/**
+		 * (time, reviewIdx) 이상인 첫 행 번호
+		 */
+		private int lowerBound(long time, long reviewIdx) {
+			int lo = 0;
+			int hi = size;
+			while (lo < hi) {
+				int mid = (lo + hi) >>> 1;
+				if (createdAt[mid] < time || (createdAt[mid] == time && reviewIds[mid] < reviewIdx)) {
+					lo = mid + 1;
+				} else {
+					hi = mid;
+				}
+			}
+			return lo;
+		}
+	}
+
+	/**
+	 * 리뷰 본문 검색 (검색어의 모든 토큰을 포함하는 리뷰, 최신순)
+	 * @param cursorCreatedAt / cursorReviewIdx 이 위치보다 오래된 리뷰부터 (첫 페이지는 충분히 먼 미래, Long.MAX_VALUE)
+	 */
+	public Result search(String userId, String query, Filter filter, LocalDateTime cursorCreatedAt, long cursorReviewIdx, int limit) {
+		List<String> terms = new ArrayList<>(new LinkedHashSet<>(ReviewTokenizer.tokenizeForSearch(query)));
+		if (terms.isEmpty()) {
+			return new Result(terms, 0, List.of(), Map.of());
+		}
+
+		StoreIndex index = load(userId);
+		Map<Integer, Long> menuFacet = new HashMap<>();
+		Map<Integer, Long> ratingFacet = new TreeMap<>(Comparator.reverseOrder());
+		Map<String, Long> languageFacet = new HashMap<>();
+		Map<String, Long> nationalityFacet = new HashMap<>();
+		List<Long> reviewIds = new ArrayList<>();
+		long total = 0;
+
+		synchronized (index) {
+			BitSet matched = index.match(terms);
+
+			int from = filter.startDate() != null ? index.lowerBound(micros(filter.startDate()), Long.MIN_VALUE) : 0;
+			int to = filter.endDate() != null ? index.lowerBound(micros(filter.endDate()), Long.MAX_VALUE) : index.size;
+			matched.clear(0, Math.max(0, from));
+			matched.clear(Math.max(from, to), Math.max(index.size, to));
+
+			Set<Integer> menuIds = filter.menuIds() != null && !filter.menuIds().isEmpty() ? new HashSet<>(filter.menuIds()) : null;
+			Short language = filter.language() != null ? index.codeIds.get(filter.language()) : null;
+			Short nationality = filter.nationality() != null ? index.codeIds.get(filter.nationality()) : null;
+			if ((filter.language() != null && language == null) || (filter.nationality() != null && nationality == null)) {
+				matched.clear();
+			}
+
+			BitSet hits = new BitSet(index.size);
+			for (int row = matched.nextSetBit(0); row >= 0; row = matched.nextSetBit(row + 1)) {
+				int rating = index.ratings[row];
+				if ((menuIds != null && !menuIds.contains(index.menus[row]))
+						|| (filter.minRating() != null && rating < filter.minRating())
+						|| (filter.maxRating() != null && rating > filter.maxRating())
+						|| (language != null && index.languages[row] != language)
+						|| (nationality != null && index.nationalities[row] != nationality)) {
+					continue;
+				}
+				hits.set(row);
+				total++;
+				menuFacet.merge(index.menus[row], 1L, Long::sum);
+				ratingFacet.merge(rating, 1L, Long::sum);
+				languageFacet.merge(index.codes.get(index.languages[row]), 1L, Long::sum);
+				nationalityFacet.merge(index.codes.get(index.nationalities[row]), 1L, Long::sum);
+			}
+
+			int row = index.lowerBound(micros(cursorCreatedAt), cursorReviewIdx) - 1;
+			while (row >= 0 && reviewIds.size() < limit) {
+				row = hits.previousSetBit(row);
+				if (row < 0) {
+					break;
+				}
+				reviewIds.add(index.reviewIds[row]);
+				row--;
+			}
+		}
+
+		Map<String, Map<String, Long>> facets = new LinkedHashMap<>();
+		facets.put("menu", byCount(menuFacet));
+		Map<String, Long> ratings = new LinkedHashMap<>();
+		ratingFacet.forEach((rating, count) -> ratings.put(String.valueOf(rating), count));
+		facets.put("rating", ratings);
+		facets.put("language", byCount(languageFacet));
+		facets.put("nationality", byCount(nationalityFacet));
+		return new Result(terms, total, reviewIds, facets);
+	}
+
+	@Override
+	protected StoreIndex newIndex() {
+		return new StoreIndex();
+	}
+
+	@Override
+	protected Stream<ReviewRow> streamSource(String userId) {
+		return reviewRepository.streamReviewSearchSource(userId).map(ReviewSearchIndex::toRow);
+	}
+
+	@Override
+	protected List<ReviewRow> findSourceAfter(String userId, long afterReviewIdx, Limit limit) {
+		return reviewRepository.findReviewSearchSourceAfter(userId, afterReviewIdx, limit).stream()
+			.map(ReviewSearchIndex::toRow)
+			.toList();
+	}
+
+	@Override
+	protected int maxStores() {
+		return maxStores;
+	}
+
+	@Override
+	protected String name() {
+		return "리뷰 검색 색인";
+	}
+
+	// row 구조: reviewIdx, createdAt, menuIdx, rating, language, nationality, comment
+	private static ReviewRow toRow(Object[] row) {
+		return new ReviewRow(((Number) row[0]).longValue(), (LocalDateTime) row[1],
+			toInteger(row[2]), toInteger(row[3]), (String) row[5], (String) row[4], (String) row[6]);
+	}
+
+	// 결과 수 내림차순 (같으면 키 순서 유지)
+	private static <K> Map<String, Long> byCount(Map<K, Long> counts) {
+		Map<String, Long> sorted = new LinkedHashMap<>();
+		counts.entrySet().stream()
+			.sorted(Map.Entry.<K, Long>comparingByValue().reversed())
+			.forEach(e -> sorted.put(String.valueOf(e.getKey()), e.getValue()));
+		return sorted;
+	}
+
+	// 정렬 비교용 마이크로초 단위 시각 (DB TIMESTAMP 정밀도)
+	private static long micros(LocalDateTime time) {
+		return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + time.getNano() / 1_000;
+	}
+}
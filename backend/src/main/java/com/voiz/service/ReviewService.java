@@ -4,12 +4,15 @@ import com.voiz.dto.ReviewDto;
 import com.voiz.dto.ReviewRequestDto;
 import com.voiz.dto.ReviewResponseDto;
 import com.voiz.mapper.ReviewRepository;
+import com.voiz.util.ReviewCursor;
 import com.voiz.vo.Reviews;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.Map;
 
 @Service
 public class ReviewService {
@@ -17,6 +20,21 @@ public class ReviewService {
     @Autowired
     private ReviewRepository reviewRepository;
 
+    @Autowired
+    private ReviewKeywordIndex reviewKeywordIndex;
+
+    @Autowired
+    private MenuRatingAggregateService menuRatingAggregateService;
+
+    @Autowired
+    private ReviewBitmapIndex reviewBitmapIndex;
+
+    @Autowired
+    private ReviewSearchIndex reviewSearchIndex;
+
+    @Autowired
+    private ReviewTaggingService reviewTaggingService;
+
     
     public void saveReview(ReviewRequestDto reviewRequestDto) {
         Reviews review = new Reviews();
@@ -29,51 +47,52 @@ public class ReviewService {
         review.setNationality(reviewRequestDto.getNationality());
         review.setLanguage(reviewRequestDto.getLanguage());
 
-        reviewRepository.save(review);
+        Reviews saved = reviewRepository.save(review);
+
+        // 키워드 색인, 비트맵 색인, 검색 색인, 메뉴 평점 집계 증분 반영
+        reviewKeywordIndex.add(saved);
+        reviewBitmapIndex.add(saved);
+        reviewSearchIndex.add(saved);
+        menuRatingAggregateService.add(saved);
+
+        // 본문 감성 태깅은 큐에 넣고 바로 반환 (작업 스레드가 묶어서 ML 호출)
+        reviewTaggingService.enqueue(saved);
     }
 
    
     
      // 메뉴별 리뷰 목록 조회 메서드
-    public ReviewDto getReviewsByMenuId(int menuIdx, String userId, String nationality) {
+    // 리뷰 수/평균은 메모리 집계에서, 목록은 매장/국적 필터를 적용한 키셋 페이지로 조회
+    public ReviewDto getReviewsByMenuId(int menuIdx, String userId, String nationality, String cursor, int size) {
         
-        // Repository에서 menuId에 해당하는 리뷰 목록을 가져오기
-        List<Reviews> reviews = reviewRepository.findByMenuIdx(menuIdx);
-
-        // userId, nationality 조건으로 필터링하고 DTO로 변환
-        List<ReviewResponseDto> reviewDtos = reviews.stream()
-                .filter(review -> userId == null || review.getUserId().equals(userId))
-                .filter(review -> nationality == null || review.getNationality().equals(nationality))
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+        MenuRatingAggregateService.Rating rating = menuRatingAggregateService.getRating(menuIdx, userId, nationality);
+        
+        ReviewCursor position = cursor != null && !cursor.isBlank()
+                ? ReviewCursor.decode(cursor)
+                : ReviewCursor.first(ReviewCursor.MAX_CREATED_AT, null);
+        int pageSize = Math.max(1, Math.min(size, 100));
+        
+        // 한 건 더 읽어 다음 페이지 존재 여부 판단
+        List<ReviewResponseDto> rows = reviewRepository.findMenuReviewPage(menuIdx, userId, nationality,
+                position.createdAt(), position.reviewIdx(), Limit.of(pageSize + 1));
+        boolean hasMore = rows.size() > pageSize;
+        List<ReviewResponseDto> reviewDtos = hasMore ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+        
+        String nextCursor = null;
+        if (hasMore) {
+            ReviewResponseDto last = reviewDtos.get(reviewDtos.size() - 1);
+            nextCursor = new ReviewCursor(last.getCreatedAt(), last.getReviewIdx(), null).encode();
+        }
+        
+        // 국적 필터 선택지는 첫 페이지에만 (국적 필터와 관계없이 매장 기준 전체)
+        Map<String, Long> nationalities = cursor == null || cursor.isBlank()
+                ? menuRatingAggregateService.nationalityCounts(menuIdx, userId)
+                : null;
         
-        // 리뷰 개수
-        int reviewCount = reviewDtos.size();
-
-        // 평균 평점 (리뷰가 없으면 0.0)
-        double rating = reviewCount > 0
-                ? reviewDtos.stream().mapToInt(ReviewResponseDto::getRating).average().orElse(0.0)
-                : 0.0;
-
         // ReviewDto로 감싸서 반환
-        return new ReviewDto(rating, reviewCount, reviewDtos);
+        return new ReviewDto(rating.averageRating(), (int) rating.reviewCount(), reviewDtos, nextCursor, hasMore, nationalities);
     }
 
     
-    // Reviews 엔티티를 ReviewResponseDto로 변환
-    private ReviewResponseDto convertToDto(Reviews review) {
-        ReviewResponseDto dto = new ReviewResponseDto();
-        dto.setReviewIdx(review.getReviewIdx().intValue());
-        dto.setMenuIdx(review.getMenuIdx());
-        dto.setOrderIdx(review.getOrderIdx());
-        dto.setUserId(review.getUserId());
-        dto.setGuestName(review.getGuestName());
-        dto.setComment(review.getComment());
-        dto.setRating(review.getRating());
-        dto.setNationality(review.getNationality());
-        dto.setLanguage(review.getLanguage());
-        dto.setCreatedAt(review.getCreatedAt());
-        return dto;
-    }
     
 }
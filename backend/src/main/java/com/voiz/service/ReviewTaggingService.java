@@ -0,0 +1,262 @@
+package com.voiz.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voiz.mapper.ReviewRepository;
+import com.voiz.mapper.ReviewTagsRepository;
+import com.voiz.vo.ReviewAspect;
+import com.voiz.vo.ReviewTags;
+import com.voiz.vo.Reviews;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 리뷰 본문 감성 태깅 큐.
+ * 저장된 리뷰를 메모리 큐에 넣으면 작업 스레드가 batch-size 건이 모이거나 max-wait-ms가 지날 때까지 묶어
+ * ML 서비스(/api/reviews/tag)를 한 번 호출하고, 결과(본문 감성, 언어, 속성별 감성)를 VOYZ_Review_Tags에 저장합니다.
+ * 리뷰 저장 요청은 큐에 넣기만 하고 바로 반환하며, 큐가 가득 찼거나 서버가 재시작되어 빠진 리뷰는
+ * 주기적인 재처리(backfill)가 다시 큐에 넣습니다.
+ * 재처리는 최신 리뷰부터 넣고, 리뷰마다 max-attempts 번까지만 시도합니다
+ * (계속 실패하는 리뷰가 매 주기 앞자리를 차지해 새 리뷰가 밀리지 않도록, 횟수는 서버 재시작 시 초기화).
+ */
+@Service
+public class ReviewTaggingService {
+
+	private static final String TAG_ENDPOINT = "/api/reviews/tag";
+
+	@Autowired
+	private FastApiClient fastApiClient;
+
+	@Autowired
+	private MlTrafficScheduler mlTrafficScheduler;
+
+	@Autowired
+	private ReviewTagsRepository reviewTagsRepository;
+
+	@Autowired
+	private ReviewRepository reviewRepository;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${analytics.tagging.enabled:true}")
+	private boolean enabled;
+
+	@Value("${analytics.tagging.batch-size:50}")
+	private int batchSize;
+
+	@Value("${analytics.tagging.max-wait-ms:2000}")
+	private long maxWaitMs;
+
+	@Value("${analytics.tagging.queue-capacity:10000}")
+	private int queueCapacity;
+
+	@Value("${analytics.tagging.backfill-days:7}")
+	private int backfillDays;
+
+	@Value("${analytics.tagging.max-attempts:5}")
+	private int maxAttempts;
+
+	/**
+	 * 재처리로 큐에 넣은 횟수 (태그되면 제거, 재처리 범위를 벗어나면 정리)
+	 */
+	private record Attempt(int count, LocalDateTime createdAt) {}
+
+	private final Map<Long, Attempt> attempts = new ConcurrentHashMap<>();
+
+	private BlockingQueue<Reviews> queue;
+	private Thread worker;
+	private volatile boolean running;
+
+	@PostConstruct
+	void start() {
+		queue = new LinkedBlockingQueue<>(queueCapacity);
+		if (!enabled) {
+			return;
+		}
+		running = true;
+		worker = new Thread(this::runWorker, "review-tagger");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		if (worker != null) {
+			worker.interrupt();
+		}
+	}
+
+	/**
+	 * 저장된 리뷰를 태깅 큐에 추가 (큐가 가득 차면 버리고 재처리에 맡김)
+	 */
+	public void enqueue(Reviews review) {
+		if (!enabled || review == null || review.getReviewIdx() == null) {
+			return;
+		}
+		if (!queue.offer(review)) {
+			System.err.println("리뷰 태깅 큐가 가득 차 다음 재처리로 미룹니다: reviewIdx=" + review.getReviewIdx());
+		}
+	}
+
+	/**
+	 * 태그가 없는 최근 리뷰를 다시 큐에 넣음 (큐 유실, ML 서비스 장애 등으로 빠진 리뷰)
+	 */
+	@Scheduled(initialDelayString = "${analytics.tagging.backfill-initial-delay-ms:60000}",
+		fixedDelayString = "${analytics.tagging.backfill-interval-ms:600000}")
+	public void backfill() {
+		if (!enabled) {
+			return;
+		}
+		// 큐가 절반 이상 차 있으면 이번 주기는 건너뜀
+		int room = queue.remainingCapacity() - queueCapacity / 2;
+		if (room <= 0) {
+			return;
+		}
+		try {
+			LocalDateTime since = LocalDateTime.now().minusDays(backfillDays);
+			attempts.values().removeIf(attempt -> attempt.createdAt().isBefore(since));
+			// 한도에 도달한 리뷰는 건너뛰므로 그만큼 더 조회
+			int limit = Math.min(room, batchSize * 20);
+			long exhausted = attempts.values().stream().filter(attempt -> attempt.count() >= maxAttempts).count();
+			List<Reviews> untagged = reviewRepository.findUntaggedReviews(since, Limit.of((int) Math.min(Integer.MAX_VALUE, limit + exhausted)));
+
+			int queued = 0;
+			for (Reviews review : untagged) {
+				if (queued >= limit) {
+					break;
+				}
+				Attempt previous = attempts.get(review.getReviewIdx());
+				int count = previous != null ? previous.count() : 0;
+				if (count >= maxAttempts) {
+					continue;
+				}
+				attempts.put(review.getReviewIdx(), new Attempt(count + 1, review.getCreatedAt()));
+				if (count + 1 == maxAttempts) {
+					System.err.println("리뷰 태깅 마지막 재처리 (이후 제외): reviewIdx=" + review.getReviewIdx());
+				}
+				enqueue(review);
+				queued++;
+			}
+			if (queued > 0) {
+				System.out.println("리뷰 태깅 재처리: " + queued + "건을 큐에 추가");
+			}
+		} catch (Exception e) {
+			System.err.println("리뷰 태깅 재처리 조회 실패: " + e.getMessage());
+		}
+	}
+
+	private void runWorker() {
+		while (running) {
+			try {
+				Reviews first = queue.poll(1, TimeUnit.SECONDS);
+				if (first == null) {
+					continue;
+				}
+				// 첫 리뷰가 들어온 시점부터 max-wait-ms 동안 batch-size 건까지 모음
+				List<Reviews> batch = new ArrayList<>(batchSize);
+				batch.add(first);
+				long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxWaitMs);
+				while (batch.size() < batchSize) {
+					long remaining = deadline - System.nanoTime();
+					if (remaining <= 0) {
+						break;
+					}
+					Reviews next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+					if (next == null) {
+						break;
+					}
+					batch.add(next);
+				}
+				tag(batch);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			} catch (Exception e) {
+				// 실패한 배치는 재처리(backfill)에서 다시 시도
+				System.err.println("리뷰 태깅 실패: " + e.getMessage());
+			}
+		}
+	}
+
+	private void tag(List<Reviews> batch) throws Exception {
+		long started = System.currentTimeMillis();
+		Map<Long, Reviews> byId = new HashMap<>();
+		List<Map<String, Object>> items = new ArrayList<>();
+		for (Reviews review : batch) {
+			if (byId.putIfAbsent(review.getReviewIdx(), review) != null) {
+				continue;
+			}
+			Map<String, Object> item = new HashMap<>();
+			item.put("reviewIdx", review.getReviewIdx());
+			item.put("text", review.getComment());
+			item.put("rating", review.getRating());
+			item.put("language", review.getLanguage());
+			items.add(item);
+		}
+
+		Map<String, Object> request = new HashMap<>();
+		request.put("reviews", items);
+		// 태깅은 일괄 작업이므로 대화형 ML 호출보다 뒤로 밀림
+		ResponseEntity<String> response = mlTrafficScheduler.batch(() -> fastApiClient.postDataToFastApi(TAG_ENDPOINT, request));
+		if (!response.getStatusCode().is2xxSuccessful() || response.getBody() == null) {
+			throw new IllegalStateException("ML 서비스 응답 오류: " + response.getStatusCode());
+		}
+
+		// 응답 구조: {results: [{reviewIdx, sentiment, score, language, aspects: [{aspect, sentiment}], source}]}
+		List<ReviewTags> tags = new ArrayList<>();
+		LocalDateTime now = LocalDateTime.now();
+		for (JsonNode result : objectMapper.readTree(response.getBody()).path("results")) {
+			Reviews review = byId.get(result.path("reviewIdx").asLong());
+			if (review == null) {
+				continue;
+			}
+			List<ReviewAspect> aspects = new ArrayList<>();
+			for (JsonNode aspect : result.path("aspects")) {
+				aspects.add(new ReviewAspect(aspect.path("aspect").asText(), aspect.path("sentiment").asText("neutral")));
+			}
+			tags.add(new ReviewTags(
+				review.getReviewIdx(),
+				review.getUserId(),
+				review.getMenuIdx(),
+				result.path("sentiment").asText("neutral"),
+				result.hasNonNull("score") ? result.get("score").asDouble() : null,
+				result.path("language").asText(null),
+				aspects,
+				result.path("source").asText(null),
+				now));
+		}
+		List<Long> resultIdxs = tags.stream().map(ReviewTags::getReviewIdx).toList();
+		// 같은 리뷰가 저장 직후와 재처리에서 두 번 들어온 경우 등 이미 태그된 리뷰는 제외 (새 태그만 INSERT 배치)
+		if (!tags.isEmpty()) {
+			Set<Long> tagged = new HashSet<>(reviewTagsRepository.findTaggedReviewIdxs(resultIdxs));
+			tags.removeIf(t -> tagged.contains(t.getReviewIdx()));
+		}
+		reviewTagsRepository.saveAll(tags);
+		// 태그가 저장된 리뷰는 재처리 횟수 기록 제거
+		attempts.keySet().removeAll(resultIdxs);
+		System.out.println("리뷰 태깅 완료: " + tags.size() + "/" + byId.size() + "건 ("
+			+ (System.currentTimeMillis() - started) + "ms)");
+	}
+}
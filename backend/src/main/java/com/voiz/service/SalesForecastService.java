@@ -0,0 +1,225 @@
+package com.voiz.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import com.voiz.mapper.SalesOrderRepository;
+import com.voiz.util.HoltWinters;
+
+/**
+ * 매장별 일매출 예측 서비스.
+ * 어제까지 마감된 일매출로 주간 계절성 모델(HoltWinters)을 적합해 매장별로 보관하고,
+ * 하루가 마감될 때마다 새 날짜만 조회해 모델 상태를 증분 갱신합니다.
+ * 평활 계수는 일정 주기마다 전체 이력을 다시 읽어 재탐색합니다 (지난 주문의 상태 변경도 이때 반영).
+ */
+@Service
+public class SalesForecastService {
+
+	private static final int SEASON = 7;
+
+	@Autowired
+	private SalesOrderRepository salesOrderRepository;
+
+	@Value("${analytics.forecast.history-days:365}")
+	private int historyDays;
+
+	@Value("${analytics.forecast.refit-interval-days:7}")
+	private int refitIntervalDays;
+
+	private final Map<String, StoreModel> models = new ConcurrentHashMap<>();
+
+	private static class StoreModel {
+		// 마지막으로 반영한 마감일
+		private LocalDate trainedThrough;
+		private LocalDate fittedOn;
+		private final Deque<Double> history = new ArrayDeque<>();
+		private HoltWinters model;
+		// 마감일 기준으로 만들어 둔 예측 결과 (다음 마감 전까지 그대로 반환)
+		private Map<String, Object> result;
+	}
+
+	/**
+	 * 다음 7일 / 30일 매출 예측과 직전 같은 기간 대비 성장률
+	 * 응답 구조: model, trainedThrough, trainingDays, residualStd,
+	 * next7Days / next30Days: [{date, amount, lower, upper}],
+	 * next7DaysTotal, next30DaysTotal, last7DaysTotal, last30DaysTotal, growthRate7, growthRate30
+	 */
+	public Map<String, Object> forecast(String userId) {
+		LocalDate closedDay = LocalDate.now().minusDays(1);
+		StoreModel store = models.computeIfAbsent(userId, k -> new StoreModel());
+
+		synchronized (store) {
+			if (store.result != null && closedDay.equals(store.trainedThrough)) {
+				return store.result;
+			}
+
+			boolean refit = store.model == null
+				|| store.trainedThrough == null
+				|| ChronoUnit.DAYS.between(store.fittedOn, closedDay) >= refitIntervalDays
+				|| ChronoUnit.DAYS.between(store.trainedThrough, closedDay) > refitIntervalDays;
+
+			if (refit) {
+				fitFull(userId, store, closedDay);
+			} else if (store.trainedThrough.isBefore(closedDay)) {
+				updateIncremental(userId, store, closedDay);
+			}
+			store.result = buildResult(store);
+			return store.result;
+		}
+	}
+
+	private void fitFull(String userId, StoreModel store, LocalDate closedDay) {
+		LocalDate start = closedDay.minusDays(historyDays - 1L);
+		Map<LocalDate, Double> sales = loadDailySales(userId, start, closedDay);
+
+		store.history.clear();
+		// 첫 매출일 이전(영업 전)은 0으로 채우지 않음
+		LocalDate first = sales.keySet().stream().min(LocalDate::compareTo).orElse(null);
+		if (first != null) {
+			for (LocalDate day = first; !day.isAfter(closedDay); day = day.plusDays(1)) {
+				store.history.addLast(sales.getOrDefault(day, 0.0));
+			}
+		}
+
+		store.model = HoltWinters.fit(toArray(store.history), SEASON);
+		store.trainedThrough = closedDay;
+		store.fittedOn = closedDay;
+	}
+
+	private void updateIncremental(String userId, StoreModel store, LocalDate closedDay) {
+		Map<LocalDate, Double> sales = loadDailySales(userId, store.trainedThrough.plusDays(1), closedDay);
+		if (store.history.isEmpty() && sales.isEmpty()) {
+			store.trainedThrough = closedDay;
+			return;
+		}
+
+		boolean incremental = !store.history.isEmpty();
+		for (LocalDate day = store.trainedThrough.plusDays(1); !day.isAfter(closedDay); day = day.plusDays(1)) {
+			double amount = sales.getOrDefault(day, 0.0);
+			if (store.history.isEmpty() && amount == 0) {
+				continue;
+			}
+			store.history.addLast(amount);
+			if (store.history.size() > historyDays) {
+				store.history.removeFirst();
+			}
+			if (incremental) {
+				incremental = store.model.update(amount);
+			}
+		}
+
+		// 데이터가 짧아 평균/계절 naive인 동안은 매일 다시 적합 (이력이 짧아 비용이 작음)
+		if (!incremental) {
+			store.model = HoltWinters.fit(toArray(store.history), SEASON);
+			store.fittedOn = closedDay;
+		}
+		store.trainedThrough = closedDay;
+	}
+
+	private Map<String, Object> buildResult(StoreModel store) {
+		Map<String, Object> result = new HashMap<>();
+		result.put("trainedThrough", store.trainedThrough.toString());
+		result.put("trainingDays", store.history.size());
+
+		if (store.history.isEmpty()) {
+			result.put("model", "none");
+			result.put("residualStd", 0.0);
+			result.put("next7Days", Collections.emptyList());
+			result.put("next30Days", Collections.emptyList());
+			result.put("next7DaysTotal", 0.0);
+			result.put("next30DaysTotal", 0.0);
+			result.put("last7DaysTotal", 0.0);
+			result.put("last30DaysTotal", 0.0);
+			result.put("growthRate7", 0.0);
+			result.put("growthRate30", 0.0);
+			return result;
+		}
+
+		double[][] predicted = store.model.forecast(30);
+		List<Map<String, Object>> next30 = new ArrayList<>();
+		double next7Total = 0;
+		double next30Total = 0;
+		for (int h = 0; h < predicted.length; h++) {
+			Map<String, Object> point = new HashMap<>();
+			point.put("date", store.trainedThrough.plusDays(h + 1L).toString());
+			point.put("amount", Math.round(predicted[h][0]));
+			point.put("lower", Math.round(predicted[h][1]));
+			point.put("upper", Math.round(predicted[h][2]));
+			next30.add(point);
+			next30Total += predicted[h][0];
+			if (h < 7) {
+				next7Total += predicted[h][0];
+			}
+		}
+
+		double last7Total = trailingSum(store.history, 7);
+		double last30Total = trailingSum(store.history, 30);
+
+		result.put("model", store.model.getMethod().name().toLowerCase().replace('_', '-'));
+		result.put("residualStd", store.model.getResidualStd());
+		result.put("next7Days", next30.subList(0, 7));
+		result.put("next30Days", next30);
+		result.put("next7DaysTotal", next7Total);
+		result.put("next30DaysTotal", next30Total);
+		result.put("last7DaysTotal", last7Total);
+		result.put("last30DaysTotal", last30Total);
+		result.put("growthRate7", growthRate(next7Total, last7Total));
+		result.put("growthRate30", growthRate(next30Total, last30Total));
+		return result;
+	}
+
+	private Map<LocalDate, Double> loadDailySales(String userId, LocalDate startDate, LocalDate endDate) {
+		Map<LocalDate, Double> sales = new HashMap<>();
+		List<Map<String, Object>> rows = salesOrderRepository.getDailySalesForPeriod(userId, startDate.toString(), endDate.toString());
+		if (rows == null) {
+			return sales;
+		}
+		for (Map<String, Object> row : rows) {
+			// native 조회 결과는 DB에 따라 키가 대문자로 올 수 있음
+			Object date = row.get("sales_date");
+			if (date == null) date = row.get("SALES_DATE");
+			Object amount = row.get("amount");
+			if (amount == null) amount = row.get("AMOUNT");
+			if (date != null && amount != null) {
+				sales.put(LocalDate.parse(date.toString()), ((Number) amount).doubleValue());
+			}
+		}
+		return sales;
+	}
+
+	private static double[] toArray(Deque<Double> history) {
+		double[] series = new double[history.size()];
+		int i = 0;
+		for (Double v : history) {
+			series[i++] = v;
+		}
+		return series;
+	}
+
+	private static double trailingSum(Deque<Double> history, int days) {
+		double sum = 0;
+		int count = 0;
+		var it = history.descendingIterator();
+		while (it.hasNext() && count < days) {
+			sum += it.next();
+			count++;
+		}
+		return sum;
+	}
+
+	private static double growthRate(double next, double last) {
+		return last > 0 ? (next - last) / last * 100 : 0.0;
+	}
+}
@@ -0,0 +1,348 @@
+package com.voiz.service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.voiz.util.BlobStorage;
+import com.voiz.util.LocalBlobStorage;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+/**
+ * 업로드 파일 저장소 (메뉴 사진 원본 / 파생본).
+ * 파일은 항상 이 서버의 업로드 디렉터리(storage.local.root)에 먼저 쓰고 그 디렉터리에서 서빙합니다.
+ * 원격 저장소(storage.type=s3 또는 filesystem)가 설정되어 있으면
+ * - 새 파일은 작업 풀에서 원격 저장소로 비동기 복제 (요청은 기다리지 않음, 실패하면 주기적으로 재시도)
+ * - 이 서버에 없는 파일은 원격 저장소에서 받아 로컬에 둔 뒤 서빙 (read-through)
+ * - 어디에도 없는 키는 잠시(storage.read-through.miss-ttl-ms) 기억해 같은 URL마다 원격 조회하지 않음
+ * - 로컬 디렉터리는 캐시가 되므로 storage.cache.max-bytes를 넘으면 오래된 파일부터 지움 (복제가 끝난 파일만)
+ * 이므로 여러 서버 중 어느 서버로 요청이 가도 같은 사진을 서빙할 수 있습니다.
+ * storage.type=local(기본값)이면 지금처럼 서버 한 대의 디스크만 사용합니다.
+ */
+@Service
+public class UploadStorage {
+
+	@Autowired
+	private ObjectProvider<BlobStorage> remoteStorage;
+
+	@Value("${storage.local.root:uploads}")
+	private String localRoot;
+
+	@Value("${storage.replication.workers:2}")
+	private int workers;
+
+	@Value("${storage.replication.queue-capacity:1000}")
+	private int queueCapacity;
+
+	@Value("${storage.cache.max-bytes:2147483648}")
+	private long cacheMaxBytes;
+
+	@Value("${storage.read-through.miss-ttl-ms:30000}")
+	private long missTtlMs;
+
+	@Value("${storage.read-through.miss-max-entries:10000}")
+	private int missMaxEntries;
+
+	private LocalBlobStorage local;
+	private BlobStorage remote;
+	private ThreadPoolExecutor executor;
+	// 복제 대기 / 처리 중인 키, 복제에 실패해 재시도할 키 (둘 다 로컬 캐시 정리에서 제외)
+	private final Set<String> pending = ConcurrentHashMap.newKeySet();
+	private final Set<String> failed = ConcurrentHashMap.newKeySet();
+	// 같은 파일을 여러 요청이 동시에 원격에서 받지 않도록 키별 잠금
+	private final Map<String, Object> fetching = new ConcurrentHashMap<>();
+	// 원격 저장소에도 없던 키 -> 확인 시각 (없는 URL 요청마다 원격 조회하지 않도록)
+	private Map<String, Long> misses;
+	// 키를 아직 DB가 가리키는지 (캐시 정리에서 원격에 없는 파일을 다시 올릴지 판단, 등록 전이면 그대로 둠)
+	private volatile Predicate<String> referenced;
+
+	@PostConstruct
+	void init() {
+		local = new LocalBlobStorage(Path.of(localRoot));
+		remote = remoteStorage.getIfAvailable();
+		misses = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+				return size() > missMaxEntries;
+			}
+		});
+		if (remote != null) {
+			executor = new ThreadPoolExecutor(workers, workers, 0L, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<>(queueCapacity), r -> {
+					Thread thread = new Thread(r, "upload-replication");
+					thread.setDaemon(true);
+					return thread;
+				});
+		}
+		System.out.println("업로드 저장소: " + local.root()
+			+ (remote != null ? " + 원격 " + remote.getClass().getSimpleName() : " (로컬 전용)"));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor != null) {
+			// 대기 중인 복제는 끝까지 보냄 (다음 기동 때는 이 목록이 없으므로)
+			executor.shutdown();
+			try {
+				executor.awaitTermination(30, TimeUnit.SECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+		}
+	}
+
+	/**
+	 * 키가 아직 사용 중인지 확인하는 함수 등록 (메뉴 사진 서비스가 DB 참조 수로 판단)
+	 */
+	public void setReferenceCheck(Predicate<String> referenced) {
+		this.referenced = referenced;
+	}
+
+	/**
+	 * 이 서버의 업로드 디렉터리 (/uploads/* 서빙 위치)
+	 */
+	public Path root() {
+		return local.root();
+	}
+
+	/**
+	 * 키 -> 이 서버의 파일 경로 (파일이 실제로 있는지는 확인하지 않음)
+	 * @throws IllegalArgumentException 업로드 디렉터리 밖을 가리키는 키
+	 */
+	public Path localPath(String key) {
+		return local.path(key);
+	}
+
+	/**
+	 * localPath(key)에 새 파일을 쓴 뒤 호출. 원격 저장소가 있으면 비동기로 복제
+	 */
+	public void stored(String key) {
+		misses.remove(key);
+		if (remote == null || !pending.add(key)) {
+			return;
+		}
+		try {
+			executor.execute(() -> replicate(key));
+		} catch (RejectedExecutionException e) {
+			pending.remove(key);
+			failed.add(key);
+			System.err.println("업로드 복제 대기열이 가득 참, 재시도 예정: " + key);
+		}
+	}
+
+	/**
+	 * 이 서버 또는 원격 저장소에 파일이 있는지
+	 */
+	public boolean exists(String key) throws IOException {
+		return local.exists(key) || existsRemotely(key);
+	}
+
+	/**
+	 * 원격 저장소에 파일이 있는지 (원격 저장소가 없으면 false)
+	 */
+	public boolean existsRemotely(String key) throws IOException {
+		return remote != null && remote.exists(key);
+	}
+
+	/**
+	 * 이 서버의 파일 경로. 없으면 원격 저장소에서 받아 둔 뒤 반환 (read-through)
+	 * @return 어디에도 없으면 null (최근에 없다고 확인한 키는 원격을 다시 조회하지 않음)
+	 */
+	public Path fetch(String key) throws IOException {
+		Path path = local.path(key);
+		if (Files.isRegularFile(path)) {
+			return path;
+		}
+		if (remote == null) {
+			return null;
+		}
+		Long missedAt = misses.get(key);
+		if (missedAt != null) {
+			if (System.currentTimeMillis() - missedAt < missTtlMs) {
+				return null;
+			}
+			misses.remove(key);
+		}
+		Object lock = fetching.computeIfAbsent(key, k -> new Object());
+		synchronized (lock) {
+			try {
+				if (Files.isRegularFile(path)) {
+					return path;
+				}
+				long started = System.nanoTime();
+				if (!remote.get(key, path)) {
+					misses.put(key, System.currentTimeMillis());
+					return null;
+				}
+				System.out.println("업로드 파일 원격에서 가져옴: " + key + " ("
+					+ TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) + "ms)");
+				return path;
+			} finally {
+				fetching.remove(key);
+			}
+		}
+	}
+
+	/**
+	 * 파일 삭제 (이 서버는 바로, 원격 저장소는 비동기로)
+	 * 다른 서버의 로컬 캐시에 남은 사본은 그 서버의 캐시 정리에서 지워집니다.
+	 */
+	public void delete(String key) {
+		failed.remove(key);
+		try {
+			local.delete(key);
+		} catch (IOException e) {
+			System.err.println("업로드 파일 삭제 실패: " + key);
+		}
+		if (remote == null) {
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					remote.delete(key);
+				} catch (IOException e) {
+					System.err.println("원격 업로드 파일 삭제 실패: " + key + ", " + e.getMessage());
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			System.err.println("업로드 복제 대기열이 가득 차 원격 파일을 지우지 못함: " + key);
+		}
+	}
+
+	private void replicate(String key) {
+		try {
+			Path path = local.path(key);
+			if (!Files.isRegularFile(path)) {
+				// 복제 전에 삭제됨
+				failed.remove(key);
+				return;
+			}
+			// 내용 해시 파일명이므로 같은 키가 이미 있으면 다시 올리지 않음 (다른 서버가 올린 같은 사진)
+			if (!remote.exists(key)) {
+				String contentType = MediaTypeFactory.getMediaType(key)
+					.orElse(MediaType.APPLICATION_OCTET_STREAM).toString();
+				remote.put(key, path, contentType);
+			}
+			failed.remove(key);
+		} catch (IOException | RuntimeException e) {
+			failed.add(key);
+			System.err.println("업로드 복제 실패, 재시도 예정: " + key + ", " + e.getMessage());
+		} finally {
+			pending.remove(key);
+		}
+	}
+
+	/**
+	 * 복제에 실패한 파일 재시도
+	 */
+	@Scheduled(initialDelay = 60000, fixedDelay = 60000)
+	public void retryFailed() {
+		if (remote == null) {
+			return;
+		}
+		for (String key : new ArrayList<>(failed)) {
+			if (executor.getQueue().remainingCapacity() == 0) {
+				break;
+			}
+			failed.remove(key);
+			stored(key);
+		}
+	}
+
+	/**
+	 * 로컬 캐시 정리: 원격 저장소가 있으면 로컬 디렉터리가 max-bytes를 넘을 때
+	 * 복제가 끝난 파일을 오래된 것부터 지워 90%까지 줄임 (지운 파일은 다음 요청에서 다시 받음)
+	 */
+	@Scheduled(initialDelay = 300000, fixedDelay = 600000)
+	public void trimCache() {
+		if (remote == null) {
+			return;
+		}
+		record CachedFile(Path path, String key, long size, long lastModified) {
+		}
+		List<CachedFile> files = new ArrayList<>();
+		long total = 0;
+		try (Stream<Path> paths = Files.walk(local.root())) {
+			for (Path path : (Iterable<Path>) paths::iterator) {
+				BasicFileAttributes attributes;
+				try {
+					attributes = Files.readAttributes(path, BasicFileAttributes.class);
+				} catch (IOException e) {
+					// 훑는 사이에 지워진 파일
+					continue;
+				}
+				String name = path.getFileName().toString();
+				if (!attributes.isRegularFile() || name.endsWith(".tmp") || name.endsWith(".part")) {
+					continue;
+				}
+				String key = local.root().relativize(path).toString().replace('\\', '/');
+				files.add(new CachedFile(path, key, attributes.size(), attributes.lastModifiedTime().toMillis()));
+				total += attributes.size();
+			}
+		} catch (IOException e) {
+			System.err.println("업로드 캐시 정리 실패: " + e.getMessage());
+			return;
+		}
+		if (total <= cacheMaxBytes) {
+			return;
+		}
+
+		long target = cacheMaxBytes / 10 * 9;
+		long removed = 0;
+		files.sort(Comparator.comparingLong(CachedFile::lastModified));
+		for (CachedFile file : files) {
+			if (total <= target) {
+				break;
+			}
+			if (pending.contains(file.key()) || failed.contains(file.key())) {
+				continue;
+			}
+			try {
+				if (!remote.exists(file.key())) {
+					// 원격에 없는 파일: 다른 서버에서 삭제한 사진의 캐시이거나, 원격 저장소를 설정하기 전에 올린 사진
+					// 삭제된 사진을 다시 올리면 되살아나므로 아직 DB가 가리키는 파일만 복제하고 나머지는 그냥 지움
+					Predicate<String> check = referenced;
+					if (check == null) {
+						continue;
+					}
+					if (check.test(file.key())) {
+						stored(file.key());
+						continue;
+					}
+				}
+				Files.deleteIfExists(file.path());
+				total -= file.size();
+				removed++;
+			} catch (IOException e) {
+				System.err.println("업로드 캐시 파일 삭제 실패: " + file.key());
+			}
+		}
+		System.out.println("업로드 캐시 정리: " + removed + "개 삭제, 남은 용량 " + total / (1024 * 1024) + "MB");
+	}
+}
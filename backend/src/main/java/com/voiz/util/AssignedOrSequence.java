@@ -0,0 +1,30 @@
+package com.voiz.util;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * ID를 AssignedOrSequenceGenerator로 생성 (미리 넣은 ID가 있으면 그대로, 없으면 시퀀스에서 하나).
+ * 일괄 등록에서 시퀀스 값을 한 번에 여러 개 받아 넣는 엔티티에 붙입니다. (Menus, Tables)
+ */
+@IdGeneratorType(AssignedOrSequenceGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface AssignedOrSequence {
+
+	/**
+	 * DB 시퀀스 이름
+	 */
+	String sequenceName();
+
+	/**
+	 * 시퀀스 증가값 (DB 시퀀스의 INCREMENT BY와 같아야 함)
+	 */
+	int incrementSize() default 1;
+}
@@ -0,0 +1,53 @@
+package com.voiz.util;
+
+import java.lang.reflect.Member;
+import java.util.Properties;
+
+import org.hibernate.MappingException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.EventType;
+import org.hibernate.id.OptimizableGenerator;
+import org.hibernate.id.enhanced.SequenceStyleGenerator;
+import org.hibernate.id.factory.spi.CustomIdGeneratorCreationContext;
+import org.hibernate.service.ServiceRegistry;
+import org.hibernate.type.Type;
+
+/**
+ * 시퀀스 ID 생성기. 엔티티에 이미 ID가 들어 있으면 그 값을 그대로 씁니다.
+ * 일괄 등록처럼 시퀀스 값을 한 번의 조회로 여러 개 받아 미리 넣어 둔 경우 행마다 NEXTVAL을 호출하지 않기 위해 씁니다.
+ * ID가 없으면(0 또는 null) 기존처럼 시퀀스에서 하나 받습니다.
+ *
+ * 미리 넣은 ID가 있는 엔티티는 EntityManager.persist(...)로 저장해야 합니다.
+ * (Spring Data save(...)는 ID가 있으면 merge로 보고 SELECT 합니다)
+ *
+ * 엔티티 ID 필드에 @AssignedOrSequence(sequenceName = ...)로 지정합니다.
+ */
+public class AssignedOrSequenceGenerator extends SequenceStyleGenerator {
+
+	private final AssignedOrSequence config;
+
+	public AssignedOrSequenceGenerator(AssignedOrSequence config, Member member, CustomIdGeneratorCreationContext context) {
+		this.config = config;
+	}
+
+	@Override
+	public void configure(Type type, Properties parameters, ServiceRegistry serviceRegistry) throws MappingException {
+		// 어노테이션의 시퀀스 설정을 SequenceStyleGenerator 파라미터로 전달
+		parameters.setProperty(SEQUENCE_PARAM, config.sequenceName());
+		parameters.setProperty(OptimizableGenerator.INCREMENT_PARAM, String.valueOf(config.incrementSize()));
+		super.configure(type, parameters, serviceRegistry);
+	}
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+		if (currentValue instanceof Number number && number.longValue() != 0) {
+			return currentValue;
+		}
+		return super.generate(session, owner, currentValue, eventType);
+	}
+
+	@Override
+	public boolean allowAssignedIdentifiers() {
+		return true;
+	}
+}
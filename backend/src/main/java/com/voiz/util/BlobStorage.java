@@ -0,0 +1,30 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+/**
+ * 업로드 파일 저장소 (키 예: menuImages/3f2a...c9.jpg).
+ * 여러 서버가 함께 쓰는 원격 저장소(S3 호환 오브젝트 스토리지, 공유 파일 시스템) 구현을 바꿔 끼울 수 있도록
+ * 파일 단위 put / get / exists / delete만 정의합니다. 각 서버의 로컬 디스크는 UploadStorage가 캐시로 사용합니다.
+ */
+public interface BlobStorage {
+
+	/**
+	 * 파일 업로드 (같은 키가 있으면 덮어씀)
+	 */
+	void put(String key, Path source, String contentType) throws IOException;
+
+	/**
+	 * 파일을 target으로 내려받음 (다 받은 뒤 이름을 바꾸므로 target이 반쯤 쓰인 상태로 보이지 않음)
+	 * @return 키가 없으면 false
+	 */
+	boolean get(String key, Path target) throws IOException;
+
+	boolean exists(String key) throws IOException;
+
+	/**
+	 * 파일 삭제 (없으면 아무것도 하지 않음)
+	 */
+	void delete(String key) throws IOException;
+}
@@ -0,0 +1,656 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ML 서비스로 보내는 표 형태 데이터를 컬럼형 바이너리로 담는 본문 (Content-Type: application/x-voyz-columnar).
+ * 행마다 Map을 만들지 않고 컬럼별 기본형 배열(int[], long[], double[], UTF-8 바이트)에 바로 쌓아,
+ * 직렬화 CPU와 할당, 전송 크기를 줄입니다. ML 서비스(ml/columnar.py)는 numpy로 버퍼를 그대로 읽어
+ * JSON 본문과 같은 dict 구조로 복원합니다.
+ *
+ * 형식 (Arrow IPC의 버퍼 배치를 단순화, 리틀 엔디언, 버퍼마다 8바이트 정렬):
+ *   "VZC1" | int32 헤더 길이 | 헤더 JSON | 버퍼...
+ *   헤더: {"scalars": {...}, "tables": [{"path", "rows", "columns": [{"name", "type", "nulls", "buffers": [길이...]}]}]}
+ *   컬럼 버퍼: [null이 있으면 validity 비트맵(LSB 순서, 1 = 값 있음)] + 타입별 버퍼
+ *     int32 / int64 / float64: 값 배열
+ *     utf8: int32 오프셋(rows + 1), UTF-8 데이터
+ *     dictionary: int32 인덱스(rows), 사전 int32 오프셋, 사전 UTF-8 데이터 (국적, 메뉴명처럼 값 종류가 적은 문자열)
+ * 표의 path는 "previousPeriodData.sales"처럼 점으로 중첩 위치를 나타냅니다.
+ *
+ * ML 서비스가 이 형식을 받지 않으면 writeJson(...)으로 같은 데이터를 기존 JSON 구조로 씁니다.
+ */
+public class ColumnarPayload {
+
+	public static final MediaType MEDIA_TYPE = new MediaType("application", "x-voyz-columnar");
+
+	private static final byte[] MAGIC = {'V', 'Z', 'C', '1'};
+	private static final ObjectMapper HEADER_MAPPER = new ObjectMapper();
+
+	private final Map<String, Object> scalars = new LinkedHashMap<>();
+	private final List<Table> tables = new ArrayList<>();
+
+	/**
+	 * 표가 아닌 값 (기간, 사용자 ID 등). 헤더 JSON에 그대로 들어갑니다.
+	 */
+	public ColumnarPayload put(String name, Object value) {
+		scalars.put(name, value);
+		return this;
+	}
+
+	/**
+	 * 표 추가
+	 * @param path 본문 안의 위치 (예: "salesData", "previousPeriodData.sales")
+	 */
+	public Table table(String path) {
+		return table(path, 16);
+	}
+
+	/**
+	 * 행 수를 미리 알면 컬럼 배열을 그 크기로 만들어 배열 확장 복사를 줄임
+	 */
+	public Table table(String path, int expectedRows) {
+		Table table = new Table(path, Math.max(1, expectedRows));
+		tables.add(table);
+		return table;
+	}
+
+	public static final class Table {
+		private final String path;
+		private final int capacity;
+		private final List<Column> columns = new ArrayList<>();
+
+		private Table(String path, int capacity) {
+			this.path = path;
+			this.capacity = capacity;
+		}
+
+		public IntColumn intColumn(String name) {
+			return add(new IntColumn(name, capacity));
+		}
+
+		public LongColumn longColumn(String name) {
+			return add(new LongColumn(name, capacity));
+		}
+
+		public DoubleColumn doubleColumn(String name) {
+			return add(new DoubleColumn(name, capacity));
+		}
+
+		public StringColumn stringColumn(String name) {
+			return add(new StringColumn(name, capacity));
+		}
+
+		public DictionaryColumn dictionaryColumn(String name) {
+			return add(new DictionaryColumn(name, capacity));
+		}
+
+		private <C extends Column> C add(C column) {
+			columns.add(column);
+			return column;
+		}
+
+		public int rows() {
+			int rows = columns.isEmpty() ? 0 : columns.get(0).size;
+			for (Column column : columns) {
+				if (column.size != rows) {
+					throw new IllegalStateException("컬럼 길이 불일치: " + path + "." + column.name
+						+ " (" + column.size + " != " + rows + ")");
+				}
+			}
+			return rows;
+		}
+
+		private void writeJson(JsonGenerator generator) throws IOException {
+			int rows = rows();
+			generator.writeStartArray();
+			for (int i = 0; i < rows; i++) {
+				generator.writeStartObject();
+				for (Column column : columns) {
+					generator.writeFieldName(column.name);
+					if (column.isNull(i)) {
+						generator.writeNull();
+					} else {
+						column.writeJsonValue(generator, i);
+					}
+				}
+				generator.writeEndObject();
+			}
+			generator.writeEndArray();
+		}
+	}
+
+	/**
+	 * 컬럼 공통: 길이와 null 비트맵 (null이 처음 나올 때 만듦)
+	 */
+	public abstract static class Column {
+		private final String name;
+		private final String type;
+		protected int size;
+		private long[] validity;
+		private int nulls;
+
+		private Column(String name, String type) {
+			this.name = name;
+			this.type = type;
+		}
+
+		/**
+		 * 다음 행(size 위치)을 null로 표시
+		 */
+		protected void markNull() {
+			if (validity == null) {
+				validity = new long[(size >>> 6) + 1];
+				// 지금까지의 값은 모두 유효
+				for (int i = 0; i < size; i++) {
+					validity[i >>> 6] |= 1L << i;
+				}
+			} else if ((size >>> 6) >= validity.length) {
+				validity = Arrays.copyOf(validity, validity.length * 2);
+			}
+			nulls++;
+		}
+
+		/**
+		 * 다음 행(size 위치)을 유효한 값으로 표시 (null이 한 번도 없었으면 비트맵 없이 넘어감)
+		 */
+		protected void markValid() {
+			if (validity != null) {
+				if ((size >>> 6) >= validity.length) {
+					validity = Arrays.copyOf(validity, validity.length * 2);
+				}
+				validity[size >>> 6] |= 1L << size;
+			}
+		}
+
+		boolean isNull(int index) {
+			return validity != null && (validity[index >>> 6] & (1L << index)) == 0;
+		}
+
+		private List<Integer> bufferLengths() {
+			List<Integer> lengths = new ArrayList<>();
+			if (nulls > 0) {
+				lengths.add((size + 7) / 8);
+			}
+			addValueBufferLengths(lengths);
+			return lengths;
+		}
+
+		private void writeBuffers(LittleEndianWriter out) throws IOException {
+			if (nulls > 0) {
+				int bytes = (size + 7) / 8;
+				for (int i = 0; i < bytes; i++) {
+					out.int8((int) (validity[i >>> 3] >>> ((i & 7) * 8)));
+				}
+				out.pad();
+			}
+			writeValueBuffers(out);
+		}
+
+		abstract void addValueBufferLengths(List<Integer> lengths);
+
+		abstract void writeValueBuffers(LittleEndianWriter out) throws IOException;
+
+		abstract void writeJsonValue(JsonGenerator generator, int index) throws IOException;
+	}
+
+	public static final class IntColumn extends Column {
+		private int[] values;
+
+		private IntColumn(String name, int capacity) {
+			super(name, "int32");
+			this.values = new int[capacity];
+		}
+
+		public void add(int value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			markValid();
+			values[size++] = value;
+		}
+
+		public void add(Number value) {
+			if (value == null) {
+				addNull();
+			} else {
+				add(value.intValue());
+			}
+		}
+
+		public void addNull() {
+			markNull();
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = 0;
+		}
+
+		@Override
+		void addValueBufferLengths(List<Integer> lengths) {
+			lengths.add(size * 4);
+		}
+
+		@Override
+		void writeValueBuffers(LittleEndianWriter out) throws IOException {
+			for (int i = 0; i < size; i++) {
+				out.int32(values[i]);
+			}
+			out.pad();
+		}
+
+		@Override
+		void writeJsonValue(JsonGenerator generator, int index) throws IOException {
+			generator.writeNumber(values[index]);
+		}
+	}
+
+	public static final class LongColumn extends Column {
+		private long[] values;
+
+		private LongColumn(String name, int capacity) {
+			super(name, "int64");
+			this.values = new long[capacity];
+		}
+
+		public void add(long value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			markValid();
+			values[size++] = value;
+		}
+
+		public void add(Number value) {
+			if (value == null) {
+				addNull();
+			} else {
+				add(value.longValue());
+			}
+		}
+
+		public void addNull() {
+			markNull();
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = 0;
+		}
+
+		@Override
+		void addValueBufferLengths(List<Integer> lengths) {
+			lengths.add(size * 8);
+		}
+
+		@Override
+		void writeValueBuffers(LittleEndianWriter out) throws IOException {
+			for (int i = 0; i < size; i++) {
+				out.int64(values[i]);
+			}
+		}
+
+		@Override
+		void writeJsonValue(JsonGenerator generator, int index) throws IOException {
+			generator.writeNumber(values[index]);
+		}
+	}
+
+	public static final class DoubleColumn extends Column {
+		private double[] values;
+
+		private DoubleColumn(String name, int capacity) {
+			super(name, "float64");
+			this.values = new double[capacity];
+		}
+
+		public void add(double value) {
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			markValid();
+			values[size++] = value;
+		}
+
+		public void add(Number value) {
+			if (value == null) {
+				addNull();
+			} else {
+				add(value.doubleValue());
+			}
+		}
+
+		public void addNull() {
+			markNull();
+			if (size == values.length) {
+				values = Arrays.copyOf(values, size * 2);
+			}
+			values[size++] = 0;
+		}
+
+		@Override
+		void addValueBufferLengths(List<Integer> lengths) {
+			lengths.add(size * 8);
+		}
+
+		@Override
+		void writeValueBuffers(LittleEndianWriter out) throws IOException {
+			for (int i = 0; i < size; i++) {
+				out.float64(values[i]);
+			}
+		}
+
+		@Override
+		void writeJsonValue(JsonGenerator generator, int index) throws IOException {
+			generator.writeNumber(values[index]);
+		}
+	}
+
+	/**
+	 * 문자열 컬럼 (오프셋 + UTF-8 데이터)
+	 */
+	public static final class StringColumn extends Column {
+		private int[] offsets;
+		private byte[] data;
+		private int end;
+
+		private StringColumn(String name, int capacity) {
+			super(name, "utf8");
+			this.offsets = new int[capacity + 1];
+			// 짧은 문자열(메뉴명, 날짜, 한두 문장 리뷰) 기준으로 행당 32바이트
+			this.data = new byte[capacity * 32];
+		}
+
+		public void add(String value) {
+			if (value == null) {
+				markNull();
+			} else {
+				markValid();
+				appendUtf8(value);
+			}
+			if (size + 2 > offsets.length) {
+				offsets = Arrays.copyOf(offsets, offsets.length * 2);
+			}
+			size++;
+			offsets[size] = end;
+		}
+
+		/**
+		 * String.getBytes 없이 데이터 버퍼에 바로 UTF-8로 기록
+		 */
+		private void appendUtf8(String value) {
+			int length = value.length();
+			ensureData(end + length * 3);
+			for (int i = 0; i < length; i++) {
+				char c = value.charAt(i);
+				if (c < 0x80) {
+					data[end++] = (byte) c;
+				} else if (c < 0x800) {
+					data[end++] = (byte) (0xC0 | (c >> 6));
+					data[end++] = (byte) (0x80 | (c & 0x3F));
+				} else if (Character.isHighSurrogate(c) && i + 1 < length && Character.isLowSurrogate(value.charAt(i + 1))) {
+					int cp = Character.toCodePoint(c, value.charAt(++i));
+					data[end++] = (byte) (0xF0 | (cp >> 18));
+					data[end++] = (byte) (0x80 | ((cp >> 12) & 0x3F));
+					data[end++] = (byte) (0x80 | ((cp >> 6) & 0x3F));
+					data[end++] = (byte) (0x80 | (cp & 0x3F));
+				} else if (Character.isSurrogate(c)) {
+					data[end++] = '?';
+				} else {
+					data[end++] = (byte) (0xE0 | (c >> 12));
+					data[end++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+					data[end++] = (byte) (0x80 | (c & 0x3F));
+				}
+			}
+		}
+
+		private void ensureData(int capacity) {
+			if (capacity > data.length) {
+				data = Arrays.copyOf(data, Math.max(capacity, data.length * 2));
+			}
+		}
+
+		String get(int index) {
+			return new String(data, offsets[index], offsets[index + 1] - offsets[index], StandardCharsets.UTF_8);
+		}
+
+		@Override
+		void addValueBufferLengths(List<Integer> lengths) {
+			lengths.add((size + 1) * 4);
+			lengths.add(end);
+		}
+
+		@Override
+		void writeValueBuffers(LittleEndianWriter out) throws IOException {
+			for (int i = 0; i <= size; i++) {
+				out.int32(offsets[i]);
+			}
+			out.pad();
+			out.bytes(data, 0, end);
+			out.pad();
+		}
+
+		@Override
+		void writeJsonValue(JsonGenerator generator, int index) throws IOException {
+			generator.writeString(get(index));
+		}
+	}
+
+	/**
+	 * 값 종류가 적은 문자열 컬럼 (사전 인덱스 + 사전)
+	 */
+	public static final class DictionaryColumn extends Column {
+		private int[] indices;
+		private final Map<String, Integer> lookup = new HashMap<>();
+		private final StringColumn dictionary = new StringColumn("dictionary", 16);
+
+		private DictionaryColumn(String name, int capacity) {
+			super(name, "dictionary");
+			this.indices = new int[capacity];
+		}
+
+		public void add(String value) {
+			if (size == indices.length) {
+				indices = Arrays.copyOf(indices, size * 2);
+			}
+			if (value == null) {
+				markNull();
+				indices[size++] = 0;
+				return;
+			}
+			markValid();
+			Integer index = lookup.get(value);
+			if (index == null) {
+				index = lookup.size();
+				lookup.put(value, index);
+				dictionary.add(value);
+			}
+			indices[size++] = index;
+		}
+
+		@Override
+		void addValueBufferLengths(List<Integer> lengths) {
+			lengths.add(size * 4);
+			dictionary.addValueBufferLengths(lengths);
+		}
+
+		@Override
+		void writeValueBuffers(LittleEndianWriter out) throws IOException {
+			for (int i = 0; i < size; i++) {
+				out.int32(indices[i]);
+			}
+			out.pad();
+			dictionary.writeValueBuffers(out);
+		}
+
+		@Override
+		void writeJsonValue(JsonGenerator generator, int index) throws IOException {
+			generator.writeString(dictionary.get(indices[index]));
+		}
+	}
+
+	/**
+	 * 컬럼형 바이너리로 기록 (스트림은 닫지 않음)
+	 */
+	public void writeTo(OutputStream out) throws IOException {
+		Map<String, Object> header = new LinkedHashMap<>();
+		header.put("scalars", scalars);
+		List<Map<String, Object>> tableHeaders = new ArrayList<>();
+		for (Table table : tables) {
+			List<Map<String, Object>> columnHeaders = new ArrayList<>();
+			for (Column column : table.columns) {
+				Map<String, Object> columnHeader = new LinkedHashMap<>();
+				columnHeader.put("name", column.name);
+				columnHeader.put("type", column.type);
+				columnHeader.put("nulls", column.nulls);
+				columnHeader.put("buffers", column.bufferLengths());
+				columnHeaders.add(columnHeader);
+			}
+			Map<String, Object> tableHeader = new LinkedHashMap<>();
+			tableHeader.put("path", table.path);
+			tableHeader.put("rows", table.rows());
+			tableHeader.put("columns", columnHeaders);
+			tableHeaders.add(tableHeader);
+		}
+		header.put("tables", tableHeaders);
+		byte[] headerBytes = HEADER_MAPPER.writeValueAsBytes(header);
+
+		LittleEndianWriter writer = new LittleEndianWriter(out);
+		writer.bytes(MAGIC, 0, MAGIC.length);
+		writer.int32(headerBytes.length);
+		writer.bytes(headerBytes, 0, headerBytes.length);
+		writer.pad();
+		for (Table table : tables) {
+			for (Column column : table.columns) {
+				column.writeBuffers(writer);
+			}
+		}
+		writer.flush();
+	}
+
+	/**
+	 * 같은 데이터를 기존 JSON 구조(표는 행 객체 배열)로 기록. 컬럼형을 받지 않는 ML 서비스용
+	 */
+	public void writeJson(JsonGenerator generator) throws IOException {
+		Map<String, Object> root = new LinkedHashMap<>(scalars);
+		for (Table table : tables) {
+			Map<String, Object> parent = root;
+			String[] path = table.path.split("\\.");
+			for (int i = 0; i < path.length - 1; i++) {
+				// put(...)으로 넣은 Map은 복사해서 채움 (호출한 쪽 Map을 바꾸지 않음)
+				Object child = parent.get(path[i]);
+				Map<String, Object> next = new LinkedHashMap<>();
+				if (child instanceof Map<?, ?> map) {
+					map.forEach((key, value) -> next.put(String.valueOf(key), value));
+				}
+				parent.put(path[i], next);
+				parent = next;
+			}
+			parent.put(path[path.length - 1], table);
+		}
+		writeJsonValue(generator, root);
+	}
+
+	private static void writeJsonValue(JsonGenerator generator, Object value) throws IOException {
+		if (value instanceof Table table) {
+			table.writeJson(generator);
+		} else if (value instanceof Map<?, ?> map && map.values().stream().anyMatch(v -> v instanceof Table || v instanceof Map)) {
+			generator.writeStartObject();
+			for (Map.Entry<?, ?> entry : map.entrySet()) {
+				generator.writeFieldName(String.valueOf(entry.getKey()));
+				writeJsonValue(generator, entry.getValue());
+			}
+			generator.writeEndObject();
+		} else {
+			HEADER_MAPPER.writeValue(generator, value);
+		}
+	}
+
+	/**
+	 * 리틀 엔디언 버퍼 기록 (8KB 단위로 스트림에 씀)
+	 */
+	private static final class LittleEndianWriter {
+		private final OutputStream out;
+		private final ByteBuffer buffer = ByteBuffer.allocate(8192).order(ByteOrder.LITTLE_ENDIAN);
+		private long position;
+
+		private LittleEndianWriter(OutputStream out) {
+			this.out = out;
+		}
+
+		private void ensure(int bytes) throws IOException {
+			if (buffer.remaining() < bytes) {
+				drain();
+			}
+		}
+
+		private void drain() throws IOException {
+			out.write(buffer.array(), 0, buffer.position());
+			buffer.clear();
+		}
+
+		void int8(int value) throws IOException {
+			ensure(1);
+			buffer.put((byte) value);
+			position++;
+		}
+
+		void int32(int value) throws IOException {
+			ensure(4);
+			buffer.putInt(value);
+			position += 4;
+		}
+
+		void int64(long value) throws IOException {
+			ensure(8);
+			buffer.putLong(value);
+			position += 8;
+		}
+
+		void float64(double value) throws IOException {
+			ensure(8);
+			buffer.putDouble(value);
+			position += 8;
+		}
+
+		void bytes(byte[] bytes, int offset, int length) throws IOException {
+			if (length > buffer.remaining()) {
+				drain();
+				if (length > buffer.capacity()) {
+					out.write(bytes, offset, length);
+					position += length;
+					return;
+				}
+			}
+			buffer.put(bytes, offset, length);
+			position += length;
+		}
+
+		/**
+		 * 다음 버퍼가 8바이트 경계에서 시작하도록 0으로 채움
+		 */
+		void pad() throws IOException {
+			while ((position & 7) != 0) {
+				int8(0);
+			}
+		}
+
+		void flush() throws IOException {
+			drain();
+			out.flush();
+		}
+	}
+}
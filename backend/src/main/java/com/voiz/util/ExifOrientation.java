@@ -0,0 +1,119 @@
+package com.voiz.util;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.geom.AffineTransform;
+import java.awt.image.BufferedImage;
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * JPEG EXIF 방향(Orientation) 태그 읽기 / 적용.
+ * 휴대폰 사진은 센서 방향 그대로 저장하고 회전 정보만 EXIF에 남기므로,
+ * 다시 인코딩해 EXIF가 빠지면 브라우저에서 옆으로 누워 보입니다. 파생본을 만들 때 픽셀을 실제로 돌려 둡니다.
+ */
+public final class ExifOrientation {
+
+	private static final int ORIENTATION_TAG = 0x0112;
+
+	private ExifOrientation() {
+	}
+
+	/**
+	 * JPEG 헤더에서 방향 값 읽기 (헤더만 읽고 멈춤)
+	 * @return 1~8, JPEG가 아니거나 태그가 없으면 1
+	 */
+	public static int read(InputStream in) throws IOException {
+		DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+		if (data.readUnsignedShort() != 0xFFD8) {
+			return 1;
+		}
+		while (true) {
+			int marker = data.readUnsignedShort();
+			// 스캔 데이터(SOS) 이후에는 EXIF가 없음
+			if ((marker & 0xFF00) != 0xFF00 || marker == 0xFFDA || marker == 0xFFD9) {
+				return 1;
+			}
+			int length = data.readUnsignedShort() - 2;
+			if (length < 0) {
+				return 1;
+			}
+			if (marker == 0xFFE1) {
+				byte[] segment = data.readNBytes(length);
+				if (segment.length >= 14 && segment[0] == 'E' && segment[1] == 'x' && segment[2] == 'i'
+						&& segment[3] == 'f' && segment[4] == 0 && segment[5] == 0) {
+					return readTiffOrientation(segment, 6);
+				}
+			} else {
+				data.skipNBytes(length);
+			}
+		}
+	}
+
+	/**
+	 * 방향 값에 맞게 돌리거나 뒤집은 이미지 (1이면 그대로)
+	 */
+	public static BufferedImage apply(BufferedImage image, int orientation) {
+		if (orientation < 2 || orientation > 8) {
+			return image;
+		}
+		int w = image.getWidth();
+		int h = image.getHeight();
+		AffineTransform transform = switch (orientation) {
+			case 2 -> new AffineTransform(-1, 0, 0, 1, w, 0);   // 좌우 반전
+			case 3 -> new AffineTransform(-1, 0, 0, -1, w, h);  // 180도
+			case 4 -> new AffineTransform(1, 0, 0, -1, 0, h);   // 상하 반전
+			case 5 -> new AffineTransform(0, 1, 1, 0, 0, 0);    // 전치
+			case 6 -> new AffineTransform(0, 1, -1, 0, h, 0);   // 시계 방향 90도
+			case 7 -> new AffineTransform(0, -1, -1, 0, h, w);  // 역전치
+			default -> new AffineTransform(0, -1, 1, 0, 0, w);  // 반시계 방향 90도
+		};
+		boolean swap = orientation >= 5;
+		BufferedImage rotated = new BufferedImage(swap ? h : w, swap ? w : h, BufferedImage.TYPE_INT_RGB);
+		Graphics2D graphics = rotated.createGraphics();
+		try {
+			graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_NEAREST_NEIGHBOR);
+			graphics.drawImage(image, transform, null);
+		} finally {
+			graphics.dispose();
+		}
+		return rotated;
+	}
+
+	private static int readTiffOrientation(byte[] b, int tiff) {
+		boolean little = b[tiff] == 'I' && b[tiff + 1] == 'I';
+		long ifd = tiff + readInt(b, tiff + 4, little);
+		if (ifd < tiff || ifd + 2 > b.length) {
+			return 1;
+		}
+		int count = readShort(b, (int) ifd, little);
+		for (int i = 0; i < count; i++) {
+			int entry = (int) ifd + 2 + i * 12;
+			if (entry + 12 > b.length) {
+				break;
+			}
+			if (readShort(b, entry, little) == ORIENTATION_TAG) {
+				int value = readShort(b, entry + 8, little);
+				return value >= 1 && value <= 8 ? value : 1;
+			}
+		}
+		return 1;
+	}
+
+	private static int readShort(byte[] b, int offset, boolean little) {
+		int b0 = b[offset] & 0xFF;
+		int b1 = b[offset + 1] & 0xFF;
+		return little ? (b1 << 8) | b0 : (b0 << 8) | b1;
+	}
+
+	private static long readInt(byte[] b, int offset, boolean little) {
+		if (offset + 4 > b.length) {
+			return -1;
+		}
+		long hi = readShort(b, offset, little);
+		long lo = readShort(b, offset + 2, little);
+		return little ? (lo << 16) | hi : (hi << 16) | lo;
+	}
+}
@@ -3,6 +3,7 @@ package com.voiz.util;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.*;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -15,7 +16,8 @@ public class GeoConverter {
     private static final String KAKAO_KEY = "289d2b458baae257442cb5ac55c26946";
     private static final String KAKAO_URL = "https://dapi.kakao.com/v2/local/search/address.json";
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    @Autowired
+    private RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
     /**
@@ -26,10 +28,9 @@ public class GeoConverter {
         headers.set("Authorization", "KakaoAK " + KAKAO_KEY);
         HttpEntity<String> entity = new HttpEntity<>(headers);
 
-        String url = KAKAO_URL + "?query=" + address;
-
         try {
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.GET, entity, String.class);
+            // 주소는 URI 템플릿 변수로 넘겨 인코딩하고, 호출 메트릭도 주소별이 아닌 하나의 엔드포인트로 집계
+            ResponseEntity<String> response = restTemplate.exchange(KAKAO_URL + "?query={query}", HttpMethod.GET, entity, String.class, address);
             JsonNode doc = objectMapper.readTree(response.getBody()).path("documents").get(0);
             if (doc == null || doc.isMissingNode()) return Optional.empty();
 
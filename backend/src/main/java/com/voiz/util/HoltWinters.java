@@ -0,0 +1,205 @@
+package com.voiz.util;
+
+/**
+ * 일별 매출 예측용 가법(additive) Holt-Winters 모델 (감쇠 추세 + 주간 계절성).
+ * 데이터가 두 주기보다 짧으면 계절 naive(지난 주 같은 요일), 한 주기보다 짧으면 평균으로 예측합니다.
+ * 예측 구간은 1-step 잔차 표준편차를 예측 시점까지 누적해 계산합니다.
+ */
+public final class HoltWinters {
+
+	public enum Method { HOLT_WINTERS, SEASONAL_NAIVE, MEAN }
+
+	// 감쇠 추세 계수: 30일 이상 예측 시 추세가 끝없이 커지지 않도록 함
+	private static final double PHI = 0.98;
+	private static final double[] GRID = {0.05, 0.1, 0.2, 0.4, 0.6, 0.8};
+	private static final double Z_95 = 1.96;
+
+	private final Method method;
+	private final int season;
+	private final double alpha;
+	private final double beta;
+	private final double gamma;
+
+	private double level;
+	private double trend;
+	private final double[] seasonal;
+	// 다음 관측값의 계절 위치
+	private int position;
+
+	private double sse;
+	private int errorCount;
+	private double residualStd;
+
+	private HoltWinters(Method method, int season, double alpha, double beta, double gamma) {
+		this.method = method;
+		this.season = season;
+		this.alpha = alpha;
+		this.beta = beta;
+		this.gamma = gamma;
+		this.seasonal = new double[season];
+	}
+
+	/**
+	 * 시계열에 모델 적합. 데이터 길이에 따라 방법을 고르고, Holt-Winters는 격자 탐색으로
+	 * 1-step 예측 오차 제곱합이 가장 작은 평활 계수를 선택합니다.
+	 * @param series 과거 → 최근 순서의 일별 값 (빈 날은 0)
+	 * @param season 계절 주기 (요일 패턴이면 7)
+	 */
+	public static HoltWinters fit(double[] series, int season) {
+		if (series.length >= 2 * season) {
+			HoltWinters best = null;
+			for (double a : GRID) {
+				for (double b : GRID) {
+					for (double g : GRID) {
+						HoltWinters candidate = new HoltWinters(Method.HOLT_WINTERS, season, a, b, g);
+						candidate.train(series);
+						if (best == null || candidate.sse < best.sse) {
+							best = candidate;
+						}
+					}
+				}
+			}
+			return best;
+		}
+
+		HoltWinters naive = new HoltWinters(series.length >= season ? Method.SEASONAL_NAIVE : Method.MEAN, season, 0, 0, 0);
+		naive.trainNaive(series);
+		return naive;
+	}
+
+	/**
+	 * 마감된 하루의 값을 반영 (Holt-Winters만 계수 재탐색 없이 상태만 갱신)
+	 * @return 증분 갱신했으면 true, 전체 재적합이 필요하면 false
+	 */
+	public boolean update(double y) {
+		if (method != Method.HOLT_WINTERS) {
+			return false;
+		}
+		step(y);
+		residualStd = Math.sqrt(sse / Math.max(1, errorCount));
+		return true;
+	}
+
+	/**
+	 * h일 앞까지 예측
+	 * @return [h][3] 배열: 예측값, 하한, 상한 (95% 구간, 0 미만은 0으로 자름)
+	 */
+	public double[][] forecast(int horizon) {
+		double[][] result = new double[horizon][3];
+		double variance = 0;
+		double dampedSum = 0;
+		for (int h = 1; h <= horizon; h++) {
+			double mean;
+			double std;
+			switch (method) {
+				case HOLT_WINTERS -> {
+					// 예측 오차 분산 누적: 1 + Σ c_j², c_j = α(1 + βΣφ^i) + γ·[j가 주기의 배수] (j = 1..h-1)
+					if (h == 1) {
+						variance = 1;
+					} else {
+						int j = h - 1;
+						double c = alpha * (1 + beta * dampedSum) + (j % season == 0 ? gamma : 0);
+						variance += c * c;
+					}
+					dampedSum += Math.pow(PHI, h);
+					mean = level + dampedSum * trend + seasonal[(position + h - 1) % season];
+					std = residualStd * Math.sqrt(variance);
+				}
+				case SEASONAL_NAIVE -> {
+					mean = seasonal[(position + h - 1) % season];
+					std = residualStd * Math.sqrt((h - 1) / season + 1);
+				}
+				default -> {
+					mean = level;
+					std = residualStd;
+				}
+			}
+			mean = Math.max(0, mean);
+			result[h - 1][0] = mean;
+			result[h - 1][1] = Math.max(0, mean - Z_95 * std);
+			result[h - 1][2] = Math.max(0, mean + Z_95 * std);
+		}
+		return result;
+	}
+
+	public Method getMethod() {
+		return method;
+	}
+
+	public double getResidualStd() {
+		return residualStd;
+	}
+
+	private void train(double[] series) {
+		// 초기값: 첫 주기 평균을 수준, 두 주기 평균 차이를 추세, 첫 주기 편차를 계절 성분으로
+		double firstMean = 0;
+		double secondMean = 0;
+		for (int i = 0; i < season; i++) {
+			firstMean += series[i];
+			secondMean += series[season + i];
+		}
+		firstMean /= season;
+		secondMean /= season;
+
+		level = firstMean;
+		trend = (secondMean - firstMean) / season;
+		for (int i = 0; i < season; i++) {
+			seasonal[i] = series[i] - firstMean;
+		}
+		position = 0;
+
+		for (int t = season; t < series.length; t++) {
+			step(series[t]);
+		}
+		residualStd = Math.sqrt(sse / Math.max(1, errorCount));
+	}
+
+	private void step(double y) {
+		double s = seasonal[position];
+		double error = y - (level + PHI * trend + s);
+		sse += error * error;
+		errorCount++;
+
+		double previousLevel = level;
+		level = alpha * (y - s) + (1 - alpha) * (level + PHI * trend);
+		trend = beta * (level - previousLevel) + (1 - beta) * PHI * trend;
+		seasonal[position] = gamma * (y - level) + (1 - gamma) * s;
+		position = (position + 1) % season;
+	}
+
+	private void trainNaive(double[] series) {
+		int n = series.length;
+		if (n == 0) {
+			return;
+		}
+		if (method == Method.SEASONAL_NAIVE) {
+			// 마지막 한 주기를 그대로 반복, 잔차는 지난 주기 같은 위치와의 차이
+			for (int i = 0; i < season; i++) {
+				seasonal[(n - season + i) % season] = series[n - season + i];
+			}
+			position = n % season;
+			for (int t = season; t < n; t++) {
+				double error = series[t] - series[t - season];
+				sse += error * error;
+				errorCount++;
+			}
+			if (errorCount > 0) {
+				residualStd = Math.sqrt(sse / errorCount);
+				return;
+			}
+		}
+
+		// 평균 및 표준편차 (계절 naive 잔차가 없을 때도 사용)
+		double mean = 0;
+		for (double v : series) {
+			mean += v;
+		}
+		mean /= n;
+		double variance = 0;
+		for (double v : series) {
+			variance += (v - mean) * (v - mean);
+		}
+		level = mean;
+		residualStd = Math.sqrt(variance / n);
+	}
+}
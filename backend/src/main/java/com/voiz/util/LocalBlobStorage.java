@@ -0,0 +1,71 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+
+/**
+ * 파일 시스템 저장소. 각 서버의 업로드 디렉터리, 또는 여러 서버가 함께 마운트한 공유 디렉터리(NFS 등)에 사용합니다.
+ */
+public class LocalBlobStorage implements BlobStorage {
+
+	private final Path root;
+
+	public LocalBlobStorage(Path root) {
+		this.root = root.toAbsolutePath().normalize();
+	}
+
+	public Path root() {
+		return root;
+	}
+
+	/**
+	 * 키 -> 파일 경로
+	 * @throws IllegalArgumentException ../ 등으로 저장소 밖을 가리키는 키
+	 */
+	public Path path(String key) {
+		Path path = root.resolve(key).normalize();
+		if (!path.startsWith(root) || path.equals(root)) {
+			throw new IllegalArgumentException("저장소 밖을 가리키는 키: " + key);
+		}
+		return path;
+	}
+
+	@Override
+	public void put(String key, Path source, String contentType) throws IOException {
+		copy(source, path(key));
+	}
+
+	@Override
+	public boolean get(String key, Path target) throws IOException {
+		Path path = path(key);
+		if (!Files.isRegularFile(path)) {
+			return false;
+		}
+		copy(path, target);
+		return true;
+	}
+
+	@Override
+	public boolean exists(String key) {
+		return Files.isRegularFile(path(key));
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		Files.deleteIfExists(path(key));
+	}
+
+	private static void copy(Path source, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		// 다른 서버가 읽는 중인 파일이 반쯤 쓰인 상태로 보이지 않도록 임시 파일에 복사한 뒤 이름 변경
+		Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+		try {
+			Files.copy(source, temp, StandardCopyOption.REPLACE_EXISTING);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+}
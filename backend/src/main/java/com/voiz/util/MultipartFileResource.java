@@ -1,20 +1,45 @@
 package com.voiz.util;
 
 import java.io.IOException;
+import java.io.InputStream;
 
-import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.AbstractResource;
 import org.springframework.web.multipart.MultipartFile;
 
-public class MultipartFileResource extends ByteArrayResource {
-    private final String filename;
+/**
+ * 업로드 파일을 multipart 요청의 파트로 다시 보낼 때 쓰는 Resource.
+ * getBytes()로 힙에 올리지 않고, 전송할 때마다 업로드 임시 파일에서 스트림을 새로 열어 그대로 흘려보냅니다.
+ * 크기는 MultipartFile이 알고 있으므로 contentLength()가 본문을 읽지 않습니다.
+ */
+public class MultipartFileResource extends AbstractResource {
+    private final MultipartFile multipartFile;
     
-    public MultipartFileResource(MultipartFile multipartFile) throws IOException {
-        super(multipartFile.getBytes());
-        this.filename = multipartFile.getOriginalFilename();
+    public MultipartFileResource(MultipartFile multipartFile) {
+        this.multipartFile = multipartFile;
+    }
+    
+    @Override
+    public InputStream getInputStream() throws IOException {
+        return multipartFile.getInputStream();
+    }
+    
+    @Override
+    public long contentLength() {
+        return multipartFile.getSize();
+    }
+    
+    @Override
+    public boolean exists() {
+        return true;
     }
     
     @Override
     public String getFilename() {
-        return this.filename;
+        return multipartFile.getOriginalFilename();
+    }
+    
+    @Override
+    public String getDescription() {
+        return "MultipartFile resource [" + multipartFile.getName() + "]";
     }
 }
@@ -0,0 +1,208 @@
+package com.voiz.util;
+
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.TreeMap;
+import java.util.zip.DeflaterOutputStream;
+
+import com.google.zxing.common.BitMatrix;
+
+/**
+ * 테이블 QR 코드 인쇄용 PDF (A4, 한 쪽에 2 x 3개).
+ * 쪽이 찰 때마다 바로 응답 스트림에 쓰고 비우므로, 테이블이 많아도 메모리에는 한 쪽 분량만 남습니다.
+ * QR은 모듈 하나를 1픽셀로 한 1비트 이미지로 넣고 PDF 뷰어가 보간 없이 확대하므로
+ * 파일이 작고 어떤 크기로 인쇄해도 경계가 선명합니다.
+ * 라벨은 내장 Helvetica로 쓰므로 ASCII만 사용합니다 (예: "Table 12").
+ * 모든 QR을 추가한 뒤 finish()를 불러야 완전한 파일이 됩니다. 중간에 실패하면 finish()를 부르지 않아
+ * 끝(상호 참조표)이 없는 파일로 남기므로, 받는 쪽에서 일부 쪽만 든 정상 파일로 오인하지 않습니다.
+ */
+public class QrSheetPdfWriter {
+
+	private static final float PAGE_WIDTH = 595.28f;
+	private static final float PAGE_HEIGHT = 841.89f;
+	private static final float MARGIN = 40;
+	private static final int COLUMNS = 2;
+	private static final int ROWS = 3;
+	private static final float QR_SIZE = 190;
+	private static final float LABEL_SIZE = 14;
+
+	// 미리 번호를 정해 두는 객체 (쪽 목록은 쪽 수를 알 수 있는 마지막에 씀)
+	private static final int CATALOG = 1;
+	private static final int PAGES = 2;
+	private static final int FONT = 3;
+
+	private final CountingOutputStream out;
+	private final TreeMap<Integer, Long> offsets = new TreeMap<>();
+	private final List<Integer> pages = new ArrayList<>();
+	private int nextObject = FONT + 1;
+
+	// 현재 쪽
+	private final StringBuilder content = new StringBuilder();
+	private final StringBuilder images = new StringBuilder();
+	private int slot;
+
+	public QrSheetPdfWriter(OutputStream out) throws IOException {
+		this.out = new CountingOutputStream(out);
+		// 두 번째 줄: 바이너리 파일임을 알리는 주석 (PDF 규격 권장)
+		write("%PDF-1.4\n%âãÏÓ\n");
+		writeObject(CATALOG, "<< /Type /Catalog /Pages " + PAGES + " 0 R >>");
+		writeObject(FONT, "<< /Type /Font /Subtype /Type1 /BaseFont /Helvetica /Encoding /WinAnsiEncoding >>");
+	}
+
+	/**
+	 * QR 하나 추가 (쪽이 차면 그 쪽을 바로 씀)
+	 * @param matrix 모듈 하나가 1픽셀인 QR (QRCodeWriter에 너비 / 높이 0을 주면 이 크기로 생성)
+	 * @param label QR 아래에 쓸 글자 (ASCII)
+	 */
+	public void add(BitMatrix matrix, String label) throws IOException {
+		int image = nextObject++;
+		writeImage(image, matrix);
+
+		int column = slot % COLUMNS;
+		int row = slot / COLUMNS;
+		float cellWidth = (PAGE_WIDTH - 2 * MARGIN) / COLUMNS;
+		float cellHeight = (PAGE_HEIGHT - 2 * MARGIN) / ROWS;
+		float x = MARGIN + column * cellWidth + (cellWidth - QR_SIZE) / 2;
+		float y = PAGE_HEIGHT - MARGIN - row * cellHeight - 20 - QR_SIZE;
+		// Helvetica 평균 글자 폭(약 0.55em)으로 가운데 정렬
+		float labelWidth = label.length() * LABEL_SIZE * 0.55f;
+		float labelX = MARGIN + column * cellWidth + (cellWidth - labelWidth) / 2;
+
+		content.append(String.format(Locale.ROOT, "q %.2f 0 0 %.2f %.2f %.2f cm /Im%d Do Q\n", QR_SIZE, QR_SIZE, x, y, image));
+		content.append(String.format(Locale.ROOT, "BT /F1 %.0f Tf %.2f %.2f Td (%s) Tj ET\n",
+			LABEL_SIZE, labelX, y - 24, escape(label)));
+		images.append("/Im").append(image).append(' ').append(image).append(" 0 R ");
+
+		if (++slot == COLUMNS * ROWS) {
+			flushPage();
+		}
+	}
+
+	/**
+	 * 남은 쪽, 쪽 목록, 상호 참조표를 쓰고 마침 (내부 스트림은 닫지 않음)
+	 */
+	public void finish() throws IOException {
+		if (slot > 0 || pages.isEmpty()) {
+			flushPage();
+		}
+		StringBuilder kids = new StringBuilder();
+		for (int page : pages) {
+			kids.append(page).append(" 0 R ");
+		}
+		writeObject(PAGES, "<< /Type /Pages /Kids [" + kids + "] /Count " + pages.size() + " >>");
+
+		long xref = out.count;
+		int size = nextObject;
+		StringBuilder table = new StringBuilder("xref\n0 ").append(size).append("\n0000000000 65535 f \n");
+		for (int object = 1; object < size; object++) {
+			table.append(String.format(Locale.ROOT, "%010d 00000 n \n", offsets.get(object)));
+		}
+		table.append("trailer\n<< /Size ").append(size).append(" /Root ").append(CATALOG).append(" 0 R >>\n")
+			.append("startxref\n").append(xref).append("\n%%EOF\n");
+		write(table.toString());
+		out.flush();
+	}
+
+	private void flushPage() throws IOException {
+		int contents = nextObject++;
+		int page = nextObject++;
+		byte[] stream = content.toString().getBytes(StandardCharsets.ISO_8859_1);
+		begin(contents);
+		write("<< /Length " + stream.length + " >>\nstream\n");
+		out.write(stream);
+		write("\nendstream\nendobj\n");
+		writeObject(page, "<< /Type /Page /Parent " + PAGES + " 0 R"
+			+ String.format(Locale.ROOT, " /MediaBox [0 0 %.2f %.2f]", PAGE_WIDTH, PAGE_HEIGHT)
+			+ " /Resources << /Font << /F1 " + FONT + " 0 R >> /XObject << " + images + ">> >>"
+			+ " /Contents " + contents + " 0 R >>");
+		pages.add(page);
+		content.setLength(0);
+		images.setLength(0);
+		slot = 0;
+		// 쪽 단위로 내보내 다운로드가 바로 진행되도록
+		out.flush();
+	}
+
+	/**
+	 * 1비트 흑백 이미지 (DeviceGray에서 0이 검정이므로 QR의 검은 모듈은 0 비트), 행마다 바이트 경계까지 채움
+	 */
+	private void writeImage(int object, BitMatrix matrix) throws IOException {
+		int width = matrix.getWidth();
+		int height = matrix.getHeight();
+		int rowBytes = (width + 7) / 8;
+		ByteArrayOutputStream compressed = new ByteArrayOutputStream(rowBytes * height / 2 + 64);
+		try (DeflaterOutputStream deflater = new DeflaterOutputStream(compressed)) {
+			byte[] row = new byte[rowBytes];
+			for (int y = 0; y < height; y++) {
+				Arrays.fill(row, (byte) 0xFF);
+				for (int x = 0; x < width; x++) {
+					if (matrix.get(x, y)) {
+						row[x >> 3] &= (byte) ~(0x80 >> (x & 7));
+					}
+				}
+				deflater.write(row);
+			}
+		}
+		begin(object);
+		write("<< /Type /XObject /Subtype /Image /Width " + width + " /Height " + height
+			+ " /ColorSpace /DeviceGray /BitsPerComponent 1 /Interpolate false /Filter /FlateDecode /Length "
+			+ compressed.size() + " >>\nstream\n");
+		compressed.writeTo(out);
+		write("\nendstream\nendobj\n");
+	}
+
+	private void writeObject(int object, String body) throws IOException {
+		begin(object);
+		write(body + "\nendobj\n");
+	}
+
+	private void begin(int object) throws IOException {
+		offsets.put(object, out.count);
+		write(object + " 0 obj\n");
+	}
+
+	private void write(String text) throws IOException {
+		out.write(text.getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	private static String escape(String text) {
+		StringBuilder escaped = new StringBuilder(text.length());
+		for (char c : text.toCharArray()) {
+			if (c == '(' || c == ')' || c == '\\') {
+				escaped.append('\\');
+			}
+			escaped.append(c < 0x20 || c > 0x7E ? '?' : c);
+		}
+		return escaped.toString();
+	}
+
+	/**
+	 * 상호 참조표에 쓸 객체 위치(바이트)를 세는 스트림
+	 */
+	private static final class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream(OutputStream out) {
+			super(out);
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
+	}
+}
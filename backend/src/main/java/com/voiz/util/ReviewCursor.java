@@ -0,0 +1,49 @@
+package com.voiz.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * 리뷰 목록 키셋 페이지네이션 커서 (createdAt, reviewIdx).
+ * 클라이언트에는 base64url("createdAt|reviewIdx|totalCount") 문자열로 전달하며,
+ * 첫 페이지에서 센 전체 개수를 담아 다음 페이지부터는 다시 세지 않도록 합니다.
+ */
+public record ReviewCursor(LocalDateTime createdAt, long reviewIdx, Long totalCount) {
+
+	// 첫 페이지용 커서 위치 (Oracle TIMESTAMP 범위 안의 충분히 먼 미래)
+	public static final LocalDateTime MAX_CREATED_AT = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+	/**
+	 * 첫 페이지 커서: 기준 시각 이하의 모든 리뷰
+	 */
+	public static ReviewCursor first(LocalDateTime until, Long totalCount) {
+		return new ReviewCursor(until, Long.MAX_VALUE, totalCount);
+	}
+
+	public String encode() {
+		String raw = createdAt + "|" + reviewIdx + "|" + (totalCount != null ? totalCount : "");
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @throws IllegalArgumentException 커서 형식이 잘못된 경우
+	 */
+	public static ReviewCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			String[] parts = raw.split("\\|", -1);
+			if (parts.length != 3) {
+				throw new IllegalArgumentException("잘못된 커서입니다: " + cursor);
+			}
+			return new ReviewCursor(
+				LocalDateTime.parse(parts[0]),
+				Long.parseLong(parts[1]),
+				parts[2].isEmpty() ? null : Long.valueOf(parts[2]));
+		} catch (IllegalArgumentException e) {
+			throw e;
+		} catch (RuntimeException e) {
+			throw new IllegalArgumentException("잘못된 커서입니다: " + cursor, e);
+		}
+	}
+}
@@ -0,0 +1,229 @@
+package com.voiz.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 리뷰 키워드 색인용 다국어 토크나이저 (한국어/영어/일본어/중국어).
+ * 형태소 분석기 없이 문자 체계(script)별로 구간을 나눠 처리합니다.
+ * - 한글: 어절 단위, 끝의 조사/어미를 떼어냄
+ * - 라틴 문자/숫자: 단어 단위, 불용어 제거
+ * - 한자: 띄어쓰기가 없으므로 2-gram (한 글자 구간은 그대로)
+ * - 가타카나: 외래어이므로 구간 전체를 한 단어로
+ * - 히라가나: 대부분 조사/활용 어미이므로 제외
+ * 검색용(tokenizeForSearch)은 검색어가 짧아도 찾을 수 있도록 불용어/길이 제한을 두지 않고,
+ * 한자와 히라가나를 1-gram + 2-gram으로 나눕니다 (예: "辣" 한 글자, "からい").
+ */
+public final class ReviewTokenizer {
+
+	// 길이가 긴 것부터 검사
+	private static final String[] KOREAN_SUFFIXES = {
+		"했어요", "이에요", "습니다", "합니다", "해요", "어요", "아요", "네요", "예요", "에서", "으로", "까지", "부터", "처럼", "보다", "이랑",
+		"은", "는", "이", "가", "을", "를", "에", "의", "도", "로", "와", "과", "요", "랑"
+	};
+
+	private static final Set<String> STOPWORDS = Set.of(
+		// 영어
+		"the", "and", "was", "were", "is", "are", "it", "its", "this", "that", "for", "with", "but", "not", "very",
+		"so", "too", "of", "to", "in", "on", "at", "my", "we", "you", "they", "had", "have", "has", "be", "been",
+		"just", "really", "also", "there", "here", "from", "will", "would", "could", "all", "an",
+		// 한국어
+		"정말", "진짜", "너무", "아주", "조금", "많이", "그리고", "그런데", "근데", "그냥", "좀", "또", "다시", "이거", "저희", "여기"
+	);
+
+	private ReviewTokenizer() {}
+
+	public static List<String> tokenize(String text) {
+		return tokenize(text, false);
+	}
+
+	/**
+	 * 리뷰 검색 색인/검색어용 토큰 (색인과 검색어에 같은 규칙을 적용해야 함)
+	 */
+	public static List<String> tokenizeForSearch(String text) {
+		return tokenize(text, true);
+	}
+
+	private static List<String> tokenize(String text, boolean search) {
+		List<String> tokens = new ArrayList<>();
+		if (text == null || text.isBlank()) {
+			return tokens;
+		}
+
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+		int i = 0;
+		int length = normalized.length();
+		while (i < length) {
+			int cp = normalized.codePointAt(i);
+			Script script = scriptOf(cp);
+			if (script == Script.OTHER) {
+				i += Character.charCount(cp);
+				continue;
+			}
+
+			// 같은 문자 체계가 이어지는 구간
+			int end = i + Character.charCount(cp);
+			while (end < length) {
+				int next = normalized.codePointAt(end);
+				if (scriptOf(next) != script) {
+					break;
+				}
+				end += Character.charCount(next);
+			}
+			if (search) {
+				addSearchRun(tokens, normalized.substring(i, end), script);
+			} else {
+				addRun(tokens, normalized.substring(i, end), script);
+			}
+			i = end;
+		}
+		return tokens;
+	}
+
+	/**
+	 * 원문에서 검색어 토큰이 나타나는 구간 [시작, 끝) 목록 (원문 기준 오프셋, 겹치는 구간은 합침)
+	 * 색인과 같은 정규화(NFKC + 소문자)를 거친 뒤 찾으므로 전각 문자나 대소문자가 달라도 표시됩니다.
+	 */
+	public static List<int[]> highlight(String text, Collection<String> terms) {
+		List<int[]> ranges = new ArrayList<>();
+		if (text == null || text.isEmpty() || terms.isEmpty()) {
+			return ranges;
+		}
+
+		// 정규화된 문자 위치 -> 원문 위치
+		StringBuilder normalized = new StringBuilder(text.length());
+		List<Integer> origin = new ArrayList<>(text.length() + 1);
+		for (int i = 0; i < text.length(); ) {
+			int cp = text.codePointAt(i);
+			int next = i + Character.charCount(cp);
+			String piece = Normalizer.normalize(text.substring(i, next), Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+			for (int k = 0; k < piece.length(); k++) {
+				origin.add(i);
+			}
+			normalized.append(piece);
+			i = next;
+		}
+		origin.add(text.length());
+
+		String haystack = normalized.toString();
+		for (String term : terms) {
+			if (term.isEmpty()) {
+				continue;
+			}
+			for (int from = haystack.indexOf(term); from >= 0; from = haystack.indexOf(term, from + 1)) {
+				int end = from + term.length();
+				// 원문에서 한 글자가 여러 글자로 정규화된 경우 그 글자 끝까지 포함
+				int originEnd = origin.get(end);
+				if (end > 0 && origin.get(end).equals(origin.get(end - 1))) {
+					originEnd = origin.get(end - 1) + Character.charCount(text.codePointAt(origin.get(end - 1)));
+				}
+				ranges.add(new int[] {origin.get(from), originEnd});
+			}
+		}
+
+		ranges.sort(Comparator.comparingInt((int[] r) -> r[0]));
+		List<int[]> merged = new ArrayList<>();
+		for (int[] range : ranges) {
+			int[] last = merged.isEmpty() ? null : merged.get(merged.size() - 1);
+			if (last != null && range[0] <= last[1]) {
+				last[1] = Math.max(last[1], range[1]);
+			} else {
+				merged.add(range);
+			}
+		}
+		return merged;
+	}
+
+	private static void addRun(List<String> tokens, String run, Script script) {
+		switch (script) {
+			case HANGUL -> {
+				String stem = stripKoreanSuffix(run);
+				if (stem.length() >= 2 && !STOPWORDS.contains(stem)) {
+					tokens.add(stem);
+				}
+			}
+			case LATIN -> {
+				if (run.length() >= 2 && !STOPWORDS.contains(run)) {
+					tokens.add(run);
+				}
+			}
+			case HAN -> {
+				int[] cps = run.codePoints().toArray();
+				if (cps.length == 1) {
+					tokens.add(run);
+				}
+				for (int k = 0; k + 1 < cps.length; k++) {
+					tokens.add(new String(cps, k, 2));
+				}
+			}
+			case KATAKANA -> {
+				if (run.codePointCount(0, run.length()) >= 2) {
+					tokens.add(run);
+				}
+			}
+			default -> {
+				// 히라가나 등은 색인하지 않음
+			}
+		}
+	}
+
+	private static void addSearchRun(List<String> tokens, String run, Script script) {
+		switch (script) {
+			case HANGUL -> tokens.add(stripKoreanSuffix(run));
+			case LATIN, KATAKANA -> tokens.add(run);
+			case HAN, HIRAGANA -> {
+				int[] cps = run.codePoints().toArray();
+				for (int k = 0; k < cps.length; k++) {
+					tokens.add(new String(cps, k, 1));
+					if (k + 1 < cps.length) {
+						tokens.add(new String(cps, k, 2));
+					}
+				}
+			}
+			default -> {
+			}
+		}
+	}
+
+	private static String stripKoreanSuffix(String word) {
+		for (String suffix : KOREAN_SUFFIXES) {
+			// 떼어낸 뒤 두 글자 이상 남을 때만 (예: "짜요"는 그대로 둠)
+			if (word.endsWith(suffix) && word.length() - suffix.length() >= 2) {
+				return word.substring(0, word.length() - suffix.length());
+			}
+		}
+		return word;
+	}
+
+	private enum Script { HANGUL, LATIN, HAN, HIRAGANA, KATAKANA, OTHER }
+
+	private static Script scriptOf(int cp) {
+		if ((cp >= 'a' && cp <= 'z') || (cp >= '0' && cp <= '9')) {
+			return Script.LATIN;
+		}
+		// 장음 부호(ー)는 COMMON으로 분류되지만 가타카나 단어의 일부
+		if (cp == 0x30FC) {
+			return Script.KATAKANA;
+		}
+		Character.UnicodeScript us;
+		try {
+			us = Character.UnicodeScript.of(cp);
+		} catch (IllegalArgumentException e) {
+			return Script.OTHER;
+		}
+		return switch (us) {
+			case HANGUL -> Script.HANGUL;
+			case LATIN -> Character.isLetter(cp) ? Script.LATIN : Script.OTHER;
+			case HAN -> Script.HAN;
+			case HIRAGANA -> Script.HIRAGANA;
+			case KATAKANA -> Script.KATAKANA;
+			default -> Script.OTHER;
+		};
+	}
+}
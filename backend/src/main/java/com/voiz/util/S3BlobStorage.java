@@ -0,0 +1,122 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+
+import org.springframework.util.StringUtils;
+
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.core.sync.ResponseTransformer;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * S3 호환 오브젝트 스토리지 저장소 (AWS S3, MinIO 등).
+ * endpoint를 지정하면 그 주소로 접속하고(MinIO는 path-style 주소 사용), 접근 키가 없으면
+ * 환경 변수 / 인스턴스 역할 등 AWS 기본 자격 증명을 사용합니다.
+ * SDK 예외는 IOException으로 바꿔 던지므로 호출하는 쪽은 로컬 저장소와 같은 방식으로 처리합니다.
+ */
+public class S3BlobStorage implements BlobStorage, AutoCloseable {
+
+	private final S3Client client;
+	private final String bucket;
+	private final String keyPrefix;
+
+	public S3BlobStorage(String endpoint, String region, String bucket, String keyPrefix,
+			String accessKey, String secretKey, boolean pathStyle) {
+		S3ClientBuilder builder = S3Client.builder()
+			.region(Region.of(region))
+			.serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(pathStyle).build());
+		if (StringUtils.hasText(endpoint)) {
+			builder.endpointOverride(URI.create(endpoint));
+		}
+		if (StringUtils.hasText(accessKey)) {
+			builder.credentialsProvider(StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey)));
+		} else {
+			builder.credentialsProvider(DefaultCredentialsProvider.create());
+		}
+		this.client = builder.build();
+		this.bucket = bucket;
+		this.keyPrefix = keyPrefix == null ? "" : keyPrefix;
+	}
+
+	@Override
+	public void put(String key, Path source, String contentType) throws IOException {
+		try {
+			client.putObject(PutObjectRequest.builder()
+				.bucket(bucket)
+				.key(keyPrefix + key)
+				.contentType(contentType)
+				.build(), RequestBody.fromFile(source));
+		} catch (SdkException e) {
+			throw new IOException("S3 업로드 실패: " + key, e);
+		}
+	}
+
+	@Override
+	public boolean get(String key, Path target) throws IOException {
+		Files.createDirectories(target.getParent());
+		// SDK는 새 파일에만 쓰므로 만들지 않은 임시 경로에 받은 뒤 이름 변경
+		Path temp = target.resolveSibling(target.getFileName() + "." + UUID.randomUUID() + ".part");
+		try {
+			client.getObject(GetObjectRequest.builder().bucket(bucket).key(keyPrefix + key).build(),
+				ResponseTransformer.toFile(temp));
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+			return true;
+		} catch (NoSuchKeyException e) {
+			return false;
+		} catch (SdkException e) {
+			throw new IOException("S3 다운로드 실패: " + key, e);
+		} finally {
+			Files.deleteIfExists(temp);
+		}
+	}
+
+	@Override
+	public boolean exists(String key) throws IOException {
+		try {
+			client.headObject(HeadObjectRequest.builder().bucket(bucket).key(keyPrefix + key).build());
+			return true;
+		} catch (NoSuchKeyException e) {
+			return false;
+		} catch (S3Exception e) {
+			// HEAD 응답에는 본문이 없어 404가 NoSuchKeyException이 아닌 S3Exception으로 오는 경우가 있음
+			if (e.statusCode() == 404) {
+				return false;
+			}
+			throw new IOException("S3 조회 실패: " + key, e);
+		} catch (SdkException e) {
+			throw new IOException("S3 조회 실패: " + key, e);
+		}
+	}
+
+	@Override
+	public void delete(String key) throws IOException {
+		try {
+			client.deleteObject(DeleteObjectRequest.builder().bucket(bucket).key(keyPrefix + key).build());
+		} catch (SdkException e) {
+			throw new IOException("S3 삭제 실패: " + key, e);
+		}
+	}
+
+	@Override
+	public void close() {
+		client.close();
+	}
+}
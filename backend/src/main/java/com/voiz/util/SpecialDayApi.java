@@ -1,19 +1,19 @@
 package com.voiz.util;
 
-import java.io.BufferedReader;
 import java.io.IOException;
-import java.io.InputStreamReader;
-import java.io.UnsupportedEncodingException;
-import java.net.HttpURLConnection;
-import java.net.URL;
+import java.net.URI;
 import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpStatusCodeException;
 import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
@@ -29,6 +29,9 @@ public class SpecialDayApi {
     // Base URL
     public static final String BASE_URL = "http://apis.data.go.kr/B090041/openapi/service/SpcdeInfoService";
     
+    @Autowired
+    private RestTemplate restTemplate;
+    
     public List<SpecialDay> getSpecialDay(String year, String month, String endpoint, String type) throws IOException {
     	
     	List<SpecialDay> result = new ArrayList<>();
@@ -39,30 +42,24 @@ public class SpecialDayApi {
         urlBuilder.append("&" + URLEncoder.encode("solYear","UTF-8") + "=" + URLEncoder.encode(year, "UTF-8")); /*연*/
         urlBuilder.append("&" + URLEncoder.encode("solMonth","UTF-8") + "=" + URLEncoder.encode(month, "UTF-8")); /*월*/
         urlBuilder.append("&" + URLEncoder.encode("_type","UTF-8") + "=" + URLEncoder.encode("json", "UTF-8")); /*월*/
-        URL url = new URL(urlBuilder.toString());
-        HttpURLConnection conn = (HttpURLConnection) url.openConnection();
-        conn.setRequestMethod("GET");
-        conn.setRequestProperty("Content-type", "application/json");
+        // 이미 인코딩한 URL이므로 URI로 넘겨 다시 인코딩되지 않도록 함
+        URI uri = URI.create(urlBuilder.toString());
         System.out.println("🔍 요청 URL: " + urlBuilder.toString());
-        System.out.println("Response code: " + conn.getResponseCode());
-        BufferedReader rd;
-        if(conn.getResponseCode() >= 200 && conn.getResponseCode() <= 300) {
-            rd = new BufferedReader(new InputStreamReader(conn.getInputStream()));
-        } else {
-            rd = new BufferedReader(new InputStreamReader(conn.getErrorStream()));
-        }
-        StringBuilder sb = new StringBuilder();
-        String line;
-        while ((line = rd.readLine()) != null) {
-            sb.append(line);
+        String body;
+        try {
+            ResponseEntity<byte[]> response = restTemplate.getForEntity(uri, byte[].class);
+            System.out.println("Response code: " + response.getStatusCode().value());
+            body = response.getBody() != null ? new String(response.getBody(), StandardCharsets.UTF_8) : "";
+        } catch (HttpStatusCodeException e) {
+            // 오류 응답도 본문을 그대로 파싱 (items가 없으므로 빈 목록)
+            System.out.println("Response code: " + e.getStatusCode().value());
+            body = e.getResponseBodyAsString(StandardCharsets.UTF_8);
         }
-        rd.close();
-        conn.disconnect();
-        System.out.println(sb.toString());
+        System.out.println(body);
         
      // 👇 JSON 파싱 후 리스트에 add
         ObjectMapper objectMapper = new ObjectMapper();
-        JsonNode root = objectMapper.readTree(sb.toString());
+        JsonNode root = objectMapper.readTree(body);
         JsonNode items = root.path("response").path("body").path("items").path("item");
         
         if (items.isArray()) {
@@ -0,0 +1,460 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Proxy;
+import java.net.Socket;
+import java.net.SocketAddress;
+import java.net.SocketException;
+import java.net.SocketOption;
+import java.net.SocketTimeoutException;
+import java.net.StandardProtocolFamily;
+import java.net.StandardSocketOptions;
+import java.net.UnixDomainSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ClosedSelectorException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.nio.file.Path;
+
+import org.apache.hc.client5.http.io.DetachedSocketFactory;
+
+/**
+ * HttpClient 커넥션 풀이 TCP 대신 Unix 도메인 소켓 파일로 연결하도록 하는 소켓 팩토리.
+ * HTTP 처리(요청 작성, 응답 파싱, keep-alive 재사용, 재시도 정책)는 모두 HttpClient가 맡고,
+ * 여기서는 JDK의 UNIX SocketChannel을 java.net.Socket 모양으로 감싸기만 합니다.
+ * 연결할 때 HttpClient가 넘기는 호스트/포트 주소는 무시하고 항상 지정한 소켓 파일로 연결합니다.
+ *
+ * 채널을 논블로킹으로 두고 소켓마다 Selector로 기다리므로 HttpClient의 소켓 타임아웃(setSoTimeout)이
+ * TCP 소켓과 같이 SocketTimeoutException으로 동작하고, 다른 스레드에서 close()하면 대기 중인 읽기도 바로 끝납니다.
+ */
+public class UnixDomainSocketFactory implements DetachedSocketFactory {
+
+	private final UnixDomainSocketAddress address;
+
+	public UnixDomainSocketFactory(Path socketPath) {
+		this.address = UnixDomainSocketAddress.of(socketPath);
+	}
+
+	@Override
+	public Socket create(Proxy proxy) {
+		return new UnixDomainSocket(address);
+	}
+
+	static final class UnixDomainSocket extends Socket {
+
+		private final UnixDomainSocketAddress address;
+		private final Object lock = new Object();
+
+		private SocketChannel channel;
+		private Selector selector;
+		private InputStream input;
+		private OutputStream output;
+		private volatile int soTimeout;
+		private volatile boolean closed;
+		private boolean inputShutdown;
+		private boolean outputShutdown;
+
+		UnixDomainSocket(UnixDomainSocketAddress address) {
+			this.address = address;
+		}
+
+		@Override
+		public void connect(SocketAddress endpoint) throws IOException {
+			connect(endpoint, 0);
+		}
+
+		@Override
+		public void connect(SocketAddress endpoint, int timeout) throws IOException {
+			synchronized (lock) {
+				if (closed) {
+					throw new SocketException("Socket is closed");
+				}
+				if (channel != null) {
+					throw new SocketException("Already connected");
+				}
+				// 소켓 파일 연결은 즉시 성공하거나 실패하므로 연결 타임아웃은 쓰지 않음
+				SocketChannel opened = SocketChannel.open(StandardProtocolFamily.UNIX);
+				try {
+					opened.connect(address);
+					opened.configureBlocking(false);
+					selector = Selector.open();
+					opened.register(selector, 0);
+				} catch (IOException e) {
+					opened.close();
+					if (selector != null) {
+						selector.close();
+					}
+					throw e;
+				}
+				channel = opened;
+				input = new ChannelInputStream();
+				output = new ChannelOutputStream();
+			}
+		}
+
+		@Override
+		public void bind(SocketAddress bindpoint) {
+			// 로컬 주소를 지정할 일이 없음
+		}
+
+		@Override
+		public InputStream getInputStream() throws IOException {
+			ensureConnected();
+			return input;
+		}
+
+		@Override
+		public OutputStream getOutputStream() throws IOException {
+			ensureConnected();
+			return output;
+		}
+
+		private void ensureConnected() throws SocketException {
+			if (closed) {
+				throw new SocketException("Socket is closed");
+			}
+			if (channel == null) {
+				throw new SocketException("Socket is not connected");
+			}
+		}
+
+		/**
+		 * 채널이 준비될 때까지 기다림 (timeoutMs가 0이면 무기한)
+		 */
+		private void await(int op, int timeoutMs) throws IOException {
+			long deadline = timeoutMs > 0 ? System.nanoTime() + timeoutMs * 1_000_000L : 0;
+			try {
+				SelectionKey key = channel.keyFor(selector);
+				if (key == null) {
+					throw new SocketException("Socket is closed");
+				}
+				key.interestOps(op);
+				while (true) {
+					long waitMs = 0;
+					if (deadline != 0) {
+						waitMs = Math.max(1, (deadline - System.nanoTime()) / 1_000_000L);
+					}
+					int ready = selector.select(waitMs);
+					selector.selectedKeys().clear();
+					if (closed) {
+						throw new SocketException("Socket closed");
+					}
+					if (ready > 0) {
+						return;
+					}
+					if (deadline != 0 && System.nanoTime() - deadline >= 0) {
+						throw new SocketTimeoutException("Read timed out");
+					}
+				}
+			} catch (ClosedSelectorException e) {
+				throw new SocketException("Socket closed");
+			}
+		}
+
+		private int read(ByteBuffer buffer) throws IOException {
+			try {
+				while (true) {
+					int n = channel.read(buffer);
+					if (n != 0) {
+						return n;
+					}
+					await(SelectionKey.OP_READ, soTimeout);
+				}
+			} catch (ClosedChannelException e) {
+				throw new SocketException("Socket closed");
+			}
+		}
+
+		private void write(ByteBuffer buffer) throws IOException {
+			try {
+				while (buffer.hasRemaining()) {
+					if (channel.write(buffer) == 0) {
+						await(SelectionKey.OP_WRITE, 0);
+					}
+				}
+			} catch (ClosedChannelException e) {
+				throw new SocketException("Socket closed");
+			}
+		}
+
+		private final class ChannelInputStream extends InputStream {
+
+			@Override
+			public int read() throws IOException {
+				byte[] one = new byte[1];
+				int n = read(one, 0, 1);
+				return n == -1 ? -1 : one[0] & 0xff;
+			}
+
+			@Override
+			public int read(byte[] b, int off, int len) throws IOException {
+				if (len == 0) {
+					return 0;
+				}
+				if (inputShutdown) {
+					return -1;
+				}
+				return UnixDomainSocket.this.read(ByteBuffer.wrap(b, off, len));
+			}
+
+			@Override
+			public void close() throws IOException {
+				UnixDomainSocket.this.close();
+			}
+		}
+
+		private final class ChannelOutputStream extends OutputStream {
+
+			@Override
+			public void write(int b) throws IOException {
+				write(new byte[] {(byte) b}, 0, 1);
+			}
+
+			@Override
+			public void write(byte[] b, int off, int len) throws IOException {
+				if (outputShutdown) {
+					throw new SocketException("Socket output is shutdown");
+				}
+				UnixDomainSocket.this.write(ByteBuffer.wrap(b, off, len));
+			}
+
+			@Override
+			public void close() throws IOException {
+				UnixDomainSocket.this.close();
+			}
+		}
+
+		@Override
+		public void close() throws IOException {
+			synchronized (lock) {
+				if (closed) {
+					return;
+				}
+				closed = true;
+				// 채널을 닫고 Selector도 닫아 다른 스레드의 select() 대기를 깨움
+				try {
+					if (channel != null) {
+						channel.close();
+					}
+				} finally {
+					if (selector != null) {
+						selector.close();
+					}
+				}
+			}
+		}
+
+		@Override
+		public void shutdownInput() throws IOException {
+			ensureConnected();
+			channel.shutdownInput();
+			inputShutdown = true;
+		}
+
+		@Override
+		public void shutdownOutput() throws IOException {
+			ensureConnected();
+			channel.shutdownOutput();
+			outputShutdown = true;
+		}
+
+		@Override
+		public boolean isInputShutdown() {
+			return inputShutdown;
+		}
+
+		@Override
+		public boolean isOutputShutdown() {
+			return outputShutdown;
+		}
+
+		@Override
+		public boolean isConnected() {
+			return channel != null;
+		}
+
+		@Override
+		public boolean isBound() {
+			return channel != null;
+		}
+
+		@Override
+		public boolean isClosed() {
+			return closed;
+		}
+
+		@Override
+		public void setSoTimeout(int timeout) throws SocketException {
+			if (timeout < 0) {
+				throw new IllegalArgumentException("timeout < 0");
+			}
+			soTimeout = timeout;
+		}
+
+		@Override
+		public int getSoTimeout() {
+			return soTimeout;
+		}
+
+		@Override
+		public void setSendBufferSize(int size) throws SocketException {
+			setChannelOption(StandardSocketOptions.SO_SNDBUF, size);
+		}
+
+		@Override
+		public int getSendBufferSize() throws SocketException {
+			Integer size = getChannelOption(StandardSocketOptions.SO_SNDBUF);
+			return size != null ? size : 0;
+		}
+
+		@Override
+		public void setReceiveBufferSize(int size) throws SocketException {
+			setChannelOption(StandardSocketOptions.SO_RCVBUF, size);
+		}
+
+		@Override
+		public int getReceiveBufferSize() throws SocketException {
+			Integer size = getChannelOption(StandardSocketOptions.SO_RCVBUF);
+			return size != null ? size : 0;
+		}
+
+		@Override
+		public <T> Socket setOption(SocketOption<T> name, T value) throws IOException {
+			setChannelOption(name, value);
+			return this;
+		}
+
+		@Override
+		public <T> T getOption(SocketOption<T> name) throws IOException {
+			return getChannelOption(name);
+		}
+
+		// TCP 전용 옵션(TCP_NODELAY, SO_KEEPALIVE, SO_LINGER 등)은 Unix 도메인 소켓에 없으므로 무시
+		private <T> void setChannelOption(SocketOption<T> name, T value) throws SocketException {
+			SocketChannel current = channel;
+			if (current == null || !current.supportedOptions().contains(name)) {
+				return;
+			}
+			try {
+				current.setOption(name, value);
+			} catch (IOException e) {
+				throw new SocketException(e.getMessage());
+			}
+		}
+
+		private <T> T getChannelOption(SocketOption<T> name) throws SocketException {
+			SocketChannel current = channel;
+			if (current == null || !current.supportedOptions().contains(name)) {
+				return null;
+			}
+			try {
+				return current.getOption(name);
+			} catch (IOException e) {
+				throw new SocketException(e.getMessage());
+			}
+		}
+
+		@Override
+		public void setTcpNoDelay(boolean on) {
+		}
+
+		@Override
+		public boolean getTcpNoDelay() {
+			return true;
+		}
+
+		@Override
+		public void setKeepAlive(boolean on) {
+		}
+
+		@Override
+		public boolean getKeepAlive() {
+			return false;
+		}
+
+		@Override
+		public void setReuseAddress(boolean on) {
+		}
+
+		@Override
+		public boolean getReuseAddress() {
+			return false;
+		}
+
+		@Override
+		public void setSoLinger(boolean on, int linger) {
+		}
+
+		@Override
+		public int getSoLinger() {
+			return -1;
+		}
+
+		@Override
+		public void setOOBInline(boolean on) {
+		}
+
+		@Override
+		public boolean getOOBInline() {
+			return false;
+		}
+
+		@Override
+		public void setTrafficClass(int tc) {
+		}
+
+		@Override
+		public int getTrafficClass() {
+			return 0;
+		}
+
+		@Override
+		public void sendUrgentData(int data) throws IOException {
+			throw new SocketException("Urgent data not supported");
+		}
+
+		@Override
+		public void setPerformancePreferences(int connectionTime, int latency, int bandwidth) {
+		}
+
+		@Override
+		public SocketAddress getRemoteSocketAddress() {
+			return channel != null ? address : null;
+		}
+
+		@Override
+		public SocketAddress getLocalSocketAddress() {
+			return null;
+		}
+
+		@Override
+		public InetAddress getInetAddress() {
+			return null;
+		}
+
+		@Override
+		public InetAddress getLocalAddress() {
+			return InetAddress.getLoopbackAddress();
+		}
+
+		@Override
+		public int getPort() {
+			return 0;
+		}
+
+		@Override
+		public int getLocalPort() {
+			return -1;
+		}
+
+		@Override
+		public String toString() {
+			return "UnixDomainSocket[" + address.getPath() + (closed ? ", closed" : "") + "]";
+		}
+	}
+}
@@ -0,0 +1,392 @@
+package com.voiz.util;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 업로드 파일(/uploads/*) 전용 서빙 서블릿.
+ * DispatcherServlet과 ResourceHttpRequestHandler를 거치지 않고 파일을 바로 내려보냅니다.
+ * - 큰 파일은 Tomcat sendfile로 커널이 파일을 소켓에 바로 복사 (힙 버퍼 / 사용자 공간 복사 없음),
+ *   sendfile을 쓸 수 없으면 FileChannel.transferTo로 전송
+ * - 자주 요청되는 작은 파일(썸네일 등)은 메모리에 두고 바로 씀 (두 번째 요청부터 적재, 전체 용량 제한)
+ * - 단일 구간 Range / If-Range, 강한 ETag와 Last-Modified, 조건부 요청(304)
+ *
+ * 업로드 파일은 한 번 쓰면 바뀌지 않으므로(원본 / 파생본 모두 내용 해시 파일명, 이전 원본은 UUID 파일명)
+ * 크기 + 수정 시각으로 만든 ETag도 강한 검증자로 쓸 수 있습니다. 내용 해시 파일명은 해시를 그대로 ETag로 써서
+ * 원격 저장소에서 받아 온 서버마다 수정 시각이 달라도 ETag가 같습니다.
+ * 이 서버에 없는 파일은 readThrough(원격 저장소에서 받아 오기)를 한 번 시도한 뒤 다시 찾습니다.
+ */
+public class UploadFileServlet extends HttpServlet {
+
+	private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+	private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+	private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+	private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+	// 내용 해시 파일명이라 같은 URL의 내용이 바뀌지 않는 디렉터리 (MenuImageService 파생본)
+	private static final String IMMUTABLE_DIR = "/menuImages/derived/";
+	private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+	private static final String DEFAULT_CACHE_CONTROL = "max-age=3600";
+
+	// 내용 해시 파일명 (SHA-256 앞 32자리)
+	private static final Pattern CONTENT_HASH_NAME = Pattern.compile("[0-9a-f]{32}");
+
+	private static final long[] UNSATISFIABLE = new long[0];
+
+	private final Path root;
+	private final long sendfileMinBytes;
+	private final HotFileCache hotFiles;
+	private final Predicate<String> readThrough;
+
+	public UploadFileServlet(Path root, long sendfileMinBytes, long hotCacheMaxBytes, long hotCacheMaxFileBytes) {
+		this(root, sendfileMinBytes, hotCacheMaxBytes, hotCacheMaxFileBytes, key -> false);
+	}
+
+	/**
+	 * @param root 업로드 디렉터리
+	 * @param sendfileMinBytes 이 크기 이상인 응답만 sendfile 사용 (작은 파일은 바로 쓰는 편이 빠름)
+	 * @param hotCacheMaxBytes 메모리 캐시 전체 용량 (0이면 사용 안 함)
+	 * @param hotCacheMaxFileBytes 메모리 캐시에 넣을 파일 최대 크기
+	 * @param readThrough 이 서버에 없는 파일(키: root 기준 상대 경로)을 root 아래로 가져옴, 가져왔으면 true
+	 */
+	public UploadFileServlet(Path root, long sendfileMinBytes, long hotCacheMaxBytes, long hotCacheMaxFileBytes,
+			Predicate<String> readThrough) {
+		this.root = root.toAbsolutePath().normalize();
+		this.sendfileMinBytes = sendfileMinBytes;
+		this.hotFiles = new HotFileCache(hotCacheMaxBytes, hotCacheMaxFileBytes);
+		this.readThrough = readThrough;
+	}
+
+	@Override
+	protected void doGet(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		serve(request, response, true);
+	}
+
+	@Override
+	protected void doHead(HttpServletRequest request, HttpServletResponse response) throws IOException {
+		serve(request, response, false);
+	}
+
+	@Override
+	protected long getLastModified(HttpServletRequest request) {
+		// 조건부 요청은 serve에서 ETag와 함께 처리
+		return -1;
+	}
+
+	private void serve(HttpServletRequest request, HttpServletResponse response, boolean includeBody) throws IOException {
+		String relative = request.getPathInfo();
+		if (relative == null || relative.length() < 2) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+		Path path = root.resolve(relative.substring(1)).normalize();
+		// ../ 등으로 업로드 디렉터리 밖을 가리키면 없는 파일로 처리
+		if (!path.startsWith(root) || path.equals(root)) {
+			response.sendError(HttpServletResponse.SC_NOT_FOUND);
+			return;
+		}
+
+		// 파생본은 내용이 바뀌지 않으므로 메모리에 있으면 파일 상태도 확인하지 않음
+		HotFile hot = hotFiles.get(relative);
+		FileInfo info = hot != null && hot.info().immutable() ? hot.info() : null;
+		if (info == null) {
+			BasicFileAttributes attributes = readAttributes(path);
+			if (attributes == null && readThrough.test(relative.substring(1))) {
+				attributes = readAttributes(path);
+			}
+			if (attributes == null) {
+				hotFiles.remove(relative);
+				response.sendError(HttpServletResponse.SC_NOT_FOUND);
+				return;
+			}
+			if (!attributes.isRegularFile()) {
+				response.sendError(HttpServletResponse.SC_NOT_FOUND);
+				return;
+			}
+			info = describe(relative, attributes);
+			if (hot != null && !hot.info().sameVersion(info)) {
+				hotFiles.remove(relative);
+				hot = null;
+			}
+		}
+
+		response.setHeader("Accept-Ranges", "bytes");
+		response.setHeader("ETag", info.etag());
+		response.setDateHeader("Last-Modified", info.lastModified());
+		response.setHeader("Cache-Control", info.immutable() ? IMMUTABLE_CACHE_CONTROL : DEFAULT_CACHE_CONTROL);
+		response.setHeader("X-Content-Type-Options", "nosniff");
+
+		if (notModified(request, info)) {
+			response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+			return;
+		}
+
+		long start = 0;
+		long end = info.size() - 1;
+		String range = request.getHeader("Range");
+		if (range != null && ifRangeMatches(request, info)) {
+			long[] parsed = parseRange(range, info.size());
+			if (parsed == UNSATISFIABLE) {
+				response.setHeader("Content-Range", "bytes */" + info.size());
+				response.setStatus(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+				return;
+			}
+			if (parsed != null) {
+				start = parsed[0];
+				end = parsed[1];
+				response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+				response.setHeader("Content-Range", "bytes " + start + "-" + end + "/" + info.size());
+			}
+		}
+		long length = end - start + 1;
+
+		response.setContentType(contentType(relative));
+		response.setContentLengthLong(Math.max(0, length));
+		if (!includeBody || length <= 0) {
+			return;
+		}
+
+		if (hot == null && hotFiles.admit(relative, info.size())) {
+			hot = hotFiles.load(relative, path, info);
+		}
+		if (hot != null) {
+			response.getOutputStream().write(hot.content(), (int) start, (int) length);
+			return;
+		}
+
+		if (length >= sendfileMinBytes && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+			// 응답 본문은 서블릿이 끝난 뒤 Tomcat이 sendfile로 보냄 (end는 포함하지 않는 위치)
+			request.setAttribute(SENDFILE_FILENAME, path.toString());
+			request.setAttribute(SENDFILE_START, start);
+			request.setAttribute(SENDFILE_END, end + 1);
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+			WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+			long position = start;
+			long remaining = length;
+			while (remaining > 0) {
+				long written = channel.transferTo(position, remaining, out);
+				if (written <= 0) {
+					// 전송 중 파일이 잘렸으면 더 보낼 것이 없음
+					break;
+				}
+				position += written;
+				remaining -= written;
+			}
+		}
+	}
+
+	private static BasicFileAttributes readAttributes(Path path) throws IOException {
+		try {
+			return Files.readAttributes(path, BasicFileAttributes.class);
+		} catch (NoSuchFileException e) {
+			return null;
+		}
+	}
+
+	private FileInfo describe(String relative, BasicFileAttributes attributes) {
+		long size = attributes.size();
+		long lastModified = attributes.lastModifiedTime().toMillis();
+		boolean immutable = relative.startsWith(IMMUTABLE_DIR);
+		String name = relative.substring(relative.lastIndexOf('/') + 1);
+		int dot = name.lastIndexOf('.');
+		String baseName = dot > 0 ? name.substring(0, dot) : name;
+		String etag;
+		if (immutable || CONTENT_HASH_NAME.matcher(baseName).matches()) {
+			etag = "\"" + baseName + "\"";
+		} else {
+			etag = "\"" + Long.toHexString(size) + "-" + Long.toHexString(lastModified) + "\"";
+		}
+		return new FileInfo(size, lastModified, etag, immutable);
+	}
+
+	private String contentType(String relative) {
+		String mimeType = getServletContext().getMimeType(relative);
+		if (mimeType != null) {
+			return mimeType;
+		}
+		// 컨테이너 기본 매핑에 없는 이미지 형식
+		String lower = relative.toLowerCase();
+		if (lower.endsWith(".webp")) {
+			return "image/webp";
+		}
+		if (lower.endsWith(".avif")) {
+			return "image/avif";
+		}
+		return "application/octet-stream";
+	}
+
+	private static boolean notModified(HttpServletRequest request, FileInfo info) {
+		String ifNoneMatch = request.getHeader("If-None-Match");
+		if (ifNoneMatch != null) {
+			// If-None-Match는 약한 비교 (W/ 접두어 무시)
+			for (String tag : ifNoneMatch.split(",")) {
+				String candidate = tag.trim();
+				if (candidate.equals("*")) {
+					return true;
+				}
+				if (candidate.startsWith("W/")) {
+					candidate = candidate.substring(2);
+				}
+				if (candidate.equals(info.etag())) {
+					return true;
+				}
+			}
+			return false;
+		}
+		long ifModifiedSince = dateHeader(request, "If-Modified-Since");
+		return ifModifiedSince >= 0 && info.lastModified() / 1000 <= ifModifiedSince / 1000;
+	}
+
+	private static boolean ifRangeMatches(HttpServletRequest request, FileInfo info) {
+		String ifRange = request.getHeader("If-Range");
+		if (ifRange == null) {
+			return true;
+		}
+		ifRange = ifRange.trim();
+		if (ifRange.startsWith("\"") || ifRange.startsWith("W/")) {
+			// If-Range는 강한 비교만 허용
+			return ifRange.equals(info.etag());
+		}
+		long date = dateHeader(request, "If-Range");
+		return date >= 0 && info.lastModified() / 1000 == date / 1000;
+	}
+
+	private static long dateHeader(HttpServletRequest request, String name) {
+		try {
+			return request.getDateHeader(name);
+		} catch (IllegalArgumentException e) {
+			return -1;
+		}
+	}
+
+	/**
+	 * "bytes=a-b", "bytes=a-", "bytes=-n" 중 하나를 [시작, 끝(포함)]으로 변환
+	 * @return 범위, 여러 구간이거나 형식이 잘못되면 null (전체 응답), 파일 밖이면 UNSATISFIABLE
+	 */
+	static long[] parseRange(String header, long size) {
+		if (!header.startsWith("bytes=") || header.indexOf(',') >= 0) {
+			return null;
+		}
+		String spec = header.substring(6).trim();
+		int dash = spec.indexOf('-');
+		if (dash < 0) {
+			return null;
+		}
+		try {
+			if (dash == 0) {
+				long suffix = Long.parseLong(spec.substring(1));
+				if (suffix <= 0 || size == 0) {
+					return UNSATISFIABLE;
+				}
+				return new long[] {Math.max(0, size - suffix), size - 1};
+			}
+			long start = Long.parseLong(spec.substring(0, dash));
+			String last = spec.substring(dash + 1);
+			long end = last.isEmpty() ? size - 1 : Long.parseLong(last);
+			if (start < 0 || end < start) {
+				return null;
+			}
+			if (start >= size) {
+				return UNSATISFIABLE;
+			}
+			return new long[] {start, Math.min(end, size - 1)};
+		} catch (NumberFormatException e) {
+			return null;
+		}
+	}
+
+	private record FileInfo(long size, long lastModified, String etag, boolean immutable) {
+		boolean sameVersion(FileInfo other) {
+			return size == other.size && lastModified == other.lastModified;
+		}
+	}
+
+	private record HotFile(FileInfo info, byte[] content) {
+	}
+
+	/**
+	 * 작은 파일 메모리 캐시 (전체 바이트 수 기준 LRU).
+	 * 한 번만 요청되는 파일(사장님 화면의 원본 미리보기 등)이 자주 쓰는 썸네일을 밀어내지 않도록
+	 * 최근에 한 번 요청된 적이 있는 파일만 두 번째 요청에서 적재합니다.
+	 */
+	private static final class HotFileCache {
+
+		private static final int MAX_SEEN = 4096;
+
+		private final long maxBytes;
+		private final long maxFileBytes;
+		private long bytes;
+		private final LinkedHashMap<String, HotFile> files = new LinkedHashMap<>(256, 0.75f, true);
+		private final LinkedHashMap<String, Boolean> seen = new LinkedHashMap<>(256, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+				return size() > MAX_SEEN;
+			}
+		};
+
+		HotFileCache(long maxBytes, long maxFileBytes) {
+			this.maxBytes = maxBytes;
+			this.maxFileBytes = Math.min(maxFileBytes, maxBytes);
+		}
+
+		synchronized HotFile get(String key) {
+			return files.get(key);
+		}
+
+		synchronized void remove(String key) {
+			HotFile removed = files.remove(key);
+			if (removed != null) {
+				bytes -= removed.content().length;
+			}
+		}
+
+		synchronized boolean admit(String key, long size) {
+			if (size > maxFileBytes) {
+				return false;
+			}
+			return seen.put(key, Boolean.TRUE) != null;
+		}
+
+		HotFile load(String key, Path path, FileInfo info) throws IOException {
+			byte[] content = Files.readAllBytes(path);
+			if (content.length != info.size()) {
+				// 읽는 사이에 파일이 바뀌었으면 이번 요청은 파일에서 직접 전송
+				return null;
+			}
+			HotFile hot = new HotFile(info, content);
+			synchronized (this) {
+				HotFile previous = files.put(key, hot);
+				if (previous != null) {
+					bytes -= previous.content().length;
+				}
+				bytes += content.length;
+				var eldest = files.entrySet().iterator();
+				while (bytes > maxBytes && eldest.hasNext()) {
+					HotFile evicted = eldest.next().getValue();
+					bytes -= evicted.content().length;
+					eldest.remove();
+				}
+				seen.remove(key);
+			}
+			return hot;
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package com.voiz.util;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 import java.net.URI;
@@ -14,7 +15,9 @@ public class WeatherApi {
 
     public static final String SERVICE_KEY = "Jh+qx6lvBpNoI54Wk48m6uiCTbx/La68eVaDXDTQ+vuKqMqdo24ZhlznKur8ZKvowJ8nTcnlC6mLgQW9GfSHJA==";
     public static final String BASE_URL = "http://apis.data.go.kr/1360000/VilageFcstInfoService_2.0/getVilageFcst";
-    private final RestTemplate restTemplate = new RestTemplate();
+
+    @Autowired
+    private RestTemplate restTemplate;
 
     public Optional<String> getWeatherData(String nx, String ny) {
         LocalDateTime now = LocalDateTime.now();
@@ -2,13 +2,13 @@ package com.voiz.vo;
 import java.time.LocalDateTime;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
-import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+
+import com.voiz.util.AssignedOrSequence;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -21,8 +21,8 @@ import lombok.NoArgsConstructor;
 public class Menus {
 	
 	@Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "menu_seq")
-    @SequenceGenerator(name = "menu_seq", sequenceName = "MENU_SEQUENCE", allocationSize = 1)
+    // MENU_SEQUENCE에서 받되, 일괄 등록에서 미리 받아 넣은 ID는 그대로 사용 (MenuService.importMenus)
+    @AssignedOrSequence(sequenceName = "MENU_SEQUENCE")
     @Column(name = "MENU_IDX")
     private int menuIdx;
 	
@@ -44,6 +44,16 @@ public class Menus {
     @Column(name = "IMAGE_URL")
     private String imageUrl;
     
+    // 원본 사진에서 만든 크기별 파생본 (내용 해시 파일명, 생성 전에는 null)
+    @Column(name = "IMAGE_THUMB_URL")
+    private String imageThumbUrl;
+    
+    @Column(name = "IMAGE_LIST_URL")
+    private String imageListUrl;
+    
+    @Column(name = "IMAGE_DETAIL_URL")
+    private String imageDetailUrl;
+    
     @Column(name = "CREATED_AT")
     private LocalDateTime createdAt;
     
@@ -0,0 +1,20 @@
+package com.voiz.vo;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Embeddable
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ReviewAspect {
+
+    @Column(name = "ASPECT", nullable = false)
+    private String aspect; // 속성 (맛, 양, 가격, 서비스, 분위기, 청결, 온도, 대기시간)
+
+    @Column(name = "SENTIMENT", nullable = false)
+    private String sentiment; // 속성에 대한 감성 (positive / neutral / negative)
+}
@@ -0,0 +1,99 @@
+package com.voiz.vo;
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.Column;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import lombok.AccessLevel;
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.domain.Persistable;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+// 리뷰 본문 감성/언어/속성 태그 (리뷰 저장 후 ReviewTaggingService가 일괄 분석해 기록)
+// 리뷰 ID를 그대로 키로 쓰므로 Persistable로 새 엔티티임을 알려 saveAll이 행마다 SELECT(merge)하지 않고 바로 INSERT 배치
+@Entity
+@Table(name = "VOYZ_Review_Tags")
+@Data
+@NoArgsConstructor
+public class ReviewTags implements Persistable<Long> {
+
+    @Id
+    @Column(name = "REVIEW_IDX", nullable = false)
+    private Long reviewIdx; // 리뷰 ID (VOYZ_Reviews.REVIEW_IDX)
+
+    @Column(name = "USER_ID", nullable = false)
+    private String userId; // 매장 ID
+
+    @Column(name = "MENU_IDX", nullable = false)
+    private int menuIdx; // 메뉴 ID
+
+    @Column(name = "SENTIMENT", nullable = false)
+    private String sentiment; // 본문 감성 (positive / neutral / negative)
+
+    @Column(name = "SENTIMENT_SCORE")
+    private Double sentimentScore; // 감성 점수 (-1.0 ~ 1.0)
+
+    @Column(name = "DETECTED_LANGUAGE")
+    private String detectedLanguage; // 본문에서 감지한 언어 (ko, en, ja, zh ...)
+
+    @ElementCollection(fetch = FetchType.EAGER)
+    @CollectionTable(name = "VOYZ_Review_Aspects", joinColumns = @JoinColumn(name = "REVIEW_IDX"))
+    private List<ReviewAspect> aspects = new ArrayList<>(); // 속성별 감성 (맛, 양, 가격, 서비스 ...)
+
+    @Column(name = "TAG_SOURCE")
+    private String tagSource; // 분석 방식 (openai / lexicon)
+
+    @Column(name = "TAGGED_AT")
+    private LocalDateTime taggedAt; // 분석 시각
+
+    @Transient
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    @EqualsAndHashCode.Exclude
+    @ToString.Exclude
+    private boolean persisted; // DB에서 읽었거나 저장한 엔티티인지
+
+    public ReviewTags(Long reviewIdx, String userId, int menuIdx, String sentiment, Double sentimentScore,
+            String detectedLanguage, List<ReviewAspect> aspects, String tagSource, LocalDateTime taggedAt) {
+        this.reviewIdx = reviewIdx;
+        this.userId = userId;
+        this.menuIdx = menuIdx;
+        this.sentiment = sentiment;
+        this.sentimentScore = sentimentScore;
+        this.detectedLanguage = detectedLanguage;
+        this.aspects = aspects;
+        this.tagSource = tagSource;
+        this.taggedAt = taggedAt;
+    }
+
+    @Override
+    public Long getId() {
+        return reviewIdx;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
@@ -2,8 +2,11 @@ package com.voiz.vo;
 
 import org.hibernate.annotations.CreationTimestamp;
 
+import com.voiz.service.ReviewChangeListener;
+
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -16,6 +19,7 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "VOYZ_Reviews")
+@EntityListeners(ReviewChangeListener.class) // 수정 / 삭제 시 메모리 색인 무효화
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
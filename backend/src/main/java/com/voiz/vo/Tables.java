@@ -4,12 +4,12 @@ import java.time.LocalDateTime;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.PrePersist;
-import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
+
+import com.voiz.util.AssignedOrSequence;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
@@ -22,8 +22,8 @@ import lombok.NoArgsConstructor;
 public class Tables {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "table_seq")
-    @SequenceGenerator(name = "table_seq", sequenceName = "TABLE_SEQUENCE", allocationSize = 1)
+    // TABLE_SEQUENCE에서 받되, 일괄 생성에서 미리 받아 넣은 ID는 그대로 사용 (QrService.generateQRUrl)
+    @AssignedOrSequence(sequenceName = "TABLE_SEQUENCE")
     @Column(name = "TABLE_IDX")
     private int tableIdx;
 
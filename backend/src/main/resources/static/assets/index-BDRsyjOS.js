@@ -1,56 +0,0 @@
-(function(){const c=document.createElement("link").relList;if(c&&c.supports&&c.supports("modulepreload"))return;for(const g of document.querySelectorAll('link[rel="modulepreload"]'))v(g);new MutationObserver(g=>{for(const S of g)if(S.type==="childList")for(const j of S.addedNodes)j.tagName==="LINK"&&j.rel==="modulepreload"&&v(j)}).observe(document,{childList:!0,subtree:!0});function s(g){const S={};return g.integrity&&(S.integrity=g.integrity),g.referrerPolicy&&(S.referrerPolicy=g.referrerPolicy),g.crossOrigin==="use-credentials"?S.credentials="include":g.crossOrigin==="anonymous"?S.credentials="omit":S.credentials="same-origin",S}function v(g){if(g.ep)return;g.ep=!0;const S=s(g);fetch(g.href,S)}})();function pd(u){return u&&u.__esModule&&Object.prototype.hasOwnProperty.call(u,"default")?u.default:u}var Vi={exports:{}},Er={},Wi={exports:{}},X={};/**
- * @license React
- * react.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var $a;function md(){if($a)return X;$a=1;var u=Symbol.for("react.element"),c=Symbol.for("react.portal"),s=Symbol.for("react.fragment"),v=Symbol.for("react.strict_mode"),g=Symbol.for("react.profiler"),S=Symbol.for("react.provider"),j=Symbol.for("react.context"),_=Symbol.for("react.forward_ref"),P=Symbol.for("react.suspense"),O=Symbol.for("react.memo"),T=Symbol.for("react.lazy"),B=Symbol.iterator;function H(m){return m===null||typeof m!="object"?null:(m=B&&m[B]||m["@@iterator"],typeof m=="function"?m:null)}var re={isMounted:function(){return!1},enqueueForceUpdate:function(){},enqueueReplaceState:function(){},enqueueSetState:function(){}},le=Object.assign,J={};function F(m,k,U){this.props=m,this.context=k,this.refs=J,this.updater=U||re}F.prototype.isReactComponent={},F.prototype.setState=function(m,k){if(typeof m!="object"&&typeof m!="function"&&m!=null)throw Error("setState(...): takes an object of state variables to update or a function which returns an object of state variables.");this.updater.enqueueSetState(this,m,k,"setState")},F.prototype.forceUpdate=function(m){this.updater.enqueueForceUpdate(this,m,"forceUpdate")};function he(){}he.prototype=F.prototype;function We(m,k,U){this.props=m,this.context=k,this.refs=J,this.updater=U||re}var Se=We.prototype=new he;Se.constructor=We,le(Se,F.prototype),Se.isPureReactComponent=!0;var oe=Array.isArray,Oe=Object.prototype.hasOwnProperty,ke={current:null},Ee={key:!0,ref:!0,__self:!0,__source:!0};function Ce(m,k,U){var V,Y={},q=null,Z=null;if(k!=null)for(V in k.ref!==void 0&&(Z=k.ref),k.key!==void 0&&(q=""+k.key),k)Oe.call(k,V)&&!Ee.hasOwnProperty(V)&&(Y[V]=k[V]);var b=arguments.length-2;if(b===1)Y.children=U;else if(1<b){for(var ce=Array(b),et=0;et<b;et++)ce[et]=arguments[et+2];Y.children=ce}if(m&&m.defaultProps)for(V in b=m.defaultProps,b)Y[V]===void 0&&(Y[V]=b[V]);return{$$typeof:u,type:m,key:q,ref:Z,props:Y,_owner:ke.current}}function Ke(m,k){return{$$typeof:u,type:m.type,key:k,ref:m.ref,props:m.props,_owner:m._owner}}function de(m){return typeof m=="object"&&m!==null&&m.$$typeof===u}function be(m){var k={"=":"=0",":":"=2"};return"$"+m.replace(/[=:]/g,function(U){return k[U]})}var $e=/\/+/g;function ye(m,k){return typeof m=="object"&&m!==null&&m.key!=null?be(""+m.key):k.toString(36)}function Le(m,k,U,V,Y){var q=typeof m;(q==="undefined"||q==="boolean")&&(m=null);var Z=!1;if(m===null)Z=!0;else switch(q){case"string":case"number":Z=!0;break;case"object":switch(m.$$typeof){case u:case c:Z=!0}}if(Z)return Z=m,Y=Y(Z),m=V===""?"."+ye(Z,0):V,oe(Y)?(U="",m!=null&&(U=m.replace($e,"$&/")+"/"),Le(Y,k,U,"",function(et){return et})):Y!=null&&(de(Y)&&(Y=Ke(Y,U+(!Y.key||Z&&Z.key===Y.key?"":(""+Y.key).replace($e,"$&/")+"/")+m)),k.push(Y)),1;if(Z=0,V=V===""?".":V+":",oe(m))for(var b=0;b<m.length;b++){q=m[b];var ce=V+ye(q,b);Z+=Le(q,k,U,ce,Y)}else if(ce=H(m),typeof ce=="function")for(m=ce.call(m),b=0;!(q=m.next()).done;)q=q.value,ce=V+ye(q,b++),Z+=Le(q,k,U,ce,Y);else if(q==="object")throw k=String(m),Error("Objects are not valid as a React child (found: "+(k==="[object Object]"?"object with keys {"+Object.keys(m).join(", ")+"}":k)+"). If you meant to render a collection of children, use an array instead.");return Z}function He(m,k,U){if(m==null)return m;var V=[],Y=0;return Le(m,V,"","",function(q){return k.call(U,q,Y++)}),V}function Ie(m){if(m._status===-1){var k=m._result;k=k(),k.then(function(U){(m._status===0||m._status===-1)&&(m._status=1,m._result=U)},function(U){(m._status===0||m._status===-1)&&(m._status=2,m._result=U)}),m._status===-1&&(m._status=0,m._result=k)}if(m._status===1)return m._result.default;throw m._result}var ae={current:null},R={transition:null},$={ReactCurrentDispatcher:ae,ReactCurrentBatchConfig:R,ReactCurrentOwner:ke};function D(){throw Error("act(...) is not supported in production builds of React.")}return X.Children={map:He,forEach:function(m,k,U){He(m,function(){k.apply(this,arguments)},U)},count:function(m){var k=0;return He(m,function(){k++}),k},toArray:function(m){return He(m,function(k){return k})||[]},only:function(m){if(!de(m))throw Error("React.Children.only expected to receive a single React element child.");return m}},X.Component=F,X.Fragment=s,X.Profiler=g,X.PureComponent=We,X.StrictMode=v,X.Suspense=P,X.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=$,X.act=D,X.cloneElement=function(m,k,U){if(m==null)throw Error("React.cloneElement(...): The argument must be a React element, but you passed "+m+".");var V=le({},m.props),Y=m.key,q=m.ref,Z=m._owner;if(k!=null){if(k.ref!==void 0&&(q=k.ref,Z=ke.current),k.key!==void 0&&(Y=""+k.key),m.type&&m.type.defaultProps)var b=m.type.defaultProps;for(ce in k)Oe.call(k,ce)&&!Ee.hasOwnProperty(ce)&&(V[ce]=k[ce]===void 0&&b!==void 0?b[ce]:k[ce])}var ce=arguments.length-2;if(ce===1)V.children=U;else if(1<ce){b=Array(ce);for(var et=0;et<ce;et++)b[et]=arguments[et+2];V.children=b}return{$$typeof:u,type:m.type,key:Y,ref:q,props:V,_owner:Z}},X.createContext=function(m){return m={$$typeof:j,_currentValue:m,_currentValue2:m,_threadCount:0,Provider:null,Consumer:null,_defaultValue:null,_globalName:null},m.Provider={$$typeof:S,_context:m},m.Consumer=m},X.createElement=Ce,X.createFactory=function(m){var k=Ce.bind(null,m);return k.type=m,k},X.createRef=function(){return{current:null}},X.forwardRef=function(m){return{$$typeof:_,render:m}},X.isValidElement=de,X.lazy=function(m){return{$$typeof:T,_payload:{_status:-1,_result:m},_init:Ie}},X.memo=function(m,k){return{$$typeof:O,type:m,compare:k===void 0?null:k}},X.startTransition=function(m){var k=R.transition;R.transition={};try{m()}finally{R.transition=k}},X.unstable_act=D,X.useCallback=function(m,k){return ae.current.useCallback(m,k)},X.useContext=function(m){return ae.current.useContext(m)},X.useDebugValue=function(){},X.useDeferredValue=function(m){return ae.current.useDeferredValue(m)},X.useEffect=function(m,k){return ae.current.useEffect(m,k)},X.useId=function(){return ae.current.useId()},X.useImperativeHandle=function(m,k,U){return ae.current.useImperativeHandle(m,k,U)},X.useInsertionEffect=function(m,k){return ae.current.useInsertionEffect(m,k)},X.useLayoutEffect=function(m,k){return ae.current.useLayoutEffect(m,k)},X.useMemo=function(m,k){return ae.current.useMemo(m,k)},X.useReducer=function(m,k,U){return ae.current.useReducer(m,k,U)},X.useRef=function(m){return ae.current.useRef(m)},X.useState=function(m){return ae.current.useState(m)},X.useSyncExternalStore=function(m,k,U){return ae.current.useSyncExternalStore(m,k,U)},X.useTransition=function(){return ae.current.useTransition()},X.version="18.3.1",X}var Ha;function Yi(){return Ha||(Ha=1,Wi.exports=md()),Wi.exports}/**
- * @license React
- * react-jsx-runtime.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Qa;function hd(){if(Qa)return Er;Qa=1;var u=Yi(),c=Symbol.for("react.element"),s=Symbol.for("react.fragment"),v=Object.prototype.hasOwnProperty,g=u.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED.ReactCurrentOwner,S={key:!0,ref:!0,__self:!0,__source:!0};function j(_,P,O){var T,B={},H=null,re=null;O!==void 0&&(H=""+O),P.key!==void 0&&(H=""+P.key),P.ref!==void 0&&(re=P.ref);for(T in P)v.call(P,T)&&!S.hasOwnProperty(T)&&(B[T]=P[T]);if(_&&_.defaultProps)for(T in P=_.defaultProps,P)B[T]===void 0&&(B[T]=P[T]);return{$$typeof:c,type:_,key:H,ref:re,props:B,_owner:g.current}}return Er.Fragment=s,Er.jsx=j,Er.jsxs=j,Er}var Ga;function vd(){return Ga||(Ga=1,Vi.exports=hd()),Vi.exports}var d=vd(),G=Yi();const Wl=pd(G);var Ul={},Ki={exports:{}},qe={},$i={exports:{}},Hi={};/**
- * @license React
- * scheduler.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Ya;function yd(){return Ya||(Ya=1,function(u){function c(R,$){var D=R.length;R.push($);e:for(;0<D;){var m=D-1>>>1,k=R[m];if(0<g(k,$))R[m]=$,R[D]=k,D=m;else break e}}function s(R){return R.length===0?null:R[0]}function v(R){if(R.length===0)return null;var $=R[0],D=R.pop();if(D!==$){R[0]=D;e:for(var m=0,k=R.length,U=k>>>1;m<U;){var V=2*(m+1)-1,Y=R[V],q=V+1,Z=R[q];if(0>g(Y,D))q<k&&0>g(Z,Y)?(R[m]=Z,R[q]=D,m=q):(R[m]=Y,R[V]=D,m=V);else if(q<k&&0>g(Z,D))R[m]=Z,R[q]=D,m=q;else break e}}return $}function g(R,$){var D=R.sortIndex-$.sortIndex;return D!==0?D:R.id-$.id}if(typeof performance=="object"&&typeof performance.now=="function"){var S=performance;u.unstable_now=function(){return S.now()}}else{var j=Date,_=j.now();u.unstable_now=function(){return j.now()-_}}var P=[],O=[],T=1,B=null,H=3,re=!1,le=!1,J=!1,F=typeof setTimeout=="function"?setTimeout:null,he=typeof clearTimeout=="function"?clearTimeout:null,We=typeof setImmediate<"u"?setImmediate:null;typeof navigator<"u"&&navigator.scheduling!==void 0&&navigator.scheduling.isInputPending!==void 0&&navigator.scheduling.isInputPending.bind(navigator.scheduling);function Se(R){for(var $=s(O);$!==null;){if($.callback===null)v(O);else if($.startTime<=R)v(O),$.sortIndex=$.expirationTime,c(P,$);else break;$=s(O)}}function oe(R){if(J=!1,Se(R),!le)if(s(P)!==null)le=!0,Ie(Oe);else{var $=s(O);$!==null&&ae(oe,$.startTime-R)}}function Oe(R,$){le=!1,J&&(J=!1,he(Ce),Ce=-1),re=!0;var D=H;try{for(Se($),B=s(P);B!==null&&(!(B.expirationTime>$)||R&&!be());){var m=B.callback;if(typeof m=="function"){B.callback=null,H=B.priorityLevel;var k=m(B.expirationTime<=$);$=u.unstable_now(),typeof k=="function"?B.callback=k:B===s(P)&&v(P),Se($)}else v(P);B=s(P)}if(B!==null)var U=!0;else{var V=s(O);V!==null&&ae(oe,V.startTime-$),U=!1}return U}finally{B=null,H=D,re=!1}}var ke=!1,Ee=null,Ce=-1,Ke=5,de=-1;function be(){return!(u.unstable_now()-de<Ke)}function $e(){if(Ee!==null){var R=u.unstable_now();de=R;var $=!0;try{$=Ee(!0,R)}finally{$?ye():(ke=!1,Ee=null)}}else ke=!1}var ye;if(typeof We=="function")ye=function(){We($e)};else if(typeof MessageChannel<"u"){var Le=new MessageChannel,He=Le.port2;Le.port1.onmessage=$e,ye=function(){He.postMessage(null)}}else ye=function(){F($e,0)};function Ie(R){Ee=R,ke||(ke=!0,ye())}function ae(R,$){Ce=F(function(){R(u.unstable_now())},$)}u.unstable_IdlePriority=5,u.unstable_ImmediatePriority=1,u.unstable_LowPriority=4,u.unstable_NormalPriority=3,u.unstable_Profiling=null,u.unstable_UserBlockingPriority=2,u.unstable_cancelCallback=function(R){R.callback=null},u.unstable_continueExecution=function(){le||re||(le=!0,Ie(Oe))},u.unstable_forceFrameRate=function(R){0>R||125<R?console.error("forceFrameRate takes a positive int between 0 and 125, forcing frame rates higher than 125 fps is not supported"):Ke=0<R?Math.floor(1e3/R):5},u.unstable_getCurrentPriorityLevel=function(){return H},u.unstable_getFirstCallbackNode=function(){return s(P)},u.unstable_next=function(R){switch(H){case 1:case 2:case 3:var $=3;break;default:$=H}var D=H;H=$;try{return R()}finally{H=D}},u.unstable_pauseExecution=function(){},u.unstable_requestPaint=function(){},u.unstable_runWithPriority=function(R,$){switch(R){case 1:case 2:case 3:case 4:case 5:break;default:R=3}var D=H;H=R;try{return $()}finally{H=D}},u.unstable_scheduleCallback=function(R,$,D){var m=u.unstable_now();switch(typeof D=="object"&&D!==null?(D=D.delay,D=typeof D=="number"&&0<D?m+D:m):D=m,R){case 1:var k=-1;break;case 2:k=250;break;case 5:k=1073741823;break;case 4:k=1e4;break;default:k=5e3}return k=D+k,R={id:T++,callback:$,priorityLevel:R,startTime:D,expirationTime:k,sortIndex:-1},D>m?(R.sortIndex=D,c(O,R),s(P)===null&&R===s(O)&&(J?(he(Ce),Ce=-1):J=!0,ae(oe,D-m))):(R.sortIndex=k,c(P,R),le||re||(le=!0,Ie(Oe))),R},u.unstable_shouldYield=be,u.unstable_wrapCallback=function(R){var $=H;return function(){var D=H;H=$;try{return R.apply(this,arguments)}finally{H=D}}}}(Hi)),Hi}var Ja;function gd(){return Ja||(Ja=1,$i.exports=yd()),$i.exports}/**
- * @license React
- * react-dom.production.min.js
- *
- * Copyright (c) Facebook, Inc. and its affiliates.
- *
- * This source code is licensed under the MIT license found in the
- * LICENSE file in the root directory of this source tree.
- */var Xa;function wd(){if(Xa)return qe;Xa=1;var u=Yi(),c=gd();function s(e){for(var t="https://reactjs.org/docs/error-decoder.html?invariant="+e,n=1;n<arguments.length;n++)t+="&args[]="+encodeURIComponent(arguments[n]);return"Minified React error #"+e+"; visit "+t+" for the full message or use the non-minified dev environment for full errors and additional helpful warnings."}var v=new Set,g={};function S(e,t){j(e,t),j(e+"Capture",t)}function j(e,t){for(g[e]=t,e=0;e<t.length;e++)v.add(t[e])}var _=!(typeof window>"u"||typeof window.document>"u"||typeof window.document.createElement>"u"),P=Object.prototype.hasOwnProperty,O=/^[:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD][:A-Z_a-z\u00C0-\u00D6\u00D8-\u00F6\u00F8-\u02FF\u0370-\u037D\u037F-\u1FFF\u200C-\u200D\u2070-\u218F\u2C00-\u2FEF\u3001-\uD7FF\uF900-\uFDCF\uFDF0-\uFFFD\-.0-9\u00B7\u0300-\u036F\u203F-\u2040]*$/,T={},B={};function H(e){return P.call(B,e)?!0:P.call(T,e)?!1:O.test(e)?B[e]=!0:(T[e]=!0,!1)}function re(e,t,n,r){if(n!==null&&n.type===0)return!1;switch(typeof t){case"function":case"symbol":return!0;case"boolean":return r?!1:n!==null?!n.acceptsBooleans:(e=e.toLowerCase().slice(0,5),e!=="data-"&&e!=="aria-");default:return!1}}function le(e,t,n,r){if(t===null||typeof t>"u"||re(e,t,n,r))return!0;if(r)return!1;if(n!==null)switch(n.type){case 3:return!t;case 4:return t===!1;case 5:return isNaN(t);case 6:return isNaN(t)||1>t}return!1}function J(e,t,n,r,l,o,i){this.acceptsBooleans=t===2||t===3||t===4,this.attributeName=r,this.attributeNamespace=l,this.mustUseProperty=n,this.propertyName=e,this.type=t,this.sanitizeURL=o,this.removeEmptyString=i}var F={};"children dangerouslySetInnerHTML defaultValue defaultChecked innerHTML suppressContentEditableWarning suppressHydrationWarning style".split(" ").forEach(function(e){F[e]=new J(e,0,!1,e,null,!1,!1)}),[["acceptCharset","accept-charset"],["className","class"],["htmlFor","for"],["httpEquiv","http-equiv"]].forEach(function(e){var t=e[0];F[t]=new J(t,1,!1,e[1],null,!1,!1)}),["contentEditable","draggable","spellCheck","value"].forEach(function(e){F[e]=new J(e,2,!1,e.toLowerCase(),null,!1,!1)}),["autoReverse","externalResourcesRequired","focusable","preserveAlpha"].forEach(function(e){F[e]=new J(e,2,!1,e,null,!1,!1)}),"allowFullScreen async autoFocus autoPlay controls default defer disabled disablePictureInPicture disableRemotePlayback formNoValidate hidden loop noModule noValidate open playsInline readOnly required reversed scoped seamless itemScope".split(" ").forEach(function(e){F[e]=new J(e,3,!1,e.toLowerCase(),null,!1,!1)}),["checked","multiple","muted","selected"].forEach(function(e){F[e]=new J(e,3,!0,e,null,!1,!1)}),["capture","download"].forEach(function(e){F[e]=new J(e,4,!1,e,null,!1,!1)}),["cols","rows","size","span"].forEach(function(e){F[e]=new J(e,6,!1,e,null,!1,!1)}),["rowSpan","start"].forEach(function(e){F[e]=new J(e,5,!1,e.toLowerCase(),null,!1,!1)});var he=/[\-:]([a-z])/g;function We(e){return e[1].toUpperCase()}"accent-height alignment-baseline arabic-form baseline-shift cap-height clip-path clip-rule color-interpolation color-interpolation-filters color-profile color-rendering dominant-baseline enable-background fill-opacity fill-rule flood-color flood-opacity font-family font-size font-size-adjust font-stretch font-style font-variant font-weight glyph-name glyph-orientation-horizontal glyph-orientation-vertical horiz-adv-x horiz-origin-x image-rendering letter-spacing lighting-color marker-end marker-mid marker-start overline-position overline-thickness paint-order panose-1 pointer-events rendering-intent shape-rendering stop-color stop-opacity strikethrough-position strikethrough-thickness stroke-dasharray stroke-dashoffset stroke-linecap stroke-linejoin stroke-miterlimit stroke-opacity stroke-width text-anchor text-decoration text-rendering underline-position underline-thickness unicode-bidi unicode-range units-per-em v-alphabetic v-hanging v-ideographic v-mathematical vector-effect vert-adv-y vert-origin-x vert-origin-y word-spacing writing-mode xmlns:xlink x-height".split(" ").forEach(function(e){var t=e.replace(he,We);F[t]=new J(t,1,!1,e,null,!1,!1)}),"xlink:actuate xlink:arcrole xlink:role xlink:show xlink:title xlink:type".split(" ").forEach(function(e){var t=e.replace(he,We);F[t]=new J(t,1,!1,e,"http://www.w3.org/1999/xlink",!1,!1)}),["xml:base","xml:lang","xml:space"].forEach(function(e){var t=e.replace(he,We);F[t]=new J(t,1,!1,e,"http://www.w3.org/XML/1998/namespace",!1,!1)}),["tabIndex","crossOrigin"].forEach(function(e){F[e]=new J(e,1,!1,e.toLowerCase(),null,!1,!1)}),F.xlinkHref=new J("xlinkHref",1,!1,"xlink:href","http://www.w3.org/1999/xlink",!0,!1),["src","href","action","formAction"].forEach(function(e){F[e]=new J(e,1,!1,e.toLowerCase(),null,!0,!0)});function Se(e,t,n,r){var l=F.hasOwnProperty(t)?F[t]:null;(l!==null?l.type!==0:r||!(2<t.length)||t[0]!=="o"&&t[0]!=="O"||t[1]!=="n"&&t[1]!=="N")&&(le(t,n,l,r)&&(n=null),r||l===null?H(t)&&(n===null?e.removeAttribute(t):e.setAttribute(t,""+n)):l.mustUseProperty?e[l.propertyName]=n===null?l.type===3?!1:"":n:(t=l.attributeName,r=l.attributeNamespace,n===null?e.removeAttribute(t):(l=l.type,n=l===3||l===4&&n===!0?"":""+n,r?e.setAttributeNS(r,t,n):e.setAttribute(t,n))))}var oe=u.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED,Oe=Symbol.for("react.element"),ke=Symbol.for("react.portal"),Ee=Symbol.for("react.fragment"),Ce=Symbol.for("react.strict_mode"),Ke=Symbol.for("react.profiler"),de=Symbol.for("react.provider"),be=Symbol.for("react.context"),$e=Symbol.for("react.forward_ref"),ye=Symbol.for("react.suspense"),Le=Symbol.for("react.suspense_list"),He=Symbol.for("react.memo"),Ie=Symbol.for("react.lazy"),ae=Symbol.for("react.offscreen"),R=Symbol.iterator;function $(e){return e===null||typeof e!="object"?null:(e=R&&e[R]||e["@@iterator"],typeof e=="function"?e:null)}var D=Object.assign,m;function k(e){if(m===void 0)try{throw Error()}catch(n){var t=n.stack.trim().match(/\n( *(at )?)/);m=t&&t[1]||""}return`
-`+m+e}var U=!1;function V(e,t){if(!e||U)return"";U=!0;var n=Error.prepareStackTrace;Error.prepareStackTrace=void 0;try{if(t)if(t=function(){throw Error()},Object.defineProperty(t.prototype,"props",{set:function(){throw Error()}}),typeof Reflect=="object"&&Reflect.construct){try{Reflect.construct(t,[])}catch(w){var r=w}Reflect.construct(e,[],t)}else{try{t.call()}catch(w){r=w}e.call(t.prototype)}else{try{throw Error()}catch(w){r=w}e()}}catch(w){if(w&&r&&typeof w.stack=="string"){for(var l=w.stack.split(`
-`),o=r.stack.split(`
-`),i=l.length-1,a=o.length-1;1<=i&&0<=a&&l[i]!==o[a];)a--;for(;1<=i&&0<=a;i--,a--)if(l[i]!==o[a]){if(i!==1||a!==1)do if(i--,a--,0>a||l[i]!==o[a]){var f=`
-`+l[i].replace(" at new "," at ");return e.displayName&&f.includes("<anonymous>")&&(f=f.replace("<anonymous>",e.displayName)),f}while(1<=i&&0<=a);break}}}finally{U=!1,Error.prepareStackTrace=n}return(e=e?e.displayName||e.name:"")?k(e):""}function Y(e){switch(e.tag){case 5:return k(e.type);case 16:return k("Lazy");case 13:return k("Suspense");case 19:return k("SuspenseList");case 0:case 2:case 15:return e=V(e.type,!1),e;case 11:return e=V(e.type.render,!1),e;case 1:return e=V(e.type,!0),e;default:return""}}function q(e){if(e==null)return null;if(typeof e=="function")return e.displayName||e.name||null;if(typeof e=="string")return e;switch(e){case Ee:return"Fragment";case ke:return"Portal";case Ke:return"Profiler";case Ce:return"StrictMode";case ye:return"Suspense";case Le:return"SuspenseList"}if(typeof e=="object")switch(e.$$typeof){case be:return(e.displayName||"Context")+".Consumer";case de:return(e._context.displayName||"Context")+".Provider";case $e:var t=e.render;return e=e.displayName,e||(e=t.displayName||t.name||"",e=e!==""?"ForwardRef("+e+")":"ForwardRef"),e;case He:return t=e.displayName||null,t!==null?t:q(e.type)||"Memo";case Ie:t=e._payload,e=e._init;try{return q(e(t))}catch{}}return null}function Z(e){var t=e.type;switch(e.tag){case 24:return"Cache";case 9:return(t.displayName||"Context")+".Consumer";case 10:return(t._context.displayName||"Context")+".Provider";case 18:return"DehydratedFragment";case 11:return e=t.render,e=e.displayName||e.name||"",t.displayName||(e!==""?"ForwardRef("+e+")":"ForwardRef");case 7:return"Fragment";case 5:return t;case 4:return"Portal";case 3:return"Root";case 6:return"Text";case 16:return q(t);case 8:return t===Ce?"StrictMode":"Mode";case 22:return"Offscreen";case 12:return"Profiler";case 21:return"Scope";case 13:return"Suspense";case 19:return"SuspenseList";case 25:return"TracingMarker";case 1:case 0:case 17:case 2:case 14:case 15:if(typeof t=="function")return t.displayName||t.name||null;if(typeof t=="string")return t}return null}function b(e){switch(typeof e){case"boolean":case"number":case"string":case"undefined":return e;case"object":return e;default:return""}}function ce(e){var t=e.type;return(e=e.nodeName)&&e.toLowerCase()==="input"&&(t==="checkbox"||t==="radio")}function et(e){var t=ce(e)?"checked":"value",n=Object.getOwnPropertyDescriptor(e.constructor.prototype,t),r=""+e[t];if(!e.hasOwnProperty(t)&&typeof n<"u"&&typeof n.get=="function"&&typeof n.set=="function"){var l=n.get,o=n.set;return Object.defineProperty(e,t,{configurable:!0,get:function(){return l.call(this)},set:function(i){r=""+i,o.call(this,i)}}),Object.defineProperty(e,t,{enumerable:n.enumerable}),{getValue:function(){return r},setValue:function(i){r=""+i},stopTracking:function(){e._valueTracker=null,delete e[t]}}}}function Rr(e){e._valueTracker||(e._valueTracker=et(e))}function Xi(e){if(!e)return!1;var t=e._valueTracker;if(!t)return!0;var n=t.getValue(),r="";return e&&(r=ce(e)?e.checked?"true":"false":e.value),e=r,e!==n?(t.setValue(e),!0):!1}function Tr(e){if(e=e||(typeof document<"u"?document:void 0),typeof e>"u")return null;try{return e.activeElement||e.body}catch{return e.body}}function Gl(e,t){var n=t.checked;return D({},t,{defaultChecked:void 0,defaultValue:void 0,value:void 0,checked:n??e._wrapperState.initialChecked})}function qi(e,t){var n=t.defaultValue==null?"":t.defaultValue,r=t.checked!=null?t.checked:t.defaultChecked;n=b(t.value!=null?t.value:n),e._wrapperState={initialChecked:r,initialValue:n,controlled:t.type==="checkbox"||t.type==="radio"?t.checked!=null:t.value!=null}}function Zi(e,t){t=t.checked,t!=null&&Se(e,"checked",t,!1)}function Yl(e,t){Zi(e,t);var n=b(t.value),r=t.type;if(n!=null)r==="number"?(n===0&&e.value===""||e.value!=n)&&(e.value=""+n):e.value!==""+n&&(e.value=""+n);else if(r==="submit"||r==="reset"){e.removeAttribute("value");return}t.hasOwnProperty("value")?Jl(e,t.type,n):t.hasOwnProperty("defaultValue")&&Jl(e,t.type,b(t.defaultValue)),t.checked==null&&t.defaultChecked!=null&&(e.defaultChecked=!!t.defaultChecked)}function bi(e,t,n){if(t.hasOwnProperty("value")||t.hasOwnProperty("defaultValue")){var r=t.type;if(!(r!=="submit"&&r!=="reset"||t.value!==void 0&&t.value!==null))return;t=""+e._wrapperState.initialValue,n||t===e.value||(e.value=t),e.defaultValue=t}n=e.name,n!==""&&(e.name=""),e.defaultChecked=!!e._wrapperState.initialChecked,n!==""&&(e.name=n)}function Jl(e,t,n){(t!=="number"||Tr(e.ownerDocument)!==e)&&(n==null?e.defaultValue=""+e._wrapperState.initialValue:e.defaultValue!==""+n&&(e.defaultValue=""+n))}var Un=Array.isArray;function dn(e,t,n,r){if(e=e.options,t){t={};for(var l=0;l<n.length;l++)t["$"+n[l]]=!0;for(n=0;n<e.length;n++)l=t.hasOwnProperty("$"+e[n].value),e[n].selected!==l&&(e[n].selected=l),l&&r&&(e[n].defaultSelected=!0)}else{for(n=""+b(n),t=null,l=0;l<e.length;l++){if(e[l].value===n){e[l].selected=!0,r&&(e[l].defaultSelected=!0);return}t!==null||e[l].disabled||(t=e[l])}t!==null&&(t.selected=!0)}}function Xl(e,t){if(t.dangerouslySetInnerHTML!=null)throw Error(s(91));return D({},t,{value:void 0,defaultValue:void 0,children:""+e._wrapperState.initialValue})}function eu(e,t){var n=t.value;if(n==null){if(n=t.children,t=t.defaultValue,n!=null){if(t!=null)throw Error(s(92));if(Un(n)){if(1<n.length)throw Error(s(93));n=n[0]}t=n}t==null&&(t=""),n=t}e._wrapperState={initialValue:b(n)}}function tu(e,t){var n=b(t.value),r=b(t.defaultValue);n!=null&&(n=""+n,n!==e.value&&(e.value=n),t.defaultValue==null&&e.defaultValue!==n&&(e.defaultValue=n)),r!=null&&(e.defaultValue=""+r)}function nu(e){var t=e.textContent;t===e._wrapperState.initialValue&&t!==""&&t!==null&&(e.value=t)}function ru(e){switch(e){case"svg":return"http://www.w3.org/2000/svg";case"math":return"http://www.w3.org/1998/Math/MathML";default:return"http://www.w3.org/1999/xhtml"}}function ql(e,t){return e==null||e==="http://www.w3.org/1999/xhtml"?ru(t):e==="http://www.w3.org/2000/svg"&&t==="foreignObject"?"http://www.w3.org/1999/xhtml":e}var Or,lu=function(e){return typeof MSApp<"u"&&MSApp.execUnsafeLocalFunction?function(t,n,r,l){MSApp.execUnsafeLocalFunction(function(){return e(t,n,r,l)})}:e}(function(e,t){if(e.namespaceURI!=="http://www.w3.org/2000/svg"||"innerHTML"in e)e.innerHTML=t;else{for(Or=Or||document.createElement("div"),Or.innerHTML="<svg>"+t.valueOf().toString()+"</svg>",t=Or.firstChild;e.firstChild;)e.removeChild(e.firstChild);for(;t.firstChild;)e.appendChild(t.firstChild)}});function Bn(e,t){if(t){var n=e.firstChild;if(n&&n===e.lastChild&&n.nodeType===3){n.nodeValue=t;return}}e.textContent=t}var Vn={animationIterationCount:!0,aspectRatio:!0,borderImageOutset:!0,borderImageSlice:!0,borderImageWidth:!0,boxFlex:!0,boxFlexGroup:!0,boxOrdinalGroup:!0,columnCount:!0,columns:!0,flex:!0,flexGrow:!0,flexPositive:!0,flexShrink:!0,flexNegative:!0,flexOrder:!0,gridArea:!0,gridRow:!0,gridRowEnd:!0,gridRowSpan:!0,gridRowStart:!0,gridColumn:!0,gridColumnEnd:!0,gridColumnSpan:!0,gridColumnStart:!0,fontWeight:!0,lineClamp:!0,lineHeight:!0,opacity:!0,order:!0,orphans:!0,tabSize:!0,widows:!0,zIndex:!0,zoom:!0,fillOpacity:!0,floodOpacity:!0,stopOpacity:!0,strokeDasharray:!0,strokeDashoffset:!0,strokeMiterlimit:!0,strokeOpacity:!0,strokeWidth:!0},vc=["Webkit","ms","Moz","O"];Object.keys(Vn).forEach(function(e){vc.forEach(function(t){t=t+e.charAt(0).toUpperCase()+e.substring(1),Vn[t]=Vn[e]})});function ou(e,t,n){return t==null||typeof t=="boolean"||t===""?"":n||typeof t!="number"||t===0||Vn.hasOwnProperty(e)&&Vn[e]?(""+t).trim():t+"px"}function iu(e,t){e=e.style;for(var n in t)if(t.hasOwnProperty(n)){var r=n.indexOf("--")===0,l=ou(n,t[n],r);n==="float"&&(n="cssFloat"),r?e.setProperty(n,l):e[n]=l}}var yc=D({menuitem:!0},{area:!0,base:!0,br:!0,col:!0,embed:!0,hr:!0,img:!0,input:!0,keygen:!0,link:!0,meta:!0,param:!0,source:!0,track:!0,wbr:!0});function Zl(e,t){if(t){if(yc[e]&&(t.children!=null||t.dangerouslySetInnerHTML!=null))throw Error(s(137,e));if(t.dangerouslySetInnerHTML!=null){if(t.children!=null)throw Error(s(60));if(typeof t.dangerouslySetInnerHTML!="object"||!("__html"in t.dangerouslySetInnerHTML))throw Error(s(61))}if(t.style!=null&&typeof t.style!="object")throw Error(s(62))}}function bl(e,t){if(e.indexOf("-")===-1)return typeof t.is=="string";switch(e){case"annotation-xml":case"color-profile":case"font-face":case"font-face-src":case"font-face-uri":case"font-face-format":case"font-face-name":case"missing-glyph":return!1;default:return!0}}var eo=null;function to(e){return e=e.target||e.srcElement||window,e.correspondingUseElement&&(e=e.correspondingUseElement),e.nodeType===3?e.parentNode:e}var no=null,pn=null,mn=null;function uu(e){if(e=ar(e)){if(typeof no!="function")throw Error(s(280));var t=e.stateNode;t&&(t=el(t),no(e.stateNode,e.type,t))}}function su(e){pn?mn?mn.push(e):mn=[e]:pn=e}function au(){if(pn){var e=pn,t=mn;if(mn=pn=null,uu(e),t)for(e=0;e<t.length;e++)uu(t[e])}}function cu(e,t){return e(t)}function fu(){}var ro=!1;function du(e,t,n){if(ro)return e(t,n);ro=!0;try{return cu(e,t,n)}finally{ro=!1,(pn!==null||mn!==null)&&(fu(),au())}}function Wn(e,t){var n=e.stateNode;if(n===null)return null;var r=el(n);if(r===null)return null;n=r[t];e:switch(t){case"onClick":case"onClickCapture":case"onDoubleClick":case"onDoubleClickCapture":case"onMouseDown":case"onMouseDownCapture":case"onMouseMove":case"onMouseMoveCapture":case"onMouseUp":case"onMouseUpCapture":case"onMouseEnter":(r=!r.disabled)||(e=e.type,r=!(e==="button"||e==="input"||e==="select"||e==="textarea")),e=!r;break e;default:e=!1}if(e)return null;if(n&&typeof n!="function")throw Error(s(231,t,typeof n));return n}var lo=!1;if(_)try{var Kn={};Object.defineProperty(Kn,"passive",{get:function(){lo=!0}}),window.addEventListener("test",Kn,Kn),window.removeEventListener("test",Kn,Kn)}catch{lo=!1}function gc(e,t,n,r,l,o,i,a,f){var w=Array.prototype.slice.call(arguments,3);try{t.apply(n,w)}catch(N){this.onError(N)}}var $n=!1,Ir=null,Dr=!1,oo=null,wc={onError:function(e){$n=!0,Ir=e}};function Sc(e,t,n,r,l,o,i,a,f){$n=!1,Ir=null,gc.apply(wc,arguments)}function kc(e,t,n,r,l,o,i,a,f){if(Sc.apply(this,arguments),$n){if($n){var w=Ir;$n=!1,Ir=null}else throw Error(s(198));Dr||(Dr=!0,oo=w)}}function qt(e){var t=e,n=e;if(e.alternate)for(;t.return;)t=t.return;else{e=t;do t=e,(t.flags&4098)!==0&&(n=t.return),e=t.return;while(e)}return t.tag===3?n:null}function pu(e){if(e.tag===13){var t=e.memoizedState;if(t===null&&(e=e.alternate,e!==null&&(t=e.memoizedState)),t!==null)return t.dehydrated}return null}function mu(e){if(qt(e)!==e)throw Error(s(188))}function xc(e){var t=e.alternate;if(!t){if(t=qt(e),t===null)throw Error(s(188));return t!==e?null:e}for(var n=e,r=t;;){var l=n.return;if(l===null)break;var o=l.alternate;if(o===null){if(r=l.return,r!==null){n=r;continue}break}if(l.child===o.child){for(o=l.child;o;){if(o===n)return mu(l),e;if(o===r)return mu(l),t;o=o.sibling}throw Error(s(188))}if(n.return!==r.return)n=l,r=o;else{for(var i=!1,a=l.child;a;){if(a===n){i=!0,n=l,r=o;break}if(a===r){i=!0,r=l,n=o;break}a=a.sibling}if(!i){for(a=o.child;a;){if(a===n){i=!0,n=o,r=l;break}if(a===r){i=!0,r=o,n=l;break}a=a.sibling}if(!i)throw Error(s(189))}}if(n.alternate!==r)throw Error(s(190))}if(n.tag!==3)throw Error(s(188));return n.stateNode.current===n?e:t}function hu(e){return e=xc(e),e!==null?vu(e):null}function vu(e){if(e.tag===5||e.tag===6)return e;for(e=e.child;e!==null;){var t=vu(e);if(t!==null)return t;e=e.sibling}return null}var yu=c.unstable_scheduleCallback,gu=c.unstable_cancelCallback,Nc=c.unstable_shouldYield,Ec=c.unstable_requestPaint,ge=c.unstable_now,Cc=c.unstable_getCurrentPriorityLevel,io=c.unstable_ImmediatePriority,wu=c.unstable_UserBlockingPriority,zr=c.unstable_NormalPriority,Pc=c.unstable_LowPriority,Su=c.unstable_IdlePriority,Lr=null,gt=null;function _c(e){if(gt&&typeof gt.onCommitFiberRoot=="function")try{gt.onCommitFiberRoot(Lr,e,void 0,(e.current.flags&128)===128)}catch{}}var ft=Math.clz32?Math.clz32:Tc,jc=Math.log,Rc=Math.LN2;function Tc(e){return e>>>=0,e===0?32:31-(jc(e)/Rc|0)|0}var Mr=64,Ar=4194304;function Hn(e){switch(e&-e){case 1:return 1;case 2:return 2;case 4:return 4;case 8:return 8;case 16:return 16;case 32:return 32;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return e&4194240;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return e&130023424;case 134217728:return 134217728;case 268435456:return 268435456;case 536870912:return 536870912;case 1073741824:return 1073741824;default:return e}}function Fr(e,t){var n=e.pendingLanes;if(n===0)return 0;var r=0,l=e.suspendedLanes,o=e.pingedLanes,i=n&268435455;if(i!==0){var a=i&~l;a!==0?r=Hn(a):(o&=i,o!==0&&(r=Hn(o)))}else i=n&~l,i!==0?r=Hn(i):o!==0&&(r=Hn(o));if(r===0)return 0;if(t!==0&&t!==r&&(t&l)===0&&(l=r&-r,o=t&-t,l>=o||l===16&&(o&4194240)!==0))return t;if((r&4)!==0&&(r|=n&16),t=e.entangledLanes,t!==0)for(e=e.entanglements,t&=r;0<t;)n=31-ft(t),l=1<<n,r|=e[n],t&=~l;return r}function Oc(e,t){switch(e){case 1:case 2:case 4:return t+250;case 8:case 16:case 32:case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:return t+5e3;case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:return-1;case 134217728:case 268435456:case 536870912:case 1073741824:return-1;default:return-1}}function Ic(e,t){for(var n=e.suspendedLanes,r=e.pingedLanes,l=e.expirationTimes,o=e.pendingLanes;0<o;){var i=31-ft(o),a=1<<i,f=l[i];f===-1?((a&n)===0||(a&r)!==0)&&(l[i]=Oc(a,t)):f<=t&&(e.expiredLanes|=a),o&=~a}}function uo(e){return e=e.pendingLanes&-1073741825,e!==0?e:e&1073741824?1073741824:0}function ku(){var e=Mr;return Mr<<=1,(Mr&4194240)===0&&(Mr=64),e}function so(e){for(var t=[],n=0;31>n;n++)t.push(e);return t}function Qn(e,t,n){e.pendingLanes|=t,t!==536870912&&(e.suspendedLanes=0,e.pingedLanes=0),e=e.eventTimes,t=31-ft(t),e[t]=n}function Dc(e,t){var n=e.pendingLanes&~t;e.pendingLanes=t,e.suspendedLanes=0,e.pingedLanes=0,e.expiredLanes&=t,e.mutableReadLanes&=t,e.entangledLanes&=t,t=e.entanglements;var r=e.eventTimes;for(e=e.expirationTimes;0<n;){var l=31-ft(n),o=1<<l;t[l]=0,r[l]=-1,e[l]=-1,n&=~o}}function ao(e,t){var n=e.entangledLanes|=t;for(e=e.entanglements;n;){var r=31-ft(n),l=1<<r;l&t|e[r]&t&&(e[r]|=t),n&=~l}}var ne=0;function xu(e){return e&=-e,1<e?4<e?(e&268435455)!==0?16:536870912:4:1}var Nu,co,Eu,Cu,Pu,fo=!1,Ur=[],Ot=null,It=null,Dt=null,Gn=new Map,Yn=new Map,zt=[],zc="mousedown mouseup touchcancel touchend touchstart auxclick dblclick pointercancel pointerdown pointerup dragend dragstart drop compositionend compositionstart keydown keypress keyup input textInput copy cut paste click change contextmenu reset submit".split(" ");function _u(e,t){switch(e){case"focusin":case"focusout":Ot=null;break;case"dragenter":case"dragleave":It=null;break;case"mouseover":case"mouseout":Dt=null;break;case"pointerover":case"pointerout":Gn.delete(t.pointerId);break;case"gotpointercapture":case"lostpointercapture":Yn.delete(t.pointerId)}}function Jn(e,t,n,r,l,o){return e===null||e.nativeEvent!==o?(e={blockedOn:t,domEventName:n,eventSystemFlags:r,nativeEvent:o,targetContainers:[l]},t!==null&&(t=ar(t),t!==null&&co(t)),e):(e.eventSystemFlags|=r,t=e.targetContainers,l!==null&&t.indexOf(l)===-1&&t.push(l),e)}function Lc(e,t,n,r,l){switch(t){case"focusin":return Ot=Jn(Ot,e,t,n,r,l),!0;case"dragenter":return It=Jn(It,e,t,n,r,l),!0;case"mouseover":return Dt=Jn(Dt,e,t,n,r,l),!0;case"pointerover":var o=l.pointerId;return Gn.set(o,Jn(Gn.get(o)||null,e,t,n,r,l)),!0;case"gotpointercapture":return o=l.pointerId,Yn.set(o,Jn(Yn.get(o)||null,e,t,n,r,l)),!0}return!1}function ju(e){var t=Zt(e.target);if(t!==null){var n=qt(t);if(n!==null){if(t=n.tag,t===13){if(t=pu(n),t!==null){e.blockedOn=t,Pu(e.priority,function(){Eu(n)});return}}else if(t===3&&n.stateNode.current.memoizedState.isDehydrated){e.blockedOn=n.tag===3?n.stateNode.containerInfo:null;return}}}e.blockedOn=null}function Br(e){if(e.blockedOn!==null)return!1;for(var t=e.targetContainers;0<t.length;){var n=mo(e.domEventName,e.eventSystemFlags,t[0],e.nativeEvent);if(n===null){n=e.nativeEvent;var r=new n.constructor(n.type,n);eo=r,n.target.dispatchEvent(r),eo=null}else return t=ar(n),t!==null&&co(t),e.blockedOn=n,!1;t.shift()}return!0}function Ru(e,t,n){Br(e)&&n.delete(t)}function Mc(){fo=!1,Ot!==null&&Br(Ot)&&(Ot=null),It!==null&&Br(It)&&(It=null),Dt!==null&&Br(Dt)&&(Dt=null),Gn.forEach(Ru),Yn.forEach(Ru)}function Xn(e,t){e.blockedOn===t&&(e.blockedOn=null,fo||(fo=!0,c.unstable_scheduleCallback(c.unstable_NormalPriority,Mc)))}function qn(e){function t(l){return Xn(l,e)}if(0<Ur.length){Xn(Ur[0],e);for(var n=1;n<Ur.length;n++){var r=Ur[n];r.blockedOn===e&&(r.blockedOn=null)}}for(Ot!==null&&Xn(Ot,e),It!==null&&Xn(It,e),Dt!==null&&Xn(Dt,e),Gn.forEach(t),Yn.forEach(t),n=0;n<zt.length;n++)r=zt[n],r.blockedOn===e&&(r.blockedOn=null);for(;0<zt.length&&(n=zt[0],n.blockedOn===null);)ju(n),n.blockedOn===null&&zt.shift()}var hn=oe.ReactCurrentBatchConfig,Vr=!0;function Ac(e,t,n,r){var l=ne,o=hn.transition;hn.transition=null;try{ne=1,po(e,t,n,r)}finally{ne=l,hn.transition=o}}function Fc(e,t,n,r){var l=ne,o=hn.transition;hn.transition=null;try{ne=4,po(e,t,n,r)}finally{ne=l,hn.transition=o}}function po(e,t,n,r){if(Vr){var l=mo(e,t,n,r);if(l===null)Oo(e,t,r,Wr,n),_u(e,r);else if(Lc(l,e,t,n,r))r.stopPropagation();else if(_u(e,r),t&4&&-1<zc.indexOf(e)){for(;l!==null;){var o=ar(l);if(o!==null&&Nu(o),o=mo(e,t,n,r),o===null&&Oo(e,t,r,Wr,n),o===l)break;l=o}l!==null&&r.stopPropagation()}else Oo(e,t,r,null,n)}}var Wr=null;function mo(e,t,n,r){if(Wr=null,e=to(r),e=Zt(e),e!==null)if(t=qt(e),t===null)e=null;else if(n=t.tag,n===13){if(e=pu(t),e!==null)return e;e=null}else if(n===3){if(t.stateNode.current.memoizedState.isDehydrated)return t.tag===3?t.stateNode.containerInfo:null;e=null}else t!==e&&(e=null);return Wr=e,null}function Tu(e){switch(e){case"cancel":case"click":case"close":case"contextmenu":case"copy":case"cut":case"auxclick":case"dblclick":case"dragend":case"dragstart":case"drop":case"focusin":case"focusout":case"input":case"invalid":case"keydown":case"keypress":case"keyup":case"mousedown":case"mouseup":case"paste":case"pause":case"play":case"pointercancel":case"pointerdown":case"pointerup":case"ratechange":case"reset":case"resize":case"seeked":case"submit":case"touchcancel":case"touchend":case"touchstart":case"volumechange":case"change":case"selectionchange":case"textInput":case"compositionstart":case"compositionend":case"compositionupdate":case"beforeblur":case"afterblur":case"beforeinput":case"blur":case"fullscreenchange":case"focus":case"hashchange":case"popstate":case"select":case"selectstart":return 1;case"drag":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"mousemove":case"mouseout":case"mouseover":case"pointermove":case"pointerout":case"pointerover":case"scroll":case"toggle":case"touchmove":case"wheel":case"mouseenter":case"mouseleave":case"pointerenter":case"pointerleave":return 4;case"message":switch(Cc()){case io:return 1;case wu:return 4;case zr:case Pc:return 16;case Su:return 536870912;default:return 16}default:return 16}}var Lt=null,ho=null,Kr=null;function Ou(){if(Kr)return Kr;var e,t=ho,n=t.length,r,l="value"in Lt?Lt.value:Lt.textContent,o=l.length;for(e=0;e<n&&t[e]===l[e];e++);var i=n-e;for(r=1;r<=i&&t[n-r]===l[o-r];r++);return Kr=l.slice(e,1<r?1-r:void 0)}function $r(e){var t=e.keyCode;return"charCode"in e?(e=e.charCode,e===0&&t===13&&(e=13)):e=t,e===10&&(e=13),32<=e||e===13?e:0}function Hr(){return!0}function Iu(){return!1}function tt(e){function t(n,r,l,o,i){this._reactName=n,this._targetInst=l,this.type=r,this.nativeEvent=o,this.target=i,this.currentTarget=null;for(var a in e)e.hasOwnProperty(a)&&(n=e[a],this[a]=n?n(o):o[a]);return this.isDefaultPrevented=(o.defaultPrevented!=null?o.defaultPrevented:o.returnValue===!1)?Hr:Iu,this.isPropagationStopped=Iu,this}return D(t.prototype,{preventDefault:function(){this.defaultPrevented=!0;var n=this.nativeEvent;n&&(n.preventDefault?n.preventDefault():typeof n.returnValue!="unknown"&&(n.returnValue=!1),this.isDefaultPrevented=Hr)},stopPropagation:function(){var n=this.nativeEvent;n&&(n.stopPropagation?n.stopPropagation():typeof n.cancelBubble!="unknown"&&(n.cancelBubble=!0),this.isPropagationStopped=Hr)},persist:function(){},isPersistent:Hr}),t}var vn={eventPhase:0,bubbles:0,cancelable:0,timeStamp:function(e){return e.timeStamp||Date.now()},defaultPrevented:0,isTrusted:0},vo=tt(vn),Zn=D({},vn,{view:0,detail:0}),Uc=tt(Zn),yo,go,bn,Qr=D({},Zn,{screenX:0,screenY:0,clientX:0,clientY:0,pageX:0,pageY:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,getModifierState:So,button:0,buttons:0,relatedTarget:function(e){return e.relatedTarget===void 0?e.fromElement===e.srcElement?e.toElement:e.fromElement:e.relatedTarget},movementX:function(e){return"movementX"in e?e.movementX:(e!==bn&&(bn&&e.type==="mousemove"?(yo=e.screenX-bn.screenX,go=e.screenY-bn.screenY):go=yo=0,bn=e),yo)},movementY:function(e){return"movementY"in e?e.movementY:go}}),Du=tt(Qr),Bc=D({},Qr,{dataTransfer:0}),Vc=tt(Bc),Wc=D({},Zn,{relatedTarget:0}),wo=tt(Wc),Kc=D({},vn,{animationName:0,elapsedTime:0,pseudoElement:0}),$c=tt(Kc),Hc=D({},vn,{clipboardData:function(e){return"clipboardData"in e?e.clipboardData:window.clipboardData}}),Qc=tt(Hc),Gc=D({},vn,{data:0}),zu=tt(Gc),Yc={Esc:"Escape",Spacebar:" ",Left:"ArrowLeft",Up:"ArrowUp",Right:"ArrowRight",Down:"ArrowDown",Del:"Delete",Win:"OS",Menu:"ContextMenu",Apps:"ContextMenu",Scroll:"ScrollLock",MozPrintableKey:"Unidentified"},Jc={8:"Backspace",9:"Tab",12:"Clear",13:"Enter",16:"Shift",17:"Control",18:"Alt",19:"Pause",20:"CapsLock",27:"Escape",32:" ",33:"PageUp",34:"PageDown",35:"End",36:"Home",37:"ArrowLeft",38:"ArrowUp",39:"ArrowRight",40:"ArrowDown",45:"Insert",46:"Delete",112:"F1",113:"F2",114:"F3",115:"F4",116:"F5",117:"F6",118:"F7",119:"F8",120:"F9",121:"F10",122:"F11",123:"F12",144:"NumLock",145:"ScrollLock",224:"Meta"},Xc={Alt:"altKey",Control:"ctrlKey",Meta:"metaKey",Shift:"shiftKey"};function qc(e){var t=this.nativeEvent;return t.getModifierState?t.getModifierState(e):(e=Xc[e])?!!t[e]:!1}function So(){return qc}var Zc=D({},Zn,{key:function(e){if(e.key){var t=Yc[e.key]||e.key;if(t!=="Unidentified")return t}return e.type==="keypress"?(e=$r(e),e===13?"Enter":String.fromCharCode(e)):e.type==="keydown"||e.type==="keyup"?Jc[e.keyCode]||"Unidentified":""},code:0,location:0,ctrlKey:0,shiftKey:0,altKey:0,metaKey:0,repeat:0,locale:0,getModifierState:So,charCode:function(e){return e.type==="keypress"?$r(e):0},keyCode:function(e){return e.type==="keydown"||e.type==="keyup"?e.keyCode:0},which:function(e){return e.type==="keypress"?$r(e):e.type==="keydown"||e.type==="keyup"?e.keyCode:0}}),bc=tt(Zc),ef=D({},Qr,{pointerId:0,width:0,height:0,pressure:0,tangentialPressure:0,tiltX:0,tiltY:0,twist:0,pointerType:0,isPrimary:0}),Lu=tt(ef),tf=D({},Zn,{touches:0,targetTouches:0,changedTouches:0,altKey:0,metaKey:0,ctrlKey:0,shiftKey:0,getModifierState:So}),nf=tt(tf),rf=D({},vn,{propertyName:0,elapsedTime:0,pseudoElement:0}),lf=tt(rf),of=D({},Qr,{deltaX:function(e){return"deltaX"in e?e.deltaX:"wheelDeltaX"in e?-e.wheelDeltaX:0},deltaY:function(e){return"deltaY"in e?e.deltaY:"wheelDeltaY"in e?-e.wheelDeltaY:"wheelDelta"in e?-e.wheelDelta:0},deltaZ:0,deltaMode:0}),uf=tt(of),sf=[9,13,27,32],ko=_&&"CompositionEvent"in window,er=null;_&&"documentMode"in document&&(er=document.documentMode);var af=_&&"TextEvent"in window&&!er,Mu=_&&(!ko||er&&8<er&&11>=er),Au=" ",Fu=!1;function Uu(e,t){switch(e){case"keyup":return sf.indexOf(t.keyCode)!==-1;case"keydown":return t.keyCode!==229;case"keypress":case"mousedown":case"focusout":return!0;default:return!1}}function Bu(e){return e=e.detail,typeof e=="object"&&"data"in e?e.data:null}var yn=!1;function cf(e,t){switch(e){case"compositionend":return Bu(t);case"keypress":return t.which!==32?null:(Fu=!0,Au);case"textInput":return e=t.data,e===Au&&Fu?null:e;default:return null}}function ff(e,t){if(yn)return e==="compositionend"||!ko&&Uu(e,t)?(e=Ou(),Kr=ho=Lt=null,yn=!1,e):null;switch(e){case"paste":return null;case"keypress":if(!(t.ctrlKey||t.altKey||t.metaKey)||t.ctrlKey&&t.altKey){if(t.char&&1<t.char.length)return t.char;if(t.which)return String.fromCharCode(t.which)}return null;case"compositionend":return Mu&&t.locale!=="ko"?null:t.data;default:return null}}var df={color:!0,date:!0,datetime:!0,"datetime-local":!0,email:!0,month:!0,number:!0,password:!0,range:!0,search:!0,tel:!0,text:!0,time:!0,url:!0,week:!0};function Vu(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t==="input"?!!df[e.type]:t==="textarea"}function Wu(e,t,n,r){su(r),t=qr(t,"onChange"),0<t.length&&(n=new vo("onChange","change",null,n,r),e.push({event:n,listeners:t}))}var tr=null,nr=null;function pf(e){is(e,0)}function Gr(e){var t=xn(e);if(Xi(t))return e}function mf(e,t){if(e==="change")return t}var Ku=!1;if(_){var xo;if(_){var No="oninput"in document;if(!No){var $u=document.createElement("div");$u.setAttribute("oninput","return;"),No=typeof $u.oninput=="function"}xo=No}else xo=!1;Ku=xo&&(!document.documentMode||9<document.documentMode)}function Hu(){tr&&(tr.detachEvent("onpropertychange",Qu),nr=tr=null)}function Qu(e){if(e.propertyName==="value"&&Gr(nr)){var t=[];Wu(t,nr,e,to(e)),du(pf,t)}}function hf(e,t,n){e==="focusin"?(Hu(),tr=t,nr=n,tr.attachEvent("onpropertychange",Qu)):e==="focusout"&&Hu()}function vf(e){if(e==="selectionchange"||e==="keyup"||e==="keydown")return Gr(nr)}function yf(e,t){if(e==="click")return Gr(t)}function gf(e,t){if(e==="input"||e==="change")return Gr(t)}function wf(e,t){return e===t&&(e!==0||1/e===1/t)||e!==e&&t!==t}var dt=typeof Object.is=="function"?Object.is:wf;function rr(e,t){if(dt(e,t))return!0;if(typeof e!="object"||e===null||typeof t!="object"||t===null)return!1;var n=Object.keys(e),r=Object.keys(t);if(n.length!==r.length)return!1;for(r=0;r<n.length;r++){var l=n[r];if(!P.call(t,l)||!dt(e[l],t[l]))return!1}return!0}function Gu(e){for(;e&&e.firstChild;)e=e.firstChild;return e}function Yu(e,t){var n=Gu(e);e=0;for(var r;n;){if(n.nodeType===3){if(r=e+n.textContent.length,e<=t&&r>=t)return{node:n,offset:t-e};e=r}e:{for(;n;){if(n.nextSibling){n=n.nextSibling;break e}n=n.parentNode}n=void 0}n=Gu(n)}}function Ju(e,t){return e&&t?e===t?!0:e&&e.nodeType===3?!1:t&&t.nodeType===3?Ju(e,t.parentNode):"contains"in e?e.contains(t):e.compareDocumentPosition?!!(e.compareDocumentPosition(t)&16):!1:!1}function Xu(){for(var e=window,t=Tr();t instanceof e.HTMLIFrameElement;){try{var n=typeof t.contentWindow.location.href=="string"}catch{n=!1}if(n)e=t.contentWindow;else break;t=Tr(e.document)}return t}function Eo(e){var t=e&&e.nodeName&&e.nodeName.toLowerCase();return t&&(t==="input"&&(e.type==="text"||e.type==="search"||e.type==="tel"||e.type==="url"||e.type==="password")||t==="textarea"||e.contentEditable==="true")}function Sf(e){var t=Xu(),n=e.focusedElem,r=e.selectionRange;if(t!==n&&n&&n.ownerDocument&&Ju(n.ownerDocument.documentElement,n)){if(r!==null&&Eo(n)){if(t=r.start,e=r.end,e===void 0&&(e=t),"selectionStart"in n)n.selectionStart=t,n.selectionEnd=Math.min(e,n.value.length);else if(e=(t=n.ownerDocument||document)&&t.defaultView||window,e.getSelection){e=e.getSelection();var l=n.textContent.length,o=Math.min(r.start,l);r=r.end===void 0?o:Math.min(r.end,l),!e.extend&&o>r&&(l=r,r=o,o=l),l=Yu(n,o);var i=Yu(n,r);l&&i&&(e.rangeCount!==1||e.anchorNode!==l.node||e.anchorOffset!==l.offset||e.focusNode!==i.node||e.focusOffset!==i.offset)&&(t=t.createRange(),t.setStart(l.node,l.offset),e.removeAllRanges(),o>r?(e.addRange(t),e.extend(i.node,i.offset)):(t.setEnd(i.node,i.offset),e.addRange(t)))}}for(t=[],e=n;e=e.parentNode;)e.nodeType===1&&t.push({element:e,left:e.scrollLeft,top:e.scrollTop});for(typeof n.focus=="function"&&n.focus(),n=0;n<t.length;n++)e=t[n],e.element.scrollLeft=e.left,e.element.scrollTop=e.top}}var kf=_&&"documentMode"in document&&11>=document.documentMode,gn=null,Co=null,lr=null,Po=!1;function qu(e,t,n){var r=n.window===n?n.document:n.nodeType===9?n:n.ownerDocument;Po||gn==null||gn!==Tr(r)||(r=gn,"selectionStart"in r&&Eo(r)?r={start:r.selectionStart,end:r.selectionEnd}:(r=(r.ownerDocument&&r.ownerDocument.defaultView||window).getSelection(),r={anchorNode:r.anchorNode,anchorOffset:r.anchorOffset,focusNode:r.focusNode,focusOffset:r.focusOffset}),lr&&rr(lr,r)||(lr=r,r=qr(Co,"onSelect"),0<r.length&&(t=new vo("onSelect","select",null,t,n),e.push({event:t,listeners:r}),t.target=gn)))}function Yr(e,t){var n={};return n[e.toLowerCase()]=t.toLowerCase(),n["Webkit"+e]="webkit"+t,n["Moz"+e]="moz"+t,n}var wn={animationend:Yr("Animation","AnimationEnd"),animationiteration:Yr("Animation","AnimationIteration"),animationstart:Yr("Animation","AnimationStart"),transitionend:Yr("Transition","TransitionEnd")},_o={},Zu={};_&&(Zu=document.createElement("div").style,"AnimationEvent"in window||(delete wn.animationend.animation,delete wn.animationiteration.animation,delete wn.animationstart.animation),"TransitionEvent"in window||delete wn.transitionend.transition);function Jr(e){if(_o[e])return _o[e];if(!wn[e])return e;var t=wn[e],n;for(n in t)if(t.hasOwnProperty(n)&&n in Zu)return _o[e]=t[n];return e}var bu=Jr("animationend"),es=Jr("animationiteration"),ts=Jr("animationstart"),ns=Jr("transitionend"),rs=new Map,ls="abort auxClick cancel canPlay canPlayThrough click close contextMenu copy cut drag dragEnd dragEnter dragExit dragLeave dragOver dragStart drop durationChange emptied encrypted ended error gotPointerCapture input invalid keyDown keyPress keyUp load loadedData loadedMetadata loadStart lostPointerCapture mouseDown mouseMove mouseOut mouseOver mouseUp paste pause play playing pointerCancel pointerDown pointerMove pointerOut pointerOver pointerUp progress rateChange reset resize seeked seeking stalled submit suspend timeUpdate touchCancel touchEnd touchStart volumeChange scroll toggle touchMove waiting wheel".split(" ");function Mt(e,t){rs.set(e,t),S(t,[e])}for(var jo=0;jo<ls.length;jo++){var Ro=ls[jo],xf=Ro.toLowerCase(),Nf=Ro[0].toUpperCase()+Ro.slice(1);Mt(xf,"on"+Nf)}Mt(bu,"onAnimationEnd"),Mt(es,"onAnimationIteration"),Mt(ts,"onAnimationStart"),Mt("dblclick","onDoubleClick"),Mt("focusin","onFocus"),Mt("focusout","onBlur"),Mt(ns,"onTransitionEnd"),j("onMouseEnter",["mouseout","mouseover"]),j("onMouseLeave",["mouseout","mouseover"]),j("onPointerEnter",["pointerout","pointerover"]),j("onPointerLeave",["pointerout","pointerover"]),S("onChange","change click focusin focusout input keydown keyup selectionchange".split(" ")),S("onSelect","focusout contextmenu dragend focusin keydown keyup mousedown mouseup selectionchange".split(" ")),S("onBeforeInput",["compositionend","keypress","textInput","paste"]),S("onCompositionEnd","compositionend focusout keydown keypress keyup mousedown".split(" ")),S("onCompositionStart","compositionstart focusout keydown keypress keyup mousedown".split(" ")),S("onCompositionUpdate","compositionupdate focusout keydown keypress keyup mousedown".split(" "));var or="abort canplay canplaythrough durationchange emptied encrypted ended error loadeddata loadedmetadata loadstart pause play playing progress ratechange resize seeked seeking stalled suspend timeupdate volumechange waiting".split(" "),Ef=new Set("cancel close invalid load scroll toggle".split(" ").concat(or));function os(e,t,n){var r=e.type||"unknown-event";e.currentTarget=n,kc(r,t,void 0,e),e.currentTarget=null}function is(e,t){t=(t&4)!==0;for(var n=0;n<e.length;n++){var r=e[n],l=r.event;r=r.listeners;e:{var o=void 0;if(t)for(var i=r.length-1;0<=i;i--){var a=r[i],f=a.instance,w=a.currentTarget;if(a=a.listener,f!==o&&l.isPropagationStopped())break e;os(l,a,w),o=f}else for(i=0;i<r.length;i++){if(a=r[i],f=a.instance,w=a.currentTarget,a=a.listener,f!==o&&l.isPropagationStopped())break e;os(l,a,w),o=f}}}if(Dr)throw e=oo,Dr=!1,oo=null,e}function ue(e,t){var n=t[Ao];n===void 0&&(n=t[Ao]=new Set);var r=e+"__bubble";n.has(r)||(us(t,e,2,!1),n.add(r))}function To(e,t,n){var r=0;t&&(r|=4),us(n,e,r,t)}var Xr="_reactListening"+Math.random().toString(36).slice(2);function ir(e){if(!e[Xr]){e[Xr]=!0,v.forEach(function(n){n!=="selectionchange"&&(Ef.has(n)||To(n,!1,e),To(n,!0,e))});var t=e.nodeType===9?e:e.ownerDocument;t===null||t[Xr]||(t[Xr]=!0,To("selectionchange",!1,t))}}function us(e,t,n,r){switch(Tu(t)){case 1:var l=Ac;break;case 4:l=Fc;break;default:l=po}n=l.bind(null,t,n,e),l=void 0,!lo||t!=="touchstart"&&t!=="touchmove"&&t!=="wheel"||(l=!0),r?l!==void 0?e.addEventListener(t,n,{capture:!0,passive:l}):e.addEventListener(t,n,!0):l!==void 0?e.addEventListener(t,n,{passive:l}):e.addEventListener(t,n,!1)}function Oo(e,t,n,r,l){var o=r;if((t&1)===0&&(t&2)===0&&r!==null)e:for(;;){if(r===null)return;var i=r.tag;if(i===3||i===4){var a=r.stateNode.containerInfo;if(a===l||a.nodeType===8&&a.parentNode===l)break;if(i===4)for(i=r.return;i!==null;){var f=i.tag;if((f===3||f===4)&&(f=i.stateNode.containerInfo,f===l||f.nodeType===8&&f.parentNode===l))return;i=i.return}for(;a!==null;){if(i=Zt(a),i===null)return;if(f=i.tag,f===5||f===6){r=o=i;continue e}a=a.parentNode}}r=r.return}du(function(){var w=o,N=to(n),E=[];e:{var x=rs.get(e);if(x!==void 0){var I=vo,L=e;switch(e){case"keypress":if($r(n)===0)break e;case"keydown":case"keyup":I=bc;break;case"focusin":L="focus",I=wo;break;case"focusout":L="blur",I=wo;break;case"beforeblur":case"afterblur":I=wo;break;case"click":if(n.button===2)break e;case"auxclick":case"dblclick":case"mousedown":case"mousemove":case"mouseup":case"mouseout":case"mouseover":case"contextmenu":I=Du;break;case"drag":case"dragend":case"dragenter":case"dragexit":case"dragleave":case"dragover":case"dragstart":case"drop":I=Vc;break;case"touchcancel":case"touchend":case"touchmove":case"touchstart":I=nf;break;case bu:case es:case ts:I=$c;break;case ns:I=lf;break;case"scroll":I=Uc;break;case"wheel":I=uf;break;case"copy":case"cut":case"paste":I=Qc;break;case"gotpointercapture":case"lostpointercapture":case"pointercancel":case"pointerdown":case"pointermove":case"pointerout":case"pointerover":case"pointerup":I=Lu}var M=(t&4)!==0,we=!M&&e==="scroll",h=M?x!==null?x+"Capture":null:x;M=[];for(var p=w,y;p!==null;){y=p;var C=y.stateNode;if(y.tag===5&&C!==null&&(y=C,h!==null&&(C=Wn(p,h),C!=null&&M.push(ur(p,C,y)))),we)break;p=p.return}0<M.length&&(x=new I(x,L,null,n,N),E.push({event:x,listeners:M}))}}if((t&7)===0){e:{if(x=e==="mouseover"||e==="pointerover",I=e==="mouseout"||e==="pointerout",x&&n!==eo&&(L=n.relatedTarget||n.fromElement)&&(Zt(L)||L[Nt]))break e;if((I||x)&&(x=N.window===N?N:(x=N.ownerDocument)?x.defaultView||x.parentWindow:window,I?(L=n.relatedTarget||n.toElement,I=w,L=L?Zt(L):null,L!==null&&(we=qt(L),L!==we||L.tag!==5&&L.tag!==6)&&(L=null)):(I=null,L=w),I!==L)){if(M=Du,C="onMouseLeave",h="onMouseEnter",p="mouse",(e==="pointerout"||e==="pointerover")&&(M=Lu,C="onPointerLeave",h="onPointerEnter",p="pointer"),we=I==null?x:xn(I),y=L==null?x:xn(L),x=new M(C,p+"leave",I,n,N),x.target=we,x.relatedTarget=y,C=null,Zt(N)===w&&(M=new M(h,p+"enter",L,n,N),M.target=y,M.relatedTarget=we,C=M),we=C,I&&L)t:{for(M=I,h=L,p=0,y=M;y;y=Sn(y))p++;for(y=0,C=h;C;C=Sn(C))y++;for(;0<p-y;)M=Sn(M),p--;for(;0<y-p;)h=Sn(h),y--;for(;p--;){if(M===h||h!==null&&M===h.alternate)break t;M=Sn(M),h=Sn(h)}M=null}else M=null;I!==null&&ss(E,x,I,M,!1),L!==null&&we!==null&&ss(E,we,L,M,!0)}}e:{if(x=w?xn(w):window,I=x.nodeName&&x.nodeName.toLowerCase(),I==="select"||I==="input"&&x.type==="file")var A=mf;else if(Vu(x))if(Ku)A=gf;else{A=vf;var W=hf}else(I=x.nodeName)&&I.toLowerCase()==="input"&&(x.type==="checkbox"||x.type==="radio")&&(A=yf);if(A&&(A=A(e,w))){Wu(E,A,n,N);break e}W&&W(e,x,w),e==="focusout"&&(W=x._wrapperState)&&W.controlled&&x.type==="number"&&Jl(x,"number",x.value)}switch(W=w?xn(w):window,e){case"focusin":(Vu(W)||W.contentEditable==="true")&&(gn=W,Co=w,lr=null);break;case"focusout":lr=Co=gn=null;break;case"mousedown":Po=!0;break;case"contextmenu":case"mouseup":case"dragend":Po=!1,qu(E,n,N);break;case"selectionchange":if(kf)break;case"keydown":case"keyup":qu(E,n,N)}var K;if(ko)e:{switch(e){case"compositionstart":var Q="onCompositionStart";break e;case"compositionend":Q="onCompositionEnd";break e;case"compositionupdate":Q="onCompositionUpdate";break e}Q=void 0}else yn?Uu(e,n)&&(Q="onCompositionEnd"):e==="keydown"&&n.keyCode===229&&(Q="onCompositionStart");Q&&(Mu&&n.locale!=="ko"&&(yn||Q!=="onCompositionStart"?Q==="onCompositionEnd"&&yn&&(K=Ou()):(Lt=N,ho="value"in Lt?Lt.value:Lt.textContent,yn=!0)),W=qr(w,Q),0<W.length&&(Q=new zu(Q,e,null,n,N),E.push({event:Q,listeners:W}),K?Q.data=K:(K=Bu(n),K!==null&&(Q.data=K)))),(K=af?cf(e,n):ff(e,n))&&(w=qr(w,"onBeforeInput"),0<w.length&&(N=new zu("onBeforeInput","beforeinput",null,n,N),E.push({event:N,listeners:w}),N.data=K))}is(E,t)})}function ur(e,t,n){return{instance:e,listener:t,currentTarget:n}}function qr(e,t){for(var n=t+"Capture",r=[];e!==null;){var l=e,o=l.stateNode;l.tag===5&&o!==null&&(l=o,o=Wn(e,n),o!=null&&r.unshift(ur(e,o,l)),o=Wn(e,t),o!=null&&r.push(ur(e,o,l))),e=e.return}return r}function Sn(e){if(e===null)return null;do e=e.return;while(e&&e.tag!==5);return e||null}function ss(e,t,n,r,l){for(var o=t._reactName,i=[];n!==null&&n!==r;){var a=n,f=a.alternate,w=a.stateNode;if(f!==null&&f===r)break;a.tag===5&&w!==null&&(a=w,l?(f=Wn(n,o),f!=null&&i.unshift(ur(n,f,a))):l||(f=Wn(n,o),f!=null&&i.push(ur(n,f,a)))),n=n.return}i.length!==0&&e.push({event:t,listeners:i})}var Cf=/\r\n?/g,Pf=/\u0000|\uFFFD/g;function as(e){return(typeof e=="string"?e:""+e).replace(Cf,`
-`).replace(Pf,"")}function Zr(e,t,n){if(t=as(t),as(e)!==t&&n)throw Error(s(425))}function br(){}var Io=null,Do=null;function zo(e,t){return e==="textarea"||e==="noscript"||typeof t.children=="string"||typeof t.children=="number"||typeof t.dangerouslySetInnerHTML=="object"&&t.dangerouslySetInnerHTML!==null&&t.dangerouslySetInnerHTML.__html!=null}var Lo=typeof setTimeout=="function"?setTimeout:void 0,_f=typeof clearTimeout=="function"?clearTimeout:void 0,cs=typeof Promise=="function"?Promise:void 0,jf=typeof queueMicrotask=="function"?queueMicrotask:typeof cs<"u"?function(e){return cs.resolve(null).then(e).catch(Rf)}:Lo;function Rf(e){setTimeout(function(){throw e})}function Mo(e,t){var n=t,r=0;do{var l=n.nextSibling;if(e.removeChild(n),l&&l.nodeType===8)if(n=l.data,n==="/$"){if(r===0){e.removeChild(l),qn(t);return}r--}else n!=="$"&&n!=="$?"&&n!=="$!"||r++;n=l}while(n);qn(t)}function At(e){for(;e!=null;e=e.nextSibling){var t=e.nodeType;if(t===1||t===3)break;if(t===8){if(t=e.data,t==="$"||t==="$!"||t==="$?")break;if(t==="/$")return null}}return e}function fs(e){e=e.previousSibling;for(var t=0;e;){if(e.nodeType===8){var n=e.data;if(n==="$"||n==="$!"||n==="$?"){if(t===0)return e;t--}else n==="/$"&&t++}e=e.previousSibling}return null}var kn=Math.random().toString(36).slice(2),wt="__reactFiber$"+kn,sr="__reactProps$"+kn,Nt="__reactContainer$"+kn,Ao="__reactEvents$"+kn,Tf="__reactListeners$"+kn,Of="__reactHandles$"+kn;function Zt(e){var t=e[wt];if(t)return t;for(var n=e.parentNode;n;){if(t=n[Nt]||n[wt]){if(n=t.alternate,t.child!==null||n!==null&&n.child!==null)for(e=fs(e);e!==null;){if(n=e[wt])return n;e=fs(e)}return t}e=n,n=e.parentNode}return null}function ar(e){return e=e[wt]||e[Nt],!e||e.tag!==5&&e.tag!==6&&e.tag!==13&&e.tag!==3?null:e}function xn(e){if(e.tag===5||e.tag===6)return e.stateNode;throw Error(s(33))}function el(e){return e[sr]||null}var Fo=[],Nn=-1;function Ft(e){return{current:e}}function se(e){0>Nn||(e.current=Fo[Nn],Fo[Nn]=null,Nn--)}function ie(e,t){Nn++,Fo[Nn]=e.current,e.current=t}var Ut={},Me=Ft(Ut),Qe=Ft(!1),bt=Ut;function En(e,t){var n=e.type.contextTypes;if(!n)return Ut;var r=e.stateNode;if(r&&r.__reactInternalMemoizedUnmaskedChildContext===t)return r.__reactInternalMemoizedMaskedChildContext;var l={},o;for(o in n)l[o]=t[o];return r&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=t,e.__reactInternalMemoizedMaskedChildContext=l),l}function Ge(e){return e=e.childContextTypes,e!=null}function tl(){se(Qe),se(Me)}function ds(e,t,n){if(Me.current!==Ut)throw Error(s(168));ie(Me,t),ie(Qe,n)}function ps(e,t,n){var r=e.stateNode;if(t=t.childContextTypes,typeof r.getChildContext!="function")return n;r=r.getChildContext();for(var l in r)if(!(l in t))throw Error(s(108,Z(e)||"Unknown",l));return D({},n,r)}function nl(e){return e=(e=e.stateNode)&&e.__reactInternalMemoizedMergedChildContext||Ut,bt=Me.current,ie(Me,e),ie(Qe,Qe.current),!0}function ms(e,t,n){var r=e.stateNode;if(!r)throw Error(s(169));n?(e=ps(e,t,bt),r.__reactInternalMemoizedMergedChildContext=e,se(Qe),se(Me),ie(Me,e)):se(Qe),ie(Qe,n)}var Et=null,rl=!1,Uo=!1;function hs(e){Et===null?Et=[e]:Et.push(e)}function If(e){rl=!0,hs(e)}function Bt(){if(!Uo&&Et!==null){Uo=!0;var e=0,t=ne;try{var n=Et;for(ne=1;e<n.length;e++){var r=n[e];do r=r(!0);while(r!==null)}Et=null,rl=!1}catch(l){throw Et!==null&&(Et=Et.slice(e+1)),yu(io,Bt),l}finally{ne=t,Uo=!1}}return null}var Cn=[],Pn=0,ll=null,ol=0,ot=[],it=0,en=null,Ct=1,Pt="";function tn(e,t){Cn[Pn++]=ol,Cn[Pn++]=ll,ll=e,ol=t}function vs(e,t,n){ot[it++]=Ct,ot[it++]=Pt,ot[it++]=en,en=e;var r=Ct;e=Pt;var l=32-ft(r)-1;r&=~(1<<l),n+=1;var o=32-ft(t)+l;if(30<o){var i=l-l%5;o=(r&(1<<i)-1).toString(32),r>>=i,l-=i,Ct=1<<32-ft(t)+l|n<<l|r,Pt=o+e}else Ct=1<<o|n<<l|r,Pt=e}function Bo(e){e.return!==null&&(tn(e,1),vs(e,1,0))}function Vo(e){for(;e===ll;)ll=Cn[--Pn],Cn[Pn]=null,ol=Cn[--Pn],Cn[Pn]=null;for(;e===en;)en=ot[--it],ot[it]=null,Pt=ot[--it],ot[it]=null,Ct=ot[--it],ot[it]=null}var nt=null,rt=null,fe=!1,pt=null;function ys(e,t){var n=ct(5,null,null,0);n.elementType="DELETED",n.stateNode=t,n.return=e,t=e.deletions,t===null?(e.deletions=[n],e.flags|=16):t.push(n)}function gs(e,t){switch(e.tag){case 5:var n=e.type;return t=t.nodeType!==1||n.toLowerCase()!==t.nodeName.toLowerCase()?null:t,t!==null?(e.stateNode=t,nt=e,rt=At(t.firstChild),!0):!1;case 6:return t=e.pendingProps===""||t.nodeType!==3?null:t,t!==null?(e.stateNode=t,nt=e,rt=null,!0):!1;case 13:return t=t.nodeType!==8?null:t,t!==null?(n=en!==null?{id:Ct,overflow:Pt}:null,e.memoizedState={dehydrated:t,treeContext:n,retryLane:1073741824},n=ct(18,null,null,0),n.stateNode=t,n.return=e,e.child=n,nt=e,rt=null,!0):!1;default:return!1}}function Wo(e){return(e.mode&1)!==0&&(e.flags&128)===0}function Ko(e){if(fe){var t=rt;if(t){var n=t;if(!gs(e,t)){if(Wo(e))throw Error(s(418));t=At(n.nextSibling);var r=nt;t&&gs(e,t)?ys(r,n):(e.flags=e.flags&-4097|2,fe=!1,nt=e)}}else{if(Wo(e))throw Error(s(418));e.flags=e.flags&-4097|2,fe=!1,nt=e}}}function ws(e){for(e=e.return;e!==null&&e.tag!==5&&e.tag!==3&&e.tag!==13;)e=e.return;nt=e}function il(e){if(e!==nt)return!1;if(!fe)return ws(e),fe=!0,!1;var t;if((t=e.tag!==3)&&!(t=e.tag!==5)&&(t=e.type,t=t!=="head"&&t!=="body"&&!zo(e.type,e.memoizedProps)),t&&(t=rt)){if(Wo(e))throw Ss(),Error(s(418));for(;t;)ys(e,t),t=At(t.nextSibling)}if(ws(e),e.tag===13){if(e=e.memoizedState,e=e!==null?e.dehydrated:null,!e)throw Error(s(317));e:{for(e=e.nextSibling,t=0;e;){if(e.nodeType===8){var n=e.data;if(n==="/$"){if(t===0){rt=At(e.nextSibling);break e}t--}else n!=="$"&&n!=="$!"&&n!=="$?"||t++}e=e.nextSibling}rt=null}}else rt=nt?At(e.stateNode.nextSibling):null;return!0}function Ss(){for(var e=rt;e;)e=At(e.nextSibling)}function _n(){rt=nt=null,fe=!1}function $o(e){pt===null?pt=[e]:pt.push(e)}var Df=oe.ReactCurrentBatchConfig;function cr(e,t,n){if(e=n.ref,e!==null&&typeof e!="function"&&typeof e!="object"){if(n._owner){if(n=n._owner,n){if(n.tag!==1)throw Error(s(309));var r=n.stateNode}if(!r)throw Error(s(147,e));var l=r,o=""+e;return t!==null&&t.ref!==null&&typeof t.ref=="function"&&t.ref._stringRef===o?t.ref:(t=function(i){var a=l.refs;i===null?delete a[o]:a[o]=i},t._stringRef=o,t)}if(typeof e!="string")throw Error(s(284));if(!n._owner)throw Error(s(290,e))}return e}function ul(e,t){throw e=Object.prototype.toString.call(t),Error(s(31,e==="[object Object]"?"object with keys {"+Object.keys(t).join(", ")+"}":e))}function ks(e){var t=e._init;return t(e._payload)}function xs(e){function t(h,p){if(e){var y=h.deletions;y===null?(h.deletions=[p],h.flags|=16):y.push(p)}}function n(h,p){if(!e)return null;for(;p!==null;)t(h,p),p=p.sibling;return null}function r(h,p){for(h=new Map;p!==null;)p.key!==null?h.set(p.key,p):h.set(p.index,p),p=p.sibling;return h}function l(h,p){return h=Yt(h,p),h.index=0,h.sibling=null,h}function o(h,p,y){return h.index=y,e?(y=h.alternate,y!==null?(y=y.index,y<p?(h.flags|=2,p):y):(h.flags|=2,p)):(h.flags|=1048576,p)}function i(h){return e&&h.alternate===null&&(h.flags|=2),h}function a(h,p,y,C){return p===null||p.tag!==6?(p=Li(y,h.mode,C),p.return=h,p):(p=l(p,y),p.return=h,p)}function f(h,p,y,C){var A=y.type;return A===Ee?N(h,p,y.props.children,C,y.key):p!==null&&(p.elementType===A||typeof A=="object"&&A!==null&&A.$$typeof===Ie&&ks(A)===p.type)?(C=l(p,y.props),C.ref=cr(h,p,y),C.return=h,C):(C=Ol(y.type,y.key,y.props,null,h.mode,C),C.ref=cr(h,p,y),C.return=h,C)}function w(h,p,y,C){return p===null||p.tag!==4||p.stateNode.containerInfo!==y.containerInfo||p.stateNode.implementation!==y.implementation?(p=Mi(y,h.mode,C),p.return=h,p):(p=l(p,y.children||[]),p.return=h,p)}function N(h,p,y,C,A){return p===null||p.tag!==7?(p=cn(y,h.mode,C,A),p.return=h,p):(p=l(p,y),p.return=h,p)}function E(h,p,y){if(typeof p=="string"&&p!==""||typeof p=="number")return p=Li(""+p,h.mode,y),p.return=h,p;if(typeof p=="object"&&p!==null){switch(p.$$typeof){case Oe:return y=Ol(p.type,p.key,p.props,null,h.mode,y),y.ref=cr(h,null,p),y.return=h,y;case ke:return p=Mi(p,h.mode,y),p.return=h,p;case Ie:var C=p._init;return E(h,C(p._payload),y)}if(Un(p)||$(p))return p=cn(p,h.mode,y,null),p.return=h,p;ul(h,p)}return null}function x(h,p,y,C){var A=p!==null?p.key:null;if(typeof y=="string"&&y!==""||typeof y=="number")return A!==null?null:a(h,p,""+y,C);if(typeof y=="object"&&y!==null){switch(y.$$typeof){case Oe:return y.key===A?f(h,p,y,C):null;case ke:return y.key===A?w(h,p,y,C):null;case Ie:return A=y._init,x(h,p,A(y._payload),C)}if(Un(y)||$(y))return A!==null?null:N(h,p,y,C,null);ul(h,y)}return null}function I(h,p,y,C,A){if(typeof C=="string"&&C!==""||typeof C=="number")return h=h.get(y)||null,a(p,h,""+C,A);if(typeof C=="object"&&C!==null){switch(C.$$typeof){case Oe:return h=h.get(C.key===null?y:C.key)||null,f(p,h,C,A);case ke:return h=h.get(C.key===null?y:C.key)||null,w(p,h,C,A);case Ie:var W=C._init;return I(h,p,y,W(C._payload),A)}if(Un(C)||$(C))return h=h.get(y)||null,N(p,h,C,A,null);ul(p,C)}return null}function L(h,p,y,C){for(var A=null,W=null,K=p,Q=p=0,Te=null;K!==null&&Q<y.length;Q++){K.index>Q?(Te=K,K=null):Te=K.sibling;var te=x(h,K,y[Q],C);if(te===null){K===null&&(K=Te);break}e&&K&&te.alternate===null&&t(h,K),p=o(te,p,Q),W===null?A=te:W.sibling=te,W=te,K=Te}if(Q===y.length)return n(h,K),fe&&tn(h,Q),A;if(K===null){for(;Q<y.length;Q++)K=E(h,y[Q],C),K!==null&&(p=o(K,p,Q),W===null?A=K:W.sibling=K,W=K);return fe&&tn(h,Q),A}for(K=r(h,K);Q<y.length;Q++)Te=I(K,h,Q,y[Q],C),Te!==null&&(e&&Te.alternate!==null&&K.delete(Te.key===null?Q:Te.key),p=o(Te,p,Q),W===null?A=Te:W.sibling=Te,W=Te);return e&&K.forEach(function(Jt){return t(h,Jt)}),fe&&tn(h,Q),A}function M(h,p,y,C){var A=$(y);if(typeof A!="function")throw Error(s(150));if(y=A.call(y),y==null)throw Error(s(151));for(var W=A=null,K=p,Q=p=0,Te=null,te=y.next();K!==null&&!te.done;Q++,te=y.next()){K.index>Q?(Te=K,K=null):Te=K.sibling;var Jt=x(h,K,te.value,C);if(Jt===null){K===null&&(K=Te);break}e&&K&&Jt.alternate===null&&t(h,K),p=o(Jt,p,Q),W===null?A=Jt:W.sibling=Jt,W=Jt,K=Te}if(te.done)return n(h,K),fe&&tn(h,Q),A;if(K===null){for(;!te.done;Q++,te=y.next())te=E(h,te.value,C),te!==null&&(p=o(te,p,Q),W===null?A=te:W.sibling=te,W=te);return fe&&tn(h,Q),A}for(K=r(h,K);!te.done;Q++,te=y.next())te=I(K,h,Q,te.value,C),te!==null&&(e&&te.alternate!==null&&K.delete(te.key===null?Q:te.key),p=o(te,p,Q),W===null?A=te:W.sibling=te,W=te);return e&&K.forEach(function(dd){return t(h,dd)}),fe&&tn(h,Q),A}function we(h,p,y,C){if(typeof y=="object"&&y!==null&&y.type===Ee&&y.key===null&&(y=y.props.children),typeof y=="object"&&y!==null){switch(y.$$typeof){case Oe:e:{for(var A=y.key,W=p;W!==null;){if(W.key===A){if(A=y.type,A===Ee){if(W.tag===7){n(h,W.sibling),p=l(W,y.props.children),p.return=h,h=p;break e}}else if(W.elementType===A||typeof A=="object"&&A!==null&&A.$$typeof===Ie&&ks(A)===W.type){n(h,W.sibling),p=l(W,y.props),p.ref=cr(h,W,y),p.return=h,h=p;break e}n(h,W);break}else t(h,W);W=W.sibling}y.type===Ee?(p=cn(y.props.children,h.mode,C,y.key),p.return=h,h=p):(C=Ol(y.type,y.key,y.props,null,h.mode,C),C.ref=cr(h,p,y),C.return=h,h=C)}return i(h);case ke:e:{for(W=y.key;p!==null;){if(p.key===W)if(p.tag===4&&p.stateNode.containerInfo===y.containerInfo&&p.stateNode.implementation===y.implementation){n(h,p.sibling),p=l(p,y.children||[]),p.return=h,h=p;break e}else{n(h,p);break}else t(h,p);p=p.sibling}p=Mi(y,h.mode,C),p.return=h,h=p}return i(h);case Ie:return W=y._init,we(h,p,W(y._payload),C)}if(Un(y))return L(h,p,y,C);if($(y))return M(h,p,y,C);ul(h,y)}return typeof y=="string"&&y!==""||typeof y=="number"?(y=""+y,p!==null&&p.tag===6?(n(h,p.sibling),p=l(p,y),p.return=h,h=p):(n(h,p),p=Li(y,h.mode,C),p.return=h,h=p),i(h)):n(h,p)}return we}var jn=xs(!0),Ns=xs(!1),sl=Ft(null),al=null,Rn=null,Ho=null;function Qo(){Ho=Rn=al=null}function Go(e){var t=sl.current;se(sl),e._currentValue=t}function Yo(e,t,n){for(;e!==null;){var r=e.alternate;if((e.childLanes&t)!==t?(e.childLanes|=t,r!==null&&(r.childLanes|=t)):r!==null&&(r.childLanes&t)!==t&&(r.childLanes|=t),e===n)break;e=e.return}}function Tn(e,t){al=e,Ho=Rn=null,e=e.dependencies,e!==null&&e.firstContext!==null&&((e.lanes&t)!==0&&(Ye=!0),e.firstContext=null)}function ut(e){var t=e._currentValue;if(Ho!==e)if(e={context:e,memoizedValue:t,next:null},Rn===null){if(al===null)throw Error(s(308));Rn=e,al.dependencies={lanes:0,firstContext:e}}else Rn=Rn.next=e;return t}var nn=null;function Jo(e){nn===null?nn=[e]:nn.push(e)}function Es(e,t,n,r){var l=t.interleaved;return l===null?(n.next=n,Jo(t)):(n.next=l.next,l.next=n),t.interleaved=n,_t(e,r)}function _t(e,t){e.lanes|=t;var n=e.alternate;for(n!==null&&(n.lanes|=t),n=e,e=e.return;e!==null;)e.childLanes|=t,n=e.alternate,n!==null&&(n.childLanes|=t),n=e,e=e.return;return n.tag===3?n.stateNode:null}var Vt=!1;function Xo(e){e.updateQueue={baseState:e.memoizedState,firstBaseUpdate:null,lastBaseUpdate:null,shared:{pending:null,interleaved:null,lanes:0},effects:null}}function Cs(e,t){e=e.updateQueue,t.updateQueue===e&&(t.updateQueue={baseState:e.baseState,firstBaseUpdate:e.firstBaseUpdate,lastBaseUpdate:e.lastBaseUpdate,shared:e.shared,effects:e.effects})}function jt(e,t){return{eventTime:e,lane:t,tag:0,payload:null,callback:null,next:null}}function Wt(e,t,n){var r=e.updateQueue;if(r===null)return null;if(r=r.shared,(ee&2)!==0){var l=r.pending;return l===null?t.next=t:(t.next=l.next,l.next=t),r.pending=t,_t(e,n)}return l=r.interleaved,l===null?(t.next=t,Jo(r)):(t.next=l.next,l.next=t),r.interleaved=t,_t(e,n)}function cl(e,t,n){if(t=t.updateQueue,t!==null&&(t=t.shared,(n&4194240)!==0)){var r=t.lanes;r&=e.pendingLanes,n|=r,t.lanes=n,ao(e,n)}}function Ps(e,t){var n=e.updateQueue,r=e.alternate;if(r!==null&&(r=r.updateQueue,n===r)){var l=null,o=null;if(n=n.firstBaseUpdate,n!==null){do{var i={eventTime:n.eventTime,lane:n.lane,tag:n.tag,payload:n.payload,callback:n.callback,next:null};o===null?l=o=i:o=o.next=i,n=n.next}while(n!==null);o===null?l=o=t:o=o.next=t}else l=o=t;n={baseState:r.baseState,firstBaseUpdate:l,lastBaseUpdate:o,shared:r.shared,effects:r.effects},e.updateQueue=n;return}e=n.lastBaseUpdate,e===null?n.firstBaseUpdate=t:e.next=t,n.lastBaseUpdate=t}function fl(e,t,n,r){var l=e.updateQueue;Vt=!1;var o=l.firstBaseUpdate,i=l.lastBaseUpdate,a=l.shared.pending;if(a!==null){l.shared.pending=null;var f=a,w=f.next;f.next=null,i===null?o=w:i.next=w,i=f;var N=e.alternate;N!==null&&(N=N.updateQueue,a=N.lastBaseUpdate,a!==i&&(a===null?N.firstBaseUpdate=w:a.next=w,N.lastBaseUpdate=f))}if(o!==null){var E=l.baseState;i=0,N=w=f=null,a=o;do{var x=a.lane,I=a.eventTime;if((r&x)===x){N!==null&&(N=N.next={eventTime:I,lane:0,tag:a.tag,payload:a.payload,callback:a.callback,next:null});e:{var L=e,M=a;switch(x=t,I=n,M.tag){case 1:if(L=M.payload,typeof L=="function"){E=L.call(I,E,x);break e}E=L;break e;case 3:L.flags=L.flags&-65537|128;case 0:if(L=M.payload,x=typeof L=="function"?L.call(I,E,x):L,x==null)break e;E=D({},E,x);break e;case 2:Vt=!0}}a.callback!==null&&a.lane!==0&&(e.flags|=64,x=l.effects,x===null?l.effects=[a]:x.push(a))}else I={eventTime:I,lane:x,tag:a.tag,payload:a.payload,callback:a.callback,next:null},N===null?(w=N=I,f=E):N=N.next=I,i|=x;if(a=a.next,a===null){if(a=l.shared.pending,a===null)break;x=a,a=x.next,x.next=null,l.lastBaseUpdate=x,l.shared.pending=null}}while(!0);if(N===null&&(f=E),l.baseState=f,l.firstBaseUpdate=w,l.lastBaseUpdate=N,t=l.shared.interleaved,t!==null){l=t;do i|=l.lane,l=l.next;while(l!==t)}else o===null&&(l.shared.lanes=0);on|=i,e.lanes=i,e.memoizedState=E}}function _s(e,t,n){if(e=t.effects,t.effects=null,e!==null)for(t=0;t<e.length;t++){var r=e[t],l=r.callback;if(l!==null){if(r.callback=null,r=n,typeof l!="function")throw Error(s(191,l));l.call(r)}}}var fr={},St=Ft(fr),dr=Ft(fr),pr=Ft(fr);function rn(e){if(e===fr)throw Error(s(174));return e}function qo(e,t){switch(ie(pr,t),ie(dr,e),ie(St,fr),e=t.nodeType,e){case 9:case 11:t=(t=t.documentElement)?t.namespaceURI:ql(null,"");break;default:e=e===8?t.parentNode:t,t=e.namespaceURI||null,e=e.tagName,t=ql(t,e)}se(St),ie(St,t)}function On(){se(St),se(dr),se(pr)}function js(e){rn(pr.current);var t=rn(St.current),n=ql(t,e.type);t!==n&&(ie(dr,e),ie(St,n))}function Zo(e){dr.current===e&&(se(St),se(dr))}var pe=Ft(0);function dl(e){for(var t=e;t!==null;){if(t.tag===13){var n=t.memoizedState;if(n!==null&&(n=n.dehydrated,n===null||n.data==="$?"||n.data==="$!"))return t}else if(t.tag===19&&t.memoizedProps.revealOrder!==void 0){if((t.flags&128)!==0)return t}else if(t.child!==null){t.child.return=t,t=t.child;continue}if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return null;t=t.return}t.sibling.return=t.return,t=t.sibling}return null}var bo=[];function ei(){for(var e=0;e<bo.length;e++)bo[e]._workInProgressVersionPrimary=null;bo.length=0}var pl=oe.ReactCurrentDispatcher,ti=oe.ReactCurrentBatchConfig,ln=0,me=null,Pe=null,je=null,ml=!1,mr=!1,hr=0,zf=0;function Ae(){throw Error(s(321))}function ni(e,t){if(t===null)return!1;for(var n=0;n<t.length&&n<e.length;n++)if(!dt(e[n],t[n]))return!1;return!0}function ri(e,t,n,r,l,o){if(ln=o,me=t,t.memoizedState=null,t.updateQueue=null,t.lanes=0,pl.current=e===null||e.memoizedState===null?Ff:Uf,e=n(r,l),mr){o=0;do{if(mr=!1,hr=0,25<=o)throw Error(s(301));o+=1,je=Pe=null,t.updateQueue=null,pl.current=Bf,e=n(r,l)}while(mr)}if(pl.current=yl,t=Pe!==null&&Pe.next!==null,ln=0,je=Pe=me=null,ml=!1,t)throw Error(s(300));return e}function li(){var e=hr!==0;return hr=0,e}function kt(){var e={memoizedState:null,baseState:null,baseQueue:null,queue:null,next:null};return je===null?me.memoizedState=je=e:je=je.next=e,je}function st(){if(Pe===null){var e=me.alternate;e=e!==null?e.memoizedState:null}else e=Pe.next;var t=je===null?me.memoizedState:je.next;if(t!==null)je=t,Pe=e;else{if(e===null)throw Error(s(310));Pe=e,e={memoizedState:Pe.memoizedState,baseState:Pe.baseState,baseQueue:Pe.baseQueue,queue:Pe.queue,next:null},je===null?me.memoizedState=je=e:je=je.next=e}return je}function vr(e,t){return typeof t=="function"?t(e):t}function oi(e){var t=st(),n=t.queue;if(n===null)throw Error(s(311));n.lastRenderedReducer=e;var r=Pe,l=r.baseQueue,o=n.pending;if(o!==null){if(l!==null){var i=l.next;l.next=o.next,o.next=i}r.baseQueue=l=o,n.pending=null}if(l!==null){o=l.next,r=r.baseState;var a=i=null,f=null,w=o;do{var N=w.lane;if((ln&N)===N)f!==null&&(f=f.next={lane:0,action:w.action,hasEagerState:w.hasEagerState,eagerState:w.eagerState,next:null}),r=w.hasEagerState?w.eagerState:e(r,w.action);else{var E={lane:N,action:w.action,hasEagerState:w.hasEagerState,eagerState:w.eagerState,next:null};f===null?(a=f=E,i=r):f=f.next=E,me.lanes|=N,on|=N}w=w.next}while(w!==null&&w!==o);f===null?i=r:f.next=a,dt(r,t.memoizedState)||(Ye=!0),t.memoizedState=r,t.baseState=i,t.baseQueue=f,n.lastRenderedState=r}if(e=n.interleaved,e!==null){l=e;do o=l.lane,me.lanes|=o,on|=o,l=l.next;while(l!==e)}else l===null&&(n.lanes=0);return[t.memoizedState,n.dispatch]}function ii(e){var t=st(),n=t.queue;if(n===null)throw Error(s(311));n.lastRenderedReducer=e;var r=n.dispatch,l=n.pending,o=t.memoizedState;if(l!==null){n.pending=null;var i=l=l.next;do o=e(o,i.action),i=i.next;while(i!==l);dt(o,t.memoizedState)||(Ye=!0),t.memoizedState=o,t.baseQueue===null&&(t.baseState=o),n.lastRenderedState=o}return[o,r]}function Rs(){}function Ts(e,t){var n=me,r=st(),l=t(),o=!dt(r.memoizedState,l);if(o&&(r.memoizedState=l,Ye=!0),r=r.queue,ui(Ds.bind(null,n,r,e),[e]),r.getSnapshot!==t||o||je!==null&&je.memoizedState.tag&1){if(n.flags|=2048,yr(9,Is.bind(null,n,r,l,t),void 0,null),Re===null)throw Error(s(349));(ln&30)!==0||Os(n,t,l)}return l}function Os(e,t,n){e.flags|=16384,e={getSnapshot:t,value:n},t=me.updateQueue,t===null?(t={lastEffect:null,stores:null},me.updateQueue=t,t.stores=[e]):(n=t.stores,n===null?t.stores=[e]:n.push(e))}function Is(e,t,n,r){t.value=n,t.getSnapshot=r,zs(t)&&Ls(e)}function Ds(e,t,n){return n(function(){zs(t)&&Ls(e)})}function zs(e){var t=e.getSnapshot;e=e.value;try{var n=t();return!dt(e,n)}catch{return!0}}function Ls(e){var t=_t(e,1);t!==null&&yt(t,e,1,-1)}function Ms(e){var t=kt();return typeof e=="function"&&(e=e()),t.memoizedState=t.baseState=e,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:vr,lastRenderedState:e},t.queue=e,e=e.dispatch=Af.bind(null,me,e),[t.memoizedState,e]}function yr(e,t,n,r){return e={tag:e,create:t,destroy:n,deps:r,next:null},t=me.updateQueue,t===null?(t={lastEffect:null,stores:null},me.updateQueue=t,t.lastEffect=e.next=e):(n=t.lastEffect,n===null?t.lastEffect=e.next=e:(r=n.next,n.next=e,e.next=r,t.lastEffect=e)),e}function As(){return st().memoizedState}function hl(e,t,n,r){var l=kt();me.flags|=e,l.memoizedState=yr(1|t,n,void 0,r===void 0?null:r)}function vl(e,t,n,r){var l=st();r=r===void 0?null:r;var o=void 0;if(Pe!==null){var i=Pe.memoizedState;if(o=i.destroy,r!==null&&ni(r,i.deps)){l.memoizedState=yr(t,n,o,r);return}}me.flags|=e,l.memoizedState=yr(1|t,n,o,r)}function Fs(e,t){return hl(8390656,8,e,t)}function ui(e,t){return vl(2048,8,e,t)}function Us(e,t){return vl(4,2,e,t)}function Bs(e,t){return vl(4,4,e,t)}function Vs(e,t){if(typeof t=="function")return e=e(),t(e),function(){t(null)};if(t!=null)return e=e(),t.current=e,function(){t.current=null}}function Ws(e,t,n){return n=n!=null?n.concat([e]):null,vl(4,4,Vs.bind(null,t,e),n)}function si(){}function Ks(e,t){var n=st();t=t===void 0?null:t;var r=n.memoizedState;return r!==null&&t!==null&&ni(t,r[1])?r[0]:(n.memoizedState=[e,t],e)}function $s(e,t){var n=st();t=t===void 0?null:t;var r=n.memoizedState;return r!==null&&t!==null&&ni(t,r[1])?r[0]:(e=e(),n.memoizedState=[e,t],e)}function Hs(e,t,n){return(ln&21)===0?(e.baseState&&(e.baseState=!1,Ye=!0),e.memoizedState=n):(dt(n,t)||(n=ku(),me.lanes|=n,on|=n,e.baseState=!0),t)}function Lf(e,t){var n=ne;ne=n!==0&&4>n?n:4,e(!0);var r=ti.transition;ti.transition={};try{e(!1),t()}finally{ne=n,ti.transition=r}}function Qs(){return st().memoizedState}function Mf(e,t,n){var r=Qt(e);if(n={lane:r,action:n,hasEagerState:!1,eagerState:null,next:null},Gs(e))Ys(t,n);else if(n=Es(e,t,n,r),n!==null){var l=Ve();yt(n,e,r,l),Js(n,t,r)}}function Af(e,t,n){var r=Qt(e),l={lane:r,action:n,hasEagerState:!1,eagerState:null,next:null};if(Gs(e))Ys(t,l);else{var o=e.alternate;if(e.lanes===0&&(o===null||o.lanes===0)&&(o=t.lastRenderedReducer,o!==null))try{var i=t.lastRenderedState,a=o(i,n);if(l.hasEagerState=!0,l.eagerState=a,dt(a,i)){var f=t.interleaved;f===null?(l.next=l,Jo(t)):(l.next=f.next,f.next=l),t.interleaved=l;return}}catch{}finally{}n=Es(e,t,l,r),n!==null&&(l=Ve(),yt(n,e,r,l),Js(n,t,r))}}function Gs(e){var t=e.alternate;return e===me||t!==null&&t===me}function Ys(e,t){mr=ml=!0;var n=e.pending;n===null?t.next=t:(t.next=n.next,n.next=t),e.pending=t}function Js(e,t,n){if((n&4194240)!==0){var r=t.lanes;r&=e.pendingLanes,n|=r,t.lanes=n,ao(e,n)}}var yl={readContext:ut,useCallback:Ae,useContext:Ae,useEffect:Ae,useImperativeHandle:Ae,useInsertionEffect:Ae,useLayoutEffect:Ae,useMemo:Ae,useReducer:Ae,useRef:Ae,useState:Ae,useDebugValue:Ae,useDeferredValue:Ae,useTransition:Ae,useMutableSource:Ae,useSyncExternalStore:Ae,useId:Ae,unstable_isNewReconciler:!1},Ff={readContext:ut,useCallback:function(e,t){return kt().memoizedState=[e,t===void 0?null:t],e},useContext:ut,useEffect:Fs,useImperativeHandle:function(e,t,n){return n=n!=null?n.concat([e]):null,hl(4194308,4,Vs.bind(null,t,e),n)},useLayoutEffect:function(e,t){return hl(4194308,4,e,t)},useInsertionEffect:function(e,t){return hl(4,2,e,t)},useMemo:function(e,t){var n=kt();return t=t===void 0?null:t,e=e(),n.memoizedState=[e,t],e},useReducer:function(e,t,n){var r=kt();return t=n!==void 0?n(t):t,r.memoizedState=r.baseState=t,e={pending:null,interleaved:null,lanes:0,dispatch:null,lastRenderedReducer:e,lastRenderedState:t},r.queue=e,e=e.dispatch=Mf.bind(null,me,e),[r.memoizedState,e]},useRef:function(e){var t=kt();return e={current:e},t.memoizedState=e},useState:Ms,useDebugValue:si,useDeferredValue:function(e){return kt().memoizedState=e},useTransition:function(){var e=Ms(!1),t=e[0];return e=Lf.bind(null,e[1]),kt().memoizedState=e,[t,e]},useMutableSource:function(){},useSyncExternalStore:function(e,t,n){var r=me,l=kt();if(fe){if(n===void 0)throw Error(s(407));n=n()}else{if(n=t(),Re===null)throw Error(s(349));(ln&30)!==0||Os(r,t,n)}l.memoizedState=n;var o={value:n,getSnapshot:t};return l.queue=o,Fs(Ds.bind(null,r,o,e),[e]),r.flags|=2048,yr(9,Is.bind(null,r,o,n,t),void 0,null),n},useId:function(){var e=kt(),t=Re.identifierPrefix;if(fe){var n=Pt,r=Ct;n=(r&~(1<<32-ft(r)-1)).toString(32)+n,t=":"+t+"R"+n,n=hr++,0<n&&(t+="H"+n.toString(32)),t+=":"}else n=zf++,t=":"+t+"r"+n.toString(32)+":";return e.memoizedState=t},unstable_isNewReconciler:!1},Uf={readContext:ut,useCallback:Ks,useContext:ut,useEffect:ui,useImperativeHandle:Ws,useInsertionEffect:Us,useLayoutEffect:Bs,useMemo:$s,useReducer:oi,useRef:As,useState:function(){return oi(vr)},useDebugValue:si,useDeferredValue:function(e){var t=st();return Hs(t,Pe.memoizedState,e)},useTransition:function(){var e=oi(vr)[0],t=st().memoizedState;return[e,t]},useMutableSource:Rs,useSyncExternalStore:Ts,useId:Qs,unstable_isNewReconciler:!1},Bf={readContext:ut,useCallback:Ks,useContext:ut,useEffect:ui,useImperativeHandle:Ws,useInsertionEffect:Us,useLayoutEffect:Bs,useMemo:$s,useReducer:ii,useRef:As,useState:function(){return ii(vr)},useDebugValue:si,useDeferredValue:function(e){var t=st();return Pe===null?t.memoizedState=e:Hs(t,Pe.memoizedState,e)},useTransition:function(){var e=ii(vr)[0],t=st().memoizedState;return[e,t]},useMutableSource:Rs,useSyncExternalStore:Ts,useId:Qs,unstable_isNewReconciler:!1};function mt(e,t){if(e&&e.defaultProps){t=D({},t),e=e.defaultProps;for(var n in e)t[n]===void 0&&(t[n]=e[n]);return t}return t}function ai(e,t,n,r){t=e.memoizedState,n=n(r,t),n=n==null?t:D({},t,n),e.memoizedState=n,e.lanes===0&&(e.updateQueue.baseState=n)}var gl={isMounted:function(e){return(e=e._reactInternals)?qt(e)===e:!1},enqueueSetState:function(e,t,n){e=e._reactInternals;var r=Ve(),l=Qt(e),o=jt(r,l);o.payload=t,n!=null&&(o.callback=n),t=Wt(e,o,l),t!==null&&(yt(t,e,l,r),cl(t,e,l))},enqueueReplaceState:function(e,t,n){e=e._reactInternals;var r=Ve(),l=Qt(e),o=jt(r,l);o.tag=1,o.payload=t,n!=null&&(o.callback=n),t=Wt(e,o,l),t!==null&&(yt(t,e,l,r),cl(t,e,l))},enqueueForceUpdate:function(e,t){e=e._reactInternals;var n=Ve(),r=Qt(e),l=jt(n,r);l.tag=2,t!=null&&(l.callback=t),t=Wt(e,l,r),t!==null&&(yt(t,e,r,n),cl(t,e,r))}};function Xs(e,t,n,r,l,o,i){return e=e.stateNode,typeof e.shouldComponentUpdate=="function"?e.shouldComponentUpdate(r,o,i):t.prototype&&t.prototype.isPureReactComponent?!rr(n,r)||!rr(l,o):!0}function qs(e,t,n){var r=!1,l=Ut,o=t.contextType;return typeof o=="object"&&o!==null?o=ut(o):(l=Ge(t)?bt:Me.current,r=t.contextTypes,o=(r=r!=null)?En(e,l):Ut),t=new t(n,o),e.memoizedState=t.state!==null&&t.state!==void 0?t.state:null,t.updater=gl,e.stateNode=t,t._reactInternals=e,r&&(e=e.stateNode,e.__reactInternalMemoizedUnmaskedChildContext=l,e.__reactInternalMemoizedMaskedChildContext=o),t}function Zs(e,t,n,r){e=t.state,typeof t.componentWillReceiveProps=="function"&&t.componentWillReceiveProps(n,r),typeof t.UNSAFE_componentWillReceiveProps=="function"&&t.UNSAFE_componentWillReceiveProps(n,r),t.state!==e&&gl.enqueueReplaceState(t,t.state,null)}function ci(e,t,n,r){var l=e.stateNode;l.props=n,l.state=e.memoizedState,l.refs={},Xo(e);var o=t.contextType;typeof o=="object"&&o!==null?l.context=ut(o):(o=Ge(t)?bt:Me.current,l.context=En(e,o)),l.state=e.memoizedState,o=t.getDerivedStateFromProps,typeof o=="function"&&(ai(e,t,o,n),l.state=e.memoizedState),typeof t.getDerivedStateFromProps=="function"||typeof l.getSnapshotBeforeUpdate=="function"||typeof l.UNSAFE_componentWillMount!="function"&&typeof l.componentWillMount!="function"||(t=l.state,typeof l.componentWillMount=="function"&&l.componentWillMount(),typeof l.UNSAFE_componentWillMount=="function"&&l.UNSAFE_componentWillMount(),t!==l.state&&gl.enqueueReplaceState(l,l.state,null),fl(e,n,l,r),l.state=e.memoizedState),typeof l.componentDidMount=="function"&&(e.flags|=4194308)}function In(e,t){try{var n="",r=t;do n+=Y(r),r=r.return;while(r);var l=n}catch(o){l=`
-Error generating stack: `+o.message+`
-`+o.stack}return{value:e,source:t,stack:l,digest:null}}function fi(e,t,n){return{value:e,source:null,stack:n??null,digest:t??null}}function di(e,t){try{console.error(t.value)}catch(n){setTimeout(function(){throw n})}}var Vf=typeof WeakMap=="function"?WeakMap:Map;function bs(e,t,n){n=jt(-1,n),n.tag=3,n.payload={element:null};var r=t.value;return n.callback=function(){Cl||(Cl=!0,_i=r),di(e,t)},n}function ea(e,t,n){n=jt(-1,n),n.tag=3;var r=e.type.getDerivedStateFromError;if(typeof r=="function"){var l=t.value;n.payload=function(){return r(l)},n.callback=function(){di(e,t)}}var o=e.stateNode;return o!==null&&typeof o.componentDidCatch=="function"&&(n.callback=function(){di(e,t),typeof r!="function"&&($t===null?$t=new Set([this]):$t.add(this));var i=t.stack;this.componentDidCatch(t.value,{componentStack:i!==null?i:""})}),n}function ta(e,t,n){var r=e.pingCache;if(r===null){r=e.pingCache=new Vf;var l=new Set;r.set(t,l)}else l=r.get(t),l===void 0&&(l=new Set,r.set(t,l));l.has(n)||(l.add(n),e=td.bind(null,e,t,n),t.then(e,e))}function na(e){do{var t;if((t=e.tag===13)&&(t=e.memoizedState,t=t!==null?t.dehydrated!==null:!0),t)return e;e=e.return}while(e!==null);return null}function ra(e,t,n,r,l){return(e.mode&1)===0?(e===t?e.flags|=65536:(e.flags|=128,n.flags|=131072,n.flags&=-52805,n.tag===1&&(n.alternate===null?n.tag=17:(t=jt(-1,1),t.tag=2,Wt(n,t,1))),n.lanes|=1),e):(e.flags|=65536,e.lanes=l,e)}var Wf=oe.ReactCurrentOwner,Ye=!1;function Be(e,t,n,r){t.child=e===null?Ns(t,null,n,r):jn(t,e.child,n,r)}function la(e,t,n,r,l){n=n.render;var o=t.ref;return Tn(t,l),r=ri(e,t,n,r,o,l),n=li(),e!==null&&!Ye?(t.updateQueue=e.updateQueue,t.flags&=-2053,e.lanes&=~l,Rt(e,t,l)):(fe&&n&&Bo(t),t.flags|=1,Be(e,t,r,l),t.child)}function oa(e,t,n,r,l){if(e===null){var o=n.type;return typeof o=="function"&&!zi(o)&&o.defaultProps===void 0&&n.compare===null&&n.defaultProps===void 0?(t.tag=15,t.type=o,ia(e,t,o,r,l)):(e=Ol(n.type,null,r,t,t.mode,l),e.ref=t.ref,e.return=t,t.child=e)}if(o=e.child,(e.lanes&l)===0){var i=o.memoizedProps;if(n=n.compare,n=n!==null?n:rr,n(i,r)&&e.ref===t.ref)return Rt(e,t,l)}return t.flags|=1,e=Yt(o,r),e.ref=t.ref,e.return=t,t.child=e}function ia(e,t,n,r,l){if(e!==null){var o=e.memoizedProps;if(rr(o,r)&&e.ref===t.ref)if(Ye=!1,t.pendingProps=r=o,(e.lanes&l)!==0)(e.flags&131072)!==0&&(Ye=!0);else return t.lanes=e.lanes,Rt(e,t,l)}return pi(e,t,n,r,l)}function ua(e,t,n){var r=t.pendingProps,l=r.children,o=e!==null?e.memoizedState:null;if(r.mode==="hidden")if((t.mode&1)===0)t.memoizedState={baseLanes:0,cachePool:null,transitions:null},ie(zn,lt),lt|=n;else{if((n&1073741824)===0)return e=o!==null?o.baseLanes|n:n,t.lanes=t.childLanes=1073741824,t.memoizedState={baseLanes:e,cachePool:null,transitions:null},t.updateQueue=null,ie(zn,lt),lt|=e,null;t.memoizedState={baseLanes:0,cachePool:null,transitions:null},r=o!==null?o.baseLanes:n,ie(zn,lt),lt|=r}else o!==null?(r=o.baseLanes|n,t.memoizedState=null):r=n,ie(zn,lt),lt|=r;return Be(e,t,l,n),t.child}function sa(e,t){var n=t.ref;(e===null&&n!==null||e!==null&&e.ref!==n)&&(t.flags|=512,t.flags|=2097152)}function pi(e,t,n,r,l){var o=Ge(n)?bt:Me.current;return o=En(t,o),Tn(t,l),n=ri(e,t,n,r,o,l),r=li(),e!==null&&!Ye?(t.updateQueue=e.updateQueue,t.flags&=-2053,e.lanes&=~l,Rt(e,t,l)):(fe&&r&&Bo(t),t.flags|=1,Be(e,t,n,l),t.child)}function aa(e,t,n,r,l){if(Ge(n)){var o=!0;nl(t)}else o=!1;if(Tn(t,l),t.stateNode===null)Sl(e,t),qs(t,n,r),ci(t,n,r,l),r=!0;else if(e===null){var i=t.stateNode,a=t.memoizedProps;i.props=a;var f=i.context,w=n.contextType;typeof w=="object"&&w!==null?w=ut(w):(w=Ge(n)?bt:Me.current,w=En(t,w));var N=n.getDerivedStateFromProps,E=typeof N=="function"||typeof i.getSnapshotBeforeUpdate=="function";E||typeof i.UNSAFE_componentWillReceiveProps!="function"&&typeof i.componentWillReceiveProps!="function"||(a!==r||f!==w)&&Zs(t,i,r,w),Vt=!1;var x=t.memoizedState;i.state=x,fl(t,r,i,l),f=t.memoizedState,a!==r||x!==f||Qe.current||Vt?(typeof N=="function"&&(ai(t,n,N,r),f=t.memoizedState),(a=Vt||Xs(t,n,a,r,x,f,w))?(E||typeof i.UNSAFE_componentWillMount!="function"&&typeof i.componentWillMount!="function"||(typeof i.componentWillMount=="function"&&i.componentWillMount(),typeof i.UNSAFE_componentWillMount=="function"&&i.UNSAFE_componentWillMount()),typeof i.componentDidMount=="function"&&(t.flags|=4194308)):(typeof i.componentDidMount=="function"&&(t.flags|=4194308),t.memoizedProps=r,t.memoizedState=f),i.props=r,i.state=f,i.context=w,r=a):(typeof i.componentDidMount=="function"&&(t.flags|=4194308),r=!1)}else{i=t.stateNode,Cs(e,t),a=t.memoizedProps,w=t.type===t.elementType?a:mt(t.type,a),i.props=w,E=t.pendingProps,x=i.context,f=n.contextType,typeof f=="object"&&f!==null?f=ut(f):(f=Ge(n)?bt:Me.current,f=En(t,f));var I=n.getDerivedStateFromProps;(N=typeof I=="function"||typeof i.getSnapshotBeforeUpdate=="function")||typeof i.UNSAFE_componentWillReceiveProps!="function"&&typeof i.componentWillReceiveProps!="function"||(a!==E||x!==f)&&Zs(t,i,r,f),Vt=!1,x=t.memoizedState,i.state=x,fl(t,r,i,l);var L=t.memoizedState;a!==E||x!==L||Qe.current||Vt?(typeof I=="function"&&(ai(t,n,I,r),L=t.memoizedState),(w=Vt||Xs(t,n,w,r,x,L,f)||!1)?(N||typeof i.UNSAFE_componentWillUpdate!="function"&&typeof i.componentWillUpdate!="function"||(typeof i.componentWillUpdate=="function"&&i.componentWillUpdate(r,L,f),typeof i.UNSAFE_componentWillUpdate=="function"&&i.UNSAFE_componentWillUpdate(r,L,f)),typeof i.componentDidUpdate=="function"&&(t.flags|=4),typeof i.getSnapshotBeforeUpdate=="function"&&(t.flags|=1024)):(typeof i.componentDidUpdate!="function"||a===e.memoizedProps&&x===e.memoizedState||(t.flags|=4),typeof i.getSnapshotBeforeUpdate!="function"||a===e.memoizedProps&&x===e.memoizedState||(t.flags|=1024),t.memoizedProps=r,t.memoizedState=L),i.props=r,i.state=L,i.context=f,r=w):(typeof i.componentDidUpdate!="function"||a===e.memoizedProps&&x===e.memoizedState||(t.flags|=4),typeof i.getSnapshotBeforeUpdate!="function"||a===e.memoizedProps&&x===e.memoizedState||(t.flags|=1024),r=!1)}return mi(e,t,n,r,o,l)}function mi(e,t,n,r,l,o){sa(e,t);var i=(t.flags&128)!==0;if(!r&&!i)return l&&ms(t,n,!1),Rt(e,t,o);r=t.stateNode,Wf.current=t;var a=i&&typeof n.getDerivedStateFromError!="function"?null:r.render();return t.flags|=1,e!==null&&i?(t.child=jn(t,e.child,null,o),t.child=jn(t,null,a,o)):Be(e,t,a,o),t.memoizedState=r.state,l&&ms(t,n,!0),t.child}function ca(e){var t=e.stateNode;t.pendingContext?ds(e,t.pendingContext,t.pendingContext!==t.context):t.context&&ds(e,t.context,!1),qo(e,t.containerInfo)}function fa(e,t,n,r,l){return _n(),$o(l),t.flags|=256,Be(e,t,n,r),t.child}var hi={dehydrated:null,treeContext:null,retryLane:0};function vi(e){return{baseLanes:e,cachePool:null,transitions:null}}function da(e,t,n){var r=t.pendingProps,l=pe.current,o=!1,i=(t.flags&128)!==0,a;if((a=i)||(a=e!==null&&e.memoizedState===null?!1:(l&2)!==0),a?(o=!0,t.flags&=-129):(e===null||e.memoizedState!==null)&&(l|=1),ie(pe,l&1),e===null)return Ko(t),e=t.memoizedState,e!==null&&(e=e.dehydrated,e!==null)?((t.mode&1)===0?t.lanes=1:e.data==="$!"?t.lanes=8:t.lanes=1073741824,null):(i=r.children,e=r.fallback,o?(r=t.mode,o=t.child,i={mode:"hidden",children:i},(r&1)===0&&o!==null?(o.childLanes=0,o.pendingProps=i):o=Il(i,r,0,null),e=cn(e,r,n,null),o.return=t,e.return=t,o.sibling=e,t.child=o,t.child.memoizedState=vi(n),t.memoizedState=hi,e):yi(t,i));if(l=e.memoizedState,l!==null&&(a=l.dehydrated,a!==null))return Kf(e,t,i,r,a,l,n);if(o){o=r.fallback,i=t.mode,l=e.child,a=l.sibling;var f={mode:"hidden",children:r.children};return(i&1)===0&&t.child!==l?(r=t.child,r.childLanes=0,r.pendingProps=f,t.deletions=null):(r=Yt(l,f),r.subtreeFlags=l.subtreeFlags&14680064),a!==null?o=Yt(a,o):(o=cn(o,i,n,null),o.flags|=2),o.return=t,r.return=t,r.sibling=o,t.child=r,r=o,o=t.child,i=e.child.memoizedState,i=i===null?vi(n):{baseLanes:i.baseLanes|n,cachePool:null,transitions:i.transitions},o.memoizedState=i,o.childLanes=e.childLanes&~n,t.memoizedState=hi,r}return o=e.child,e=o.sibling,r=Yt(o,{mode:"visible",children:r.children}),(t.mode&1)===0&&(r.lanes=n),r.return=t,r.sibling=null,e!==null&&(n=t.deletions,n===null?(t.deletions=[e],t.flags|=16):n.push(e)),t.child=r,t.memoizedState=null,r}function yi(e,t){return t=Il({mode:"visible",children:t},e.mode,0,null),t.return=e,e.child=t}function wl(e,t,n,r){return r!==null&&$o(r),jn(t,e.child,null,n),e=yi(t,t.pendingProps.children),e.flags|=2,t.memoizedState=null,e}function Kf(e,t,n,r,l,o,i){if(n)return t.flags&256?(t.flags&=-257,r=fi(Error(s(422))),wl(e,t,i,r)):t.memoizedState!==null?(t.child=e.child,t.flags|=128,null):(o=r.fallback,l=t.mode,r=Il({mode:"visible",children:r.children},l,0,null),o=cn(o,l,i,null),o.flags|=2,r.return=t,o.return=t,r.sibling=o,t.child=r,(t.mode&1)!==0&&jn(t,e.child,null,i),t.child.memoizedState=vi(i),t.memoizedState=hi,o);if((t.mode&1)===0)return wl(e,t,i,null);if(l.data==="$!"){if(r=l.nextSibling&&l.nextSibling.dataset,r)var a=r.dgst;return r=a,o=Error(s(419)),r=fi(o,r,void 0),wl(e,t,i,r)}if(a=(i&e.childLanes)!==0,Ye||a){if(r=Re,r!==null){switch(i&-i){case 4:l=2;break;case 16:l=8;break;case 64:case 128:case 256:case 512:case 1024:case 2048:case 4096:case 8192:case 16384:case 32768:case 65536:case 131072:case 262144:case 524288:case 1048576:case 2097152:case 4194304:case 8388608:case 16777216:case 33554432:case 67108864:l=32;break;case 536870912:l=268435456;break;default:l=0}l=(l&(r.suspendedLanes|i))!==0?0:l,l!==0&&l!==o.retryLane&&(o.retryLane=l,_t(e,l),yt(r,e,l,-1))}return Di(),r=fi(Error(s(421))),wl(e,t,i,r)}return l.data==="$?"?(t.flags|=128,t.child=e.child,t=nd.bind(null,e),l._reactRetry=t,null):(e=o.treeContext,rt=At(l.nextSibling),nt=t,fe=!0,pt=null,e!==null&&(ot[it++]=Ct,ot[it++]=Pt,ot[it++]=en,Ct=e.id,Pt=e.overflow,en=t),t=yi(t,r.children),t.flags|=4096,t)}function pa(e,t,n){e.lanes|=t;var r=e.alternate;r!==null&&(r.lanes|=t),Yo(e.return,t,n)}function gi(e,t,n,r,l){var o=e.memoizedState;o===null?e.memoizedState={isBackwards:t,rendering:null,renderingStartTime:0,last:r,tail:n,tailMode:l}:(o.isBackwards=t,o.rendering=null,o.renderingStartTime=0,o.last=r,o.tail=n,o.tailMode=l)}function ma(e,t,n){var r=t.pendingProps,l=r.revealOrder,o=r.tail;if(Be(e,t,r.children,n),r=pe.current,(r&2)!==0)r=r&1|2,t.flags|=128;else{if(e!==null&&(e.flags&128)!==0)e:for(e=t.child;e!==null;){if(e.tag===13)e.memoizedState!==null&&pa(e,n,t);else if(e.tag===19)pa(e,n,t);else if(e.child!==null){e.child.return=e,e=e.child;continue}if(e===t)break e;for(;e.sibling===null;){if(e.return===null||e.return===t)break e;e=e.return}e.sibling.return=e.return,e=e.sibling}r&=1}if(ie(pe,r),(t.mode&1)===0)t.memoizedState=null;else switch(l){case"forwards":for(n=t.child,l=null;n!==null;)e=n.alternate,e!==null&&dl(e)===null&&(l=n),n=n.sibling;n=l,n===null?(l=t.child,t.child=null):(l=n.sibling,n.sibling=null),gi(t,!1,l,n,o);break;case"backwards":for(n=null,l=t.child,t.child=null;l!==null;){if(e=l.alternate,e!==null&&dl(e)===null){t.child=l;break}e=l.sibling,l.sibling=n,n=l,l=e}gi(t,!0,n,null,o);break;case"together":gi(t,!1,null,null,void 0);break;default:t.memoizedState=null}return t.child}function Sl(e,t){(t.mode&1)===0&&e!==null&&(e.alternate=null,t.alternate=null,t.flags|=2)}function Rt(e,t,n){if(e!==null&&(t.dependencies=e.dependencies),on|=t.lanes,(n&t.childLanes)===0)return null;if(e!==null&&t.child!==e.child)throw Error(s(153));if(t.child!==null){for(e=t.child,n=Yt(e,e.pendingProps),t.child=n,n.return=t;e.sibling!==null;)e=e.sibling,n=n.sibling=Yt(e,e.pendingProps),n.return=t;n.sibling=null}return t.child}function $f(e,t,n){switch(t.tag){case 3:ca(t),_n();break;case 5:js(t);break;case 1:Ge(t.type)&&nl(t);break;case 4:qo(t,t.stateNode.containerInfo);break;case 10:var r=t.type._context,l=t.memoizedProps.value;ie(sl,r._currentValue),r._currentValue=l;break;case 13:if(r=t.memoizedState,r!==null)return r.dehydrated!==null?(ie(pe,pe.current&1),t.flags|=128,null):(n&t.child.childLanes)!==0?da(e,t,n):(ie(pe,pe.current&1),e=Rt(e,t,n),e!==null?e.sibling:null);ie(pe,pe.current&1);break;case 19:if(r=(n&t.childLanes)!==0,(e.flags&128)!==0){if(r)return ma(e,t,n);t.flags|=128}if(l=t.memoizedState,l!==null&&(l.rendering=null,l.tail=null,l.lastEffect=null),ie(pe,pe.current),r)break;return null;case 22:case 23:return t.lanes=0,ua(e,t,n)}return Rt(e,t,n)}var ha,wi,va,ya;ha=function(e,t){for(var n=t.child;n!==null;){if(n.tag===5||n.tag===6)e.appendChild(n.stateNode);else if(n.tag!==4&&n.child!==null){n.child.return=n,n=n.child;continue}if(n===t)break;for(;n.sibling===null;){if(n.return===null||n.return===t)return;n=n.return}n.sibling.return=n.return,n=n.sibling}},wi=function(){},va=function(e,t,n,r){var l=e.memoizedProps;if(l!==r){e=t.stateNode,rn(St.current);var o=null;switch(n){case"input":l=Gl(e,l),r=Gl(e,r),o=[];break;case"select":l=D({},l,{value:void 0}),r=D({},r,{value:void 0}),o=[];break;case"textarea":l=Xl(e,l),r=Xl(e,r),o=[];break;default:typeof l.onClick!="function"&&typeof r.onClick=="function"&&(e.onclick=br)}Zl(n,r);var i;n=null;for(w in l)if(!r.hasOwnProperty(w)&&l.hasOwnProperty(w)&&l[w]!=null)if(w==="style"){var a=l[w];for(i in a)a.hasOwnProperty(i)&&(n||(n={}),n[i]="")}else w!=="dangerouslySetInnerHTML"&&w!=="children"&&w!=="suppressContentEditableWarning"&&w!=="suppressHydrationWarning"&&w!=="autoFocus"&&(g.hasOwnProperty(w)?o||(o=[]):(o=o||[]).push(w,null));for(w in r){var f=r[w];if(a=l!=null?l[w]:void 0,r.hasOwnProperty(w)&&f!==a&&(f!=null||a!=null))if(w==="style")if(a){for(i in a)!a.hasOwnProperty(i)||f&&f.hasOwnProperty(i)||(n||(n={}),n[i]="");for(i in f)f.hasOwnProperty(i)&&a[i]!==f[i]&&(n||(n={}),n[i]=f[i])}else n||(o||(o=[]),o.push(w,n)),n=f;else w==="dangerouslySetInnerHTML"?(f=f?f.__html:void 0,a=a?a.__html:void 0,f!=null&&a!==f&&(o=o||[]).push(w,f)):w==="children"?typeof f!="string"&&typeof f!="number"||(o=o||[]).push(w,""+f):w!=="suppressContentEditableWarning"&&w!=="suppressHydrationWarning"&&(g.hasOwnProperty(w)?(f!=null&&w==="onScroll"&&ue("scroll",e),o||a===f||(o=[])):(o=o||[]).push(w,f))}n&&(o=o||[]).push("style",n);var w=o;(t.updateQueue=w)&&(t.flags|=4)}},ya=function(e,t,n,r){n!==r&&(t.flags|=4)};function gr(e,t){if(!fe)switch(e.tailMode){case"hidden":t=e.tail;for(var n=null;t!==null;)t.alternate!==null&&(n=t),t=t.sibling;n===null?e.tail=null:n.sibling=null;break;case"collapsed":n=e.tail;for(var r=null;n!==null;)n.alternate!==null&&(r=n),n=n.sibling;r===null?t||e.tail===null?e.tail=null:e.tail.sibling=null:r.sibling=null}}function Fe(e){var t=e.alternate!==null&&e.alternate.child===e.child,n=0,r=0;if(t)for(var l=e.child;l!==null;)n|=l.lanes|l.childLanes,r|=l.subtreeFlags&14680064,r|=l.flags&14680064,l.return=e,l=l.sibling;else for(l=e.child;l!==null;)n|=l.lanes|l.childLanes,r|=l.subtreeFlags,r|=l.flags,l.return=e,l=l.sibling;return e.subtreeFlags|=r,e.childLanes=n,t}function Hf(e,t,n){var r=t.pendingProps;switch(Vo(t),t.tag){case 2:case 16:case 15:case 0:case 11:case 7:case 8:case 12:case 9:case 14:return Fe(t),null;case 1:return Ge(t.type)&&tl(),Fe(t),null;case 3:return r=t.stateNode,On(),se(Qe),se(Me),ei(),r.pendingContext&&(r.context=r.pendingContext,r.pendingContext=null),(e===null||e.child===null)&&(il(t)?t.flags|=4:e===null||e.memoizedState.isDehydrated&&(t.flags&256)===0||(t.flags|=1024,pt!==null&&(Ti(pt),pt=null))),wi(e,t),Fe(t),null;case 5:Zo(t);var l=rn(pr.current);if(n=t.type,e!==null&&t.stateNode!=null)va(e,t,n,r,l),e.ref!==t.ref&&(t.flags|=512,t.flags|=2097152);else{if(!r){if(t.stateNode===null)throw Error(s(166));return Fe(t),null}if(e=rn(St.current),il(t)){r=t.stateNode,n=t.type;var o=t.memoizedProps;switch(r[wt]=t,r[sr]=o,e=(t.mode&1)!==0,n){case"dialog":ue("cancel",r),ue("close",r);break;case"iframe":case"object":case"embed":ue("load",r);break;case"video":case"audio":for(l=0;l<or.length;l++)ue(or[l],r);break;case"source":ue("error",r);break;case"img":case"image":case"link":ue("error",r),ue("load",r);break;case"details":ue("toggle",r);break;case"input":qi(r,o),ue("invalid",r);break;case"select":r._wrapperState={wasMultiple:!!o.multiple},ue("invalid",r);break;case"textarea":eu(r,o),ue("invalid",r)}Zl(n,o),l=null;for(var i in o)if(o.hasOwnProperty(i)){var a=o[i];i==="children"?typeof a=="string"?r.textContent!==a&&(o.suppressHydrationWarning!==!0&&Zr(r.textContent,a,e),l=["children",a]):typeof a=="number"&&r.textContent!==""+a&&(o.suppressHydrationWarning!==!0&&Zr(r.textContent,a,e),l=["children",""+a]):g.hasOwnProperty(i)&&a!=null&&i==="onScroll"&&ue("scroll",r)}switch(n){case"input":Rr(r),bi(r,o,!0);break;case"textarea":Rr(r),nu(r);break;case"select":case"option":break;default:typeof o.onClick=="function"&&(r.onclick=br)}r=l,t.updateQueue=r,r!==null&&(t.flags|=4)}else{i=l.nodeType===9?l:l.ownerDocument,e==="http://www.w3.org/1999/xhtml"&&(e=ru(n)),e==="http://www.w3.org/1999/xhtml"?n==="script"?(e=i.createElement("div"),e.innerHTML="<script><\/script>",e=e.removeChild(e.firstChild)):typeof r.is=="string"?e=i.createElement(n,{is:r.is}):(e=i.createElement(n),n==="select"&&(i=e,r.multiple?i.multiple=!0:r.size&&(i.size=r.size))):e=i.createElementNS(e,n),e[wt]=t,e[sr]=r,ha(e,t,!1,!1),t.stateNode=e;e:{switch(i=bl(n,r),n){case"dialog":ue("cancel",e),ue("close",e),l=r;break;case"iframe":case"object":case"embed":ue("load",e),l=r;break;case"video":case"audio":for(l=0;l<or.length;l++)ue(or[l],e);l=r;break;case"source":ue("error",e),l=r;break;case"img":case"image":case"link":ue("error",e),ue("load",e),l=r;break;case"details":ue("toggle",e),l=r;break;case"input":qi(e,r),l=Gl(e,r),ue("invalid",e);break;case"option":l=r;break;case"select":e._wrapperState={wasMultiple:!!r.multiple},l=D({},r,{value:void 0}),ue("invalid",e);break;case"textarea":eu(e,r),l=Xl(e,r),ue("invalid",e);break;default:l=r}Zl(n,l),a=l;for(o in a)if(a.hasOwnProperty(o)){var f=a[o];o==="style"?iu(e,f):o==="dangerouslySetInnerHTML"?(f=f?f.__html:void 0,f!=null&&lu(e,f)):o==="children"?typeof f=="string"?(n!=="textarea"||f!=="")&&Bn(e,f):typeof f=="number"&&Bn(e,""+f):o!=="suppressContentEditableWarning"&&o!=="suppressHydrationWarning"&&o!=="autoFocus"&&(g.hasOwnProperty(o)?f!=null&&o==="onScroll"&&ue("scroll",e):f!=null&&Se(e,o,f,i))}switch(n){case"input":Rr(e),bi(e,r,!1);break;case"textarea":Rr(e),nu(e);break;case"option":r.value!=null&&e.setAttribute("value",""+b(r.value));break;case"select":e.multiple=!!r.multiple,o=r.value,o!=null?dn(e,!!r.multiple,o,!1):r.defaultValue!=null&&dn(e,!!r.multiple,r.defaultValue,!0);break;default:typeof l.onClick=="function"&&(e.onclick=br)}switch(n){case"button":case"input":case"select":case"textarea":r=!!r.autoFocus;break e;case"img":r=!0;break e;default:r=!1}}r&&(t.flags|=4)}t.ref!==null&&(t.flags|=512,t.flags|=2097152)}return Fe(t),null;case 6:if(e&&t.stateNode!=null)ya(e,t,e.memoizedProps,r);else{if(typeof r!="string"&&t.stateNode===null)throw Error(s(166));if(n=rn(pr.current),rn(St.current),il(t)){if(r=t.stateNode,n=t.memoizedProps,r[wt]=t,(o=r.nodeValue!==n)&&(e=nt,e!==null))switch(e.tag){case 3:Zr(r.nodeValue,n,(e.mode&1)!==0);break;case 5:e.memoizedProps.suppressHydrationWarning!==!0&&Zr(r.nodeValue,n,(e.mode&1)!==0)}o&&(t.flags|=4)}else r=(n.nodeType===9?n:n.ownerDocument).createTextNode(r),r[wt]=t,t.stateNode=r}return Fe(t),null;case 13:if(se(pe),r=t.memoizedState,e===null||e.memoizedState!==null&&e.memoizedState.dehydrated!==null){if(fe&&rt!==null&&(t.mode&1)!==0&&(t.flags&128)===0)Ss(),_n(),t.flags|=98560,o=!1;else if(o=il(t),r!==null&&r.dehydrated!==null){if(e===null){if(!o)throw Error(s(318));if(o=t.memoizedState,o=o!==null?o.dehydrated:null,!o)throw Error(s(317));o[wt]=t}else _n(),(t.flags&128)===0&&(t.memoizedState=null),t.flags|=4;Fe(t),o=!1}else pt!==null&&(Ti(pt),pt=null),o=!0;if(!o)return t.flags&65536?t:null}return(t.flags&128)!==0?(t.lanes=n,t):(r=r!==null,r!==(e!==null&&e.memoizedState!==null)&&r&&(t.child.flags|=8192,(t.mode&1)!==0&&(e===null||(pe.current&1)!==0?_e===0&&(_e=3):Di())),t.updateQueue!==null&&(t.flags|=4),Fe(t),null);case 4:return On(),wi(e,t),e===null&&ir(t.stateNode.containerInfo),Fe(t),null;case 10:return Go(t.type._context),Fe(t),null;case 17:return Ge(t.type)&&tl(),Fe(t),null;case 19:if(se(pe),o=t.memoizedState,o===null)return Fe(t),null;if(r=(t.flags&128)!==0,i=o.rendering,i===null)if(r)gr(o,!1);else{if(_e!==0||e!==null&&(e.flags&128)!==0)for(e=t.child;e!==null;){if(i=dl(e),i!==null){for(t.flags|=128,gr(o,!1),r=i.updateQueue,r!==null&&(t.updateQueue=r,t.flags|=4),t.subtreeFlags=0,r=n,n=t.child;n!==null;)o=n,e=r,o.flags&=14680066,i=o.alternate,i===null?(o.childLanes=0,o.lanes=e,o.child=null,o.subtreeFlags=0,o.memoizedProps=null,o.memoizedState=null,o.updateQueue=null,o.dependencies=null,o.stateNode=null):(o.childLanes=i.childLanes,o.lanes=i.lanes,o.child=i.child,o.subtreeFlags=0,o.deletions=null,o.memoizedProps=i.memoizedProps,o.memoizedState=i.memoizedState,o.updateQueue=i.updateQueue,o.type=i.type,e=i.dependencies,o.dependencies=e===null?null:{lanes:e.lanes,firstContext:e.firstContext}),n=n.sibling;return ie(pe,pe.current&1|2),t.child}e=e.sibling}o.tail!==null&&ge()>Ln&&(t.flags|=128,r=!0,gr(o,!1),t.lanes=4194304)}else{if(!r)if(e=dl(i),e!==null){if(t.flags|=128,r=!0,n=e.updateQueue,n!==null&&(t.updateQueue=n,t.flags|=4),gr(o,!0),o.tail===null&&o.tailMode==="hidden"&&!i.alternate&&!fe)return Fe(t),null}else 2*ge()-o.renderingStartTime>Ln&&n!==1073741824&&(t.flags|=128,r=!0,gr(o,!1),t.lanes=4194304);o.isBackwards?(i.sibling=t.child,t.child=i):(n=o.last,n!==null?n.sibling=i:t.child=i,o.last=i)}return o.tail!==null?(t=o.tail,o.rendering=t,o.tail=t.sibling,o.renderingStartTime=ge(),t.sibling=null,n=pe.current,ie(pe,r?n&1|2:n&1),t):(Fe(t),null);case 22:case 23:return Ii(),r=t.memoizedState!==null,e!==null&&e.memoizedState!==null!==r&&(t.flags|=8192),r&&(t.mode&1)!==0?(lt&1073741824)!==0&&(Fe(t),t.subtreeFlags&6&&(t.flags|=8192)):Fe(t),null;case 24:return null;case 25:return null}throw Error(s(156,t.tag))}function Qf(e,t){switch(Vo(t),t.tag){case 1:return Ge(t.type)&&tl(),e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 3:return On(),se(Qe),se(Me),ei(),e=t.flags,(e&65536)!==0&&(e&128)===0?(t.flags=e&-65537|128,t):null;case 5:return Zo(t),null;case 13:if(se(pe),e=t.memoizedState,e!==null&&e.dehydrated!==null){if(t.alternate===null)throw Error(s(340));_n()}return e=t.flags,e&65536?(t.flags=e&-65537|128,t):null;case 19:return se(pe),null;case 4:return On(),null;case 10:return Go(t.type._context),null;case 22:case 23:return Ii(),null;case 24:return null;default:return null}}var kl=!1,Ue=!1,Gf=typeof WeakSet=="function"?WeakSet:Set,z=null;function Dn(e,t){var n=e.ref;if(n!==null)if(typeof n=="function")try{n(null)}catch(r){ve(e,t,r)}else n.current=null}function Si(e,t,n){try{n()}catch(r){ve(e,t,r)}}var ga=!1;function Yf(e,t){if(Io=Vr,e=Xu(),Eo(e)){if("selectionStart"in e)var n={start:e.selectionStart,end:e.selectionEnd};else e:{n=(n=e.ownerDocument)&&n.defaultView||window;var r=n.getSelection&&n.getSelection();if(r&&r.rangeCount!==0){n=r.anchorNode;var l=r.anchorOffset,o=r.focusNode;r=r.focusOffset;try{n.nodeType,o.nodeType}catch{n=null;break e}var i=0,a=-1,f=-1,w=0,N=0,E=e,x=null;t:for(;;){for(var I;E!==n||l!==0&&E.nodeType!==3||(a=i+l),E!==o||r!==0&&E.nodeType!==3||(f=i+r),E.nodeType===3&&(i+=E.nodeValue.length),(I=E.firstChild)!==null;)x=E,E=I;for(;;){if(E===e)break t;if(x===n&&++w===l&&(a=i),x===o&&++N===r&&(f=i),(I=E.nextSibling)!==null)break;E=x,x=E.parentNode}E=I}n=a===-1||f===-1?null:{start:a,end:f}}else n=null}n=n||{start:0,end:0}}else n=null;for(Do={focusedElem:e,selectionRange:n},Vr=!1,z=t;z!==null;)if(t=z,e=t.child,(t.subtreeFlags&1028)!==0&&e!==null)e.return=t,z=e;else for(;z!==null;){t=z;try{var L=t.alternate;if((t.flags&1024)!==0)switch(t.tag){case 0:case 11:case 15:break;case 1:if(L!==null){var M=L.memoizedProps,we=L.memoizedState,h=t.stateNode,p=h.getSnapshotBeforeUpdate(t.elementType===t.type?M:mt(t.type,M),we);h.__reactInternalSnapshotBeforeUpdate=p}break;case 3:var y=t.stateNode.containerInfo;y.nodeType===1?y.textContent="":y.nodeType===9&&y.documentElement&&y.removeChild(y.documentElement);break;case 5:case 6:case 4:case 17:break;default:throw Error(s(163))}}catch(C){ve(t,t.return,C)}if(e=t.sibling,e!==null){e.return=t.return,z=e;break}z=t.return}return L=ga,ga=!1,L}function wr(e,t,n){var r=t.updateQueue;if(r=r!==null?r.lastEffect:null,r!==null){var l=r=r.next;do{if((l.tag&e)===e){var o=l.destroy;l.destroy=void 0,o!==void 0&&Si(t,n,o)}l=l.next}while(l!==r)}}function xl(e,t){if(t=t.updateQueue,t=t!==null?t.lastEffect:null,t!==null){var n=t=t.next;do{if((n.tag&e)===e){var r=n.create;n.destroy=r()}n=n.next}while(n!==t)}}function ki(e){var t=e.ref;if(t!==null){var n=e.stateNode;switch(e.tag){case 5:e=n;break;default:e=n}typeof t=="function"?t(e):t.current=e}}function wa(e){var t=e.alternate;t!==null&&(e.alternate=null,wa(t)),e.child=null,e.deletions=null,e.sibling=null,e.tag===5&&(t=e.stateNode,t!==null&&(delete t[wt],delete t[sr],delete t[Ao],delete t[Tf],delete t[Of])),e.stateNode=null,e.return=null,e.dependencies=null,e.memoizedProps=null,e.memoizedState=null,e.pendingProps=null,e.stateNode=null,e.updateQueue=null}function Sa(e){return e.tag===5||e.tag===3||e.tag===4}function ka(e){e:for(;;){for(;e.sibling===null;){if(e.return===null||Sa(e.return))return null;e=e.return}for(e.sibling.return=e.return,e=e.sibling;e.tag!==5&&e.tag!==6&&e.tag!==18;){if(e.flags&2||e.child===null||e.tag===4)continue e;e.child.return=e,e=e.child}if(!(e.flags&2))return e.stateNode}}function xi(e,t,n){var r=e.tag;if(r===5||r===6)e=e.stateNode,t?n.nodeType===8?n.parentNode.insertBefore(e,t):n.insertBefore(e,t):(n.nodeType===8?(t=n.parentNode,t.insertBefore(e,n)):(t=n,t.appendChild(e)),n=n._reactRootContainer,n!=null||t.onclick!==null||(t.onclick=br));else if(r!==4&&(e=e.child,e!==null))for(xi(e,t,n),e=e.sibling;e!==null;)xi(e,t,n),e=e.sibling}function Ni(e,t,n){var r=e.tag;if(r===5||r===6)e=e.stateNode,t?n.insertBefore(e,t):n.appendChild(e);else if(r!==4&&(e=e.child,e!==null))for(Ni(e,t,n),e=e.sibling;e!==null;)Ni(e,t,n),e=e.sibling}var De=null,ht=!1;function Kt(e,t,n){for(n=n.child;n!==null;)xa(e,t,n),n=n.sibling}function xa(e,t,n){if(gt&&typeof gt.onCommitFiberUnmount=="function")try{gt.onCommitFiberUnmount(Lr,n)}catch{}switch(n.tag){case 5:Ue||Dn(n,t);case 6:var r=De,l=ht;De=null,Kt(e,t,n),De=r,ht=l,De!==null&&(ht?(e=De,n=n.stateNode,e.nodeType===8?e.parentNode.removeChild(n):e.removeChild(n)):De.removeChild(n.stateNode));break;case 18:De!==null&&(ht?(e=De,n=n.stateNode,e.nodeType===8?Mo(e.parentNode,n):e.nodeType===1&&Mo(e,n),qn(e)):Mo(De,n.stateNode));break;case 4:r=De,l=ht,De=n.stateNode.containerInfo,ht=!0,Kt(e,t,n),De=r,ht=l;break;case 0:case 11:case 14:case 15:if(!Ue&&(r=n.updateQueue,r!==null&&(r=r.lastEffect,r!==null))){l=r=r.next;do{var o=l,i=o.destroy;o=o.tag,i!==void 0&&((o&2)!==0||(o&4)!==0)&&Si(n,t,i),l=l.next}while(l!==r)}Kt(e,t,n);break;case 1:if(!Ue&&(Dn(n,t),r=n.stateNode,typeof r.componentWillUnmount=="function"))try{r.props=n.memoizedProps,r.state=n.memoizedState,r.componentWillUnmount()}catch(a){ve(n,t,a)}Kt(e,t,n);break;case 21:Kt(e,t,n);break;case 22:n.mode&1?(Ue=(r=Ue)||n.memoizedState!==null,Kt(e,t,n),Ue=r):Kt(e,t,n);break;default:Kt(e,t,n)}}function Na(e){var t=e.updateQueue;if(t!==null){e.updateQueue=null;var n=e.stateNode;n===null&&(n=e.stateNode=new Gf),t.forEach(function(r){var l=rd.bind(null,e,r);n.has(r)||(n.add(r),r.then(l,l))})}}function vt(e,t){var n=t.deletions;if(n!==null)for(var r=0;r<n.length;r++){var l=n[r];try{var o=e,i=t,a=i;e:for(;a!==null;){switch(a.tag){case 5:De=a.stateNode,ht=!1;break e;case 3:De=a.stateNode.containerInfo,ht=!0;break e;case 4:De=a.stateNode.containerInfo,ht=!0;break e}a=a.return}if(De===null)throw Error(s(160));xa(o,i,l),De=null,ht=!1;var f=l.alternate;f!==null&&(f.return=null),l.return=null}catch(w){ve(l,t,w)}}if(t.subtreeFlags&12854)for(t=t.child;t!==null;)Ea(t,e),t=t.sibling}function Ea(e,t){var n=e.alternate,r=e.flags;switch(e.tag){case 0:case 11:case 14:case 15:if(vt(t,e),xt(e),r&4){try{wr(3,e,e.return),xl(3,e)}catch(M){ve(e,e.return,M)}try{wr(5,e,e.return)}catch(M){ve(e,e.return,M)}}break;case 1:vt(t,e),xt(e),r&512&&n!==null&&Dn(n,n.return);break;case 5:if(vt(t,e),xt(e),r&512&&n!==null&&Dn(n,n.return),e.flags&32){var l=e.stateNode;try{Bn(l,"")}catch(M){ve(e,e.return,M)}}if(r&4&&(l=e.stateNode,l!=null)){var o=e.memoizedProps,i=n!==null?n.memoizedProps:o,a=e.type,f=e.updateQueue;if(e.updateQueue=null,f!==null)try{a==="input"&&o.type==="radio"&&o.name!=null&&Zi(l,o),bl(a,i);var w=bl(a,o);for(i=0;i<f.length;i+=2){var N=f[i],E=f[i+1];N==="style"?iu(l,E):N==="dangerouslySetInnerHTML"?lu(l,E):N==="children"?Bn(l,E):Se(l,N,E,w)}switch(a){case"input":Yl(l,o);break;case"textarea":tu(l,o);break;case"select":var x=l._wrapperState.wasMultiple;l._wrapperState.wasMultiple=!!o.multiple;var I=o.value;I!=null?dn(l,!!o.multiple,I,!1):x!==!!o.multiple&&(o.defaultValue!=null?dn(l,!!o.multiple,o.defaultValue,!0):dn(l,!!o.multiple,o.multiple?[]:"",!1))}l[sr]=o}catch(M){ve(e,e.return,M)}}break;case 6:if(vt(t,e),xt(e),r&4){if(e.stateNode===null)throw Error(s(162));l=e.stateNode,o=e.memoizedProps;try{l.nodeValue=o}catch(M){ve(e,e.return,M)}}break;case 3:if(vt(t,e),xt(e),r&4&&n!==null&&n.memoizedState.isDehydrated)try{qn(t.containerInfo)}catch(M){ve(e,e.return,M)}break;case 4:vt(t,e),xt(e);break;case 13:vt(t,e),xt(e),l=e.child,l.flags&8192&&(o=l.memoizedState!==null,l.stateNode.isHidden=o,!o||l.alternate!==null&&l.alternate.memoizedState!==null||(Pi=ge())),r&4&&Na(e);break;case 22:if(N=n!==null&&n.memoizedState!==null,e.mode&1?(Ue=(w=Ue)||N,vt(t,e),Ue=w):vt(t,e),xt(e),r&8192){if(w=e.memoizedState!==null,(e.stateNode.isHidden=w)&&!N&&(e.mode&1)!==0)for(z=e,N=e.child;N!==null;){for(E=z=N;z!==null;){switch(x=z,I=x.child,x.tag){case 0:case 11:case 14:case 15:wr(4,x,x.return);break;case 1:Dn(x,x.return);var L=x.stateNode;if(typeof L.componentWillUnmount=="function"){r=x,n=x.return;try{t=r,L.props=t.memoizedProps,L.state=t.memoizedState,L.componentWillUnmount()}catch(M){ve(r,n,M)}}break;case 5:Dn(x,x.return);break;case 22:if(x.memoizedState!==null){_a(E);continue}}I!==null?(I.return=x,z=I):_a(E)}N=N.sibling}e:for(N=null,E=e;;){if(E.tag===5){if(N===null){N=E;try{l=E.stateNode,w?(o=l.style,typeof o.setProperty=="function"?o.setProperty("display","none","important"):o.display="none"):(a=E.stateNode,f=E.memoizedProps.style,i=f!=null&&f.hasOwnProperty("display")?f.display:null,a.style.display=ou("display",i))}catch(M){ve(e,e.return,M)}}}else if(E.tag===6){if(N===null)try{E.stateNode.nodeValue=w?"":E.memoizedProps}catch(M){ve(e,e.return,M)}}else if((E.tag!==22&&E.tag!==23||E.memoizedState===null||E===e)&&E.child!==null){E.child.return=E,E=E.child;continue}if(E===e)break e;for(;E.sibling===null;){if(E.return===null||E.return===e)break e;N===E&&(N=null),E=E.return}N===E&&(N=null),E.sibling.return=E.return,E=E.sibling}}break;case 19:vt(t,e),xt(e),r&4&&Na(e);break;case 21:break;default:vt(t,e),xt(e)}}function xt(e){var t=e.flags;if(t&2){try{e:{for(var n=e.return;n!==null;){if(Sa(n)){var r=n;break e}n=n.return}throw Error(s(160))}switch(r.tag){case 5:var l=r.stateNode;r.flags&32&&(Bn(l,""),r.flags&=-33);var o=ka(e);Ni(e,o,l);break;case 3:case 4:var i=r.stateNode.containerInfo,a=ka(e);xi(e,a,i);break;default:throw Error(s(161))}}catch(f){ve(e,e.return,f)}e.flags&=-3}t&4096&&(e.flags&=-4097)}function Jf(e,t,n){z=e,Ca(e)}function Ca(e,t,n){for(var r=(e.mode&1)!==0;z!==null;){var l=z,o=l.child;if(l.tag===22&&r){var i=l.memoizedState!==null||kl;if(!i){var a=l.alternate,f=a!==null&&a.memoizedState!==null||Ue;a=kl;var w=Ue;if(kl=i,(Ue=f)&&!w)for(z=l;z!==null;)i=z,f=i.child,i.tag===22&&i.memoizedState!==null?ja(l):f!==null?(f.return=i,z=f):ja(l);for(;o!==null;)z=o,Ca(o),o=o.sibling;z=l,kl=a,Ue=w}Pa(e)}else(l.subtreeFlags&8772)!==0&&o!==null?(o.return=l,z=o):Pa(e)}}function Pa(e){for(;z!==null;){var t=z;if((t.flags&8772)!==0){var n=t.alternate;try{if((t.flags&8772)!==0)switch(t.tag){case 0:case 11:case 15:Ue||xl(5,t);break;case 1:var r=t.stateNode;if(t.flags&4&&!Ue)if(n===null)r.componentDidMount();else{var l=t.elementType===t.type?n.memoizedProps:mt(t.type,n.memoizedProps);r.componentDidUpdate(l,n.memoizedState,r.__reactInternalSnapshotBeforeUpdate)}var o=t.updateQueue;o!==null&&_s(t,o,r);break;case 3:var i=t.updateQueue;if(i!==null){if(n=null,t.child!==null)switch(t.child.tag){case 5:n=t.child.stateNode;break;case 1:n=t.child.stateNode}_s(t,i,n)}break;case 5:var a=t.stateNode;if(n===null&&t.flags&4){n=a;var f=t.memoizedProps;switch(t.type){case"button":case"input":case"select":case"textarea":f.autoFocus&&n.focus();break;case"img":f.src&&(n.src=f.src)}}break;case 6:break;case 4:break;case 12:break;case 13:if(t.memoizedState===null){var w=t.alternate;if(w!==null){var N=w.memoizedState;if(N!==null){var E=N.dehydrated;E!==null&&qn(E)}}}break;case 19:case 17:case 21:case 22:case 23:case 25:break;default:throw Error(s(163))}Ue||t.flags&512&&ki(t)}catch(x){ve(t,t.return,x)}}if(t===e){z=null;break}if(n=t.sibling,n!==null){n.return=t.return,z=n;break}z=t.return}}function _a(e){for(;z!==null;){var t=z;if(t===e){z=null;break}var n=t.sibling;if(n!==null){n.return=t.return,z=n;break}z=t.return}}function ja(e){for(;z!==null;){var t=z;try{switch(t.tag){case 0:case 11:case 15:var n=t.return;try{xl(4,t)}catch(f){ve(t,n,f)}break;case 1:var r=t.stateNode;if(typeof r.componentDidMount=="function"){var l=t.return;try{r.componentDidMount()}catch(f){ve(t,l,f)}}var o=t.return;try{ki(t)}catch(f){ve(t,o,f)}break;case 5:var i=t.return;try{ki(t)}catch(f){ve(t,i,f)}}}catch(f){ve(t,t.return,f)}if(t===e){z=null;break}var a=t.sibling;if(a!==null){a.return=t.return,z=a;break}z=t.return}}var Xf=Math.ceil,Nl=oe.ReactCurrentDispatcher,Ei=oe.ReactCurrentOwner,at=oe.ReactCurrentBatchConfig,ee=0,Re=null,xe=null,ze=0,lt=0,zn=Ft(0),_e=0,Sr=null,on=0,El=0,Ci=0,kr=null,Je=null,Pi=0,Ln=1/0,Tt=null,Cl=!1,_i=null,$t=null,Pl=!1,Ht=null,_l=0,xr=0,ji=null,jl=-1,Rl=0;function Ve(){return(ee&6)!==0?ge():jl!==-1?jl:jl=ge()}function Qt(e){return(e.mode&1)===0?1:(ee&2)!==0&&ze!==0?ze&-ze:Df.transition!==null?(Rl===0&&(Rl=ku()),Rl):(e=ne,e!==0||(e=window.event,e=e===void 0?16:Tu(e.type)),e)}function yt(e,t,n,r){if(50<xr)throw xr=0,ji=null,Error(s(185));Qn(e,n,r),((ee&2)===0||e!==Re)&&(e===Re&&((ee&2)===0&&(El|=n),_e===4&&Gt(e,ze)),Xe(e,r),n===1&&ee===0&&(t.mode&1)===0&&(Ln=ge()+500,rl&&Bt()))}function Xe(e,t){var n=e.callbackNode;Ic(e,t);var r=Fr(e,e===Re?ze:0);if(r===0)n!==null&&gu(n),e.callbackNode=null,e.callbackPriority=0;else if(t=r&-r,e.callbackPriority!==t){if(n!=null&&gu(n),t===1)e.tag===0?If(Ta.bind(null,e)):hs(Ta.bind(null,e)),jf(function(){(ee&6)===0&&Bt()}),n=null;else{switch(xu(r)){case 1:n=io;break;case 4:n=wu;break;case 16:n=zr;break;case 536870912:n=Su;break;default:n=zr}n=Fa(n,Ra.bind(null,e))}e.callbackPriority=t,e.callbackNode=n}}function Ra(e,t){if(jl=-1,Rl=0,(ee&6)!==0)throw Error(s(327));var n=e.callbackNode;if(Mn()&&e.callbackNode!==n)return null;var r=Fr(e,e===Re?ze:0);if(r===0)return null;if((r&30)!==0||(r&e.expiredLanes)!==0||t)t=Tl(e,r);else{t=r;var l=ee;ee|=2;var o=Ia();(Re!==e||ze!==t)&&(Tt=null,Ln=ge()+500,sn(e,t));do try{bf();break}catch(a){Oa(e,a)}while(!0);Qo(),Nl.current=o,ee=l,xe!==null?t=0:(Re=null,ze=0,t=_e)}if(t!==0){if(t===2&&(l=uo(e),l!==0&&(r=l,t=Ri(e,l))),t===1)throw n=Sr,sn(e,0),Gt(e,r),Xe(e,ge()),n;if(t===6)Gt(e,r);else{if(l=e.current.alternate,(r&30)===0&&!qf(l)&&(t=Tl(e,r),t===2&&(o=uo(e),o!==0&&(r=o,t=Ri(e,o))),t===1))throw n=Sr,sn(e,0),Gt(e,r),Xe(e,ge()),n;switch(e.finishedWork=l,e.finishedLanes=r,t){case 0:case 1:throw Error(s(345));case 2:an(e,Je,Tt);break;case 3:if(Gt(e,r),(r&130023424)===r&&(t=Pi+500-ge(),10<t)){if(Fr(e,0)!==0)break;if(l=e.suspendedLanes,(l&r)!==r){Ve(),e.pingedLanes|=e.suspendedLanes&l;break}e.timeoutHandle=Lo(an.bind(null,e,Je,Tt),t);break}an(e,Je,Tt);break;case 4:if(Gt(e,r),(r&4194240)===r)break;for(t=e.eventTimes,l=-1;0<r;){var i=31-ft(r);o=1<<i,i=t[i],i>l&&(l=i),r&=~o}if(r=l,r=ge()-r,r=(120>r?120:480>r?480:1080>r?1080:1920>r?1920:3e3>r?3e3:4320>r?4320:1960*Xf(r/1960))-r,10<r){e.timeoutHandle=Lo(an.bind(null,e,Je,Tt),r);break}an(e,Je,Tt);break;case 5:an(e,Je,Tt);break;default:throw Error(s(329))}}}return Xe(e,ge()),e.callbackNode===n?Ra.bind(null,e):null}function Ri(e,t){var n=kr;return e.current.memoizedState.isDehydrated&&(sn(e,t).flags|=256),e=Tl(e,t),e!==2&&(t=Je,Je=n,t!==null&&Ti(t)),e}function Ti(e){Je===null?Je=e:Je.push.apply(Je,e)}function qf(e){for(var t=e;;){if(t.flags&16384){var n=t.updateQueue;if(n!==null&&(n=n.stores,n!==null))for(var r=0;r<n.length;r++){var l=n[r],o=l.getSnapshot;l=l.value;try{if(!dt(o(),l))return!1}catch{return!1}}}if(n=t.child,t.subtreeFlags&16384&&n!==null)n.return=t,t=n;else{if(t===e)break;for(;t.sibling===null;){if(t.return===null||t.return===e)return!0;t=t.return}t.sibling.return=t.return,t=t.sibling}}return!0}function Gt(e,t){for(t&=~Ci,t&=~El,e.suspendedLanes|=t,e.pingedLanes&=~t,e=e.expirationTimes;0<t;){var n=31-ft(t),r=1<<n;e[n]=-1,t&=~r}}function Ta(e){if((ee&6)!==0)throw Error(s(327));Mn();var t=Fr(e,0);if((t&1)===0)return Xe(e,ge()),null;var n=Tl(e,t);if(e.tag!==0&&n===2){var r=uo(e);r!==0&&(t=r,n=Ri(e,r))}if(n===1)throw n=Sr,sn(e,0),Gt(e,t),Xe(e,ge()),n;if(n===6)throw Error(s(345));return e.finishedWork=e.current.alternate,e.finishedLanes=t,an(e,Je,Tt),Xe(e,ge()),null}function Oi(e,t){var n=ee;ee|=1;try{return e(t)}finally{ee=n,ee===0&&(Ln=ge()+500,rl&&Bt())}}function un(e){Ht!==null&&Ht.tag===0&&(ee&6)===0&&Mn();var t=ee;ee|=1;var n=at.transition,r=ne;try{if(at.transition=null,ne=1,e)return e()}finally{ne=r,at.transition=n,ee=t,(ee&6)===0&&Bt()}}function Ii(){lt=zn.current,se(zn)}function sn(e,t){e.finishedWork=null,e.finishedLanes=0;var n=e.timeoutHandle;if(n!==-1&&(e.timeoutHandle=-1,_f(n)),xe!==null)for(n=xe.return;n!==null;){var r=n;switch(Vo(r),r.tag){case 1:r=r.type.childContextTypes,r!=null&&tl();break;case 3:On(),se(Qe),se(Me),ei();break;case 5:Zo(r);break;case 4:On();break;case 13:se(pe);break;case 19:se(pe);break;case 10:Go(r.type._context);break;case 22:case 23:Ii()}n=n.return}if(Re=e,xe=e=Yt(e.current,null),ze=lt=t,_e=0,Sr=null,Ci=El=on=0,Je=kr=null,nn!==null){for(t=0;t<nn.length;t++)if(n=nn[t],r=n.interleaved,r!==null){n.interleaved=null;var l=r.next,o=n.pending;if(o!==null){var i=o.next;o.next=l,r.next=i}n.pending=r}nn=null}return e}function Oa(e,t){do{var n=xe;try{if(Qo(),pl.current=yl,ml){for(var r=me.memoizedState;r!==null;){var l=r.queue;l!==null&&(l.pending=null),r=r.next}ml=!1}if(ln=0,je=Pe=me=null,mr=!1,hr=0,Ei.current=null,n===null||n.return===null){_e=1,Sr=t,xe=null;break}e:{var o=e,i=n.return,a=n,f=t;if(t=ze,a.flags|=32768,f!==null&&typeof f=="object"&&typeof f.then=="function"){var w=f,N=a,E=N.tag;if((N.mode&1)===0&&(E===0||E===11||E===15)){var x=N.alternate;x?(N.updateQueue=x.updateQueue,N.memoizedState=x.memoizedState,N.lanes=x.lanes):(N.updateQueue=null,N.memoizedState=null)}var I=na(i);if(I!==null){I.flags&=-257,ra(I,i,a,o,t),I.mode&1&&ta(o,w,t),t=I,f=w;var L=t.updateQueue;if(L===null){var M=new Set;M.add(f),t.updateQueue=M}else L.add(f);break e}else{if((t&1)===0){ta(o,w,t),Di();break e}f=Error(s(426))}}else if(fe&&a.mode&1){var we=na(i);if(we!==null){(we.flags&65536)===0&&(we.flags|=256),ra(we,i,a,o,t),$o(In(f,a));break e}}o=f=In(f,a),_e!==4&&(_e=2),kr===null?kr=[o]:kr.push(o),o=i;do{switch(o.tag){case 3:o.flags|=65536,t&=-t,o.lanes|=t;var h=bs(o,f,t);Ps(o,h);break e;case 1:a=f;var p=o.type,y=o.stateNode;if((o.flags&128)===0&&(typeof p.getDerivedStateFromError=="function"||y!==null&&typeof y.componentDidCatch=="function"&&($t===null||!$t.has(y)))){o.flags|=65536,t&=-t,o.lanes|=t;var C=ea(o,a,t);Ps(o,C);break e}}o=o.return}while(o!==null)}za(n)}catch(A){t=A,xe===n&&n!==null&&(xe=n=n.return);continue}break}while(!0)}function Ia(){var e=Nl.current;return Nl.current=yl,e===null?yl:e}function Di(){(_e===0||_e===3||_e===2)&&(_e=4),Re===null||(on&268435455)===0&&(El&268435455)===0||Gt(Re,ze)}function Tl(e,t){var n=ee;ee|=2;var r=Ia();(Re!==e||ze!==t)&&(Tt=null,sn(e,t));do try{Zf();break}catch(l){Oa(e,l)}while(!0);if(Qo(),ee=n,Nl.current=r,xe!==null)throw Error(s(261));return Re=null,ze=0,_e}function Zf(){for(;xe!==null;)Da(xe)}function bf(){for(;xe!==null&&!Nc();)Da(xe)}function Da(e){var t=Aa(e.alternate,e,lt);e.memoizedProps=e.pendingProps,t===null?za(e):xe=t,Ei.current=null}function za(e){var t=e;do{var n=t.alternate;if(e=t.return,(t.flags&32768)===0){if(n=Hf(n,t,lt),n!==null){xe=n;return}}else{if(n=Qf(n,t),n!==null){n.flags&=32767,xe=n;return}if(e!==null)e.flags|=32768,e.subtreeFlags=0,e.deletions=null;else{_e=6,xe=null;return}}if(t=t.sibling,t!==null){xe=t;return}xe=t=e}while(t!==null);_e===0&&(_e=5)}function an(e,t,n){var r=ne,l=at.transition;try{at.transition=null,ne=1,ed(e,t,n,r)}finally{at.transition=l,ne=r}return null}function ed(e,t,n,r){do Mn();while(Ht!==null);if((ee&6)!==0)throw Error(s(327));n=e.finishedWork;var l=e.finishedLanes;if(n===null)return null;if(e.finishedWork=null,e.finishedLanes=0,n===e.current)throw Error(s(177));e.callbackNode=null,e.callbackPriority=0;var o=n.lanes|n.childLanes;if(Dc(e,o),e===Re&&(xe=Re=null,ze=0),(n.subtreeFlags&2064)===0&&(n.flags&2064)===0||Pl||(Pl=!0,Fa(zr,function(){return Mn(),null})),o=(n.flags&15990)!==0,(n.subtreeFlags&15990)!==0||o){o=at.transition,at.transition=null;var i=ne;ne=1;var a=ee;ee|=4,Ei.current=null,Yf(e,n),Ea(n,e),Sf(Do),Vr=!!Io,Do=Io=null,e.current=n,Jf(n),Ec(),ee=a,ne=i,at.transition=o}else e.current=n;if(Pl&&(Pl=!1,Ht=e,_l=l),o=e.pendingLanes,o===0&&($t=null),_c(n.stateNode),Xe(e,ge()),t!==null)for(r=e.onRecoverableError,n=0;n<t.length;n++)l=t[n],r(l.value,{componentStack:l.stack,digest:l.digest});if(Cl)throw Cl=!1,e=_i,_i=null,e;return(_l&1)!==0&&e.tag!==0&&Mn(),o=e.pendingLanes,(o&1)!==0?e===ji?xr++:(xr=0,ji=e):xr=0,Bt(),null}function Mn(){if(Ht!==null){var e=xu(_l),t=at.transition,n=ne;try{if(at.transition=null,ne=16>e?16:e,Ht===null)var r=!1;else{if(e=Ht,Ht=null,_l=0,(ee&6)!==0)throw Error(s(331));var l=ee;for(ee|=4,z=e.current;z!==null;){var o=z,i=o.child;if((z.flags&16)!==0){var a=o.deletions;if(a!==null){for(var f=0;f<a.length;f++){var w=a[f];for(z=w;z!==null;){var N=z;switch(N.tag){case 0:case 11:case 15:wr(8,N,o)}var E=N.child;if(E!==null)E.return=N,z=E;else for(;z!==null;){N=z;var x=N.sibling,I=N.return;if(wa(N),N===w){z=null;break}if(x!==null){x.return=I,z=x;break}z=I}}}var L=o.alternate;if(L!==null){var M=L.child;if(M!==null){L.child=null;do{var we=M.sibling;M.sibling=null,M=we}while(M!==null)}}z=o}}if((o.subtreeFlags&2064)!==0&&i!==null)i.return=o,z=i;else e:for(;z!==null;){if(o=z,(o.flags&2048)!==0)switch(o.tag){case 0:case 11:case 15:wr(9,o,o.return)}var h=o.sibling;if(h!==null){h.return=o.return,z=h;break e}z=o.return}}var p=e.current;for(z=p;z!==null;){i=z;var y=i.child;if((i.subtreeFlags&2064)!==0&&y!==null)y.return=i,z=y;else e:for(i=p;z!==null;){if(a=z,(a.flags&2048)!==0)try{switch(a.tag){case 0:case 11:case 15:xl(9,a)}}catch(A){ve(a,a.return,A)}if(a===i){z=null;break e}var C=a.sibling;if(C!==null){C.return=a.return,z=C;break e}z=a.return}}if(ee=l,Bt(),gt&&typeof gt.onPostCommitFiberRoot=="function")try{gt.onPostCommitFiberRoot(Lr,e)}catch{}r=!0}return r}finally{ne=n,at.transition=t}}return!1}function La(e,t,n){t=In(n,t),t=bs(e,t,1),e=Wt(e,t,1),t=Ve(),e!==null&&(Qn(e,1,t),Xe(e,t))}function ve(e,t,n){if(e.tag===3)La(e,e,n);else for(;t!==null;){if(t.tag===3){La(t,e,n);break}else if(t.tag===1){var r=t.stateNode;if(typeof t.type.getDerivedStateFromError=="function"||typeof r.componentDidCatch=="function"&&($t===null||!$t.has(r))){e=In(n,e),e=ea(t,e,1),t=Wt(t,e,1),e=Ve(),t!==null&&(Qn(t,1,e),Xe(t,e));break}}t=t.return}}function td(e,t,n){var r=e.pingCache;r!==null&&r.delete(t),t=Ve(),e.pingedLanes|=e.suspendedLanes&n,Re===e&&(ze&n)===n&&(_e===4||_e===3&&(ze&130023424)===ze&&500>ge()-Pi?sn(e,0):Ci|=n),Xe(e,t)}function Ma(e,t){t===0&&((e.mode&1)===0?t=1:(t=Ar,Ar<<=1,(Ar&130023424)===0&&(Ar=4194304)));var n=Ve();e=_t(e,t),e!==null&&(Qn(e,t,n),Xe(e,n))}function nd(e){var t=e.memoizedState,n=0;t!==null&&(n=t.retryLane),Ma(e,n)}function rd(e,t){var n=0;switch(e.tag){case 13:var r=e.stateNode,l=e.memoizedState;l!==null&&(n=l.retryLane);break;case 19:r=e.stateNode;break;default:throw Error(s(314))}r!==null&&r.delete(t),Ma(e,n)}var Aa;Aa=function(e,t,n){if(e!==null)if(e.memoizedProps!==t.pendingProps||Qe.current)Ye=!0;else{if((e.lanes&n)===0&&(t.flags&128)===0)return Ye=!1,$f(e,t,n);Ye=(e.flags&131072)!==0}else Ye=!1,fe&&(t.flags&1048576)!==0&&vs(t,ol,t.index);switch(t.lanes=0,t.tag){case 2:var r=t.type;Sl(e,t),e=t.pendingProps;var l=En(t,Me.current);Tn(t,n),l=ri(null,t,r,e,l,n);var o=li();return t.flags|=1,typeof l=="object"&&l!==null&&typeof l.render=="function"&&l.$$typeof===void 0?(t.tag=1,t.memoizedState=null,t.updateQueue=null,Ge(r)?(o=!0,nl(t)):o=!1,t.memoizedState=l.state!==null&&l.state!==void 0?l.state:null,Xo(t),l.updater=gl,t.stateNode=l,l._reactInternals=t,ci(t,r,e,n),t=mi(null,t,r,!0,o,n)):(t.tag=0,fe&&o&&Bo(t),Be(null,t,l,n),t=t.child),t;case 16:r=t.elementType;e:{switch(Sl(e,t),e=t.pendingProps,l=r._init,r=l(r._payload),t.type=r,l=t.tag=od(r),e=mt(r,e),l){case 0:t=pi(null,t,r,e,n);break e;case 1:t=aa(null,t,r,e,n);break e;case 11:t=la(null,t,r,e,n);break e;case 14:t=oa(null,t,r,mt(r.type,e),n);break e}throw Error(s(306,r,""))}return t;case 0:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:mt(r,l),pi(e,t,r,l,n);case 1:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:mt(r,l),aa(e,t,r,l,n);case 3:e:{if(ca(t),e===null)throw Error(s(387));r=t.pendingProps,o=t.memoizedState,l=o.element,Cs(e,t),fl(t,r,null,n);var i=t.memoizedState;if(r=i.element,o.isDehydrated)if(o={element:r,isDehydrated:!1,cache:i.cache,pendingSuspenseBoundaries:i.pendingSuspenseBoundaries,transitions:i.transitions},t.updateQueue.baseState=o,t.memoizedState=o,t.flags&256){l=In(Error(s(423)),t),t=fa(e,t,r,n,l);break e}else if(r!==l){l=In(Error(s(424)),t),t=fa(e,t,r,n,l);break e}else for(rt=At(t.stateNode.containerInfo.firstChild),nt=t,fe=!0,pt=null,n=Ns(t,null,r,n),t.child=n;n;)n.flags=n.flags&-3|4096,n=n.sibling;else{if(_n(),r===l){t=Rt(e,t,n);break e}Be(e,t,r,n)}t=t.child}return t;case 5:return js(t),e===null&&Ko(t),r=t.type,l=t.pendingProps,o=e!==null?e.memoizedProps:null,i=l.children,zo(r,l)?i=null:o!==null&&zo(r,o)&&(t.flags|=32),sa(e,t),Be(e,t,i,n),t.child;case 6:return e===null&&Ko(t),null;case 13:return da(e,t,n);case 4:return qo(t,t.stateNode.containerInfo),r=t.pendingProps,e===null?t.child=jn(t,null,r,n):Be(e,t,r,n),t.child;case 11:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:mt(r,l),la(e,t,r,l,n);case 7:return Be(e,t,t.pendingProps,n),t.child;case 8:return Be(e,t,t.pendingProps.children,n),t.child;case 12:return Be(e,t,t.pendingProps.children,n),t.child;case 10:e:{if(r=t.type._context,l=t.pendingProps,o=t.memoizedProps,i=l.value,ie(sl,r._currentValue),r._currentValue=i,o!==null)if(dt(o.value,i)){if(o.children===l.children&&!Qe.current){t=Rt(e,t,n);break e}}else for(o=t.child,o!==null&&(o.return=t);o!==null;){var a=o.dependencies;if(a!==null){i=o.child;for(var f=a.firstContext;f!==null;){if(f.context===r){if(o.tag===1){f=jt(-1,n&-n),f.tag=2;var w=o.updateQueue;if(w!==null){w=w.shared;var N=w.pending;N===null?f.next=f:(f.next=N.next,N.next=f),w.pending=f}}o.lanes|=n,f=o.alternate,f!==null&&(f.lanes|=n),Yo(o.return,n,t),a.lanes|=n;break}f=f.next}}else if(o.tag===10)i=o.type===t.type?null:o.child;else if(o.tag===18){if(i=o.return,i===null)throw Error(s(341));i.lanes|=n,a=i.alternate,a!==null&&(a.lanes|=n),Yo(i,n,t),i=o.sibling}else i=o.child;if(i!==null)i.return=o;else for(i=o;i!==null;){if(i===t){i=null;break}if(o=i.sibling,o!==null){o.return=i.return,i=o;break}i=i.return}o=i}Be(e,t,l.children,n),t=t.child}return t;case 9:return l=t.type,r=t.pendingProps.children,Tn(t,n),l=ut(l),r=r(l),t.flags|=1,Be(e,t,r,n),t.child;case 14:return r=t.type,l=mt(r,t.pendingProps),l=mt(r.type,l),oa(e,t,r,l,n);case 15:return ia(e,t,t.type,t.pendingProps,n);case 17:return r=t.type,l=t.pendingProps,l=t.elementType===r?l:mt(r,l),Sl(e,t),t.tag=1,Ge(r)?(e=!0,nl(t)):e=!1,Tn(t,n),qs(t,r,l),ci(t,r,l,n),mi(null,t,r,!0,e,n);case 19:return ma(e,t,n);case 22:return ua(e,t,n)}throw Error(s(156,t.tag))};function Fa(e,t){return yu(e,t)}function ld(e,t,n,r){this.tag=e,this.key=n,this.sibling=this.child=this.return=this.stateNode=this.type=this.elementType=null,this.index=0,this.ref=null,this.pendingProps=t,this.dependencies=this.memoizedState=this.updateQueue=this.memoizedProps=null,this.mode=r,this.subtreeFlags=this.flags=0,this.deletions=null,this.childLanes=this.lanes=0,this.alternate=null}function ct(e,t,n,r){return new ld(e,t,n,r)}function zi(e){return e=e.prototype,!(!e||!e.isReactComponent)}function od(e){if(typeof e=="function")return zi(e)?1:0;if(e!=null){if(e=e.$$typeof,e===$e)return 11;if(e===He)return 14}return 2}function Yt(e,t){var n=e.alternate;return n===null?(n=ct(e.tag,t,e.key,e.mode),n.elementType=e.elementType,n.type=e.type,n.stateNode=e.stateNode,n.alternate=e,e.alternate=n):(n.pendingProps=t,n.type=e.type,n.flags=0,n.subtreeFlags=0,n.deletions=null),n.flags=e.flags&14680064,n.childLanes=e.childLanes,n.lanes=e.lanes,n.child=e.child,n.memoizedProps=e.memoizedProps,n.memoizedState=e.memoizedState,n.updateQueue=e.updateQueue,t=e.dependencies,n.dependencies=t===null?null:{lanes:t.lanes,firstContext:t.firstContext},n.sibling=e.sibling,n.index=e.index,n.ref=e.ref,n}function Ol(e,t,n,r,l,o){var i=2;if(r=e,typeof e=="function")zi(e)&&(i=1);else if(typeof e=="string")i=5;else e:switch(e){case Ee:return cn(n.children,l,o,t);case Ce:i=8,l|=8;break;case Ke:return e=ct(12,n,t,l|2),e.elementType=Ke,e.lanes=o,e;case ye:return e=ct(13,n,t,l),e.elementType=ye,e.lanes=o,e;case Le:return e=ct(19,n,t,l),e.elementType=Le,e.lanes=o,e;case ae:return Il(n,l,o,t);default:if(typeof e=="object"&&e!==null)switch(e.$$typeof){case de:i=10;break e;case be:i=9;break e;case $e:i=11;break e;case He:i=14;break e;case Ie:i=16,r=null;break e}throw Error(s(130,e==null?e:typeof e,""))}return t=ct(i,n,t,l),t.elementType=e,t.type=r,t.lanes=o,t}function cn(e,t,n,r){return e=ct(7,e,r,t),e.lanes=n,e}function Il(e,t,n,r){return e=ct(22,e,r,t),e.elementType=ae,e.lanes=n,e.stateNode={isHidden:!1},e}function Li(e,t,n){return e=ct(6,e,null,t),e.lanes=n,e}function Mi(e,t,n){return t=ct(4,e.children!==null?e.children:[],e.key,t),t.lanes=n,t.stateNode={containerInfo:e.containerInfo,pendingChildren:null,implementation:e.implementation},t}function id(e,t,n,r,l){this.tag=t,this.containerInfo=e,this.finishedWork=this.pingCache=this.current=this.pendingChildren=null,this.timeoutHandle=-1,this.callbackNode=this.pendingContext=this.context=null,this.callbackPriority=0,this.eventTimes=so(0),this.expirationTimes=so(-1),this.entangledLanes=this.finishedLanes=this.mutableReadLanes=this.expiredLanes=this.pingedLanes=this.suspendedLanes=this.pendingLanes=0,this.entanglements=so(0),this.identifierPrefix=r,this.onRecoverableError=l,this.mutableSourceEagerHydrationData=null}function Ai(e,t,n,r,l,o,i,a,f){return e=new id(e,t,n,a,f),t===1?(t=1,o===!0&&(t|=8)):t=0,o=ct(3,null,null,t),e.current=o,o.stateNode=e,o.memoizedState={element:r,isDehydrated:n,cache:null,transitions:null,pendingSuspenseBoundaries:null},Xo(o),e}function ud(e,t,n){var r=3<arguments.length&&arguments[3]!==void 0?arguments[3]:null;return{$$typeof:ke,key:r==null?null:""+r,children:e,containerInfo:t,implementation:n}}function Ua(e){if(!e)return Ut;e=e._reactInternals;e:{if(qt(e)!==e||e.tag!==1)throw Error(s(170));var t=e;do{switch(t.tag){case 3:t=t.stateNode.context;break e;case 1:if(Ge(t.type)){t=t.stateNode.__reactInternalMemoizedMergedChildContext;break e}}t=t.return}while(t!==null);throw Error(s(171))}if(e.tag===1){var n=e.type;if(Ge(n))return ps(e,n,t)}return t}function Ba(e,t,n,r,l,o,i,a,f){return e=Ai(n,r,!0,e,l,o,i,a,f),e.context=Ua(null),n=e.current,r=Ve(),l=Qt(n),o=jt(r,l),o.callback=t??null,Wt(n,o,l),e.current.lanes=l,Qn(e,l,r),Xe(e,r),e}function Dl(e,t,n,r){var l=t.current,o=Ve(),i=Qt(l);return n=Ua(n),t.context===null?t.context=n:t.pendingContext=n,t=jt(o,i),t.payload={element:e},r=r===void 0?null:r,r!==null&&(t.callback=r),e=Wt(l,t,i),e!==null&&(yt(e,l,i,o),cl(e,l,i)),i}function zl(e){if(e=e.current,!e.child)return null;switch(e.child.tag){case 5:return e.child.stateNode;default:return e.child.stateNode}}function Va(e,t){if(e=e.memoizedState,e!==null&&e.dehydrated!==null){var n=e.retryLane;e.retryLane=n!==0&&n<t?n:t}}function Fi(e,t){Va(e,t),(e=e.alternate)&&Va(e,t)}function sd(){return null}var Wa=typeof reportError=="function"?reportError:function(e){console.error(e)};function Ui(e){this._internalRoot=e}Ll.prototype.render=Ui.prototype.render=function(e){var t=this._internalRoot;if(t===null)throw Error(s(409));Dl(e,t,null,null)},Ll.prototype.unmount=Ui.prototype.unmount=function(){var e=this._internalRoot;if(e!==null){this._internalRoot=null;var t=e.containerInfo;un(function(){Dl(null,e,null,null)}),t[Nt]=null}};function Ll(e){this._internalRoot=e}Ll.prototype.unstable_scheduleHydration=function(e){if(e){var t=Cu();e={blockedOn:null,target:e,priority:t};for(var n=0;n<zt.length&&t!==0&&t<zt[n].priority;n++);zt.splice(n,0,e),n===0&&ju(e)}};function Bi(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11)}function Ml(e){return!(!e||e.nodeType!==1&&e.nodeType!==9&&e.nodeType!==11&&(e.nodeType!==8||e.nodeValue!==" react-mount-point-unstable "))}function Ka(){}function ad(e,t,n,r,l){if(l){if(typeof r=="function"){var o=r;r=function(){var w=zl(i);o.call(w)}}var i=Ba(t,r,e,0,null,!1,!1,"",Ka);return e._reactRootContainer=i,e[Nt]=i.current,ir(e.nodeType===8?e.parentNode:e),un(),i}for(;l=e.lastChild;)e.removeChild(l);if(typeof r=="function"){var a=r;r=function(){var w=zl(f);a.call(w)}}var f=Ai(e,0,!1,null,null,!1,!1,"",Ka);return e._reactRootContainer=f,e[Nt]=f.current,ir(e.nodeType===8?e.parentNode:e),un(function(){Dl(t,f,n,r)}),f}function Al(e,t,n,r,l){var o=n._reactRootContainer;if(o){var i=o;if(typeof l=="function"){var a=l;l=function(){var f=zl(i);a.call(f)}}Dl(t,i,e,l)}else i=ad(n,t,e,l,r);return zl(i)}Nu=function(e){switch(e.tag){case 3:var t=e.stateNode;if(t.current.memoizedState.isDehydrated){var n=Hn(t.pendingLanes);n!==0&&(ao(t,n|1),Xe(t,ge()),(ee&6)===0&&(Ln=ge()+500,Bt()))}break;case 13:un(function(){var r=_t(e,1);if(r!==null){var l=Ve();yt(r,e,1,l)}}),Fi(e,1)}},co=function(e){if(e.tag===13){var t=_t(e,134217728);if(t!==null){var n=Ve();yt(t,e,134217728,n)}Fi(e,134217728)}},Eu=function(e){if(e.tag===13){var t=Qt(e),n=_t(e,t);if(n!==null){var r=Ve();yt(n,e,t,r)}Fi(e,t)}},Cu=function(){return ne},Pu=function(e,t){var n=ne;try{return ne=e,t()}finally{ne=n}},no=function(e,t,n){switch(t){case"input":if(Yl(e,n),t=n.name,n.type==="radio"&&t!=null){for(n=e;n.parentNode;)n=n.parentNode;for(n=n.querySelectorAll("input[name="+JSON.stringify(""+t)+'][type="radio"]'),t=0;t<n.length;t++){var r=n[t];if(r!==e&&r.form===e.form){var l=el(r);if(!l)throw Error(s(90));Xi(r),Yl(r,l)}}}break;case"textarea":tu(e,n);break;case"select":t=n.value,t!=null&&dn(e,!!n.multiple,t,!1)}},cu=Oi,fu=un;var cd={usingClientEntryPoint:!1,Events:[ar,xn,el,su,au,Oi]},Nr={findFiberByHostInstance:Zt,bundleType:0,version:"18.3.1",rendererPackageName:"react-dom"},fd={bundleType:Nr.bundleType,version:Nr.version,rendererPackageName:Nr.rendererPackageName,rendererConfig:Nr.rendererConfig,overrideHookState:null,overrideHookStateDeletePath:null,overrideHookStateRenamePath:null,overrideProps:null,overridePropsDeletePath:null,overridePropsRenamePath:null,setErrorHandler:null,setSuspenseHandler:null,scheduleUpdate:null,currentDispatcherRef:oe.ReactCurrentDispatcher,findHostInstanceByFiber:function(e){return e=hu(e),e===null?null:e.stateNode},findFiberByHostInstance:Nr.findFiberByHostInstance||sd,findHostInstancesForRefresh:null,scheduleRefresh:null,scheduleRoot:null,setRefreshHandler:null,getCurrentFiber:null,reconcilerVersion:"18.3.1-next-f1338f8080-20240426"};if(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__<"u"){var Fl=__REACT_DEVTOOLS_GLOBAL_HOOK__;if(!Fl.isDisabled&&Fl.supportsFiber)try{Lr=Fl.inject(fd),gt=Fl}catch{}}return qe.__SECRET_INTERNALS_DO_NOT_USE_OR_YOU_WILL_BE_FIRED=cd,qe.createPortal=function(e,t){var n=2<arguments.length&&arguments[2]!==void 0?arguments[2]:null;if(!Bi(t))throw Error(s(200));return ud(e,t,null,n)},qe.createRoot=function(e,t){if(!Bi(e))throw Error(s(299));var n=!1,r="",l=Wa;return t!=null&&(t.unstable_strictMode===!0&&(n=!0),t.identifierPrefix!==void 0&&(r=t.identifierPrefix),t.onRecoverableError!==void 0&&(l=t.onRecoverableError)),t=Ai(e,1,!1,null,null,n,!1,r,l),e[Nt]=t.current,ir(e.nodeType===8?e.parentNode:e),new Ui(t)},qe.findDOMNode=function(e){if(e==null)return null;if(e.nodeType===1)return e;var t=e._reactInternals;if(t===void 0)throw typeof e.render=="function"?Error(s(188)):(e=Object.keys(e).join(","),Error(s(268,e)));return e=hu(t),e=e===null?null:e.stateNode,e},qe.flushSync=function(e){return un(e)},qe.hydrate=function(e,t,n){if(!Ml(t))throw Error(s(200));return Al(null,e,t,!0,n)},qe.hydrateRoot=function(e,t,n){if(!Bi(e))throw Error(s(405));var r=n!=null&&n.hydratedSources||null,l=!1,o="",i=Wa;if(n!=null&&(n.unstable_strictMode===!0&&(l=!0),n.identifierPrefix!==void 0&&(o=n.identifierPrefix),n.onRecoverableError!==void 0&&(i=n.onRecoverableError)),t=Ba(t,null,e,1,n??null,l,!1,o,i),e[Nt]=t.current,ir(e),r)for(e=0;e<r.length;e++)n=r[e],l=n._getVersion,l=l(n._source),t.mutableSourceEagerHydrationData==null?t.mutableSourceEagerHydrationData=[n,l]:t.mutableSourceEagerHydrationData.push(n,l);return new Ll(t)},qe.render=function(e,t,n){if(!Ml(t))throw Error(s(200));return Al(null,e,t,!1,n)},qe.unmountComponentAtNode=function(e){if(!Ml(e))throw Error(s(40));return e._reactRootContainer?(un(function(){Al(null,null,e,!1,function(){e._reactRootContainer=null,e[Nt]=null})}),!0):!1},qe.unstable_batchedUpdates=Oi,qe.unstable_renderSubtreeIntoContainer=function(e,t,n,r){if(!Ml(n))throw Error(s(200));if(e==null||e._reactInternals===void 0)throw Error(s(38));return Al(e,t,n,!1,r)},qe.version="18.3.1-next-f1338f8080-20240426",qe}var qa;function Sd(){if(qa)return Ki.exports;qa=1;function u(){if(!(typeof __REACT_DEVTOOLS_GLOBAL_HOOK__>"u"||typeof __REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE!="function"))try{__REACT_DEVTOOLS_GLOBAL_HOOK__.checkDCE(u)}catch(c){console.error(c)}}return u(),Ki.exports=wd(),Ki.exports}var Za;function kd(){if(Za)return Ul;Za=1;var u=Sd();return Ul.createRoot=u.createRoot,Ul.hydrateRoot=u.hydrateRoot,Ul}var xd=kd();const Qi={ko:{name:"한국어",flag:"[KR]"},en:{name:"English",flag:"[US]"},ja:{name:"日本語",flag:"[JP]"},zh:{name:"中文",flag:"[CN]"},es:{name:"Español",flag:"[ES]"},fr:{name:"Français",flag:"[FR]"},de:{name:"Deutsch",flag:"[DE]"},ru:{name:"Русский",flag:"[RU]"},ar:{name:"العربية",flag:"[SA]"},th:{name:"ไทย",flag:"[TH]"},vi:{name:"Tiếng Việt",flag:"[VN]"}},lc={US:"US",JP:"JP",CN:"CN",ES:"ES",FR:"FR",DE:"DE",KR:"KR",GB:"GB",IT:"IT",RU:"RU",AE:"AE",TH:"TH",VN:"VN",CA:"CA",AU:"AU",NZ:"NZ"},Fn=({isOpen:u,onClose:c,children:s,className:v=""})=>u?d.jsx("div",{className:"modal-overlay",onClick:c,children:d.jsx("div",{className:`modal-content ${v}`,onClick:g=>g.stopPropagation(),children:s})}):null,Nd=({selectedLang:u,onLanguageChange:c})=>{const[s,v]=G.useState(!1);return d.jsxs(d.Fragment,{children:[d.jsx("div",{className:"language-selector",children:d.jsxs("button",{className:"current-lang-btn",onClick:()=>v(!0),children:[Qi[u].flag," ",Qi[u].name," ▼"]})}),d.jsxs(Fn,{isOpen:s,onClose:()=>v(!1),className:"lang-modal",children:[d.jsxs("div",{className:"modal-header",children:[d.jsx("h3",{children:"언어 선택 / Select Language"}),d.jsx("button",{className:"close-btn",onClick:()=>v(!1),children:"×"})]}),d.jsx("div",{className:"lang-grid",children:Object.entries(Qi).map(([g,S])=>d.jsxs("button",{className:`lang-option ${u===g?"active":""}`,onClick:()=>{c(g),v(!1)},children:[d.jsx("span",{className:"lang-flag",children:S.flag}),d.jsx("span",{className:"lang-name",children:S.name})]},g))})]})]})},Gi=u=>lc[u]||"[??]",Hl=(u,c)=>{const s=`name${c.charAt(0).toUpperCase()+c.slice(1)}`;return u[s]||u.name},Ed=(u,c)=>{const s=`description${c.charAt(0).toUpperCase()+c.slice(1)}`;return u[s]||u.description},oc=(u,c,s)=>!u||!u.text?"":s==="original"?u.countryCode==="KR"?u.text.ko:u.text.en:u.text[c]||u.text.en||u.text.ko||"",An=(u,c)=>c==="ko"?`${u.toLocaleString()}원`:`₩${u.toLocaleString()}`,Cd=(u,c)=>c==="all"?u:u.filter(s=>s.countryCode===c),Pd=(u,c)=>{const s={US:"United States",KR:"South Korea",IT:"Italy",CA:"Canada",JP:"Japan",AU:"Australia",GB:"United Kingdom",FR:"France",NZ:"New Zealand",CN:"China"},v=u.map(g=>({code:g.countryCode,name:s[g.countryCode]||g.countryCode,flag:c(g.countryCode)}));return[...new Map(v.map(g=>[g.code,g])).values()]},_d=({item:u,selectedLang:c,reviewViewMode:s,cart:v,onAddToCart:g,onRemoveFromCart:S,onShowReviews:j})=>{var _,P;return d.jsxs("div",{className:"menu-item",children:[d.jsxs("div",{className:"item-info",onClick:()=>g(u),children:[d.jsx("div",{className:"item-name",children:Hl(u,c)}),d.jsx("div",{className:"item-description",children:Ed(u,c)}),d.jsx("div",{className:"item-price",children:An(u.price,c)})]}),d.jsxs("div",{className:"reviews-preview",children:[d.jsxs("div",{className:"rating",children:[d.jsx("span",{className:"stars",children:"*".repeat(Math.floor(u.rating))}),d.jsxs("span",{className:"rating-text",children:[u.rating," (",u.reviewCount," reviews)"]}),d.jsx("button",{className:"view-reviews-btn",onClick:()=>j(u),children:"View All"})]}),d.jsxs("div",{className:"review-snippet",children:[d.jsxs("span",{className:"review-flag",children:["[",Gi((_=u.reviews[0])==null?void 0:_.countryCode),"]"]}),'"',oc(u.reviews[0],c,s),'" - ',(P=u.reviews[0])==null?void 0:P.user]})]}),v[u.id]&&d.jsxs("div",{className:"cart-controls",children:[d.jsx("button",{onClick:()=>S(u.id),children:"-"}),d.jsx("span",{children:v[u.id]}),d.jsx("button",{onClick:()=>g(u),children:"+"})]})]})},jd=({category:u,items:c,selectedLang:s,cart:v,onAddToCart:g,onRemoveFromCart:S,onShowReviews:j})=>d.jsxs("section",{className:"menu-section",children:[d.jsx("h2",{className:"section-title",children:u}),c.map(_=>d.jsx(_d,{item:_,selectedLang:s,reviewViewMode:"translated",cart:v,onAddToCart:g,onRemoveFromCart:S,onShowReviews:j},_.id))]}),Rd=({cart:u,getAllItems:c,selectedLang:s,onAddToCart:v,onRemoveFromCart:g,onBackToMenu:S,onPaymentClick:j,getTotalPrice:_})=>d.jsxs("div",{className:"order-page",children:[d.jsxs("header",{className:"header",children:[d.jsx("button",{className:"back-btn",onClick:S,children:"← Back"}),d.jsx("h1",{children:"Order Summary"})]}),d.jsx("div",{className:"order-items",children:Object.entries(u).map(([P,O])=>{const T=c().find(B=>B.id===parseInt(P));return d.jsxs("div",{className:"order-item",children:[d.jsxs("div",{className:"item-info",children:[d.jsx("div",{className:"item-name",children:Hl(T,s)}),d.jsx("div",{className:"item-price",children:An(T.price,s)})]}),d.jsxs("div",{className:"quantity-controls",children:[d.jsx("button",{onClick:()=>g(parseInt(P)),children:"-"}),d.jsx("span",{children:O}),d.jsx("button",{onClick:()=>v(T),children:"+"})]})]},P)})}),d.jsxs("div",{className:"payment-section",children:[d.jsxs("div",{className:"total",children:["Total: ",An(_(),s)]}),d.jsx("button",{className:"payment-btn",onClick:j,children:"결제하기"})]})]}),Td=({item:u,selectedLang:c,isOpen:s,onClose:v})=>{const[g,S]=G.useState("translated"),[j,_]=G.useState("all");if(!u)return null;const P=Cd(u.reviews,j),O=Pd(u.reviews,Gi);return d.jsxs(Fn,{isOpen:s,onClose:v,className:"reviews-modal",children:[d.jsxs("div",{className:"modal-header",children:[d.jsxs("h3",{children:[Hl(u,c)," Reviews"]}),d.jsx("button",{className:"close-btn",onClick:v,children:"×"})]}),d.jsxs("div",{className:"review-controls",children:[d.jsxs("div",{className:"view-mode-controls",children:[d.jsx("button",{className:`mode-btn ${g==="translated"?"active":""}`,onClick:()=>S("translated"),children:"번역본"}),d.jsx("button",{className:`mode-btn ${g==="original"?"active":""}`,onClick:()=>S("original"),children:"원문"})]}),d.jsx("div",{className:"country-filter",children:d.jsxs("select",{value:j,onChange:T=>_(T.target.value),className:"country-select",children:[d.jsx("option",{value:"all",children:"All Countries"}),O.map(T=>d.jsxs("option",{value:T.code,children:["[",T.flag,"] ",T.name]},T.code))]})})]}),d.jsx("div",{className:"reviews-list",children:P.map((T,B)=>d.jsxs("div",{className:"review-item",children:[d.jsxs("div",{className:"review-header",children:[d.jsxs("span",{className:"review-user",children:[d.jsxs("span",{className:"review-flag",children:["[",Gi(T.countryCode),"]"]}),T.user]}),d.jsxs("span",{className:"review-country",children:["(",T.countryCode,")"]})]}),d.jsxs("div",{className:"review-text",children:['"',oc(T,c,g),'"']}),g==="translated"&&c!==(T.countryCode==="KR"?"ko":"en")&&d.jsxs("div",{className:"original-text",children:['원문: "',T.countryCode==="KR"?T.text.ko:T.text.en,'"']})]},B))})]})},Od=({orderedItems:u,selectedLang:c,onSubmitReview:s,onSkip:v})=>{var J;const[g,S]=G.useState(((J=u[0])==null?void 0:J.id)||""),[j,_]=G.useState(""),[P,O]=G.useState("KR"),[T,B]=G.useState(""),[H,re]=G.useState(5),le=F=>{F.preventDefault();const he={itemId:g,user:j,countryCode:P,text:{[c]:T},rating:H,date:new Date().toISOString()};s(he)};return d.jsxs("div",{className:"write-review-page",children:[d.jsxs("div",{className:"page-header",children:[d.jsx("h2",{children:c==="ko"?"리뷰 작성하기":"Write a Review"}),d.jsx("p",{className:"subtitle",children:c==="ko"?"맛있게 드셨나요? 다른 고객님들을 위해 리뷰를 남겨주세요!":"Did you enjoy your meal? Leave a review for other customers!"})]}),d.jsxs("form",{onSubmit:le,className:"review-form",children:[d.jsxs("div",{className:"form-group",children:[d.jsx("label",{children:c==="ko"?"어떤 메뉴를 평가하시겠습니까?":"Which item would you like to review?"}),d.jsx("select",{value:g,onChange:F=>S(F.target.value),className:"item-select",required:!0,children:u.map(F=>d.jsxs("option",{value:F.id,children:[Hl(F,c)," - ",An(F.price,c)]},F.id))})]}),d.jsxs("div",{className:"form-row",children:[d.jsxs("div",{className:"form-group",children:[d.jsx("label",{children:c==="ko"?"이름":"Name"}),d.jsx("input",{type:"text",value:j,onChange:F=>_(F.target.value),placeholder:c==="ko"?"홍길동":"John Doe",required:!0})]}),d.jsxs("div",{className:"form-group",children:[d.jsx("label",{children:c==="ko"?"국가":"Country"}),d.jsx("select",{value:P,onChange:F=>O(F.target.value),className:"country-select",required:!0,children:Object.entries(lc).map(([F,he])=>d.jsxs("option",{value:F,children:["[",he,"] ",F]},F))})]})]}),d.jsxs("div",{className:"form-group",children:[d.jsx("label",{children:c==="ko"?"평점":"Rating"}),d.jsxs("div",{className:"rating-selector",children:[[1,2,3,4,5].map(F=>d.jsx("button",{type:"button",className:`star-btn ${F<=H?"active":""}`,onClick:()=>re(F),children:"★"},F)),d.jsxs("span",{className:"rating-text",children:[H,".0"]})]})]}),d.jsxs("div",{className:"form-group",children:[d.jsx("label",{children:c==="ko"?"리뷰 내용":"Review"}),d.jsx("textarea",{value:T,onChange:F=>B(F.target.value),placeholder:c==="ko"?"음식은 어떠셨나요? 다른 고객님들께 도움이 될 수 있도록 솔직한 리뷰를 남겨주세요.":"How was your food? Please leave an honest review to help other customers.",rows:5,required:!0})]}),d.jsxs("div",{className:"form-actions",children:[d.jsx("button",{type:"submit",className:"submit-btn",children:c==="ko"?"리뷰 작성 완료":"Submit Review"}),d.jsx("button",{type:"button",onClick:v,className:"skip-btn",children:c==="ko"?"건너뛰기":"Skip"})]})]})]})},Id=({isOpen:u,onAllow:c,onDeny:s,selectedLang:v})=>{const[g,S]=G.useState(!1),j=async()=>{S(!0);try{await c()}finally{S(!1)}},_={ko:{title:"🔔 알림 허용",subtitle:"더 나은 서비스를 위해 알림을 허용해 주세요",benefits:["주문 완료 후 리뷰 작성 안내","특별 할인 및 이벤트 알림","새로운 메뉴 출시 소식"],allowBtn:"알림 허용",denyBtn:"나중에",note:"설정에서 언제든지 변경할 수 있습니다."},en:{title:"🔔 Enable Notifications",subtitle:"Allow notifications for better service",benefits:["Review reminders after orders","Special discounts and events","New menu announcements"],allowBtn:"Allow Notifications",denyBtn:"Maybe Later",note:"You can change this in settings anytime."}},P=_[v]||_.ko;return d.jsx(Fn,{isOpen:u,onClose:s,className:"notification-permission-modal",children:d.jsxs("div",{className:"permission-content",children:[d.jsxs("div",{className:"permission-header",children:[d.jsx("h3",{children:P.title}),d.jsx("p",{className:"permission-subtitle",children:P.subtitle})]}),d.jsx("div",{className:"permission-benefits",children:d.jsx("ul",{children:P.benefits.map((O,T)=>d.jsxs("li",{children:[d.jsx("span",{className:"benefit-icon",children:"✓"}),O]},T))})}),d.jsxs("div",{className:"permission-actions",children:[d.jsx("button",{onClick:j,className:"allow-btn",disabled:g,children:g?"처리 중...":P.allowBtn}),d.jsx("button",{onClick:s,className:"deny-btn",children:P.denyBtn})]}),d.jsx("p",{className:"permission-note",children:P.note})]})})},Dd=({isOpen:u,onClose:c,onTossPayment:s,onPayPalPayment:v})=>d.jsxs(Fn,{isOpen:u,onClose:c,className:"payment-modal",children:[d.jsxs("div",{className:"modal-header",children:[d.jsx("h3",{children:"결제 방법 선택"}),d.jsx("button",{className:"close-btn",onClick:c,children:"×"})]}),d.jsxs("div",{className:"payment-methods",children:[d.jsxs("button",{className:"payment-method toss-official",onClick:s,children:[d.jsx("div",{className:"toss-official-logo",children:"toss"}),d.jsxs("div",{className:"payment-info",children:[d.jsx("div",{className:"payment-name",children:"토스페이"}),d.jsx("div",{className:"payment-desc",children:"간편하고 안전한 결제"})]})]}),d.jsxs("button",{className:"payment-method paypal-official",onClick:v,children:[d.jsxs("div",{className:"paypal-official-logo",children:[d.jsx("span",{className:"paypal-blue",children:"Pay"}),d.jsx("span",{className:"paypal-blue-light",children:"Pal"})]}),d.jsxs("div",{className:"payment-info",children:[d.jsx("div",{className:"payment-name",children:"PayPal"}),d.jsx("div",{className:"payment-desc",children:"Safe & Secure Payment"})]})]})]})]});function ic(u,c){if(!(u instanceof c))throw new TypeError("Cannot call a class as a function")}function uc(u,c){if(typeof c!="function"&&c!==null)throw new TypeError("Super expression must either be null or a function");u.prototype=Object.create(c&&c.prototype,{constructor:{value:u,writable:!0,configurable:!0}}),c&&_r(u,c)}function Pr(u){return Pr=Object.setPrototypeOf?Object.getPrototypeOf:function(s){return s.__proto__||Object.getPrototypeOf(s)},Pr(u)}function _r(u,c){return _r=Object.setPrototypeOf||function(v,g){return v.__proto__=g,v},_r(u,c)}function sc(){if(typeof Reflect>"u"||!Reflect.construct||Reflect.construct.sham)return!1;if(typeof Proxy=="function")return!0;try{return Boolean.prototype.valueOf.call(Reflect.construct(Boolean,[],function(){})),!0}catch{return!1}}function Kl(u,c,s){return sc()?Kl=Reflect.construct:Kl=function(g,S,j){var _=[null];_.push.apply(_,S);var P=Function.bind.apply(g,_),O=new P;return j&&_r(O,j.prototype),O},Kl.apply(null,arguments)}function zd(u){return Function.toString.call(u).indexOf("[native code]")!==-1}function $l(u){var c=typeof Map=="function"?new Map:void 0;return $l=function(v){if(v===null||!zd(v))return v;if(typeof v!="function")throw new TypeError("Super expression must either be null or a function");if(typeof c<"u"){if(c.has(v))return c.get(v);c.set(v,g)}function g(){return Kl(v,arguments,Pr(this).constructor)}return g.prototype=Object.create(v.prototype,{constructor:{value:g,enumerable:!1,writable:!0,configurable:!0}}),_r(g,v)},$l(u)}function Ld(u){if(u===void 0)throw new ReferenceError("this hasn't been initialised - super() hasn't been called");return u}function Md(u,c){if(c&&(typeof c=="object"||typeof c=="function"))return c;if(c!==void 0)throw new TypeError("Derived constructors may only return object or undefined");return Ld(u)}function ac(u){var c=sc();return function(){var v=Pr(u),g;if(c){var S=Pr(this).constructor;g=Reflect.construct(v,arguments,S)}else g=v.apply(this,arguments);return Md(this,g)}}var Cr=null;function Ad(u,c){var s=arguments.length>2&&arguments[2]!==void 0?arguments[2]:{};if(Cr!=null)return Cr;var v=new Promise(function(g,S){try{var j=function(){Bl(c)!=null?g(Bl(c)):S(new Fd(c))},_=function(){S(new Ud(u))};if(typeof window>"u"||typeof document>"u")return g(null);if(Bl(c)!=null)return g(Bl(c));var P=document.querySelector('script[src="'.concat(u,'"]'));if(P!=null){var O;P.removeEventListener("load",j),P.removeEventListener("error",_),(O=P.parentElement)===null||O===void 0||O.removeChild(P)}var T=document.createElement("script");T.src=u,T.addEventListener("load",j),T.addEventListener("error",_),s.priority!=null&&(T.fetchPriority=s.priority),document.head.appendChild(T)}catch(B){S(B);return}});return Cr=v.catch(function(g){return Cr=null,Promise.reject(g)}),Cr}function Bl(u){return window[u]}var Fd=function(u){uc(s,u);var c=ac(s);function s(v){var g;return ic(this,s),g=c.call(this,"[TossPayments SDK] ".concat(v," is not available")),g.name="NamespaceNotAvailableError",g}return s}($l(Error)),Ud=function(u){uc(s,u);var c=ac(s);function s(v){var g;return ic(this,s),g=c.call(this,"[TossPayments SDK] Failed to load script: [".concat(v,"]")),g.name="ScriptLoadFailedError",g}return s}($l(Error)),Bd="https://js.tosspayments.com/v1";function Vd(u){var c=arguments.length>1&&arguments[1]!==void 0?arguments[1]:{},s=c.src,v=s===void 0?Bd:s;return typeof window>"u"?Promise.resolve({requestPayment:function(){throw new Error("[TossPayments SDK] It looks like runtime is not from browser. This method is only executable on browser.")},requestBillingAuth:function(){throw new Error("[TossPayments SDK] It looks like runtime is not from browser. This method is only executable on browser.")},cancelPayment:function(){throw new Error("[TossPayments SDK] It looks like runtime is not from browser. This method is only executable on browser.")}}):Ad(v,"TossPayments").then(function(g){return g(u)})}const Wd=({isOpen:u,totalPrice:c,selectedLang:s,onPaymentComplete:v,onPaymentError:g})=>{const[S,j]=G.useState("confirm"),[_,P]=G.useState(3),[O,T]=G.useState(null);G.useEffect(()=>{if(S==="processing"&&_>0){console.log(`⏰ 토스 결제 카운트다운: ${_}초 남음`);const H=setTimeout(()=>P(_-1),1e3);return()=>clearTimeout(H)}else if(S==="processing"&&_===0){console.log("✅ 토스 결제 완료, onPaymentComplete 호출");const H={status:"success",message:"토스페이 결제 완료",orderId:"toss_order_"+Date.now(),totalPrice:c};console.log("📤 전달할 결제 정보:",H),v(H)}},[S,_,v,c]),G.useEffect(()=>{u&&!O&&Vd("test_ck_D5GePWvyJnrK0W0k6q8gLzN97Eoq").then(T).catch(console.error)},[u]),G.useEffect(()=>{u&&(j("confirm"),P(3))},[u]);const B=async()=>{if(!O){j("processing"),P(3);return}j("api-call");try{await O.requestPayment("카드",{amount:c,orderId:"order_"+Date.now(),orderName:"한옥마을 전통 맛집",customerName:"고객",customerEmail:"customer@example.com",successUrl:window.location.origin+"/payment/success",failUrl:window.location.origin+"/payment/fail"})}catch(H){console.error("결제 요청 실패:",H),H.code==="USER_CANCEL"?g&&g("결제가 취소되었습니다."):(console.log("테스트 환경: 에러 발생했지만 성공으로 처리"),setTimeout(()=>{v({status:"success",message:"테스트 결제 완료 (에러 발생했지만 성공처리)",orderId:"test_order_"+Date.now(),totalPrice:c})},1e3))}};return u?d.jsx(Fn,{isOpen:u,onClose:()=>{},className:"toss-widget",children:d.jsxs("div",{className:"toss-payment-container",children:[d.jsx("div",{className:"toss-header",children:d.jsx("div",{className:"toss-logo",children:"토스페이"})}),S==="confirm"&&d.jsxs("div",{className:"toss-confirm-step",children:[d.jsxs("div",{className:"payment-info",children:[d.jsx("div",{className:"merchant-name",children:"한옥마을 전통 맛집"}),d.jsx("div",{className:"payment-amount-large",children:An(c,s)})]}),d.jsxs("div",{className:"payment-method-selected",children:[d.jsx("div",{className:"method-icon",children:"TOSS"}),d.jsxs("div",{className:"method-info",children:[d.jsx("div",{className:"method-name",children:"토스페이 간편결제"}),d.jsx("div",{className:"method-detail",children:"모바일 최적화"})]})]}),d.jsx("button",{className:"toss-confirm-btn",onClick:B,children:"결제하기"})]}),S==="api-call"&&d.jsxs("div",{className:"toss-processing-step",children:[d.jsx("div",{className:"processing-text",children:"결제창 열기 중..."}),d.jsx("div",{className:"processing-detail",children:"팝업 창에서 결제를 진행하세요"})]}),S==="processing"&&d.jsxs("div",{className:"toss-processing-step",children:[d.jsx("div",{className:"processing-text",children:"결제 진행 중..."}),d.jsx("div",{className:"processing-detail",children:_>0?`${_}초 후 완료`:"완료 중..."})]})]})}):null};/*!
- * react-paypal-js v8.8.3 (2025-04-11T19:50:46.506Z)
- * Copyright 2020-present, PayPal, Inc. All rights reserved.
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * https://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing, software
- * distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and
- * limitations under the License.
- */var Ze;(function(u){u.INITIAL="initial",u.PENDING="pending",u.REJECTED="rejected",u.RESOLVED="resolved"})(Ze||(Ze={}));var Xt;(function(u){u.LOADING_STATUS="setLoadingStatus",u.RESET_OPTIONS="resetOptions",u.SET_BRAINTREE_INSTANCE="braintreeInstance"})(Xt||(Xt={}));var ba;(function(u){u.NUMBER="number",u.CVV="cvv",u.EXPIRATION_DATE="expirationDate",u.EXPIRATION_MONTH="expirationMonth",u.EXPIRATION_YEAR="expirationYear",u.POSTAL_CODE="postalCode"})(ba||(ba={}));var Ne=function(){return Ne=Object.assign||function(c){for(var s,v=1,g=arguments.length;v<g;v++){s=arguments[v];for(var S in s)Object.prototype.hasOwnProperty.call(s,S)&&(c[S]=s[S])}return c},Ne.apply(this,arguments)};function cc(u,c){var s={};for(var v in u)Object.prototype.hasOwnProperty.call(u,v)&&c.indexOf(v)<0&&(s[v]=u[v]);if(u!=null&&typeof Object.getOwnPropertySymbols=="function")for(var g=0,v=Object.getOwnPropertySymbols(u);g<v.length;g++)c.indexOf(v[g])<0&&Object.prototype.propertyIsEnumerable.call(u,v[g])&&(s[v[g]]=u[v[g]]);return s}function ec(u,c,s){if(s||arguments.length===2)for(var v=0,g=c.length,S;v<g;v++)(S||!(v in c))&&(S||(S=Array.prototype.slice.call(c,0,v)),S[v]=c[v]);return u.concat(S||Array.prototype.slice.call(c))}var jr="data-react-paypal-script-id",fn={DATA_JS_SDK_LIBRARY:"dataJsSdkLibrary",DATA_LIBRARY_VALUE:"react-paypal-js",DATA_NAMESPACE:"dataNamespace",DATA_SDK_INTEGRATION_SOURCE:"dataSdkIntegrationSource"},Kd="Failed to load the PayPal JS SDK script.",fc="paypal",$d="usePayPalScriptReducer must be used within a PayPalScriptProvider";function Hd(u){return u===void 0&&(u=fc),window[u]}function Qd(u){for(var c="",s=0;s<u.length;s++){var v=u[s].charCodeAt(0)*s;u[s+1]&&(v+=u[s+1].charCodeAt(0)*(s-1)),c+=String.fromCharCode(97+Math.abs(v)%26)}return c}function Gd(u){var c=u.reactComponentName,s=u.sdkComponentKey,v=u.sdkRequestedComponents,g=v===void 0?"":v,S=u.sdkDataNamespace,j=S===void 0?fc:S,_=s.charAt(0).toUpperCase().concat(s.substring(1)),P="Unable to render <".concat(c," /> because window.").concat(j,".").concat(_," is undefined."),O=typeof g=="string"?g:g.join(",");if(!O.includes(s)){var T=[O,s].filter(Boolean).join();P+=`
-To fix the issue, add '`.concat(s,"' to the list of components passed to the parent PayPalScriptProvider:")+"\n`<PayPalScriptProvider options={{ components: '".concat(T,"'}}>`.")}return P}function dc(u){var c=u,s=jr;c[s];var v=cc(c,[s+""]);return"react-paypal-js-".concat(Qd(JSON.stringify(v)))}function Yd(u){var c=self.document.querySelector("script[".concat(jr,'="').concat(u,'"]'));c!=null&&c.parentNode&&c.parentNode.removeChild(c)}function Jd(u,c){var s,v;switch(c.type){case Xt.LOADING_STATUS:return typeof c.value=="object"?Ne(Ne({},u),{loadingStatus:c.value.state,loadingStatusErrorMessage:c.value.message}):Ne(Ne({},u),{loadingStatus:c.value});case Xt.RESET_OPTIONS:return Yd(u.options[jr]),Ne(Ne({},u),{loadingStatus:Ze.PENDING,options:Ne(Ne((s={},s[fn.DATA_SDK_INTEGRATION_SOURCE]=fn.DATA_LIBRARY_VALUE,s),c.value),(v={},v[jr]="".concat(dc(c.value)),v))});case Xt.SET_BRAINTREE_INSTANCE:return Ne(Ne({},u),{braintreePayPalCheckoutInstance:c.value});default:return u}}var pc=G.createContext(null);function Xd(u){if(typeof(u==null?void 0:u.dispatch)=="function"&&u.dispatch.length!==0)return u;throw new Error($d)}function qd(){var u=Xd(G.useContext(pc)),c=Ne(Ne({},u),{isInitial:u.loadingStatus===Ze.INITIAL,isPending:u.loadingStatus===Ze.PENDING,isResolved:u.loadingStatus===Ze.RESOLVED,isRejected:u.loadingStatus===Ze.REJECTED});return[c,u.dispatch]}G.createContext({});function Zd(u){var c=G.useRef(new Proxy({},{get:function(s,v,g){return typeof s[v]=="function"?function(){for(var S=[],j=0;j<arguments.length;j++)S[j]=arguments[j];return s[v].apply(s,S)}:Reflect.get(s,v,g)}}));return c.current=Object.assign(c.current,u),c.current}var Ji=function(u){var c,s=u.className,v=s===void 0?"":s,g=u.disabled,S=g===void 0?!1:g,j=u.children,_=u.forceReRender,P=_===void 0?[]:_,O=cc(u,["className","disabled","children","forceReRender"]),T=S?{opacity:.38}:{},B="".concat(v," ").concat(S?"paypal-buttons-disabled":"").trim(),H=G.useRef(null),re=G.useRef(null),le=Zd(O),J=qd()[0],F=J.isResolved,he=J.options,We=G.useState(null),Se=We[0],oe=We[1],Oe=G.useState(!0),ke=Oe[0],Ee=Oe[1],Ce=G.useState(null),Ke=Ce[1];function de(){re.current!==null&&re.current.close().catch(function(){})}return!((c=re.current)===null||c===void 0)&&c.updateProps&&re.current.updateProps({message:O.message}),G.useEffect(function(){if(F===!1)return de;var be=Hd(he.dataNamespace);if(be===void 0||be.Buttons===void 0)return Ke(function(){throw new Error(Gd({reactComponentName:Ji.displayName,sdkComponentKey:"buttons",sdkRequestedComponents:he.components,sdkDataNamespace:he[fn.DATA_NAMESPACE]}))}),de;var $e=function(ye,Le){oe(Le),typeof O.onInit=="function"&&O.onInit(ye,Le)};try{re.current=be.Buttons(Ne(Ne({},le),{onInit:$e}))}catch(ye){return Ke(function(){throw new Error("Failed to render <PayPalButtons /> component. Failed to initialize:  ".concat(ye))})}return re.current.isEligible()===!1?(Ee(!1),de):(H.current&&re.current.render(H.current).catch(function(ye){H.current===null||H.current.children.length===0||Ke(function(){throw new Error("Failed to render <PayPalButtons /> component. ".concat(ye))})}),de)},ec(ec([F],P,!0),[O.fundingSource],!1)),G.useEffect(function(){Se!==null&&(S===!0?Se.disable().catch(function(){}):Se.enable().catch(function(){}))},[S,Se]),Wl.createElement(Wl.Fragment,null,ke?Wl.createElement("div",{ref:H,style:T,className:B}):j)};Ji.displayName="PayPalButtons";function bd(u,c){var s={};for(var v in u)Object.prototype.hasOwnProperty.call(u,v)&&c.indexOf(v)<0&&(s[v]=u[v]);if(u!=null&&typeof Object.getOwnPropertySymbols=="function")for(var g=0,v=Object.getOwnPropertySymbols(u);g<v.length;g++)c.indexOf(v[g])<0&&Object.prototype.propertyIsEnumerable.call(u,v[g])&&(s[v[g]]=u[v[g]]);return s}function ep(u,c){var s=document.querySelector('script[src="'.concat(u,'"]'));if(s===null)return null;var v=mc(u,c),g=s.cloneNode();if(delete g.dataset.uidAuto,Object.keys(g.dataset).length!==Object.keys(v.dataset).length)return null;var S=!0;return Object.keys(g.dataset).forEach(function(j){g.dataset[j]!==v.dataset[j]&&(S=!1)}),S?s:null}function tp(u){var c=u.url,s=u.attributes,v=u.onSuccess,g=u.onError,S=mc(c,s);S.onerror=g,S.onload=v,document.head.insertBefore(S,document.head.firstElementChild)}function np(u){var c=u.sdkBaseUrl,s=u.environment,v=bd(u,["sdkBaseUrl","environment"]),g=c||op(s),S=v,j=Object.keys(S).filter(function(O){return typeof S[O]<"u"&&S[O]!==null&&S[O]!==""}).reduce(function(O,T){var B=S[T].toString();return T=rp(T),T.substring(0,4)==="data"||T==="crossorigin"?O.attributes[T]=B:O.queryParams[T]=B,O},{queryParams:{},attributes:{}}),_=j.queryParams,P=j.attributes;return _["merchant-id"]&&_["merchant-id"].indexOf(",")!==-1&&(P["data-merchant-id"]=_["merchant-id"],_["merchant-id"]="*"),{url:"".concat(g,"?").concat(lp(_)),attributes:P}}function rp(u){var c=function(s,v){return(v?"-":"")+s.toLowerCase()};return u.replace(/[A-Z]+(?![a-z])|[A-Z]/g,c)}function lp(u){var c="";return Object.keys(u).forEach(function(s){c.length!==0&&(c+="&"),c+=s+"="+u[s]}),c}function op(u){return u==="sandbox"?"https://www.sandbox.paypal.com/sdk/js":"https://www.paypal.com/sdk/js"}function mc(u,c){c===void 0&&(c={});var s=document.createElement("script");return s.src=u,Object.keys(c).forEach(function(v){s.setAttribute(v,c[v]),v==="data-csp-nonce"&&s.setAttribute("nonce",c["data-csp-nonce"])}),s}function ip(u,c){if(c===void 0&&(c=Promise),hc(u,c),typeof document>"u")return c.resolve(null);var s=np(u),v=s.url,g=s.attributes,S=g["data-namespace"]||"paypal",j=tc(S);return g["data-js-sdk-library"]||(g["data-js-sdk-library"]="paypal-js"),ep(v,g)&&j?c.resolve(j):up({url:v,attributes:g},c).then(function(){var _=tc(S);if(_)return _;throw new Error("The window.".concat(S," global variable is not available."))})}function up(u,c){c===void 0&&(c=Promise),hc(u,c);var s=u.url,v=u.attributes;if(typeof s!="string"||s.length===0)throw new Error("Invalid url.");if(typeof v<"u"&&typeof v!="object")throw new Error("Expected attributes to be an object.");return new c(function(g,S){if(typeof document>"u")return g();tp({url:s,attributes:v,onSuccess:function(){return g()},onError:function(){var j=new Error('The script "'.concat(s,'" failed to load. Check the HTTP status code and response body in DevTools to learn more.'));return S(j)}})})}function tc(u){return window[u]}function hc(u,c){if(typeof u!="object"||u===null)throw new Error("Expected an options object.");var s=u.environment;if(s&&s!=="production"&&s!=="sandbox")throw new Error('The `environment` option must be either "production" or "sandbox".');if(typeof c<"u"&&typeof c!="function")throw new Error("Expected PromisePonyfill to be a function.")}var sp=function(u){var c,s=u.options,v=s===void 0?{clientId:"test"}:s,g=u.children,S=u.deferLoading,j=S===void 0?!1:S,_=G.useReducer(Jd,{options:Ne(Ne({},v),(c={},c[fn.DATA_JS_SDK_LIBRARY]=fn.DATA_LIBRARY_VALUE,c[fn.DATA_SDK_INTEGRATION_SOURCE]=fn.DATA_LIBRARY_VALUE,c[jr]="".concat(dc(v)),c)),loadingStatus:j?Ze.INITIAL:Ze.PENDING}),P=_[0],O=_[1];return G.useEffect(function(){if(j===!1&&P.loadingStatus===Ze.INITIAL)return O({type:Xt.LOADING_STATUS,value:Ze.PENDING});if(P.loadingStatus===Ze.PENDING){var T=!0;return ip(P.options).then(function(){T&&O({type:Xt.LOADING_STATUS,value:Ze.RESOLVED})}).catch(function(B){console.error("".concat(Kd," ").concat(B)),T&&O({type:Xt.LOADING_STATUS,value:{state:Ze.REJECTED,message:String(B)}})}),function(){T=!1}}},[P.options,j,P.loadingStatus]),Wl.createElement(pc.Provider,{value:Ne(Ne({},P),{dispatch:O})},g)};function nc(){}G.createContext({cardFieldsForm:null,fields:{},registerField:nc,unregisterField:nc});const ap=({isOpen:u,onClose:c,totalPrice:s,onPaymentComplete:v,onPaymentError:g})=>{const[S,j]=G.useState("ready"),[_,P]=G.useState(3),O={"client-id":"AZDxjDScFpQtjWTOUtWKbyN_bDt4OgqaF4eYXlewfBP4-8aqX3PiV8e1GWU6liB2CUXlkA59kJXE7M6R",currency:"USD",intent:"capture",components:"buttons"},T=(le,J)=>(console.log("PayPal 주문 생성 시작"),J.order.create({purchase_units:[{amount:{value:Math.round(s/1300).toString()},description:"한옥마을 전통 맛집 주문"}]})),B=async(le,J)=>{console.log("PayPal 결제 승인:",le),j("processing"),setTimeout(()=>{const F={id:le.orderID,status:"COMPLETED",amount:{value:Math.round(s/1300),currency_code:"USD"},payer:{email_address:"customer@example.com"}};v(F)},3e3)},H=le=>{console.log("PayPal 에러 발생, 성공으로 처리:",le),j("processing"),setTimeout(()=>{v({id:"paypal_fallback_"+Date.now(),status:"COMPLETED",message:"PayPal 결제 완료 (에러 발생했지만 성공처리)"})},2e3)},re=le=>{console.log("PayPal 결제 취소, 성공으로 처리:",le),j("processing"),setTimeout(()=>{v({id:"paypal_cancel_"+Date.now(),status:"COMPLETED",message:"PayPal 결제 완료 (취소했지만 성공처리)"})},1e3)};return u?d.jsx(Fn,{isOpen:u,onClose:c,className:"paypal-widget",children:d.jsxs("div",{className:"paypal-payment-container",children:[d.jsxs("div",{className:"paypal-header",children:[d.jsx("h3",{children:"PayPal 결제"}),d.jsx("button",{className:"close-btn",onClick:c,children:"×"})]}),d.jsxs("div",{className:"payment-amount",children:["$",Math.round(s/1300)," USD",d.jsxs("div",{className:"amount-note",children:["(₩",s.toLocaleString()," 원화 기준 환산)"]})]}),S==="processing"?d.jsxs("div",{className:"paypal-processing",children:[d.jsx("div",{className:"loading-spinner",children:"[...]"}),d.jsx("div",{className:"processing-text",children:"PayPal 결제 처리 중..."}),d.jsx("div",{className:"processing-detail",children:"잠시만 기다려주세요..."})]}):d.jsx("div",{className:"paypal-content",children:d.jsxs(sp,{options:O,onLoadingStart:()=>j("sdk-loading"),onLoadingError:()=>{console.log("PayPal SDK 로드 실패, 성공으로 처리"),j("processing"),setTimeout(()=>{v({id:"paypal_sdk_error_"+Date.now(),status:"COMPLETED",message:"PayPal 결제 완료 (SDK 로드 실패했지만 성공처리)"})},2e3)},children:[d.jsxs("div",{className:"paypal-info",children:[d.jsx("h4",{children:"PayPal 간편결제"}),d.jsx("p",{children:"• PayPal 계정으로 안전하게 결제"}),d.jsx("p",{children:"• 신용카드, 직불카드 사용 가능"}),d.jsx("p",{children:"• 구매자 보호 서비스 제공"})]}),S==="sdk-loading"?d.jsxs("div",{className:"paypal-loading",children:[d.jsx("div",{className:"loading-spinner",children:"[...]"}),d.jsx("div",{children:"PayPal SDK 로딩 중..."})]}):d.jsx("div",{className:"paypal-buttons-container",children:d.jsx(Ji,{style:{layout:"vertical",color:"blue",shape:"rect",height:50,tagline:!1},createOrder:T,onApprove:B,onError:H,onCancel:re,forceReRender:[s]})})]})})]})}):null},cp="BMUlRpAMJy1VfLrmZMvmC8I0JpbVCJoFVBKrGTGWG3dj4xzH9-7ZKJFgBvpvD5pGqc7rZMXLKV0Df3rN8K9Ow7Y";function fp(u){const c="=".repeat((4-u.length%4)%4),s=(u+c).replace(/-/g,"+").replace(/_/g,"/"),v=window.atob(s),g=new Uint8Array(v.length);for(let S=0;S<v.length;++S)g[S]=v.charCodeAt(S);return g}function Ql(){return"serviceWorker"in navigator&&"PushManager"in window}async function dp(){if(!Ql())throw new Error("Push notifications are not supported");try{const u=await navigator.serviceWorker.register("/sw.js");return console.log("Service Worker registered:",u),u}catch(u){throw console.error("Service Worker registration failed:",u),u}}async function pp(){return Ql()?Notification.permission==="granted"?!0:Notification.permission==="denied"?!1:await Notification.requestPermission()==="granted":!1}async function mp(u){try{const c=await u.pushManager.subscribe({userVisibleOnly:!0,applicationServerKey:fp(cp)});return console.log("Push subscription created:",c),c}catch(c){throw console.error("Failed to subscribe to push:",c),c}}async function hp(u,c=null){try{const s={subscription:u,userId:c,timestamp:new Date().toISOString()};return localStorage.setItem("pushSubscription",JSON.stringify(s)),console.log("Push subscription saved:",s),!0}catch(s){return console.error("Failed to save push subscription:",s),!1}}async function rc(){try{if(!Ql())return console.log("Push notifications not supported"),{success:!1,reason:"not-supported"};const u=await dp();if(Notification.permission==="granted"){const c=await mp(u);return await hp(c),{success:!0,subscription:c}}return{success:!1,reason:"permission-not-granted"}}catch(u){return console.error("Failed to initialize push notifications:",u),{success:!1,reason:"error",error:u}}}function vp(u,c=60){return localStorage.getItem("pushSubscription")?(console.log(`리뷰 리마인더가 ${c}분 후에 예약되었습니다:`,u),setTimeout(()=>{"serviceWorker"in navigator&&navigator.serviceWorker.ready.then(v=>{v.showNotification("VOYZ Restaurant",{body:"주문하신 음식은 어떠셨나요? 리뷰를 남겨주세요! 🍽️",icon:"/favicon.ico",data:{action:"review",url:"/"},actions:[{action:"review",title:"리뷰 작성하기"},{action:"dismiss",title:"나중에"}],requireInteraction:!0,tag:"review-reminder"})})},1e4),!0):(console.log("No push subscription found"),!1)}const yp=({onBackToMenu:u,orderedItems:c})=>(G.useEffect(()=>{c&&c.length>0&&(console.log("📝 주문 완료 페이지: 10초 후 푸시 알림 예약"),vp({items:c,timestamp:new Date().toISOString()},.17))},[c]),d.jsx("div",{className:"success-page",children:d.jsxs("div",{className:"success-content",children:[d.jsx("div",{className:"success-icon",children:"[완료]"}),d.jsx("h1",{children:"주문이 완료되었습니다!"}),d.jsx("p",{children:"맛있는 식사 되세요!"}),d.jsx("button",{className:"back-to-menu-btn",onClick:u,children:"메뉴로 돌아가기"})]})})),Vl={restaurant:{name:"VOYZ Restaurant",subtitle:"Delicious Food & Great Service"},menu:{Starters:[{id:101,name:"Spring Rolls",description:"Crispy vegetable spring rolls served with sweet chili sauce",price:12e3,image:"/images/spring-rolls.jpg",rating:4.8,reviewCount:156,reviews:[{user:"John D.",countryCode:"US",text:{en:"Absolutely delicious! The best spring rolls I've ever had.",ko:"정말 맛있어요! 제가 먹어본 스프링롤 중 최고예요."}},{user:"김민수",countryCode:"KR",text:{en:"Perfect crispy texture! Goes well with the sauce.",ko:"바삭함이 완벽해요! 소스와 잘 어울립니다."}},{user:"Liu Wei",countryCode:"CN",text:{en:"Reminds me of home cooking. Very authentic!",ko:"집에서 먹던 맛이 나요. 정말 정통이에요!"}}]},{id:102,name:"Bruschetta",description:"Toasted bread topped with fresh tomatoes, basil, and garlic",price:1e4,image:"/images/bruschetta.jpg",rating:4.6,reviewCount:98,reviews:[{user:"Maria G.",countryCode:"IT",text:{en:"Authentic Italian taste! Fresh and flavorful.",ko:"정통 이탈리아 맛! 신선하고 풍미가 좋아요."}},{user:"박지영",countryCode:"KR",text:{en:"Fresh ingredients make all the difference!",ko:"신선한 재료가 모든 차이를 만들어요!"}}]}],"Main Courses":[{id:201,name:"Grilled Salmon",description:"Fresh Atlantic salmon with lemon butter sauce",price:35e3,image:"/images/salmon.jpg",rating:4.9,reviewCount:234,reviews:[{user:"Sarah L.",countryCode:"CA",text:{en:"Perfectly cooked salmon! The lemon butter sauce is amazing.",ko:"완벽하게 조리된 연어! 레몬 버터 소스가 정말 훌륭해요."}},{user:"이준호",countryCode:"KR",text:{en:"High quality salmon, cooked to perfection.",ko:"고품질 연어, 완벽하게 조리되었습니다."}},{user:"Yuki T.",countryCode:"JP",text:{en:"The best salmon I've had outside of Japan!",ko:"일본 밖에서 먹어본 최고의 연어요리!"}}]},{id:202,name:"Chicken Parmesan",description:"Breaded chicken breast with marinara sauce and melted mozzarella",price:25e3,image:"/images/chicken-parm.jpg",rating:4.7,reviewCount:189,reviews:[{user:"Mike T.",countryCode:"US",text:{en:"Generous portion and tastes great! Highly recommend.",ko:"양이 푸짐하고 맛도 훌륭해요! 강력 추천합니다."}},{user:"최은정",countryCode:"KR",text:{en:"The cheese is so melty and delicious!",ko:"치즈가 정말 쭉쭉 늘어나고 맛있어요!"}}]},{id:203,name:"Vegetable Stir Fry",description:"Fresh mixed vegetables in a savory sauce",price:18e3,image:"/images/stir-fry.jpg",rating:4.5,reviewCount:145,reviews:[{user:"Linda K.",countryCode:"AU",text:{en:"Fresh veggies and perfectly seasoned. Great vegetarian option!",ko:"신선한 야채와 완벽한 양념. 훌륭한 채식 옵션이에요!"}},{user:"정수아",countryCode:"KR",text:{en:"Healthy and delicious! My go-to choice.",ko:"건강하고 맛있어요! 제가 자주 선택하는 메뉴입니다."}}]}],Desserts:[{id:301,name:"Chocolate Cake",description:"Rich chocolate cake with chocolate ganache",price:8e3,image:"/images/chocolate-cake.jpg",rating:4.8,reviewCount:267,reviews:[{user:"Emma R.",countryCode:"GB",text:{en:"Decadent and rich! Perfect for chocolate lovers.",ko:"진한 초콜릿 맛! 초콜릿 애호가에게 완벽해요."}},{user:"김서연",countryCode:"KR",text:{en:"Not too sweet, just perfect!",ko:"너무 달지 않고 딱 좋아요!"}},{user:"Pierre D.",countryCode:"FR",text:{en:"Reminds me of French patisserie quality!",ko:"프랑스 파티세리 수준이에요!"}}]},{id:302,name:"Tiramisu",description:"Classic Italian dessert with coffee and mascarpone",price:9e3,image:"/images/tiramisu.jpg",rating:4.9,reviewCount:312,reviews:[{user:"Antonio P.",countryCode:"IT",text:{en:"Just like my grandmother used to make! Authentic and delicious.",ko:"할머니가 만들어주신 것과 똑같아요! 정통이고 맛있어요."}},{user:"한지민",countryCode:"KR",text:{en:"The coffee flavor is perfect, not overwhelming.",ko:"커피 맛이 완벽해요, 과하지 않아요."}},{user:"Sophie L.",countryCode:"FR",text:{en:"Light and fluffy, melts in your mouth!",ko:"가볍고 폭신해서 입에서 녹아요!"}}]}],Beverages:[{id:401,name:"Coffee",description:"Freshly brewed coffee",price:4e3,image:"/images/coffee.jpg",rating:4.4,reviewCount:423,reviews:[{user:"David C.",countryCode:"US",text:{en:"Great coffee! Strong and aromatic.",ko:"훌륭한 커피! 진하고 향이 좋아요."}},{user:"이민재",countryCode:"KR",text:{en:"Perfect morning pick-me-up!",ko:"완벽한 아침 활력소!"}}]},{id:402,name:"Fresh Orange Juice",description:"Freshly squeezed orange juice",price:6e3,image:"/images/orange-juice.jpg",rating:4.7,reviewCount:289,reviews:[{user:"Rachel S.",countryCode:"NZ",text:{en:"So fresh and refreshing! You can taste the quality.",ko:"정말 신선하고 상쾌해요! 품질을 느낄 수 있어요."}},{user:"박민지",countryCode:"KR",text:{en:"Real oranges, no artificial taste!",ko:"진짜 오렌지, 인공적인 맛이 없어요!"}}]},{id:403,name:"Soft Drinks",description:"Coke, Sprite, or Fanta",price:3e3,image:"/images/soft-drinks.jpg",rating:4.2,reviewCount:156,reviews:[{user:"Kevin W.",countryCode:"US",text:{en:"Always cold and refreshing!",ko:"항상 차갑고 상쾌해요!"}},{user:"김태현",countryCode:"KR",text:{en:"Good selection of sodas.",ko:"탄산음료 선택이 좋아요."}}]}]}},gp=()=>{const[u,c]=G.useState({});return{cart:u,addToCart:_=>{c(P=>({...P,[_.id]:(P[_.id]||0)+1}))},removeFromCart:_=>{c(P=>{const O={...P};return O[_]>1?O[_]--:delete O[_],O})},getTotalItems:()=>Object.values(u).reduce((_,P)=>_+P,0),getTotalPrice:_=>Object.entries(u).reduce((P,[O,T])=>{const B=_().find(H=>H.id===parseInt(O));return P+(B?B.price*T:0)},0),clearCart:()=>{c({})}}};function wp(){G.useEffect(()=>{const U=async()=>{if(localStorage.getItem("hasAskedForNotification")){Se(!0),Notification.permission==="granted"&&await rc();return}Ql()&&setTimeout(()=>{he(!0)},1e3)},V=new URLSearchParams(window.location.search),Y=window.location.pathname,q=V.get("page");if(Y==="/payment/success"){console.log("토스 결제 성공 페이지로 이동됨");const Z=localStorage.getItem("pendingOrderItems");if(localStorage.getItem("pendingOrderCart"),Z){const b=JSON.parse(Z);J(b),localStorage.setItem("lastOrderedItems",JSON.stringify(b)),localStorage.removeItem("pendingOrderItems"),localStorage.removeItem("pendingOrderCart")}V.get("orderId"),V.get("paymentKey"),V.get("amount"),O(!1),B(!1),S("success"),window.history.replaceState({},document.title,"/")}else if(Y==="/payment/fail"){console.log("토스 결제 실패 페이지로 이동됨");const Z=V.get("message")||"결제가 실패했습니다.";He(Z),window.history.replaceState({},document.title,"/")}else if(q==="review"){console.log("🔔 푸시 알림에서 리뷰 페이지로 이동됨");const Z=localStorage.getItem("lastOrderedItems");if(Z)try{const b=JSON.parse(Z);J(b),S("writeReview")}catch(b){console.error("주문 정보 파싱 실패:",b),S("menu")}else S("menu");window.history.replaceState({},document.title,"/")}U()},[]);const[u,c]=G.useState("ko"),[s,v]=G.useState(null),[g,S]=G.useState("menu"),[j,_]=G.useState(!1),[P,O]=G.useState(!1),[T,B]=G.useState(!1),[H,re]=G.useState(null),[le,J]=G.useState([]),[F,he]=G.useState(!1),[We,Se]=G.useState(!1),{cart:oe,addToCart:Oe,removeFromCart:ke,getTotalItems:Ee,getTotalPrice:Ce,clearCart:Ke}=gp(),de=()=>Object.values(Vl.menu).flat(),be=()=>{S("order")},$e=()=>{_(!0)},ye=async()=>{const U=Object.keys(oe).map(V=>({...de().find(q=>q.id===parseInt(V)),quantity:oe[V]}));localStorage.setItem("pendingOrderItems",JSON.stringify(U)),localStorage.setItem("pendingOrderCart",JSON.stringify(oe)),_(!1),O(!0)},Le=()=>{_(!1),B(!0)},He=U=>{re(U),O(!1),B(!1),setTimeout(()=>re(null),5e3)},Ie=U=>{console.log("🎉 결제 완료 함수 호출됨:",U),O(!1),B(!1);const V=Object.keys(oe).map(Y=>({...de().find(Z=>Z.id===parseInt(Y)),quantity:oe[Y]}));console.log("📦 주문 아이템들:",V),J(V),localStorage.setItem("lastOrderedItems",JSON.stringify(V)),console.log("📄 페이지를 success로 변경"),S("success"),Ke()},ae=()=>{S("menu"),J([])},R=()=>{S("writeReview")},$=U=>{console.log("리뷰 작성:",U),S("success")},D=()=>{S("success")},m=async()=>{try{await pp()&&(await rc(),console.log("Push notifications initialized successfully")),localStorage.setItem("hasAskedForNotification","true"),Se(!0),he(!1)}catch(U){console.error("Failed to enable notifications:",U),he(!1)}},k=()=>{localStorage.setItem("hasAskedForNotification","true"),Se(!0),he(!1)};return g==="writeReview"?d.jsx(Od,{orderedItems:le,selectedLang:u,onSubmitReview:$,onSkip:D}):(G.useEffect(()=>(window.onWriteReview=R,()=>{delete window.onWriteReview}),[]),g==="success"?d.jsx(yp,{onBackToMenu:ae,orderedItems:le,selectedLang:u}):g==="order"?d.jsxs(d.Fragment,{children:[d.jsx(Rd,{cart:oe,getAllItems:de,selectedLang:u,onAddToCart:Oe,onRemoveFromCart:ke,onBackToMenu:()=>S("menu"),onPaymentClick:$e,getTotalPrice:()=>Ce(de)}),d.jsx(Dd,{isOpen:j,onClose:()=>_(!1),onTossPayment:ye,onPayPalPayment:Le}),d.jsx(Wd,{isOpen:P,totalPrice:Ce(de),selectedLang:u,onPaymentComplete:Ie,onPaymentError:He}),d.jsx(ap,{isOpen:T,onClose:()=>B(!1),totalPrice:Ce(de),onPaymentComplete:Ie,onPaymentError:He})]}):d.jsxs("div",{className:"mobile-container",children:[d.jsxs("header",{className:"header",children:[d.jsx("h1",{className:"restaurant-name",children:Vl.restaurant.name}),d.jsx("p",{className:"restaurant-subtitle",children:Vl.restaurant.subtitle}),d.jsx(Nd,{selectedLang:u,onLanguageChange:c})]}),d.jsx("main",{children:Object.entries(Vl.menu).map(([U,V])=>d.jsx(jd,{category:U,items:V,selectedLang:u,cart:oe,onAddToCart:Oe,onRemoveFromCart:ke,onShowReviews:v},U))}),Ee()>0&&d.jsx("div",{className:"order-summary",children:d.jsxs("button",{className:"order-btn",onClick:be,children:["주문하기 (",Ee(),"개) - ",An(Ce(de),u)]})}),d.jsx(Td,{item:s,selectedLang:u,isOpen:!!s,onClose:()=>v(null)}),d.jsx(Id,{isOpen:F,onAllow:m,onDeny:k,selectedLang:u}),H&&d.jsxs("div",{className:"payment-error-toast",children:[d.jsxs("div",{className:"error-message",children:["[오류] ",H]}),d.jsx("button",{onClick:()=>re(null),children:"×"})]})]}))}xd.createRoot(document.getElementById("root")).render(d.jsx(G.StrictMode,{children:d.jsx(wp,{})}));
@@ -0,0 +1,207 @@
+package com.voiz.bench;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.voiz.util.ColumnarPayload;
+
+/**
+ * 분석 데이터 직렬화 벤치마크 (기존 List<Map> + JSON vs ColumnarPayload).
+ * 종합 인사이트 리뷰 표본(기본 2000건)과 1년치 일별 매출을 대상으로, 조회 결과(Object[] 행)에서
+ * 본문 바이트를 만들기까지의 CPU 시간, 할당 바이트, 전송 크기(원본 / gzip)를 비교합니다.
+ * 할당량은 HotSpot의 스레드별 할당 카운터(com.sun.management.ThreadMXBean)로 측정합니다.
+ *
+ *   cd backend && ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat cp.txt) com.voiz.bench.ColumnarPayloadBenchmark [리뷰 수=2000] [반복=2000]
+ */
+public class ColumnarPayloadBenchmark {
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static final String[] NATIONALITIES = {"KR", "US", "JP", "CN", "TW", "VN", "TH", "FR", "DE", "GB"};
+	private static final String[] MENUS = {"김치찌개", "된장찌개", "불고기 덮밥", "비빔밥", "제육볶음", "순두부찌개", "냉면", "떡볶이"};
+	private static final String[] COMMENTS = {
+		"Really tasty and the staff were kind. Will come back!",
+		"국물이 진하고 맛있어요. 양도 많아서 좋았습니다",
+		"少し辛かったですが、とても美味しかったです。",
+		"味道很好，但是等了很久。",
+		"Great value for money, a bit too salty for me though.",
+	};
+
+	public static void main(String[] args) throws Exception {
+		int reviews = args.length > 0 ? Integer.parseInt(args[0]) : 2000;
+		int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+
+		List<Object[]> reviewRows = reviewRows(reviews);
+		List<Object[]> salesRows = salesRows(365);
+
+		System.out.printf("분석 데이터 직렬화 벤치마크: 리뷰 %d건, 일별 매출 %d일, 반복 %d회%n", reviews, salesRows.size(), iterations);
+		System.out.println("방식                          CPU(us/op)   할당(KB/op)   크기(KB)   gzip(KB)");
+
+		compare("리뷰 표본 (comprehensive)", iterations,
+			out -> MAPPER.writeValue(out, reviewsAsMaps(reviewRows)),
+			out -> reviewsAsColumns(reviewRows).writeTo(out));
+		compare("일별 매출 (sales insights)", iterations,
+			out -> MAPPER.writeValue(out, salesAsMaps(salesRows)),
+			out -> salesAsColumns(salesRows).writeTo(out));
+	}
+
+	@FunctionalInterface
+	private interface Serializer {
+		void write(OutputStream out) throws IOException;
+	}
+
+	private static void compare(String label, int iterations, Serializer json, Serializer columnar) throws IOException {
+		System.out.println("- " + label);
+		report("  List<Map> + JSON", iterations, json);
+		report("  ColumnarPayload", iterations, columnar);
+	}
+
+	private static void report(String label, int iterations, Serializer serializer) throws IOException {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long threadId = Thread.currentThread().getId();
+
+		// JIT 준비
+		for (int i = 0; i < Math.max(200, iterations / 4); i++) {
+			serializer.write(OutputStream.nullOutputStream());
+		}
+
+		CountingOutputStream counter = new CountingOutputStream();
+		long cpuStart = threads.getCurrentThreadCpuTime();
+		long allocStart = threads.getThreadAllocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			counter.count = 0;
+			serializer.write(counter);
+		}
+		long cpu = threads.getCurrentThreadCpuTime() - cpuStart;
+		long allocated = threads.getThreadAllocatedBytes(threadId) - allocStart;
+
+		CountingOutputStream gzipCounter = new CountingOutputStream();
+		try (GZIPOutputStream gzip = new GZIPOutputStream(gzipCounter)) {
+			serializer.write(gzip);
+		}
+
+		System.out.printf("%-28s %10.1f %13.1f %10.1f %10.1f%n", label,
+			cpu / 1_000.0 / iterations, allocated / 1024.0 / iterations, counter.count / 1024.0, gzipCounter.count / 1024.0);
+	}
+
+	// 기존 방식: 행마다 HashMap과 박싱된 값을 만든 뒤 JSON 직렬화
+	private static Map<String, Object> reviewsAsMaps(List<Object[]> rows) {
+		List<Map<String, Object>> reviews = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			Map<String, Object> review = new HashMap<>();
+			review.put("comment", row[3]);
+			review.put("rating", ((Number) row[2]).intValue());
+			review.put("nationality", row[1]);
+			review.put("menuName", row[5]);
+			review.put("createdAt", String.valueOf(row[4]));
+			reviews.add(review);
+		}
+		Map<String, Object> body = new HashMap<>();
+		body.put("timeRange", "month");
+		body.put("reviews", reviews);
+		return body;
+	}
+
+	// ReviewSampleStreamer.writeSample과 같은 컬럼 구성
+	private static ColumnarPayload reviewsAsColumns(List<Object[]> rows) {
+		ColumnarPayload payload = new ColumnarPayload().put("timeRange", "month");
+		ColumnarPayload.Table table = payload.table("reviews", rows.size());
+		ColumnarPayload.StringColumn comment = table.stringColumn("comment");
+		ColumnarPayload.IntColumn rating = table.intColumn("rating");
+		ColumnarPayload.DictionaryColumn nationality = table.dictionaryColumn("nationality");
+		ColumnarPayload.DictionaryColumn menuName = table.dictionaryColumn("menuName");
+		ColumnarPayload.StringColumn createdAt = table.stringColumn("createdAt");
+		for (Object[] row : rows) {
+			comment.add((String) row[3]);
+			rating.add(((Number) row[2]).intValue());
+			nationality.add((String) row[1]);
+			menuName.add((String) row[5]);
+			createdAt.add(String.valueOf(row[4]));
+		}
+		return payload;
+	}
+
+	private static Map<String, Object> salesAsMaps(List<Object[]> rows) {
+		List<Map<String, Object>> sales = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			Map<String, Object> day = new HashMap<>();
+			day.put("date", row[0].toString());
+			day.put("amount", ((Number) row[1]).doubleValue());
+			sales.add(day);
+		}
+		Map<String, Object> body = new HashMap<>();
+		body.put("period", "year");
+		body.put("userId", "bench");
+		body.put("currentSales", sales);
+		body.put("previousSales", sales);
+		return body;
+	}
+
+	// AnalyticsService.addDailySalesTable과 같은 컬럼 구성
+	private static ColumnarPayload salesAsColumns(List<Object[]> rows) {
+		ColumnarPayload payload = new ColumnarPayload().put("period", "year").put("userId", "bench");
+		for (String path : new String[] {"currentSales", "previousSales"}) {
+			ColumnarPayload.Table table = payload.table(path, rows.size());
+			ColumnarPayload.StringColumn date = table.stringColumn("date");
+			ColumnarPayload.DoubleColumn amount = table.doubleColumn("amount");
+			for (Object[] row : rows) {
+				date.add(row[0].toString());
+				amount.add((Number) row[1]);
+			}
+		}
+		return payload;
+	}
+
+	// 조회 결과 행 구조: menuIdx, nationality, rating, comment, createdAt, menuName
+	private static List<Object[]> reviewRows(int count) {
+		Random random = new Random(42);
+		List<Object[]> rows = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int menu = random.nextInt(MENUS.length);
+			rows.add(new Object[] {
+				menu,
+				NATIONALITIES[random.nextInt(NATIONALITIES.length)],
+				1 + random.nextInt(5),
+				COMMENTS[random.nextInt(COMMENTS.length)] + " #" + i,
+				java.time.LocalDateTime.of(2025, 7, 1, 12, 0).plusMinutes(i * 17L),
+				MENUS[menu],
+			});
+		}
+		return rows;
+	}
+
+	private static List<Object[]> salesRows(int days) {
+		Random random = new Random(7);
+		List<Object[]> rows = new ArrayList<>(days);
+		for (int i = 0; i < days; i++) {
+			rows.add(new Object[] {
+				java.time.LocalDate.of(2025, 1, 1).plusDays(i),
+				new java.math.BigDecimal(300_000 + random.nextInt(700_000)),
+			});
+		}
+		return rows;
+	}
+
+	private static final class CountingOutputStream extends OutputStream {
+		private long count;
+
+		@Override
+		public void write(int b) {
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) {
+			count += len;
+		}
+	}
+}
@@ -0,0 +1,154 @@
+package com.voiz.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.DefaultHttpClientConnectionOperator;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.client5.http.ssl.TlsSocketStrategy;
+import org.apache.hc.core5.http.config.RegistryBuilder;
+import org.apache.hc.core5.pool.PoolConcurrencyPolicy;
+import org.apache.hc.core5.pool.PoolReusePolicy;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+
+import com.voiz.util.UnixDomainSocketFactory;
+
+/**
+ * ML 서비스 전송 방식 벤치마크 (TCP 루프백 vs Unix 도메인 소켓).
+ * 번역 요청과 같은 크기의 JSON을 /api/bench/echo로 보내, 호출당 지연 시간(p50/p90/p99)과
+ * 동시 호출 시 처리량을 비교합니다. 번역 API를 부르지 않으므로 전송 비용만 측정됩니다.
+ *
+ * 두 방식 모두 같은 HttpClient 커넥션 풀을 쓰고 연결을 맺는 소켓만 다릅니다.
+ * ML 서비스를 두 가지 방식으로 함께 연 뒤 실행합니다 (/api/bench/echo는 VOYZ_ENABLE_BENCH=1일 때만 열림).
+ *   cd ml && VOYZ_ENABLE_BENCH=1 python serve.py --port 8000 --uds /tmp/voyz-ml.sock
+ *   cd backend && ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat cp.txt) com.voiz.bench.MlTransportBenchmark \
+ *       http://127.0.0.1:8000 /tmp/voyz-ml.sock [호출 수=5000] [동시 호출 수=16]
+ */
+public class MlTransportBenchmark {
+
+	private static final String ENDPOINT = "/api/bench/echo";
+
+	// 손님 메뉴 번역에서 보내는 요청과 비슷한 크기 (메뉴명 / 설명 한 줄)
+	private static final String[] TEXTS = {
+		"김치찌개",
+		"돼지고기와 묵은지를 넣고 끓인 얼큰한 찌개",
+		"불고기 덮밥",
+		"직접 우려낸 사골 육수에 얇게 썬 양지를 올린 국밥입니다",
+	};
+
+	public static void main(String[] args) throws Exception {
+		String baseUrl = args.length > 0 ? args[0] : "http://127.0.0.1:8000";
+		String socketPath = args.length > 1 ? args[1] : "/run/voyz/ml.sock";
+		int calls = args.length > 2 ? Integer.parseInt(args[2]) : 5000;
+		int concurrency = args.length > 3 ? Integer.parseInt(args[3]) : 16;
+
+		PoolingHttpClientConnectionManager tcpPool = PoolingHttpClientConnectionManagerBuilder.create().build();
+		PoolingHttpClientConnectionManager udsPool = new PoolingHttpClientConnectionManager(
+			new DefaultHttpClientConnectionOperator(new UnixDomainSocketFactory(Path.of(socketPath)),
+				null, null, RegistryBuilder.<TlsSocketStrategy>create().build()),
+			PoolConcurrencyPolicy.STRICT, PoolReusePolicy.LIFO, TimeValue.NEG_ONE_MILLISECOND, null);
+		CloseableHttpClient tcpClient = httpClient(tcpPool, concurrency);
+		CloseableHttpClient udsClient = httpClient(udsPool, concurrency);
+		RestTemplate tcp = new RestTemplate(new HttpComponentsClientHttpRequestFactory(tcpClient));
+		RestTemplate uds = new RestTemplate(new HttpComponentsClientHttpRequestFactory(udsClient));
+
+		System.out.printf("ML 전송 벤치마크: %s vs %s, 호출 %d건, 동시 %d%n", baseUrl, socketPath, calls, concurrency);
+
+		// JIT / 연결 준비
+		run(tcp, baseUrl, Math.min(calls, 1000), 1);
+		run(uds, baseUrl, Math.min(calls, 1000), 1);
+
+		report("tcp  순차", run(tcp, baseUrl, calls, 1));
+		report("uds  순차", run(uds, baseUrl, calls, 1));
+		report("tcp  동시", run(tcp, baseUrl, calls, concurrency));
+		report("uds  동시", run(uds, baseUrl, calls, concurrency));
+
+		tcpClient.close();
+		udsClient.close();
+	}
+
+	private static CloseableHttpClient httpClient(PoolingHttpClientConnectionManager pool, int concurrency) {
+		pool.setMaxTotal(concurrency);
+		pool.setDefaultMaxPerRoute(concurrency);
+		pool.setDefaultConnectionConfig(ConnectionConfig.custom()
+			.setConnectTimeout(Timeout.ofSeconds(3))
+			.setSocketTimeout(Timeout.ofSeconds(30))
+			.build());
+		return HttpClients.custom()
+			.setConnectionManager(pool)
+			// uvicorn keep-alive(5초)보다 먼저 유휴 연결을 버림
+			.setKeepAliveStrategy((response, context) -> TimeValue.ofSeconds(4))
+			.build();
+	}
+
+	private record Result(long[] latenciesNanos, long elapsedNanos) {
+	}
+
+	private static Result run(RestTemplate restTemplate, String baseUrl, int calls, int concurrency) throws Exception {
+		HttpHeaders headers = new HttpHeaders();
+		headers.setContentType(MediaType.APPLICATION_JSON);
+		String url = baseUrl + ENDPOINT;
+
+		long[] latencies = new long[calls];
+		AtomicLong next = new AtomicLong();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		long started = System.nanoTime();
+		List<Future<?>> workers = new ArrayList<>();
+		for (int w = 0; w < concurrency; w++) {
+			workers.add(executor.submit(() -> {
+				int i;
+				while ((i = (int) next.getAndIncrement()) < calls) {
+					String body = "{\"targetLanguage\":\"en\",\"text\":\"" + TEXTS[i % TEXTS.length] + "\"}";
+					long callStarted = System.nanoTime();
+					byte[] response = restTemplate.exchange(url, HttpMethod.POST,
+						new HttpEntity<>(body.getBytes(StandardCharsets.UTF_8), headers), byte[].class).getBody();
+					latencies[i] = System.nanoTime() - callStarted;
+					if (response == null || response.length == 0) {
+						throw new IllegalStateException("빈 응답");
+					}
+				}
+				return null;
+			}));
+		}
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		long elapsed = System.nanoTime() - started;
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		return new Result(latencies, elapsed);
+	}
+
+	private static void report(String label, Result result) {
+		long[] sorted = result.latenciesNanos().clone();
+		Arrays.sort(sorted);
+		double seconds = result.elapsedNanos() / 1e9;
+		System.out.printf("%s  p50 %7.1fus  p90 %7.1fus  p99 %7.1fus  처리량 %8.0f req/s%n",
+			label, percentile(sorted, 50), percentile(sorted, 90), percentile(sorted, 99), sorted.length / seconds);
+	}
+
+	private static double percentile(long[] sorted, int p) {
+		int index = Math.min(sorted.length - 1, (int) Math.ceil(p / 100.0 * sorted.length) - 1);
+		return sorted[Math.max(0, index)] / 1_000.0;
+	}
+}
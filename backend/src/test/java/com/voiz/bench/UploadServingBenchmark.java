@@ -0,0 +1,233 @@
+package com.voiz.bench;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.hc.client5.http.classic.methods.HttpGet;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.web.servlet.HandlerMapping;
+import org.springframework.web.servlet.resource.ResourceHttpRequestHandler;
+
+import com.voiz.util.UploadFileServlet;
+
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 업로드 파일 서빙 벤치마크 (기존 ResourceHttpRequestHandler vs UploadFileServlet).
+ * 임시 디렉터리에 썸네일(8KB) / 목록 이미지(60KB) / 원본 사진(2MB)을 만들고 내장 Tomcat 하나에
+ * /old/*(기존 핸들러)와 /new/*(전용 서블릿)를 함께 올린 뒤, 크기별로 처리량(req/s)과
+ * 서버 스레드(http-nio-*)의 MB당 CPU 시간 / 요청당 할당 바이트를 비교합니다.
+ * 기존 핸들러는 DispatcherServlet 없이 바로 호출하므로 실제 차이는 이 결과보다 조금 더 큽니다.
+ *
+ *   cd backend && ./mvnw -q test-compile dependency:build-classpath -Dmdep.outputFile=cp.txt
+ *   java -cp target/classes:target/test-classes:$(cat cp.txt) com.voiz.bench.UploadServingBenchmark [요청 수=20000] [동시 요청 수=32]
+ */
+public class UploadServingBenchmark {
+
+	private record Scenario(String label, String dir, String extension, int files, int bytes) {
+	}
+
+	private static final Scenario[] SCENARIOS = {
+		new Scenario("썸네일 8KB", "menuImages/derived", ".webp", 200, 8 * 1024),
+		new Scenario("목록 60KB", "menuImages/derived", ".jpg", 100, 60 * 1024),
+		new Scenario("원본 2MB", "menuImages", ".jpg", 20, 2 * 1024 * 1024),
+	};
+
+	public static void main(String[] args) throws Exception {
+		int requests = args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+		int concurrency = args.length > 1 ? Integer.parseInt(args[1]) : 32;
+
+		Path root = Files.createTempDirectory("voyz-uploads");
+		List<List<String>> files = new ArrayList<>();
+		Random random = new Random(42);
+		for (Scenario scenario : SCENARIOS) {
+			files.add(createFiles(root, scenario, random));
+		}
+
+		Tomcat tomcat = new Tomcat();
+		tomcat.setBaseDir(Files.createTempDirectory("voyz-tomcat").toString());
+		tomcat.setPort(0);
+		Context context = tomcat.addContext("", root.toString());
+		Tomcat.addServlet(context, "old", new ResourceHandlerServlet(root));
+		context.addServletMappingDecoded("/old/*", "old");
+		Tomcat.addServlet(context, "new", new UploadFileServlet(root, 49152, 8 * 1024 * 1024, 64 * 1024));
+		context.addServletMappingDecoded("/new/*", "new");
+		tomcat.getConnector();
+		tomcat.start();
+		String baseUrl = "http://127.0.0.1:" + tomcat.getConnector().getLocalPort();
+
+		CloseableHttpClient httpClient = HttpClients.custom()
+			.setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+				.setMaxConnTotal(concurrency)
+				.setMaxConnPerRoute(concurrency)
+				.setDefaultConnectionConfig(ConnectionConfig.custom()
+					.setConnectTimeout(Timeout.ofSeconds(3))
+					.setSocketTimeout(Timeout.ofSeconds(30))
+					.build())
+				.build())
+			.build();
+
+		System.out.printf("업로드 파일 서빙 벤치마크: 요청 %d건, 동시 %d%n", requests, concurrency);
+		System.out.println("방식                         처리량(req/s)   CPU(ms/MB)   할당(KB/req)");
+		try {
+			for (int s = 0; s < SCENARIOS.length; s++) {
+				Scenario scenario = SCENARIOS[s];
+				// 원본은 요청당 크기가 커서 요청 수를 줄임
+				int count = scenario.bytes() > 1024 * 1024 ? Math.max(200, requests / 20) : requests;
+				System.out.println("- " + scenario.label());
+				for (String prefix : new String[] {"/old/", "/new/"}) {
+					// JIT / 연결 / 메모리 캐시 준비
+					run(httpClient, baseUrl + prefix, files.get(s), Math.max(100, count / 10), concurrency);
+					report(prefix.equals("/old/") ? "  ResourceHttpRequestHandler" : "  UploadFileServlet",
+						run(httpClient, baseUrl + prefix, files.get(s), count, concurrency), count);
+				}
+			}
+		} finally {
+			httpClient.close();
+			tomcat.stop();
+			tomcat.destroy();
+			try (Stream<Path> paths = Files.walk(root)) {
+				paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+			}
+		}
+	}
+
+	private static List<String> createFiles(Path root, Scenario scenario, Random random) throws IOException {
+		Path dir = root.resolve(scenario.dir());
+		Files.createDirectories(dir);
+		List<String> names = new ArrayList<>();
+		byte[] content = new byte[scenario.bytes()];
+		for (int i = 0; i < scenario.files(); i++) {
+			random.nextBytes(content);
+			String name = String.format("%032x", random.nextLong() & Long.MAX_VALUE) + scenario.extension();
+			Files.write(dir.resolve(name), content);
+			names.add(scenario.dir() + "/" + name);
+		}
+		return names;
+	}
+
+	private record Result(long elapsedNanos, long bytes, long serverCpuNanos, long serverAllocatedBytes) {
+	}
+
+	private static Result run(CloseableHttpClient httpClient, String baseUrl, List<String> files,
+			int requests, int concurrency) throws Exception {
+		AtomicLong next = new AtomicLong();
+		AtomicLong bytes = new AtomicLong();
+		long[] serverBefore = serverThreadUsage();
+		ExecutorService executor = Executors.newFixedThreadPool(concurrency);
+		long started = System.nanoTime();
+		List<Future<?>> workers = new ArrayList<>();
+		for (int w = 0; w < concurrency; w++) {
+			workers.add(executor.submit(() -> {
+				int i;
+				byte[] buffer = new byte[64 * 1024];
+				while ((i = (int) next.getAndIncrement()) < requests) {
+					HttpGet get = new HttpGet(baseUrl + files.get(i % files.size()));
+					long received = httpClient.execute(get, response -> {
+						if (response.getCode() != 200) {
+							throw new IllegalStateException("응답 코드 " + response.getCode());
+						}
+						long total = 0;
+						try (InputStream in = response.getEntity().getContent()) {
+							int n;
+							while ((n = in.read(buffer)) > 0) {
+								total += n;
+							}
+						}
+						return total;
+					});
+					bytes.addAndGet(received);
+				}
+				return null;
+			}));
+		}
+		for (Future<?> worker : workers) {
+			worker.get();
+		}
+		long elapsed = System.nanoTime() - started;
+		executor.shutdown();
+		executor.awaitTermination(10, TimeUnit.SECONDS);
+		long[] serverAfter = serverThreadUsage();
+		return new Result(elapsed, bytes.get(), serverAfter[0] - serverBefore[0], serverAfter[1] - serverBefore[1]);
+	}
+
+	/**
+	 * Tomcat 커넥터 스레드(http-nio-*)의 CPU 시간 / 할당 바이트 합계.
+	 * 요청 사이에 새로 생긴 작업 스레드도 시작부터 합산되므로 준비 실행으로 스레드 풀을 먼저 채워 둡니다.
+	 */
+	private static long[] serverThreadUsage() {
+		com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+		long cpu = 0;
+		long allocated = 0;
+		for (Thread thread : Thread.getAllStackTraces().keySet()) {
+			if (!thread.getName().startsWith("http-nio-")) {
+				continue;
+			}
+			long threadCpu = threads.getThreadCpuTime(thread.getId());
+			long threadAllocated = threads.getThreadAllocatedBytes(thread.getId());
+			cpu += Math.max(0, threadCpu);
+			allocated += Math.max(0, threadAllocated);
+		}
+		return new long[] {cpu, allocated};
+	}
+
+	private static void report(String label, Result result, int requests) {
+		double seconds = result.elapsedNanos() / 1e9;
+		double megabytes = result.bytes() / (1024.0 * 1024.0);
+		System.out.printf("%-30s %12.0f %12.2f %14.1f%n", label, requests / seconds,
+			result.serverCpuNanos() / 1e6 / megabytes, result.serverAllocatedBytes() / 1024.0 / requests);
+	}
+
+	/**
+	 * 기존 /uploads/** 설정과 같은 ResourceHttpRequestHandler (file:uploads/, 1시간 캐시).
+	 * HandlerMapping이 넣어 주는 경로 속성만 직접 채워 호출합니다.
+	 */
+	private static final class ResourceHandlerServlet extends HttpServlet {
+
+		private final ResourceHttpRequestHandler handler = new ResourceHttpRequestHandler();
+
+		ResourceHandlerServlet(Path root) {
+			handler.setLocations(List.of(new FileSystemResource(root.toString() + "/")));
+			handler.setCacheSeconds(3600);
+		}
+
+		@Override
+		public void init() throws ServletException {
+			handler.setServletContext(getServletContext());
+			try {
+				handler.afterPropertiesSet();
+			} catch (Exception e) {
+				throw new ServletException(e);
+			}
+		}
+
+		@Override
+		protected void service(HttpServletRequest request, HttpServletResponse response) throws ServletException, IOException {
+			request.setAttribute(HandlerMapping.PATH_WITHIN_HANDLER_MAPPING_ATTRIBUTE, request.getPathInfo().substring(1));
+			handler.handleRequest(request, response);
+		}
+	}
+}
@@ -0,0 +1,148 @@
+package com.voiz.util;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * ColumnarPayload 컬럼형 / JSON 출력이 ml/tests/fixtures의 기준 파일과 같은지 확인합니다.
+ * ML 쪽(ml/tests/test_columnar.py)은 같은 .bin을 ml/columnar.py로 디코딩해 .json과 비교하므로,
+ * 두 테스트가 함께 Java 인코더 ↔ Python 디코더 왕복을 검증합니다.
+ *
+ * 형식을 바꾼 경우 기준 파일을 다시 만듭니다.
+ *   ./mvnw test -Dtest=ColumnarPayloadTest -Dcolumnar.fixtures.update=true
+ */
+class ColumnarPayloadTest {
+
+	private static final Path FIXTURES = Path.of("..", "ml", "tests", "fixtures");
+	private static final Path BINARY = FIXTURES.resolve("columnar_roundtrip.bin");
+	private static final Path JSON = FIXTURES.resolve("columnar_roundtrip.json");
+
+	private static final ObjectMapper MAPPER = new ObjectMapper();
+
+	private static final String[] NATIONALITIES = {"KR", "US", "JP", "CN"};
+	private static final String[] MENUS = {"김치찌개", "불고기 덮밥", "冷麺", "Bibimbap"};
+
+	/**
+	 * null, 사전 컬럼, 빈 표, 중첩 path, 64행을 넘는 validity 비트맵, 배열 확장을 모두 포함하는 본문
+	 */
+	static ColumnarPayload fixture() {
+		Map<String, Object> period = new LinkedHashMap<>();
+		period.put("startDate", "2025-01-01");
+		period.put("endDate", "2025-01-31");
+		ColumnarPayload payload = new ColumnarPayload()
+			.put("userId", "owner01")
+			.put("period", period)
+			// 표가 들어갈 중첩 위치에 이미 있는 값 (변경 불가 Map도 그대로 둔 채 합쳐져야 함)
+			.put("previousPeriodData", Map.of("label", "지난달"));
+
+		// 예상 행 수를 작게 줘서 배열 확장 경로도 지나감
+		ColumnarPayload.Table sales = payload.table("salesData", 2);
+		ColumnarPayload.StringColumn date = sales.stringColumn("date");
+		ColumnarPayload.IntColumn orderCount = sales.intColumn("orderCount");
+		ColumnarPayload.LongColumn revenue = sales.longColumn("revenue");
+		ColumnarPayload.DoubleColumn averagePrice = sales.doubleColumn("averagePrice");
+		ColumnarPayload.DictionaryColumn nationality = sales.dictionaryColumn("nationality");
+		ColumnarPayload.DictionaryColumn menuName = sales.dictionaryColumn("menuName");
+		for (int i = 0; i < 70; i++) {
+			date.add(String.format("2025-01-%02d", i % 31 + 1));
+			orderCount.add(i % 9 == 4 ? null : Integer.valueOf(i * 3 - 20));
+			revenue.add(i == 0 ? Long.MAX_VALUE : 12_000L * i);
+			// 첫 null이 64행 이후에 나와 비트맵을 처음 만들 때 앞 행을 모두 유효로 채우는지 확인
+			averagePrice.add(i == 66 ? null : Double.valueOf(i / 7.0));
+			nationality.add(i % 5 == 0 ? null : NATIONALITIES[i % NATIONALITIES.length]);
+			menuName.add(MENUS[i % MENUS.length]);
+		}
+
+		ColumnarPayload.Table empty = payload.table("emptyData");
+		empty.intColumn("reviewIdx");
+		empty.dictionaryColumn("nationality");
+		empty.stringColumn("comment");
+
+		ColumnarPayload.Table previousSales = payload.table("previousPeriodData.sales");
+		ColumnarPayload.StringColumn previousDate = previousSales.stringColumn("date");
+		ColumnarPayload.LongColumn previousRevenue = previousSales.longColumn("revenue");
+		previousDate.add("2024-12-01");
+		previousRevenue.add(-1L);
+		previousDate.add("2024-12-02");
+		previousRevenue.add((Number) null);
+
+		ColumnarPayload.Table previousReviews = payload.table("previousPeriodData.reviews");
+		ColumnarPayload.StringColumn comment = previousReviews.stringColumn("comment");
+		ColumnarPayload.DictionaryColumn allNull = previousReviews.dictionaryColumn("nationality");
+		comment.add("");
+		allNull.add(null);
+		comment.add(null);
+		allNull.add(null);
+		comment.add("국물이 진해요 🍲");
+		allNull.add(null);
+		return payload;
+	}
+
+	@Test
+	void binaryMatchesFixture() throws IOException {
+		byte[] bytes = binary(fixture());
+		if (Boolean.getBoolean("columnar.fixtures.update")) {
+			Files.createDirectories(FIXTURES);
+			Files.write(BINARY, bytes);
+		}
+		assertArrayEquals(Files.readAllBytes(BINARY), bytes);
+	}
+
+	@Test
+	void jsonMatchesFixture() throws IOException {
+		byte[] json = json(fixture());
+		if (Boolean.getBoolean("columnar.fixtures.update")) {
+			Files.createDirectories(FIXTURES);
+			Files.write(JSON, MAPPER.writerWithDefaultPrettyPrinter().writeValueAsBytes(MAPPER.readTree(json)));
+		}
+		assertEquals(MAPPER.readTree(Files.readAllBytes(JSON)), MAPPER.readTree(json));
+	}
+
+	@Test
+	void writeJsonKeepsScalarMaps() throws IOException {
+		Map<String, Object> previous = new LinkedHashMap<>();
+		previous.put("label", "지난달");
+		ColumnarPayload payload = new ColumnarPayload().put("previousPeriodData", previous);
+		payload.table("previousPeriodData.sales").intColumn("orderCount").add(1);
+
+		json(payload);
+		assertEquals(Map.of("label", "지난달"), previous);
+	}
+
+	@Test
+	void rejectsColumnsOfDifferentLength() {
+		ColumnarPayload payload = new ColumnarPayload();
+		ColumnarPayload.Table table = payload.table("salesData");
+		table.intColumn("orderCount").add(1);
+		table.longColumn("revenue");
+
+		assertThrows(IllegalStateException.class, () -> binary(payload));
+	}
+
+	private static byte[] binary(ColumnarPayload payload) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		payload.writeTo(out);
+		return out.toByteArray();
+	}
+
+	private static byte[] json(ColumnarPayload payload) throws IOException {
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+		try (JsonGenerator generator = MAPPER.getFactory().createGenerator(out)) {
+			payload.writeJson(generator);
+		}
+		return out.toByteArray();
+	}
+}
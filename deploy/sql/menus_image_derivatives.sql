@@ -0,0 +1,14 @@
+-- 메뉴 사진 파생본 (썸네일 / 목록 / 상세) URL 컬럼
+-- 새 버전 백엔드를 띄우기 전에 적용 (운영은 ddl-auto=validate라 컬럼이 없으면 기동 실패)
+ALTER TABLE VOYZ_MENUS ADD (
+    IMAGE_THUMB_URL  VARCHAR2(255 CHAR),
+    IMAGE_LIST_URL   VARCHAR2(255 CHAR),
+    IMAGE_DETAIL_URL VARCHAR2(255 CHAR)
+);
+
+-- 사진 파일 참조 수 조회 (MenusRepository.countImageReferences)
+-- 사진 교체 / 메뉴 삭제 때마다 네 컬럼을 OR로 찾으므로 컬럼별 인덱스로 OR 확장 실행
+CREATE INDEX IX_MENUS_IMAGE_URL ON VOYZ_MENUS (IMAGE_URL);
+CREATE INDEX IX_MENUS_IMAGE_THUMB_URL ON VOYZ_MENUS (IMAGE_THUMB_URL);
+CREATE INDEX IX_MENUS_IMAGE_LIST_URL ON VOYZ_MENUS (IMAGE_LIST_URL);
+CREATE INDEX IX_MENUS_IMAGE_DETAIL_URL ON VOYZ_MENUS (IMAGE_DETAIL_URL);
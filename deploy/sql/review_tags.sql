@@ -0,0 +1,24 @@
+-- 리뷰 본문 감성 / 언어 태그와 속성별 감성 (ReviewTaggingService가 기록)
+-- 새 버전 백엔드를 띄우기 전에 적용 (운영은 ddl-auto=validate라 테이블이 없으면 기동 실패)
+CREATE TABLE VOYZ_REVIEW_TAGS (
+    REVIEW_IDX        NUMBER(19)         NOT NULL,
+    USER_ID           VARCHAR2(255 CHAR) NOT NULL,
+    MENU_IDX          NUMBER(10)         NOT NULL,
+    SENTIMENT         VARCHAR2(255 CHAR) NOT NULL,
+    SENTIMENT_SCORE   FLOAT(53),
+    DETECTED_LANGUAGE VARCHAR2(255 CHAR),
+    TAG_SOURCE        VARCHAR2(255 CHAR),
+    TAGGED_AT         TIMESTAMP(6),
+    CONSTRAINT PK_REVIEW_TAGS PRIMARY KEY (REVIEW_IDX)
+);
+
+CREATE TABLE VOYZ_REVIEW_ASPECTS (
+    REVIEW_IDX NUMBER(19)         NOT NULL,
+    ASPECT     VARCHAR2(255 CHAR) NOT NULL,
+    SENTIMENT  VARCHAR2(255 CHAR) NOT NULL,
+    CONSTRAINT FK_REVIEW_ASPECTS_TAGS FOREIGN KEY (REVIEW_IDX) REFERENCES VOYZ_REVIEW_TAGS (REVIEW_IDX)
+);
+
+-- 태그를 읽을 때 속성 컬렉션 조회, 메뉴별 집계 (ReviewTagsRepository)
+CREATE INDEX IX_REVIEW_ASPECTS_REVIEW ON VOYZ_REVIEW_ASPECTS (REVIEW_IDX);
+CREATE INDEX IX_REVIEW_TAGS_USER_MENU ON VOYZ_REVIEW_TAGS (USER_ID, MENU_IDX);
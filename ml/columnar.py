@@ -0,0 +1,89 @@
+"""
+백엔드가 보내는 컬럼형 요청 본문(application/x-voyz-columnar) 디코더.
+형식은 백엔드 com.voiz.util.ColumnarPayload 참고: "VZC1" | int32 헤더 길이 | 헤더 JSON | 8바이트 정렬 버퍼들.
+숫자 컬럼은 numpy로 버퍼를 복사 없이 읽고, 결과는 JSON 본문과 같은 dict 구조(표는 행 dict 리스트)로 돌려줍니다.
+"""
+import json
+import struct
+
+import numpy as np
+
+MEDIA_TYPE = "application/x-voyz-columnar"
+MAGIC = b"VZC1"
+_DTYPES = {"int32": "<i4", "int64": "<i8", "float64": "<f8"}
+
+
+def _align(n: int) -> int:
+    return (n + 7) & ~7
+
+
+def _strings(offsets_buf, data_buf, count: int) -> list:
+    offsets = np.frombuffer(offsets_buf, dtype="<i4", count=count + 1).tolist()
+    data = bytes(data_buf)
+    return [data[offsets[i]:offsets[i + 1]].decode("utf-8") for i in range(count)]
+
+
+def _column_values(column: dict, rows: int, buffers: list) -> list:
+    if column.get("nulls", 0) > 0:
+        validity = np.unpackbits(np.frombuffer(buffers[0], dtype=np.uint8), bitorder="little")[:rows].astype(bool)
+        buffers = buffers[1:]
+    else:
+        validity = None
+
+    kind = column["type"]
+    if kind in _DTYPES:
+        values = np.frombuffer(buffers[0], dtype=_DTYPES[kind], count=rows).tolist()
+    elif kind == "utf8":
+        values = _strings(buffers[0], buffers[1], rows)
+    elif kind == "dictionary":
+        indices = np.frombuffer(buffers[0], dtype="<i4", count=rows).tolist()
+        dictionary_size = len(buffers[1]) // 4 - 1
+        dictionary = _strings(buffers[1], buffers[2], dictionary_size)
+        values = [dictionary[i] if dictionary else None for i in indices]
+    else:
+        raise ValueError(f"지원하지 않는 컬럼 타입: {kind}")
+
+    if validity is not None:
+        values = [v if ok else None for v, ok in zip(values, validity)]
+    return values
+
+
+def _set_path(payload: dict, path: str, value) -> None:
+    keys = path.split(".")
+    for key in keys[:-1]:
+        payload = payload.setdefault(key, {})
+    payload[keys[-1]] = value
+
+
+def decode_columnar(body: bytes) -> dict:
+    """
+    잘리거나 형식이 맞지 않는 본문은 ValueError로 알림 (analytics_payload가 400으로 돌려줌)
+    """
+    if len(body) < 8 or body[:4] != MAGIC:
+        raise ValueError("컬럼형 본문이 아닙니다")
+    (header_length,) = struct.unpack_from("<i", body, 4)
+    if header_length < 0 or 8 + header_length > len(body):
+        raise ValueError("컬럼형 본문 헤더가 잘렸습니다")
+    header = json.loads(body[8:8 + header_length].decode("utf-8"))
+    if not isinstance(header, dict):
+        raise ValueError("컬럼형 본문 헤더가 객체가 아닙니다")
+    view = memoryview(body)
+    offset = _align(8 + header_length)
+
+    payload = dict(header.get("scalars") or {})
+    for table in header.get("tables", []):
+        rows = table["rows"]
+        names = []
+        columns = []
+        for column in table["columns"]:
+            buffers = []
+            for length in column["buffers"]:
+                if length < 0 or offset + length > len(body):
+                    raise ValueError(f"컬럼형 본문이 잘렸습니다: {table['path']}.{column['name']}")
+                buffers.append(view[offset:offset + length])
+                offset += _align(length)
+            names.append(column["name"])
+            columns.append(_column_values(column, rows, buffers))
+        records = [dict(zip(names, row)) for row in zip(*columns)] if columns else []
+        _set_path(payload, table["path"], records)
+    return payload
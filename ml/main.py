@@ -3,7 +3,8 @@ FastAPI 메인 애플리케이션
 특일 매칭 API 서버
 """
 
-from fastapi import FastAPI, HTTPException, File, UploadFile
+from fastapi import FastAPI, HTTPException, File, UploadFile, Depends, Request
+from fastapi.middleware.gzip import GZipMiddleware
 from typing import Dict, Any, List
 from datetime import datetime
 
@@ -24,6 +25,9 @@ from collections import Counter
 import re as _re
 import json as _json
 import requests
+import zlib
+import struct
+from columnar import MEDIA_TYPE as COLUMNAR_MEDIA_TYPE, decode_columnar
 
 # .env 파일 로드
 load_dotenv()
@@ -34,8 +38,78 @@ app = FastAPI(
     version=API_CONFIG["version"],
     description=API_CONFIG["description"]
 )
+
+
+class GzipRequestMiddleware:
+    """
+    Content-Encoding: gzip 요청 본문을 수신하면서 바로 풀어주는 ASGI 미들웨어
+    (백엔드가 대용량 리뷰 데이터를 gzip 스트림으로 전송함)
+    """
+
+    def __init__(self, app):
+        self.app = app
+
+    async def __call__(self, scope, receive, send):
+        if scope["type"] != "http":
+            await self.app(scope, receive, send)
+            return
+
+        headers = scope.get("headers") or []
+        encoding = next((v for k, v in headers if k == b"content-encoding"), b"")
+        if encoding.lower() != b"gzip":
+            await self.app(scope, receive, send)
+            return
+
+        decompressor = zlib.decompressobj(16 + zlib.MAX_WBITS)
+
+        async def inflating_receive():
+            message = await receive()
+            if message["type"] == "http.request":
+                body = decompressor.decompress(message.get("body", b""))
+                if not message.get("more_body", False):
+                    body += decompressor.flush()
+                message = {**message, "body": body}
+            return message
+
+        scope = dict(scope)
+        scope["headers"] = [(k, v) for k, v in headers if k not in (b"content-encoding", b"content-length")]
+        await self.app(scope, inflating_receive, send)
+
+
+app.add_middleware(GzipRequestMiddleware)
+# 백엔드 HTTP 클라이언트가 Accept-Encoding: gzip을 보내므로 큰 응답(번역, 인사이트 등)은 압축해서 반환
+app.add_middleware(GZipMiddleware, minimum_size=1024)
+
+async def analytics_payload(request: Request) -> dict:
+    """
+    분석 API 요청 본문을 dict로 읽음
+    백엔드는 매출/리뷰 표를 컬럼형(application/x-voyz-columnar)으로 보내고, 그 외에는 JSON으로 보냄.
+    모르는 형식이면 415를 돌려주어 백엔드가 JSON으로 다시 보내도록 함
+    """
+    content_type = request.headers.get("content-type", "").split(";")[0].strip().lower()
+    try:
+        body = await request.body()
+    except zlib.error as e:
+        # GzipRequestMiddleware가 풀지 못한 gzip 본문
+        raise HTTPException(status_code=400, detail=f"gzip 본문 오류: {e}")
+    if content_type == COLUMNAR_MEDIA_TYPE:
+        try:
+            return decode_columnar(body)
+        except (ValueError, KeyError, IndexError, TypeError, struct.error) as e:
+            raise HTTPException(status_code=400, detail=f"컬럼형 본문 오류: {e}")
+    if content_type and content_type != "application/json":
+        raise HTTPException(status_code=415, detail=f"지원하지 않는 본문 형식: {content_type}")
+    try:
+        payload = _json.loads(body) if body else {}
+    except ValueError as e:
+        raise HTTPException(status_code=400, detail=f"JSON 본문 오류: {e}")
+    if not isinstance(payload, dict):
+        raise HTTPException(status_code=400, detail="JSON 객체 본문이 필요합니다")
+    return payload
+
+
 @app.post("/api/analytics/period-insights")
-def generate_period_insights(payload: dict):
+def generate_period_insights(payload: dict = Depends(analytics_payload)):
     """
     기간별 운영 인사이트 생성
     요청: {
@@ -141,7 +215,7 @@ def generate_period_insights(payload: dict):
         }
 
 @app.post("/api/analytics/customer-behavior")
-def analyze_customer_behavior(payload: dict):
+def analyze_customer_behavior(payload: dict = Depends(analytics_payload)):
     """
     고객 행동 패턴 분석
     요청: {
@@ -454,7 +528,7 @@ def analyze_review_content(payload: dict):
         return {"insight": "다양한 의견이 있습니다", "keywords": ["보통"]}
 
 @app.post("/api/reviews/comprehensive-insights")
-def generate_comprehensive_insights(payload: dict):
+def generate_comprehensive_insights(payload: dict = Depends(analytics_payload)):
     """
     전체 리뷰 기반 핵심 인사이트 3가지 생성
     요청: {
@@ -874,6 +948,203 @@ def extract_review_keywords(payload: dict):
 
     return {"overall": overall, "byMenu": by_menu}
 
+@app.post("/api/reviews/keywords/summarize")
+def summarize_review_keywords(payload: dict):
+    """
+    백엔드 키워드 색인이 뽑은 상위 단어를 짧은 구(phrase)로 묶어 정리
+    요청: {
+      "overall": {"positiveKeywords": [{"term": str, "count": int}], "negativeKeywords": [...]},
+      "byMenu": [{"menuIdx": int, "positiveKeywords": [...], "negativeKeywords": [...]}],
+      "topK": 5
+    }
+    응답: 키워드를 문자열 배열로 바꾼 같은 구조 (실패 시 입력 단어를 그대로 반환)
+    """
+    top_k = int(payload.get("topK", 5))
+
+    def terms(arr):
+        return [str(x.get("term") if isinstance(x, dict) else x) for x in (arr or [])]
+
+    overall_in = payload.get("overall", {}) or {}
+    by_menu_in = payload.get("byMenu", []) or []
+    fallback = {
+        "overall": {
+            "positiveKeywords": terms(overall_in.get("positiveKeywords"))[:top_k],
+            "negativeKeywords": terms(overall_in.get("negativeKeywords"))[:top_k],
+        },
+        "byMenu": [{
+            "menuIdx": int(item.get("menuIdx", 0)),
+            "positiveKeywords": terms(item.get("positiveKeywords"))[:top_k],
+            "negativeKeywords": terms(item.get("negativeKeywords"))[:top_k],
+        } for item in by_menu_in],
+    }
+
+    api_key = os.getenv("OPENAI_API_KEY")
+    if not api_key:
+        return fallback
+
+    try:
+        prompt = {
+            "instruction": (
+                "Each list contains frequent review terms with counts (tokens may be word stems or CJK bigrams). "
+                "Merge fragments and synonyms into short natural keyword phrases (2-4 words max, no sentences), "
+                "keep the original language of the terms, order by importance, and return exactly the same JSON schema "
+                "with plain string arrays and no extra text: "
+                "{\"overall\": {\"positiveKeywords\": [], \"negativeKeywords\": []}, \"byMenu\": [{\"menuIdx\": 0, \"positiveKeywords\": [], \"negativeKeywords\": []}]}"
+            ),
+            "topK": top_k,
+            "overall": overall_in,
+            "byMenu": by_menu_in,
+        }
+        headers = {"Authorization": f"Bearer {api_key}", "Content-Type": "application/json"}
+        data = {
+            "model": "gpt-4o-mini",
+            "messages": [
+                {"role": "system", "content": "You are a precise NLP assistant for keyword extraction. Output strictly valid JSON only."},
+                {"role": "user", "content": _json.dumps(prompt, ensure_ascii=False)}
+            ],
+            "temperature": 0.2,
+            "max_tokens": 400
+        }
+        resp = requests.post("https://api.openai.com/v1/chat/completions", headers=headers, json=data, timeout=30)
+        if resp.status_code != 200:
+            return fallback
+        parsed = _json.loads(resp.json()["choices"][0]["message"]["content"].strip())
+
+        def clamp(arr):
+            if isinstance(arr, list):
+                return [str(x)[:40] for x in arr][:top_k]
+            return []
+
+        return {
+            "overall": {
+                "positiveKeywords": clamp(parsed.get("overall", {}).get("positiveKeywords", [])),
+                "negativeKeywords": clamp(parsed.get("overall", {}).get("negativeKeywords", [])),
+            },
+            "byMenu": [{
+                "menuIdx": int(item.get("menuIdx", 0)),
+                "positiveKeywords": clamp(item.get("positiveKeywords", [])),
+                "negativeKeywords": clamp(item.get("negativeKeywords", [])),
+            } for item in parsed.get("byMenu", [])],
+        }
+    except Exception:
+        return fallback
+
+# 리뷰 태깅용 속성 사전: 속성 -> 언급 단어 (한/영/일/중)
+_ASPECT_TERMS = {
+    "맛": ["맛", "taste", "tasty", "delicious", "flavor", "flavour", "味", "美味", "好吃", "味道", "おいし"],
+    "양": ["양", "portion", "amount", "量", "ボリューム"],
+    "가격": ["가격", "가성비", "비싸", "싸", "price", "expensive", "cheap", "value", "値段", "価格", "高い", "安い", "价格", "贵", "便宜"],
+    "서비스": ["서비스", "친절", "직원", "service", "staff", "friendly", "rude", "接客", "店員", "服务", "态度"],
+    "분위기": ["분위기", "인테리어", "atmosphere", "ambience", "vibe", "雰囲気", "氛围", "环境"],
+    "청결": ["청결", "깨끗", "더럽", "clean", "dirty", "清潔", "きれい", "干净", "脏"],
+    "온도": ["식었", "차갑", "뜨거", "미지근", "cold", "hot", "warm", "冷め", "熱い", "凉", "热"],
+    "대기시간": ["대기", "기다", "오래 걸", "wait", "slow", "quick", "fast", "待", "遅い", "慢", "等"],
+}
+_POSITIVE_TERMS = ["좋", "맛있", "최고", "추천", "친절", "깨끗", "만족", "훌륭", "good", "great", "delicious", "tasty",
+                   "excellent", "amazing", "love", "friendly", "clean", "fast", "おいし", "美味", "最高", "好吃", "不错", "棒"]
+_NEGATIVE_TERMS = ["별로", "싫", "짜", "싱거", "비싸", "불친절", "더럽", "느리", "식었", "아쉽", "실망", "bad", "terrible",
+                   "salty", "bland", "expensive", "rude", "dirty", "slow", "cold", "disappoint", "まずい", "高い", "遅い",
+                   "难吃", "贵", "慢", "咸"]
+
+
+def _detect_language(text: str) -> str:
+    """문자 체계로 추정한 본문 언어 (ko, ja, zh, en)"""
+    if _re.search(r"[\uac00-\ud7a3]", text):
+        return "ko"
+    if _re.search(r"[\u3040-\u30ff]", text):
+        return "ja"
+    if _re.search(r"[\u4e00-\u9fff]", text):
+        return "zh"
+    return "en"
+
+
+def _lexicon_tag(text: str, rating: int) -> Dict[str, Any]:
+    """OpenAI 키가 없거나 호출이 실패했을 때 쓰는 사전 기반 태깅 (평점 + 긍/부정 단어)"""
+    lower = (text or "").lower()
+    pos = sum(lower.count(t) for t in _POSITIVE_TERMS)
+    neg = sum(lower.count(t) for t in _NEGATIVE_TERMS)
+    # 평점을 -1~1로 옮긴 값과 본문 단어 비율을 반반 반영
+    rating_score = (max(1, min(5, rating or 3)) - 3) / 2.0
+    text_score = (pos - neg) / (pos + neg) if pos + neg else rating_score
+    score = round(0.5 * rating_score + 0.5 * text_score, 3)
+    sentiment = "positive" if score >= 0.25 else "negative" if score <= -0.25 else "neutral"
+
+    aspects = []
+    for aspect, terms in _ASPECT_TERMS.items():
+        if any(t in lower for t in terms):
+            aspects.append({"aspect": aspect, "sentiment": sentiment})
+    return {"sentiment": sentiment, "score": score, "aspects": aspects}
+
+
+@app.post("/api/reviews/tag")
+def tag_reviews(payload: dict):
+    """
+    리뷰 본문 일괄 태깅 (백엔드 태깅 큐가 여러 리뷰를 묶어 호출)
+    요청: {"reviews": [{"reviewIdx": int, "text": str, "rating": int, "language": str}]}
+    응답: {"results": [{"reviewIdx": int, "sentiment": "positive|neutral|negative", "score": float,
+                        "language": str, "aspects": [{"aspect": str, "sentiment": str}], "source": "openai|lexicon"}]}
+    """
+    reviews = payload.get("reviews", []) or []
+    results = {}
+    for r in reviews:
+        text = str(r.get("text") or "")
+        tagged = _lexicon_tag(text, int(r.get("rating") or 3))
+        results[int(r.get("reviewIdx"))] = {
+            "reviewIdx": int(r.get("reviewIdx")),
+            "language": _detect_language(text),
+            "source": "lexicon",
+            **tagged,
+        }
+
+    api_key = os.getenv("OPENAI_API_KEY")
+    if api_key and reviews:
+        try:
+            prompt = {
+                "instruction": (
+                    "For each restaurant review, return its overall sentiment (positive, neutral or negative), "
+                    "a score from -1 to 1, the ISO 639-1 language of the text, and the aspects it mentions with their sentiment. "
+                    "Use only these Korean aspect labels: " + ", ".join(_ASPECT_TERMS.keys()) + ". "
+                    "Return strictly JSON: {\"results\": [{\"reviewIdx\": 0, \"sentiment\": \"\", \"score\": 0, "
+                    "\"language\": \"\", \"aspects\": [{\"aspect\": \"\", \"sentiment\": \"\"}]}]}"
+                ),
+                "reviews": [{"reviewIdx": r.get("reviewIdx"), "text": str(r.get("text") or "")[:300], "rating": r.get("rating")}
+                            for r in reviews],
+            }
+            headers = {"Authorization": f"Bearer {api_key}", "Content-Type": "application/json"}
+            data = {
+                "model": "gpt-4o-mini",
+                "messages": [
+                    {"role": "system", "content": "You are a precise review sentiment tagger. Output strictly valid JSON only."},
+                    {"role": "user", "content": _json.dumps(prompt, ensure_ascii=False)}
+                ],
+                "response_format": {"type": "json_object"},
+                "temperature": 0,
+                "max_tokens": 80 * len(reviews) + 100
+            }
+            resp = requests.post("https://api.openai.com/v1/chat/completions", headers=headers, json=data, timeout=60)
+            if resp.status_code == 200:
+                parsed = _json.loads(resp.json()["choices"][0]["message"]["content"].strip())
+                for item in parsed.get("results", []):
+                    idx = int(item.get("reviewIdx", -1))
+                    sentiment = item.get("sentiment")
+                    if idx not in results or sentiment not in ("positive", "neutral", "negative"):
+                        continue
+                    aspects = [{"aspect": a.get("aspect"), "sentiment": a.get("sentiment", "neutral")}
+                               for a in item.get("aspects", []) if a.get("aspect") in _ASPECT_TERMS]
+                    results[idx].update({
+                        "sentiment": sentiment,
+                        "score": float(item.get("score", results[idx]["score"])),
+                        "language": str(item.get("language") or results[idx]["language"])[:8],
+                        "aspects": aspects,
+                        "source": "openai",
+                    })
+            else:
+                print(f"리뷰 태깅 OpenAI 응답 실패 - {resp.status_code}, 사전 기반 결과 사용")
+        except Exception as e:
+            print(f"리뷰 태깅 OpenAI 호출 실패, 사전 기반 결과 사용: {e}")
+
+    return {"results": list(results.values())}
+
 # 환경변수로 인증 설정 (선택사항)
 google_credentials_path = os.getenv('GOOGLE_APPLICATION_CREDENTIALS')
 if google_credentials_path and os.path.exists(google_credentials_path):
@@ -1144,6 +1415,16 @@ def translateMenu(req: TranslateRequest):
         "translated": result["translatedText"]
     }
 
+# 전송 계층 벤치마크용: /api/translate와 같은 모양의 요청/응답을 번역 API 호출 없이 돌려줌
+# 운영에서는 nginx /ml/로 공개되므로 VOYZ_ENABLE_BENCH=1로 띄운 벤치마크 환경에서만 등록
+if os.getenv("VOYZ_ENABLE_BENCH") == "1":
+    @app.post("/api/bench/echo")
+    def bench_echo(req: TranslateRequest):
+        return {
+            "targetLanguage": req.targetLanguage,
+            "translated": req.text
+        }
+
 @app.post("/api/translateWeb")
 def translate_text(req: TranslateRequest2):
     try:
@@ -1216,7 +1497,7 @@ def translate_reviews(req: ReviewTranslateRequest):
         raise HTTPException(status_code=500, detail=f"번역 실패: {str(e)}")
 
 @app.post("/api/sales/insights")
-def generate_sales_insights(payload: dict):
+def generate_sales_insights(payload: dict = Depends(analytics_payload)):
     """
     매출 데이터 분석 후 AI 기반 인사이트 생성
     요청: {
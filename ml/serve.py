@@ -0,0 +1,59 @@
+"""
+ML 서비스 실행 스크립트.
+TCP 포트(nginx의 /ml/ 프록시용)와 함께, 같은 서버의 Spring Boot 백엔드가 쓰는 Unix 도메인 소켓을
+하나의 uvicorn 프로세스에서 같이 엽니다. 소켓 경로(--uds 또는 ML_UDS_PATH)가 없으면 TCP만 엽니다.
+
+    python serve.py --host 0.0.0.0 --port 8000 --uds /run/voyz/ml.sock --env-file .env.production
+"""
+import argparse
+import os
+import socket
+
+import uvicorn
+
+
+def bind_unix_socket(path: str) -> socket.socket:
+    # 이전 실행에서 남은 소켓 파일 정리
+    if os.path.exists(path):
+        os.unlink(path)
+    sock = socket.socket(socket.AF_UNIX, socket.SOCK_STREAM)
+    sock.bind(path)
+    # 같은 그룹(백엔드 서비스 계정)만 접속
+    os.chmod(path, 0o660)
+    sock.setblocking(False)
+    return sock
+
+
+def bind_tcp_socket(host: str, port: int) -> socket.socket:
+    sock = socket.socket(socket.AF_INET, socket.SOCK_STREAM)
+    sock.setsockopt(socket.SOL_SOCKET, socket.SO_REUSEADDR, 1)
+    sock.bind((host, port))
+    sock.setblocking(False)
+    return sock
+
+
+def main():
+    parser = argparse.ArgumentParser()
+    parser.add_argument("--host", default="0.0.0.0")
+    parser.add_argument("--port", type=int, default=8000)
+    parser.add_argument("--uds", default=os.getenv("ML_UDS_PATH", ""))
+    parser.add_argument("--env-file", default=None)
+    args = parser.parse_args()
+
+    config = uvicorn.Config("main:app", host=args.host, port=args.port, env_file=args.env_file)
+    server = uvicorn.Server(config)
+
+    # 시작 로그는 첫 번째 소켓 기준이므로 TCP를 먼저 둠
+    sockets = [bind_tcp_socket(args.host, args.port)]
+    if args.uds:
+        sockets.append(bind_unix_socket(args.uds))
+        print(f"Unix 도메인 소켓 대기: {args.uds}")
+    try:
+        server.run(sockets=sockets)
+    finally:
+        if args.uds and os.path.exists(args.uds):
+            os.unlink(args.uds)
+
+
+if __name__ == "__main__":
+    main()
@@ -0,0 +1,75 @@
+"""
+ml/columnar.py 디코더 테스트 (ml 디렉터리에서 python -m unittest discover tests)
+fixtures/columnar_roundtrip.bin / .json 은 백엔드 ColumnarPayloadTest가 ColumnarPayload로 만든 기준 파일이며,
+같은 데이터를 컬럼형으로 디코딩한 결과가 JSON 본문과 같아야 함
+"""
+import json
+import os
+import struct
+import sys
+import unittest
+
+sys.path.insert(0, os.path.dirname(os.path.dirname(os.path.abspath(__file__))))
+
+from columnar import MAGIC, decode_columnar
+
+FIXTURES = os.path.join(os.path.dirname(os.path.abspath(__file__)), "fixtures")
+
+
+class DecodeColumnarTest(unittest.TestCase):
+
+    @classmethod
+    def setUpClass(cls):
+        with open(os.path.join(FIXTURES, "columnar_roundtrip.bin"), "rb") as f:
+            cls.body = f.read()
+        with open(os.path.join(FIXTURES, "columnar_roundtrip.json"), encoding="utf-8") as f:
+            cls.expected = json.load(f)
+
+    def test_matches_json_body(self):
+        self.assertEqual(decode_columnar(self.body), self.expected)
+
+    def test_nulls(self):
+        sales = decode_columnar(self.body)["salesData"]
+        self.assertEqual(len(sales), 70)
+        self.assertIsNone(sales[4]["orderCount"])
+        self.assertEqual(sales[5]["orderCount"], -5)
+        # 64행 이후 처음 나온 null
+        self.assertIsNone(sales[66]["averagePrice"])
+        self.assertEqual(sales[65]["averagePrice"], 65 / 7.0)
+        self.assertEqual(sales[0]["revenue"], 2 ** 63 - 1)
+
+    def test_dictionary_columns(self):
+        payload = decode_columnar(self.body)
+        nationalities = [row["nationality"] for row in payload["salesData"]]
+        self.assertEqual(nationalities[:6], [None, "US", "JP", "CN", "KR", None])
+        self.assertEqual({row["menuName"] for row in payload["salesData"]}, {"김치찌개", "불고기 덮밥", "冷麺", "Bibimbap"})
+        # 값이 모두 null이라 사전이 비어 있는 컬럼
+        self.assertEqual([row["nationality"] for row in payload["previousPeriodData"]["reviews"]], [None, None, None])
+
+    def test_empty_table(self):
+        self.assertEqual(decode_columnar(self.body)["emptyData"], [])
+
+    def test_nested_paths(self):
+        previous = decode_columnar(self.body)["previousPeriodData"]
+        self.assertEqual(previous["label"], "지난달")
+        self.assertEqual(previous["sales"], [{"date": "2024-12-01", "revenue": -1}, {"date": "2024-12-02", "revenue": None}])
+        self.assertEqual([row["comment"] for row in previous["reviews"]], ["", None, "국물이 진해요 🍲"])
+
+    def test_truncated_body_raises_value_error(self):
+        # 마지막 버퍼 뒤 정렬용 0 바이트(최대 7)만 잘린 경우는 값이 온전하므로 제외
+        for length in range(len(self.body) - 7):
+            with self.subTest(length=length):
+                with self.assertRaises(ValueError):
+                    decode_columnar(self.body[:length])
+
+    def test_invalid_header_raises_value_error(self):
+        for body in (b"JSON" + self.body[4:],
+                     MAGIC + struct.pack("<i", -1) + self.body[8:],
+                     MAGIC + struct.pack("<i", 2) + b"[]"):
+            with self.subTest(body=body[:10]):
+                with self.assertRaises(ValueError):
+                    decode_columnar(body)
+
+
+if __name__ == "__main__":
+    unittest.main()